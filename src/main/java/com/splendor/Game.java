@@ -1,17 +1,24 @@
 package com.splendor;
 
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
 
 import com.splendor.actions.IAction;
+import com.splendor.actions.robot.PassAction;
 import com.splendor.board.Board;
 import com.splendor.constants.Messages;
 import com.splendor.constants.Resource;
 import com.splendor.constants.Symbols;
-import com.splendor.constants.Utility;
 import com.splendor.constants.Values;
 import com.splendor.display.Display;
+import com.splendor.display.GameIO;
+import com.splendor.display.Sink;
 import com.splendor.exceptions.CardReaderException;
 import com.splendor.player.HumanPlayer;
 import com.splendor.player.Player;
@@ -35,6 +42,104 @@ public class Game {
      */
     private final Player[] players;
 
+    /**
+     * The input and outputs of the game.
+     */
+    private final GameIO io;
+
+    /**
+     * The index of the player whose turn it is.
+     */
+    private int currentPlayer = 0;
+
+    /**
+     * The number of turns played since the beginning of the game.
+     */
+    private int turn = 0;
+
+    /**
+     * The steps of a turn. The game moves from one step to the next as 
+     * the decisions of the players arrive, and stops, without blocking 
+     * the thread, on a step waiting for an input of the player.
+     */
+    private enum Step { START, CHOOSE, MOVE, DISCARD, NOBLE, OVER }
+
+    /**
+     * The current step of the turn of the current player.
+     */
+    private Step step = Step.START;
+
+    /**
+     * The action processed by the current step.
+     */
+    private IAction action;
+
+    /**
+     * The number of actions of the current turn which were refused.
+     */
+    private int attempts = 0;
+
+    /**
+     * The number of refused actions retried, and of fallback actions 
+     * played after too many retries, by each player.
+     */
+    private int[] retries;
+    private int[] fallbacks;
+
+    /**
+     * The action played for a player who chooses on their own, when 
+     * their actions are refused too many times in a turn.
+     */
+    private static final IAction FALLBACK = new PassAction();
+
+    /**
+     * The watchdog giving the players who choose on their own a budget 
+     * for each decision, or {@code null} to let them take their time, 
+     * on the thread playing the game.
+     */
+    private Watchdog watchdog = null;
+
+    /**
+     * The decisions abandoned because the players ran out of time.
+     */
+    private final ArrayList<Incident> incidents = new ArrayList<Incident>();
+
+    /**
+     * The input of the player which has just arrived, or {@code null}.
+     */
+    private String input;
+
+    /**
+     * Whether the game waits for an input of the current player.
+     */
+    private boolean awaitingInput = false;
+
+    /**
+     * Whether the game pauses after every move, so that someone watching 
+     * the display can follow it.
+     */
+    private boolean paced = false;
+
+    /**
+     * The listeners notified of the progress of the game.
+     */
+    private final ArrayList<GameListener> listeners = 
+        new ArrayList<GameListener>();
+
+    /**
+     * Magic number and version at the beginning of a snapshot ("SPLS").
+     */
+    private static final int SNAPSHOT_MAGIC = 0x53504C53;
+    private static final byte SNAPSHOT_VERSION = 1;
+
+    /**
+     * Kinds of player, as written in a snapshot: the players of the 
+     * console game, and any other player, which cannot be created back.
+     */
+    private static final byte HUMAN_PLAYER = 0;
+    private static final byte ROBOT_PLAYER = 1;
+    private static final byte OTHER_PLAYER = 2;
+
     /**
      * A mapping of the number of players to default resource values.
      * The keys represent the number of players, and the values are arrays 
@@ -62,21 +167,40 @@ public class Game {
      *        between 2 and 4 included.
      * @param demoGame If {@code true}, only robots will play the game,
      *        otherwise, one player will be a human.
+     * @param io The input and outputs of the game.
      * @throws IllegalArgumentException If the number of players is 
      *         not within the valid range (2 to 4).
      */
-    public Game(int playersCount, boolean demoGame) 
+    public Game(int playersCount, boolean demoGame, GameIO io) 
             throws IllegalArgumentException, CardReaderException {
+        this.io = io;
         if (playersCount < 2 || Values.MAX_PLAYERS < playersCount)
             throw new IllegalArgumentException(Messages.PLAYERS_NUMBER_ERROR);
         this.players = new Player[playersCount];
         this.addPlayers(playersCount, demoGame);
+        this.initializeMetrics();
         this.board = new Board(playersCount);
-        this.setDefaultResources(playersCount);
+        Game.setDefaultResources(this.board, playersCount);
+        for (Player player : this.players) player.watch(this.board);
     }
 
     /**
-     * Constructs a new game with the specified number of players.
+     * Constructs a new headless game with the specified number of players.
+     *
+     * @param players The number of players for the game. Must be 
+     *        between 2 and 4 included.
+     * @param demoGame If {@code true}, only robots will play the game,
+     *        otherwise, one player will be a human.
+     * @throws IllegalArgumentException If the number of players is 
+     *         not within the valid range (2 to 4).
+     */
+    public Game(int playersCount, boolean demoGame) 
+            throws IllegalArgumentException, CardReaderException {
+        this(playersCount, demoGame, GameIO.headless());
+    }
+
+    /**
+     * Constructs a new headless game with the specified number of players.
      *
      * @param players The number of players for the game. Must be 
      *        between 2 and 4 included.
@@ -88,6 +212,87 @@ public class Game {
         this(playersCount, false);
     }
 
+    /**
+     * Constructs a new game played by the specified players, on a new 
+     * board. The players which listen to games, such as the ones played 
+     * by external agents, are added to the listeners of the game.
+     *
+     * @param players The players, whose identifiers are their indexes. 
+     *        There must be between 2 and 4 of them.
+     * @param io The input and outputs of the game.
+     * @throws IllegalArgumentException If the number of players is 
+     *         not within the valid range (2 to 4).
+     * @throws CardReaderException If the cards cannot be read.
+     */
+    public Game(Player[] players, GameIO io) 
+            throws IllegalArgumentException, CardReaderException {
+        this(players, io, new Random());
+    }
+
+    /**
+     * Constructs a new game played by the specified players, on a board 
+     * shuffled with the specified source of randomness, so that a seeded 
+     * source always deals the same game. The players which listen to 
+     * games are added to the listeners of the game.
+     *
+     * @param players The players, whose identifiers are their indexes. 
+     *        There must be between 2 and 4 of them.
+     * @param io The input and outputs of the game.
+     * @param random The source of randomness used to shuffle the cards.
+     * @throws IllegalArgumentException If the number of players is 
+     *         not within the valid range (2 to 4).
+     * @throws CardReaderException If the cards cannot be read.
+     */
+    public Game(Player[] players, GameIO io, Random random) 
+            throws IllegalArgumentException, CardReaderException {
+        this.io = io;
+        if (players.length < 2 || Values.MAX_PLAYERS < players.length)
+            throw new IllegalArgumentException(Messages.PLAYERS_NUMBER_ERROR);
+        this.players = players;
+        this.initializeMetrics();
+        this.board = new Board(players.length, random);
+        Game.setDefaultResources(this.board, players.length);
+        for (Player player : players) player.watch(this.board);
+        this.addPlayerListeners();
+    }
+
+    /**
+     * Constructs a game from an existing board and players, as restored 
+     * from a snapshot. The players which listen to games are added to 
+     * the listeners of the game.
+     *
+     * @param board The board of the game.
+     * @param players The players of the game.
+     * @param io The input and outputs of the game.
+     */
+    private Game(Board board, Player[] players, GameIO io) {
+        this.io = io;
+        this.board = board;
+        this.players = players;
+        this.initializeMetrics();
+        for (Player player : players) player.watch(board);
+        this.addPlayerListeners();
+    }
+
+    /**
+     * Adds the players which listen to games, such as the ones played 
+     * by external agents, to the listeners of the game.
+     */
+    private void addPlayerListeners() {
+        for (Player player : this.players)
+            if (player instanceof GameListener) 
+                this.addListener((GameListener) player);
+    }
+
+    /**
+     * Initializes the counters of the retries and fallbacks of each 
+     * player.
+     */
+    private void initializeMetrics() {
+        this.retries = new int[this.players.length];
+        this.fallbacks = new int[this.players.length];
+    }
+
     /**
      * Adds players to the game. The first player is a {@code HumanPlayer}, 
      * and the rest are {@code RobotPlayer} instances.
@@ -97,29 +302,44 @@ public class Game {
      *        otherwise, one player will be a human.
      */
     private final void addPlayers(int players, boolean demoGame) {
-        final int startingIndex = demoGame ? 0 : 1;
-        for (int index = startingIndex; index < players; index++) {
-            final String name = MessageFormat.format(Messages.ROBOT, index);
-            this.players[index] = new RobotPlayer(name, index);
+        for (int index = 0; index < players; index++) {
+            final boolean human = index == 0 && !demoGame;
+            final byte kind = human ? Game.HUMAN_PLAYER : Game.ROBOT_PLAYER;
+            this.players[index] = Game.createPlayer(kind, index, this.io);
         }
-        if (demoGame) return; // Do not add human player.
-        this.players[0] = new HumanPlayer(Messages.HUMAN, 0);
     }
 
     /**
-     * Sets default resources on the game board based on the 
+     * Creates a player of the specified kind, named after its index.
+     *
+     * @param kind The kind of the player, {@code HUMAN_PLAYER} or 
+     *        {@code ROBOT_PLAYER}.
+     * @param index The index of the player in the game.
+     * @param io The input and outputs of the game.
+     * @return The created player.
+     */
+    private static Player createPlayer(byte kind, int index, GameIO io) {
+        if (kind == Game.HUMAN_PLAYER) 
+            return new HumanPlayer(Messages.HUMAN, index, io);
+        final String name = MessageFormat.format(Messages.ROBOT, index);
+        return new RobotPlayer(name, index, io);
+    }
+
+    /**
+     * Sets default resources on a game board based on the 
      * number of players.
      *
+     * @param board The board of the game.
      * @param playersCount The number of players in the game.
      */
-    private final void setDefaultResources(int playersCount) {
+    public static void setDefaultResources(Board board, int playersCount) {
         Integer[] resources = Game.defaultResources.get(playersCount);
         // Set the number of resources, except for Joker/Gold.
         for (Resource resource : Resource.values()) {
             if (resource == Resource.JOKER) continue;
-            this.board.setNbResource(resource, resources[0]);
+            board.setNbResource(resource, resources[0]);
         } // Finally, set the number of Joker/Gold.
-        this.board.setNbResource(Resource.JOKER, resources[1]);
+        board.setNbResource(Resource.JOKER, resources[1]);
     }
 
     /**
@@ -127,10 +347,103 @@ public class Game {
      *
      * @return The number of players currently participating in the game.
      */
-    private int getNbPlayers() {
+    public int getNbPlayers() {
         return this.players.length;
     }
 
+    /**
+     * Retrieves the players of the game.
+     *
+     * @return A copy of the array of players, in the order of play.
+     */
+    public Player[] getPlayers() {
+        return this.players.clone();
+    }
+
+    /**
+     * Retrieves the board of the game.
+     *
+     * @return The board of the game.
+     */
+    public Board getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Retrieves the input and outputs of the game.
+     *
+     * @return The input and outputs of the game.
+     */
+    public GameIO getIO() {
+        return this.io;
+    }
+
+    /**
+     * Retrieves the number of turns played since the beginning of the 
+     * game, every player's turn counting as one.
+     *
+     * @return The number of turns played.
+     */
+    public int getTurn() {
+        return this.turn;
+    }
+
+    /**
+     * Retrieves the number of refused actions a player chose again.
+     *
+     * @param index The index of the player, in the order of play.
+     * @return The number of retries of the player.
+     * @throws ArrayIndexOutOfBoundsException If there is no player at 
+     *         this index.
+     */
+    public int getRetries(int index) throws ArrayIndexOutOfBoundsException {
+        return this.retries[index];
+    }
+
+    /**
+     * Retrieves the number of fallback actions played for a player whose 
+     * actions were refused too many times in a turn.
+     *
+     * @param index The index of the player, in the order of play.
+     * @return The number of fallbacks of the player.
+     * @throws ArrayIndexOutOfBoundsException If there is no player at 
+     *         this index.
+     */
+    public int getFallbacks(int index) throws ArrayIndexOutOfBoundsException {
+        return this.fallbacks[index];
+    }
+
+    /**
+     * Sets the watchdog giving the players who choose on their own a 
+     * budget for each decision. A game has none unless one is set, as 
+     * each decision then runs on another thread.
+     *
+     * @param watchdog The watchdog, or {@code null} for the players to 
+     *        decide on the thread playing the game, without a budget.
+     */
+    public void setWatchdog(Watchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    /**
+     * Retrieves the decisions abandoned because the players ran out of 
+     * time, a fallback action being played instead.
+     *
+     * @return The incidents, in the order they happened.
+     */
+    public Incident[] getIncidents() {
+        return this.incidents.toArray(new Incident[0]);
+    }
+
+    /**
+     * Adds a listener notified of the progress of the game.
+     *
+     * @param listener The listener to add.
+     */
+    public void addListener(GameListener listener) {
+        this.listeners.add(listener);
+    }
+
     /**
      * Displays the current state of the game, including the game 
      * board and player information.
@@ -139,6 +452,8 @@ public class Game {
      *        turn is being displayed.
      */
     private void display(int currentPlayer) {
+        // Nobody sees the board of a headless game.
+        if (this.io.outBoard == Sink.NULL) return;
         final String[] board = this.board.toStringArray();
         String[] players = Display.emptyStringArray(0, 0);
         for (int index = 0; index < this.getNbPlayers(); index++) {
@@ -152,41 +467,272 @@ public class Game {
         }
         // Finally, create the final display to be displayed.
         final String[] main = Display.concatStringArray(board, players, false);
-        Utility.display.outBoard.clean();
-        Utility.display.outBoard.print(String.join("\n", main));
+        this.io.outBoard.clean();
+        this.io.outBoard.print(String.join("\n", main));
     }
 
     /**
      * Pauses the execution of the current thread for the specified 
-     * duration in seconds.
+     * duration in seconds, if the game is paced.
      * 
      * @param seconds The duration, in seconds, for which the thread 
      *        should be paused.
      */
     private void sleep(int seconds) {
+        if (!this.paced) return;
         try {
             Thread.sleep(seconds * 1000);
         } catch (InterruptedException exception) {}
     }
 
     /**
-     * Initiates and manages the gameplay loop where each player takes turns 
-     * making moves until the game is over. After each player's turn, the game
-     * state is displayed, and if a player has more resources than the maximum 
-     * allowed, they must discard tokens. Once the game is over, the 
-     * appropriate end-of-game procedures are executed.
+     * Plays the whole game on the current thread, reading the inputs of 
+     * the human player from the input source of the game. The game 
+     * pauses after every move so that the moves of the robots can be 
+     * followed.
      */
     public void play() {
-        while (!this.isGameOver())
-            for (int index = 0; index < this.getNbPlayers(); index++) {
-                final Player player = this.players[index];
-                this.display(index);  // Select the player on the board.
-                this.move(player);  // Start the round of the player.
-                // Check whether tokens need to be discarded, if so do so.
-                this.discardTokens(player);
-                this.nobleVisit(player);
+        this.paced = true;
+        this.start();
+        while (!this.isOver())
+            if (this.awaitingInput) this.submitInput(this.io.readLine());
+            else this.advance();
+    }
+
+    /**
+     * Starts the game, or resumes it after being restored from a 
+     * snapshot, without playing any turn. The game is then advanced 
+     * with {@link #advance()} and {@link #submitInput(String)}, on any 
+     * thread but one at a time.
+     */
+    public void start() {
+        for (GameListener listener : this.listeners)
+            listener.gameStarted(this);
+        this.step = Step.START;
+        // The game can only end once every player played the round.
+        if (this.currentPlayer == 0 && this.isGameOver()) this.gameOver();
+    }
+
+    /**
+     * Advances the game until the end of the turn of the current player, 
+     * or until the game needs an input of the player.
+     *
+     * @throws IllegalStateException If the game waits for an input, 
+     *         is over, or its watchdog has no thread left for a decision.
+     */
+    public void advance() throws IllegalStateException {
+        if (this.awaitingInput || this.isOver())
+            throw new IllegalStateException(Messages.GAME_NOT_ADVANCING);
+        this.run(null);
+    }
+
+    /**
+     * Hands the input the game waits for to the current player, then 
+     * advances the game until the end of the turn, or until the game 
+     * needs another input.
+     *
+     * @param input The raw input of the player.
+     * @throws IllegalStateException If the game waits for no input.
+     */
+    public void submitInput(String input) throws IllegalStateException {
+        if (!this.awaitingInput)
+            throw new IllegalStateException(
+                Messages.GAME_NOT_AWAITING_INPUT);
+        this.awaitingInput = false;
+        this.run(input);
+    }
+
+    /**
+     * Checks whether the game waits for an input of the current player.
+     *
+     * @return {@code true} if the game waits for an input, 
+     *         {@code false} otherwise.
+     */
+    public boolean isAwaitingInput() {
+        return this.awaitingInput;
+    }
+
+    /**
+     * Checks whether the game is over and the winners were announced.
+     *
+     * @return {@code true} if the game is over, {@code false} otherwise.
+     */
+    public boolean isOver() {
+        return this.step == Step.OVER;
+    }
+
+    /**
+     * Retrieves the player whose turn it is.
+     *
+     * @return The current player.
+     */
+    public Player getCurrentPlayer() {
+        return this.players[this.currentPlayer];
+    }
+
+    /**
+     * Runs the steps of the turn of the current player until the end 
+     * of the turn, or until the game needs an input of the player.
+     *
+     * @param input The input which has just arrived, or {@code null}.
+     */
+    private void run(String input) {
+        final Player player = this.players[this.currentPlayer];
+        final int turn = this.turn;
+        this.input = input;
+        while (!this.awaitingInput && this.turn == turn && !this.isOver()) {
+            switch (this.step) {
+                case START:
+                    // Select the player on the board.
+                    this.display(this.currentPlayer);
+                    this.step = Step.CHOOSE;
+                    break;
+                case CHOOSE: this.chooseAction(player); break;
+                case MOVE: this.move(player); break;
+                case DISCARD: this.discardTokens(player); break;
+                case NOBLE: this.nobleVisit(player); break;
+                default: break;
             }
-        this.gameOver();
+        }
+        this.input = null;
+    }
+
+    /**
+     * Writes a snapshot of the game in progress: the board, every player 
+     * and whose turn it is. Cards are written as their catalog identifier, 
+     * so that the snapshot is a few hundred bytes long.
+     *
+     * @param buffer The buffer to write the snapshot into, which must 
+     *        have at least {@code Values.SNAPSHOT_SIZE} remaining bytes.
+     */
+    public void snapshot(ByteBuffer buffer) {
+        buffer.putInt(Game.SNAPSHOT_MAGIC).put(Game.SNAPSHOT_VERSION);
+        buffer.put((byte) this.getNbPlayers());
+        buffer.put((byte) this.currentPlayer).putInt(this.turn);
+        this.board.writeSnapshot(buffer);
+        for (Player player : this.players) {
+            // Subclasses choose another way, so they are not created back.
+            final Class<?> type = player.getClass();
+            buffer.put(type == HumanPlayer.class ? Game.HUMAN_PLAYER 
+                : type == RobotPlayer.class ? Game.ROBOT_PLAYER 
+                : Game.OTHER_PLAYER);
+            player.writeSnapshot(buffer);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the game in progress.
+     *
+     * @return The snapshot of the game.
+     * @see #snapshot(ByteBuffer)
+     */
+    public byte[] snapshot() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Values.SNAPSHOT_SIZE);
+        this.snapshot(buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Restores a game from a snapshot written by 
+     * {@link #snapshot(ByteBuffer)}. The same snapshot can be restored 
+     * any number of times, each restored game being independent.
+     *
+     * @param buffer The buffer to read the snapshot from.
+     * @param io The input and outputs of the restored game.
+     * @return The restored game, ready to be played from where the 
+     *         snapshot was taken.
+     * @throws IllegalArgumentException If the buffer does not hold a 
+     *         snapshot of a game, or holds a player which is neither a 
+     *         human nor a robot of the console game.
+     * @throws CardReaderException If the card catalog cannot be read.
+     * @see #restore(ByteBuffer, GameIO, IntFunction)
+     */
+    public static Game restore(ByteBuffer buffer, GameIO io)
+            throws IllegalArgumentException, CardReaderException {
+        return Game.restore(buffer, io, index -> {
+            throw new IllegalArgumentException(MessageFormat.format(
+                Messages.SNAPSHOT_PLAYER_ERROR, index));
+        });
+    }
+
+    /**
+     * Restores a game from a snapshot, the players which are neither 
+     * humans nor robots of the console game being created by the caller, 
+     * as only their state is in the snapshot.
+     *
+     * @param buffer The buffer to read the snapshot from.
+     * @param io The input and outputs of the restored game.
+     * @param others The function creating the other players, from their 
+     *        index in the game.
+     * @return The restored game.
+     * @throws IllegalArgumentException If the buffer does not hold a 
+     *         snapshot of a game: a wrong header, a number of players 
+     *         out of 2 to 4, a current player out of them, or a player 
+     *         of an unknown kind.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public static Game restore(ByteBuffer buffer, GameIO io, 
+            IntFunction<Player> others)
+            throws IllegalArgumentException, CardReaderException {
+        if (buffer.getInt() != Game.SNAPSHOT_MAGIC 
+                || buffer.get() != Game.SNAPSHOT_VERSION)
+            throw new IllegalArgumentException(Messages.SNAPSHOT_ERROR);
+        final int playersCount = buffer.get();
+        if (playersCount < 2 || Values.MAX_PLAYERS < playersCount)
+            throw new IllegalArgumentException(MessageFormat.format(
+                Messages.SNAPSHOT_PLAYERS_ERROR, playersCount));
+        final Player[] players = new Player[playersCount];
+        final int currentPlayer = buffer.get();
+        if (currentPlayer < 0 || playersCount <= currentPlayer)
+            throw new IllegalArgumentException(MessageFormat.format(
+                Messages.SNAPSHOT_CURRENT_ERROR, currentPlayer));
+        final int turn = buffer.getInt();
+        final Board board = Board.readSnapshot(buffer);
+        for (int index = 0; index < players.length; index++) {
+            final byte kind = buffer.get();
+            if (kind < Game.HUMAN_PLAYER || Game.OTHER_PLAYER < kind)
+                throw new IllegalArgumentException(MessageFormat.format(
+                    Messages.SNAPSHOT_KIND_ERROR, index, kind));
+            players[index] = kind == Game.OTHER_PLAYER 
+                ? others.apply(index) : Game.createPlayer(kind, index, io);
+            players[index].readSnapshot(buffer);
+        }
+        final Game game = new Game(board, players, io);
+        game.currentPlayer = currentPlayer;
+        game.turn = turn;
+        return game;
+    }
+
+    /**
+     * Restores a headless game from a snapshot.
+     *
+     * @param buffer The buffer to read the snapshot from.
+     * @return The restored game.
+     * @throws IllegalArgumentException If the buffer does not hold a 
+     *         snapshot of a game, or holds a player which cannot be 
+     *         created back.
+     * @throws CardReaderException If the card catalog cannot be read.
+     * @see #restore(ByteBuffer, GameIO)
+     */
+    public static Game restore(ByteBuffer buffer)
+            throws IllegalArgumentException, CardReaderException {
+        return Game.restore(buffer, GameIO.headless());
+    }
+
+    /**
+     * Restores a headless game from a snapshot.
+     *
+     * @param snapshot The snapshot of the game.
+     * @return The restored game.
+     * @throws IllegalArgumentException If the array does not hold a 
+     *         snapshot of a game, or holds a player which cannot be 
+     *         created back.
+     * @throws CardReaderException If the card catalog cannot be read.
+     * @see #restore(ByteBuffer, GameIO)
+     */
+    public static Game restore(byte[] snapshot)
+            throws IllegalArgumentException, CardReaderException {
+        return Game.restore(ByteBuffer.wrap(snapshot));
     }
 
     /**
@@ -209,6 +755,9 @@ public class Game {
      * achieve the win condition, they are all considered winners.
      */
     private void gameOver() {
+        this.step = Step.OVER;
+        for (GameListener listener : this.listeners)
+            listener.gameOver(this);
         final ArrayList<Player> winningPlayers = new ArrayList<Player>();
         for (Player player : this.players)
             if (player.getPoints() >= Values.WIN_THRESHOLD)
@@ -220,49 +769,224 @@ public class Game {
         final String playersPreview = String.join(", ", players);
         String message = players.length > 1 ? Messages.WINS : Messages.WIN;
         message = MessageFormat.format(message, playersPreview);
-        Utility.display.outBoard.println(message);
+        this.io.outBoard.println(message);
         this.sleep(10);
     }
 
     /**
-     * Facilitates and processes a player's move by presenting available 
-     * actions and handling the chosen action.
+     * Lets the player choose an action, or waits for the input of the 
+     * player choosing it.
+     *
+     * @param player The player whose move is being processed.
+     */
+    private void chooseAction(Player player) {
+        if (!player.needsInput()) this.action = this.decide(player);
+        else if (this.input == null) {
+            player.promptAction();
+            this.awaitInput(player);
+            return;
+        } else this.action = player.chooseAction(this.takeInput());
+        // Done again as long as the input designates no action.
+        if (this.action == null) return;
+        this.io.out.clean();
+        this.step = Step.MOVE;
+    }
+
+    /**
+     * Lets a player who chooses on their own make a decision, within the 
+     * budget of the watchdog if any. A decision under a watchdog is taken 
+     * on a copy of the game, which it may go on reading once abandoned. 
+     * A decision running late is abandoned and recorded, and the 
+     * fallback action is played instead.
+     *
+     * @param player The player choosing an action.
+     * @return The action chosen by the player, or the fallback action.
+     */
+    private IAction decide(Player player) {
+        if (this.watchdog == null) 
+            return player.chooseAction(this.board.getView());
+        final Game copy = this.copy();
+        try {
+            return this.watchdog.decide(
+                copy.players[this.currentPlayer], copy.board.getView());
+        } catch (TimeoutException exception) {
+            final Incident incident = new Incident(this.currentPlayer, 
+                this.turn, this.watchdog.getBudget(), this.snapshot());
+            this.incidents.add(incident);
+            this.fallbacks[this.currentPlayer]++;
+            for (GameListener listener : this.listeners)
+                listener.incidentRecorded(this, incident);
+            return Game.FALLBACK;
+        }
+    }
+
+    /**
+     * Copies the board and the players of the game in progress. The 
+     * copies of the players which listen to games learn the copy of the 
+     * game, as if it had started.
+     *
+     * @return An independent copy of the game.
+     */
+    private Game copy() {
+        final Board board = this.board.copy();
+        final Player[] players = new Player[this.players.length];
+        for (int index = 0; index < players.length; index++)
+            players[index] = this.players[index].copy(board);
+        final Game copy = new Game(board, players, this.io);
+        copy.currentPlayer = this.currentPlayer;
+        copy.turn = this.turn;
+        for (GameListener listener : copy.listeners)
+            listener.gameStarted(copy);
+        return copy;
+    }
+
+    /**
+     * Processes the action chosen by the player, then moves on to 
+     * discarding tokens if the player has too many, or to the visit 
+     * of a noble. A refused action is chosen again, at most 
+     * {@code MAX_ACTION_RETRIES} times for a player who chooses on 
+     * their own, after which the fallback action is played instead.
      *
      * @param player The player whose move is being processed.
      */
     private void move(Player player) {
-        final IAction action = player.chooseAction(board);
-        Utility.display.out.clean();
-        boolean isOk = action.process(board, player);
+        final boolean isOk = this.processAction(player);
+        if (this.awaitingInput) return;
+        this.actionProcessed(player, isOk);
         this.sleep(1);
-        // Done as long as there is an input error.
-        if (!isOk) this.move(player);
-        else Utility.display.out.clean();
+        if (!isOk) {
+            this.retry(player);
+            return;
+        }
+        this.attempts = 0;
+        this.io.out.clean();
+        final int resources = player.getAvailableResources().length;
+        if (resources > Values.MAX_NUMBER_RESOURCES_PER_PLAYER) {
+            this.action = player.discardToken();
+            this.step = Step.DISCARD;
+        } else {
+            this.action = player.nobleVisit(this.board.getView());
+            this.step = Step.NOBLE;
+        }
     }
 
     /**
-     * Discards tokens for the specified player by invoking the 
-     * {@code discardToken} action and processes the corresponding effects 
-     * on the board and player. After the action, clears the display output.
+     * Counts a refused action of the player, and either lets them choose 
+     * again or, once they retried too many times on their own, moves on 
+     * to the fallback action.
+     *
+     * @param player The player whose action was refused.
+     */
+    private void retry(Player player) {
+        this.retries[this.currentPlayer]++;
+        this.attempts++;
+        // Done again as long as there is an input error.
+        if (player.needsInput() 
+                || this.attempts <= Values.MAX_ACTION_RETRIES) 
+            this.step = Step.CHOOSE;
+        else {
+            this.fallbacks[this.currentPlayer]++;
+            this.action = Game.FALLBACK;
+        }
+    }
+
+    /**
+     * Discards tokens for the specified player by processing the 
+     * {@code discardToken} action, then moves on to the visit of a noble.
      *
      * @param player The player for whom tokens are to be discarded.
      */
     private void discardTokens(Player player) {
-        final int resources = player.getAvailableResources().length;
-        if (resources <= Values.MAX_NUMBER_RESOURCES_PER_PLAYER) return;
-        player.discardToken().process(this.board, player);
-        Utility.display.out.clean();
+        final boolean isOk = this.processAction(player);
+        if (this.awaitingInput) return;
+        this.actionProcessed(player, isOk);
+        this.io.out.clean();
+        this.action = player.nobleVisit(this.board.getView());
+        this.step = Step.NOBLE;
     }
 
     /**
-     * Initiates a noble visit for the specified player by invoking the 
-     * {@code nobleVisit} action and processes the corresponding effects 
-     * on the board and player. After the action, clears the display output.
+     * Initiates a noble visit for the specified player by processing the 
+     * {@code nobleVisit} action, then ends the turn of the player.
      *
      * @param player The player initiating the noble visit.
      */
     private void nobleVisit(Player player) {
-        player.nobleVisit(this.board).process(this.board, player);
-        Utility.display.out.clean();
+        final boolean isOk = this.processAction(player);
+        if (this.awaitingInput) return;
+        this.actionProcessed(player, isOk);
+        this.io.out.clean();
+        this.endTurn(player);
+    }
+
+    /**
+     * Ends the turn of the current player and passes the turn to the 
+     * next player, unless the game is over.
+     *
+     * @param player The player who has just played.
+     */
+    private void endTurn(Player player) {
+        for (GameListener listener : this.listeners)
+            listener.turnPlayed(this, player);
+        this.currentPlayer = (this.currentPlayer + 1) % this.getNbPlayers();
+        this.turn++;
+        this.step = Step.START;
+        // The game can only end once every player played the round.
+        if (this.currentPlayer == 0 && this.isGameOver()) this.gameOver();
+    }
+
+    /**
+     * Processes the action of the current step, with the input which has 
+     * arrived if the action needs one. If the input has not arrived yet, 
+     * prompts the player and waits for it.
+     *
+     * @param player The player on whom the action is processed.
+     * @return {@code true} if the action was processed correctly, 
+     *         {@code false} otherwise or while waiting for the input.
+     */
+    private boolean processAction(Player player) {
+        if (!this.action.needsInput(this.board, player))
+            return this.action.process(this.board, player);
+        if (this.input != null)
+            return this.action.process(this.board, player, this.takeInput());
+        this.action.prompt(player);
+        this.awaitInput(player);
+        return false;
+    }
+
+    /**
+     * Notifies the listeners that the action of the current step was 
+     * processed.
+     *
+     * @param player The player who has just acted.
+     * @param isOk {@code true} if the action was processed correctly.
+     */
+    private void actionProcessed(Player player, boolean isOk) {
+        for (GameListener listener : this.listeners)
+            listener.actionProcessed(this, player, this.action, isOk);
+    }
+
+    /**
+     * Stops the game to wait for an input of the player, who has just 
+     * been prompted for it.
+     *
+     * @param player The player whose input is awaited.
+     */
+    private void awaitInput(Player player) {
+        this.awaitingInput = true;
+        for (GameListener listener : this.listeners)
+            listener.inputAwaited(this, player);
+    }
+
+    /**
+     * Retrieves the input which has just arrived, which can only be 
+     * used once.
+     *
+     * @return The input of the player.
+     */
+    private String takeInput() {
+        final String input = this.input;
+        this.input = null;
+        return input;
     }
 }
@@ -0,0 +1,68 @@
+package com.splendor;
+
+import com.splendor.actions.IAction;
+import com.splendor.player.Player;
+
+
+/**
+ * Interface for objects notified of the progress of a game, e.g. to 
+ * record it. The methods are called on the thread playing the game, 
+ * and do nothing by default.
+ */
+public interface GameListener {
+
+    /**
+     * Called when the game starts, or resumes after being restored from 
+     * a snapshot.
+     *
+     * @param game The game being played.
+     */
+    public default void gameStarted(Game game) {}
+
+    /**
+     * Called when the game stops to wait for an input of the current 
+     * player, after the player was prompted for it.
+     *
+     * @param game The game being played.
+     * @param player The player whose input is awaited.
+     */
+    public default void inputAwaited(Game game, Player player) {}
+
+    /**
+     * Called when an action of the current player was processed, 
+     * including discarding tokens and the visit of a noble.
+     *
+     * @param game The game being played.
+     * @param player The player who has just acted.
+     * @param action The action processed.
+     * @param isOk {@code true} if the action was processed correctly, 
+     *        {@code false} if it was refused and must be chosen again.
+     */
+    public default void actionProcessed(
+            Game game, Player player, IAction action, boolean isOk) {}
+
+    /**
+     * Called when a decision of the current player was abandoned because 
+     * the player ran out of time, before the fallback action is played.
+     *
+     * @param game The game being played.
+     * @param incident The record of the abandoned decision.
+     */
+    public default void incidentRecorded(Game game, Incident incident) {}
+
+    /**
+     * Called when a player has finished a turn, including discarding 
+     * tokens and the visit of a noble.
+     *
+     * @param game The game being played.
+     * @param player The player who has just played.
+     */
+    public default void turnPlayed(Game game, Player player) {}
+
+    /**
+     * Called when the game is over, before the winners are announced.
+     *
+     * @param game The game that is over.
+     */
+    public default void gameOver(Game game) {}
+}
@@ -0,0 +1,83 @@
+package com.splendor;
+
+
+/**
+ * The Incident class records a decision which was abandoned because the
+ * player ran out of time. It holds a snapshot of the game as the player
+ * saw it, so that the decision can be reproduced by restoring the game
+ * with {@link Game#restore(byte[])}.
+ */
+public class Incident {
+
+    /**
+     * The index of the player whose decision was abandoned.
+     */
+    private final int player;
+
+    /**
+     * The number of turns played when the decision was abandoned.
+     */
+    private final int turn;
+
+    /**
+     * The time, in milliseconds, the player had to make the decision.
+     */
+    private final long budget;
+
+    /**
+     * The snapshot of the game the player was deciding on.
+     */
+    private final byte[] snapshot;
+
+    /**
+     * Constructs an incident.
+     *
+     * @param player The index of the player whose decision was abandoned.
+     * @param turn The number of turns played.
+     * @param budget The time, in milliseconds, the player had.
+     * @param snapshot The snapshot of the game the player was deciding on.
+     */
+    public Incident(int player, int turn, long budget, byte[] snapshot) {
+        this.player = player;
+        this.turn = turn;
+        this.budget = budget;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Retrieves the index of the player whose decision was abandoned.
+     *
+     * @return The index of the player, in the order of play.
+     */
+    public int getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Retrieves the number of turns played when the decision was
+     * abandoned.
+     *
+     * @return The number of turns played.
+     */
+    public int getTurn() {
+        return this.turn;
+    }
+
+    /**
+     * Retrieves the time the player had to make the decision.
+     *
+     * @return The budget of the decision, in milliseconds.
+     */
+    public long getBudget() {
+        return this.budget;
+    }
+
+    /**
+     * Retrieves the snapshot of the game the player was deciding on.
+     *
+     * @return A copy of the snapshot.
+     */
+    public byte[] getSnapshot() {
+        return this.snapshot.clone();
+    }
+}
@@ -1,8 +1,18 @@
 package com.splendor;
 
+import java.io.File;
+import java.text.MessageFormat;
+
+import com.splendor.cards.CardValues;
 import com.splendor.constants.Messages;
-import com.splendor.constants.Utility;
+import com.splendor.constants.Project;
+import com.splendor.constants.Values;
+import com.splendor.display.Display;
+import com.splendor.display.GameIO;
 import com.splendor.exceptions.CardReaderException;
+import com.splendor.player.HumanPlayer;
+import com.splendor.player.Player;
+import com.splendor.player.RobotPlayer;
 
 
 public class Main {
@@ -15,8 +25,22 @@ public class Main {
      * @param args Command line arguments (mandatory but not used here).
      */
     public static void main(String[] args) throws CardReaderException {
-        Utility.display.outBoard.println(Messages.WELCOME);
-        new Game(3, false).play();
-        Utility.display.close();
+        // Let the robots value cards with statistics from simulations.
+        final File values = new File(Project.CARD_VALUES_FILE);
+        final CardValues cardValues = values.exists() 
+            ? CardValues.load(values.toPath()) : null;
+        final Display display = new Display(
+            Values.ROWS_BOARD, Values.ROWS_CONSOLE, Values.COLUMNS_CONSOLE);
+        display.outBoard.println(Messages.WELCOME);
+        final GameIO io = GameIO.of(display);
+        final Player[] players = new Player[3];
+        players[0] = new HumanPlayer(Messages.HUMAN, 0, io);
+        for (int index = 1; index < players.length; index++)
+            players[index] = new RobotPlayer(MessageFormat.format(
+                Messages.ROBOT, index), index, io, cardValues);
+        final Game game = new Game(players, io);
+        game.setWatchdog(new Watchdog(Values.DECISION_BUDGET));
+        game.play();
+        display.close();
     }
 }
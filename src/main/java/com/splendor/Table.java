@@ -0,0 +1,154 @@
+package com.splendor;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * The Table class hosts a game on a shared executor, so that many games 
+ * can be played at once by a few threads. The game advances on events: 
+ * the start of the game, the arrival of an input of a human player, and 
+ * the end of a turn, after which the next turn is posted as a new event 
+ * so that the other tables get their share of the threads.
+ *
+ * The events of a table are processed one at a time and in order, each 
+ * by a short task of the executor. No thread is held while the game 
+ * waits for an input: the game simply stays in its current step until 
+ * the input is submitted. Any executor can be used, e.g. a fixed pool 
+ * or, on Java 21, one virtual thread per task.
+ */
+public class Table {
+
+    /**
+     * The game played at the table.
+     */
+    private final Game game;
+
+    /**
+     * The executor running the events of the table.
+     */
+    private final Executor executor;
+
+    /**
+     * The events waiting to be processed, in order of arrival.
+     */
+    private final Queue<Runnable> events = 
+        new ConcurrentLinkedQueue<Runnable>();
+
+    /**
+     * Whether a task processing the events is scheduled or running.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * Completed with the game once it is over, or exceptionally if an 
+     * event failed.
+     */
+    private final CompletableFuture<Game> completion = 
+        new CompletableFuture<Game>();
+
+    /**
+     * Constructs a table for the specified game.
+     *
+     * @param game The game to play, not started yet.
+     * @param executor The executor running the events of the table.
+     */
+    public Table(Game game, Executor executor) {
+        this.game = game;
+        this.executor = executor;
+    }
+
+    /**
+     * Retrieves the game played at the table. The game must only be 
+     * read from the listeners of the game, or once it is over.
+     *
+     * @return The game played at the table.
+     */
+    public Game getGame() {
+        return this.game;
+    }
+
+    /**
+     * Retrieves the completion of the game.
+     *
+     * @return A future completed with the game once it is over.
+     */
+    public CompletableFuture<Game> getCompletion() {
+        return this.completion;
+    }
+
+    /**
+     * Starts the game at the table.
+     */
+    public void start() {
+        this.post(() -> {
+            this.game.start();
+            this.next();
+        });
+    }
+
+    /**
+     * Submits an input of the human player. An input arriving while the 
+     * game does not wait for one, e.g. once it is over, is ignored.
+     *
+     * @param input The raw input of the player.
+     */
+    public void submitInput(String input) {
+        this.post(() -> {
+            if (!this.game.isAwaitingInput()) return;
+            this.game.submitInput(input);
+            this.next();
+        });
+    }
+
+    /**
+     * Posts an event to be processed after the events already posted.
+     *
+     * @param event The event to process on the game.
+     */
+    public void post(Runnable event) {
+        this.events.add(event);
+        this.schedule();
+    }
+
+    /**
+     * Posts the next turn if the game can advance without an input, or 
+     * completes the table if the game is over.
+     */
+    private void next() {
+        if (this.game.isOver()) this.completion.complete(this.game);
+        else if (!this.game.isAwaitingInput()) this.post(() -> {
+            this.game.advance();
+            this.next();
+        });
+    }
+
+    /**
+     * Schedules a task processing the events, unless one is already 
+     * scheduled or running.
+     */
+    private void schedule() {
+        if (this.scheduled.compareAndSet(false, true))
+            this.executor.execute(this::process);
+    }
+
+    /**
+     * Processes the next event, then schedules another task if more 
+     * events arrived, so that a table never holds a thread for long.
+     */
+    private void process() {
+        final Runnable event = this.events.poll();
+        if (event != null && !this.completion.isDone()) {
+            try {
+                event.run();
+            } catch (Throwable throwable) {
+                this.completion.completeExceptionally(throwable);
+            }
+        }
+        this.scheduled.set(false);
+        if (!this.events.isEmpty()) this.schedule();
+    }
+}
@@ -0,0 +1,183 @@
+package com.splendor;
+
+import java.text.MessageFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.splendor.actions.IAction;
+import com.splendor.board.BoardView;
+import com.splendor.constants.Messages;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+
+
+/**
+ * The Watchdog class lets the players who choose on their own make their
+ * decisions within a wall-clock budget. A decision running late is
+ * interrupted and left to end on its own thread, while the game goes on
+ * with a fallback action.
+ *
+ * A decision abandoned this way may go on reading the board and the
+ * player it was given, so the game gives it copies of its board and
+ * players, which it never changes. What the decision reads or writes
+ * once abandoned is thrown away with its result.
+ *
+ * The decisions of a watchdog, meant for one game, run on at most
+ * {@code Values.DECISION_THREADS} daemon threads of its own, so that the
+ * hung decisions of a game never hold the threads of another. A decision
+ * which never ends holds one of them for good, and is counted as hung.
+ * Once every thread is held, the next decision fails, as the game can no
+ * longer be played within the budget.
+ */
+public class Watchdog {
+
+    /**
+     * The states of a decision: waiting for its thread, running, ended,
+     * or abandoned while waiting or running.
+     */
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int ENDED = 2;
+    private static final int ABANDONED = 3;
+
+    /**
+     * The time, in milliseconds, a player has to make a decision.
+     */
+    private final long budget;
+
+    /**
+     * The threads running the decisions.
+     */
+    private final ThreadPoolExecutor decisions =
+        new ThreadPoolExecutor(0, Values.DECISION_THREADS, 1,
+            TimeUnit.MINUTES, new SynchronousQueue<Runnable>(),
+            Watchdog::newThread);
+
+    /**
+     * The number of abandoned decisions which have not ended yet.
+     */
+    private final AtomicInteger hung = new AtomicInteger();
+
+    /**
+     * Constructs a watchdog giving the players a budget for each
+     * decision.
+     *
+     * @param budget The time, in milliseconds, a player has to make
+     *        a decision.
+     * @throws IllegalArgumentException If the budget is not positive.
+     */
+    public Watchdog(long budget) throws IllegalArgumentException {
+        if (budget <= 0) throw new IllegalArgumentException(
+            MessageFormat.format(Messages.WATCHDOG_BUDGET_ERROR, budget));
+        this.budget = budget;
+    }
+
+    /**
+     * Retrieves the time a player has to make a decision.
+     *
+     * @return The budget of a decision, in milliseconds.
+     */
+    public long getBudget() {
+        return this.budget;
+    }
+
+    /**
+     * Retrieves the number of decisions abandoned by the watchdog which 
+     * still hold a thread, as they have not ended yet.
+     *
+     * @return The number of hung decisions.
+     */
+    public int getHung() {
+        return this.hung.get();
+    }
+
+    /**
+     * Creates a daemon thread running decisions.
+     *
+     * @param runnable The task of the thread.
+     * @return The thread.
+     */
+    private static Thread newThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, "decision");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Lets a player choose an action within the budget.
+     *
+     * @param player The player choosing an action, which the game does 
+     *        not change while they choose.
+     * @param board The view of the board the player chooses on, which 
+     *        the game does not change either.
+     * @return The action chosen by the player.
+     * @throws TimeoutException If the decision was abandoned, because it
+     *         ran late or the thread playing the game was interrupted.
+     * @throws IllegalStateException If every thread of the watchdog is 
+     *         held by a hung decision.
+     */
+    public IAction decide(Player player, BoardView board)
+            throws TimeoutException, IllegalStateException {
+        final AtomicInteger state = new AtomicInteger(Watchdog.PENDING);
+        final Future<IAction> decision;
+        try {
+            decision = this.decisions.submit(() -> {
+                if (!state.compareAndSet(Watchdog.PENDING, Watchdog.RUNNING))
+                    return null;
+                try {
+                    return player.chooseAction(board);
+                } finally {
+                    if (!state.compareAndSet(Watchdog.RUNNING, Watchdog.ENDED))
+                        this.hung.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            throw new IllegalStateException(MessageFormat.format(
+                Messages.WATCHDOG_THREADS_ERROR, this.hung.get()));
+        }
+        try {
+            return decision.get(this.budget, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            this.abandon(decision, state);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException();
+        } catch (TimeoutException exception) {
+            this.abandon(decision, state);
+            throw exception;
+        } catch (ExecutionException exception) {
+            // Thrown again as if the player had decided on this thread.
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Abandons a decision running late: a decision still waiting for its
+     * thread never starts, and a running one is interrupted and counted
+     * as hung until it ends.
+     *
+     * @param decision The decision.
+     * @param state The state of the decision.
+     */
+    private void abandon(Future<IAction> decision,
+            AtomicInteger state) {
+        while (!state.compareAndSet(Watchdog.PENDING, Watchdog.ABANDONED)) {
+            // Counted first, for the count never to go below 0.
+            this.hung.incrementAndGet();
+            if (state.compareAndSet(Watchdog.RUNNING, Watchdog.ABANDONED))
+                break;
+            this.hung.decrementAndGet();
+            if (state.get() == Watchdog.ENDED) return;
+        }
+        decision.cancel(true);
+    }
+}
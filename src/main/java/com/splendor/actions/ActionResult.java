@@ -0,0 +1,122 @@
+package com.splendor.actions;
+
+import java.util.function.Function;
+
+import com.splendor.constants.Messages;
+import com.splendor.exceptions.ActionException;
+import com.splendor.exceptions.InvalidColumnException;
+import com.splendor.exceptions.InvalidInputException;
+import com.splendor.exceptions.InvalidNumberException;
+import com.splendor.exceptions.InvalidTierException;
+import com.splendor.exceptions.MaxReservedCardsException;
+import com.splendor.exceptions.NotEnoughResourcesException;
+import com.splendor.exceptions.NullCardException;
+
+
+/**
+ * The result of the validation of an action, returned instead of thrown
+ * so that checking a move, legal or not, costs no exception. The results
+ * are constants, shared by every validation.
+ */
+public enum ActionResult {
+
+    /**
+     * The action can be processed.
+     */
+    OK(null, null),
+
+    /**
+     * The input is malformed.
+     */
+    INVALID_INPUT(Messages.INVALID_MOVE, InvalidInputException::new),
+
+    /**
+     * The tier of the card is out of bounds.
+     */
+    INVALID_TIER(Messages.CARD_INVALID_TIER, InvalidTierException::new),
+
+    /**
+     * The column of the card is out of bounds.
+     */
+    INVALID_COLUMN(Messages.CARD_INVALID_COLUMN,
+        InvalidColumnException::new),
+
+    /**
+     * The number chosen is out of bounds.
+     */
+    INVALID_NUMBER(Messages.CARD_INVALID_NUMBER,
+        InvalidNumberException::new),
+
+    /**
+     * There is no card at the chosen position.
+     */
+    EMPTY_SLOT(Messages.CARD_EMPTY_SLOT, NullCardException::new),
+
+    /**
+     * The player, or the board, lacks the resources the action needs.
+     */
+    NOT_ENOUGH_RESOURCES(Messages.NOT_ENOUGH_RESOURCES,
+        NotEnoughResourcesException::new),
+
+    /**
+     * Every reserved slot of the player is occupied.
+     */
+    MAX_RESERVED_CARDS(Messages.RESERVE_CARD_LIMIT_ERROR,
+        MaxReservedCardsException::new);
+
+    /**
+     * The message explaining the result, unless the action gives a more
+     * specific one.
+     */
+    private final String message;
+
+    /**
+     * The constructor of the exception reporting the result.
+     */
+    private final Function<String, ActionException> exception;
+
+    /**
+     * Constructs a result of validation.
+     *
+     * @param message The message explaining the result.
+     * @param exception The constructor of the exception reporting the
+     *        result.
+     */
+    private ActionResult(String message,
+            Function<String, ActionException> exception) {
+        this.message = message;
+        this.exception = exception;
+    }
+
+    /**
+     * Checks whether the action can be processed.
+     *
+     * @return {@code true} for {@code OK}, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return this == OK;
+    }
+
+    /**
+     * Retrieves the message explaining the result.
+     *
+     * @return The message, or {@code null} for {@code OK}.
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Creates the exception reporting the result, for the callers which
+     * handle invalid actions as exceptions.
+     *
+     * @param message The message of the exception.
+     * @return The exception, which has no stack trace.
+     * @throws IllegalStateException If the result is {@code OK}.
+     */
+    public ActionException toException(String message)
+            throws IllegalStateException {
+        if (this.exception == null) throw new IllegalStateException();
+        return this.exception.apply(message);
+    }
+}
@@ -1,11 +1,9 @@
 package com.splendor.actions;
 
 import java.text.MessageFormat;
-import java.util.Scanner;
 
 import com.splendor.board.Board;
 import com.splendor.constants.Messages;
-import com.splendor.constants.Utility;
 import com.splendor.constants.Values;
 import com.splendor.exceptions.ActionException;
 import com.splendor.player.Player;
@@ -19,8 +17,7 @@ public abstract class HumanAction implements IAction {
 
     /**
      * Processes the input for the action, displaying the action to the 
-     * player, checking input validity, and handling the input until it 
-     * is valid.
+     * player, then reading and handling the input.
      *
      * @param board The game board on which the action is performed.
      * @param player The player performing the action.
@@ -30,16 +27,54 @@ public abstract class HumanAction implements IAction {
     @Override
     public boolean process(Board board, Player player) {
         this.displayAction(player);
-        try {
-            final String input = this.readInput();
-            this.checkInputValidity(board, player, input);
-            this.processInput(board, player, input);
-            return true;
-        } catch (Exception exception) {
-            Utility.display.out.println(MessageFormat.format(
-                Messages.INPUT_ERROR, exception.getMessage()));
+        return this.process(board, player, this.readInput(player));
+    }
+
+    /**
+     * Processes an input which has already arrived, checking its validity 
+     * before handling it.
+     *
+     * @param board The game board on which the action is performed.
+     * @param player The player performing the action.
+     * @param input The raw input of the player.
+     * @return {@code true} if everything happened correctly,
+     *         otherwise {@code false}.
+     */
+    @Override
+    public boolean process(Board board, Player player, String input) {
+        // Remove all characters that are not letters.
+        input = input.strip().replaceAll(Values.INPUT_REGEX, "");
+        final ActionResult result = this.validate(board, player, input);
+        if (!result.isValid()) {
+            player.getIO().out.println(MessageFormat.format(
+                Messages.INPUT_ERROR, this.getMessage(result, player)));
             return false;
         }
+        this.processInput(board, player, input);
+        return true;
+    }
+
+    /**
+     * Checks whether the action needs an input of the player, which is 
+     * always the case of a human action.
+     *
+     * @param board The game board on which the action is performed.
+     * @param player The player performing the action.
+     * @return {@code true}.
+     */
+    @Override
+    public boolean needsInput(Board board, Player player) {
+        return true;
+    }
+
+    /**
+     * Prompts the player for the input by displaying the action.
+     *
+     * @param player The player performing the action.
+     */
+    @Override
+    public void prompt(Player player) {
+        this.displayAction(player);
     }
 
     /**
@@ -49,6 +84,19 @@ public abstract class HumanAction implements IAction {
      */
     public abstract void displayAction(Player player);
 
+    /**
+     * Validates the player's input for the specific action, without 
+     * throwing: an invalid input is reported by the result.
+     *
+     * @param board The game board on which the action is performed.
+     * @param player The player performing the action.
+     * @param input The player's input to be checked for validity.
+     * @return {@code ActionResult.OK} if the input is valid, otherwise 
+     *         the reason why it is not.
+     */
+    public abstract ActionResult validate(
+        Board board, Player player, String input);
+
     /**
      * Checks the validity of the player's input for the specific action.
      *
@@ -57,8 +105,42 @@ public abstract class HumanAction implements IAction {
      * @param input The player's input to be checked for validity.
      * @throws ActionException If the input is invalid for the action.
      */
-    public abstract void checkInputValidity(
-        Board board, Player player, String input) throws ActionException;
+    public void checkInputValidity(Board board, Player player, String input) 
+            throws ActionException {
+        final ActionResult result = this.validate(board, player, input);
+        if (result.isValid()) return;
+        throw result.toException(this.getMessage(result, player));
+    }
+
+    /**
+     * Retrieves the message explaining to the player why their input 
+     * was refused.
+     *
+     * @param result The result of the validation of the input.
+     * @param player The player performing the action.
+     * @return The message of the result by default.
+     */
+    protected String getMessage(ActionResult result, Player player) {
+        return result.getMessage();
+    }
+
+    /**
+     * Parses a number typed by the player, without throwing.
+     *
+     * @param input The digits of the number.
+     * @return The number, or {@code -1} if the input is not a number 
+     *         of at most four digits.
+     */
+    protected static int parseNumber(String input) {
+        if (input.isEmpty() || input.length() > 4) return -1;
+        int number = 0;
+        for (int index = 0; index < input.length(); index++) {
+            final int digit = Character.digit(input.charAt(index), 10);
+            if (digit < 0) return -1;
+            number = number * 10 + digit;
+        }
+        return number;
+    }
 
     /**
      * Processes the valid input for the specific action.
@@ -71,16 +153,12 @@ public abstract class HumanAction implements IAction {
         Board board, Player player, String input);
 
     /**
-     * Reads the player's input using the standard input stream.
+     * Reads the player's input from the input source of the game.
      *
+     * @param player The player performing the action.
      * @return The player's input as a string.
      */
-    private String readInput() {
-        final Scanner scanner = new Scanner(Utility.display.in);
-        String input = scanner.nextLine().strip();
-        // Remove all characters that are not letters.
-        input = input.replaceAll(Values.INPUT_REGEX, "");
-        scanner.close();
-        return input;
+    private String readInput(Player player) {
+        return player.getIO().readLine();
     }
 }
@@ -19,6 +19,43 @@ public interface IAction {
      */
     public boolean process(Board board, Player player);
 
+    /**
+     * Checks whether the action needs an input of the player before 
+     * being processed, in which case the game prompts the player and 
+     * waits for the input to arrive instead of blocking on it.
+     *
+     * @param board The board on which the action is to be executed.
+     * @param player The player on whom the action is to be executed.
+     * @return {@code true} if the action needs an input, {@code false} 
+     *         by default.
+     */
+    public default boolean needsInput(Board board, Player player) {
+        return false;
+    }
+
+    /**
+     * Prompts the player for the input of the action. Does nothing by 
+     * default.
+     *
+     * @param player The player on whom the action is to be executed.
+     */
+    public default void prompt(Player player) {}
+
+    /**
+     * Processes the action with an input of the player which has 
+     * already arrived. By default, the input is ignored.
+     *
+     * @param board The board on which the action is to be executed.
+     * @param player The player on whom the action is to be executed.
+     * @param input The input of the player.
+     * @return {@code true} if everything happened correctly,
+     *         otherwise {@code false}.
+     */
+    public default boolean process(
+            Board board, Player player, String input) {
+        return this.process(board, player);
+    }
+
     /**
      * Returns a string representation of the object.
      *
@@ -4,7 +4,6 @@ import java.text.MessageFormat;
 
 import com.splendor.board.Board;
 import com.splendor.constants.Messages;
-import com.splendor.constants.Utility;
 import com.splendor.player.Player;
 
 
@@ -24,24 +23,34 @@ public abstract class RobotAction implements IAction {
     public abstract void processInput(Board board, Player player);
 
     /**
-     * Processes the input for the action, displaying the action to the 
-     * player, checking input validity, and handling the input until it 
-     * is valid.
+     * Validates the action before it is processed, without throwing, so 
+     * that the robots only process the actions they can play.
+     *
+     * @param board The game board on which the action is performed.
+     * @param player The player performing the action.
+     * @return {@code ActionResult.OK} by default.
+     */
+    public ActionResult validate(Board board, Player player) {
+        return ActionResult.OK;
+    }
+
+    /**
+     * Processes the action, once validated.
      *
      * @param board The game board on which the action is performed.
      * @param player The player performing the action.
      * @return {@code true} if everything happened correctly,
-     *         otherwise {@code false}.
+     *         otherwise {@code false}, the action being invalid.
      */
     @Override
     public boolean process(Board board, Player player) {
-        try {
-            this.processInput(board, player);
-            return true;
-        } catch (Exception exception) {
-            Utility.display.out.println(MessageFormat.format(
-                Messages.INPUT_ERROR, exception.getMessage()));
+        final ActionResult result = this.validate(board, player);
+        if (!result.isValid()) {
+            player.getIO().out.println(MessageFormat.format(
+                Messages.INPUT_ERROR, result.getMessage()));
             return false;
         }
+        this.processInput(board, player);
+        return true;
     }
 }
@@ -1,20 +1,13 @@
 package com.splendor.actions.human;
 
+import com.splendor.actions.ActionResult;
 import com.splendor.actions.HumanAction;
 import com.splendor.board.Board;
 import com.splendor.board.Resources;
 import com.splendor.cards.DevCard;
 import com.splendor.constants.Messages;
 import com.splendor.constants.Resource;
-import com.splendor.constants.Utility;
 import com.splendor.constants.Values;
-import com.splendor.exceptions.ActionException;
-import com.splendor.exceptions.InvalidColumnException;
-import com.splendor.exceptions.InvalidInputException;
-import com.splendor.exceptions.InvalidNumberException;
-import com.splendor.exceptions.InvalidTierException;
-import com.splendor.exceptions.NotEnoughResourcesException;
-import com.splendor.exceptions.NullCardException;
 import com.splendor.player.Player;
 
 
@@ -30,8 +23,8 @@ public class BuyCard extends HumanAction {
      */
     @Override
     public void displayAction(Player player) {
-        Utility.display.out.println(Messages.POSITION_SELECTION);
-        Utility.display.out.println(Messages.BUY_CARD_MESSAGE);
+        player.getIO().out.println(Messages.POSITION_SELECTION);
+        player.getIO().out.println(Messages.BUY_CARD_MESSAGE);
         this.displayReservedCards(player);
     }
 
@@ -43,153 +36,111 @@ public class BuyCard extends HumanAction {
      */
     private void displayReservedCards(Player player) {
         // Retrieve the array of reserved cards from the player.
+        if (player.getReservedMask() == 0) return;
         final DevCard[] reservedCards = player.getReservedCards();
-        if (player.getReservedCards()[0] == null) return;
-        Utility.display.out.println(Messages.RESERVED_CARDS);
+        player.getIO().out.println(Messages.RESERVED_CARDS);
         // Iterate through the reserved cards array of the player.
         for (int index = 0; index < reservedCards.length; index++) {
             // Skip if the current reserved card slot is empty.
             if (reservedCards[index] == null) continue;
             final String cardPreview = reservedCards[index].toString();
-            Utility.display.out.println((index + 1) + " : " + cardPreview);
+            player.getIO().out.println((index + 1) + " : " + cardPreview);
         }
         // Display a message prompting the player to buy a reserved card.
-        Utility.display.out.println(Messages.BUY_RESERVED_CARD);
+        player.getIO().out.println(Messages.BUY_RESERVED_CARD);
     }
 
     /**
-     * Checks the validity of the input for buying a card, including the 
-     * format, tier, column, card presence, and player's resources.
+     * Validates the input for buying a card, including the format, tier, 
+     * column, card presence, and player's resources.
      *
      * @param board The game board.
      * @param player The player performing the action.
      * @param input The input provided by the player.
-     * @throws ActionException If the input is invalid or the action 
-     *         cannot be performed.
+     * @return {@code ActionResult.OK} if the card can be bought, 
+     *         otherwise the reason why it cannot.
      */
     @Override
-    public void checkInputValidity(Board board, Player player, String input) 
-            throws ActionException {
-        final String[] inputs = validateInputFormat(input);
-        if ("R".equals(inputs[0])) this.checkReserved(board, player, inputs);
-        else this.checkBoard(board, player, inputs);
+    public ActionResult validate(Board board, Player player, String input) {
+        final String[] inputs = input.split(" ");
+        if (inputs.length != 2) return ActionResult.INVALID_INPUT;
+        if ("R".equals(inputs[0])) 
+            return this.validateReserved(player, inputs);
+        return this.validateBoard(board, player, inputs);
     }
 
     /**
-     * Checks and validates a player's attempt to perform an action on a 
-     * reserved development card.
+     * Validates a player's attempt to buy one of their reserved 
+     * development cards.
      * 
-     * @param board The game board.
      * @param player The player attempting the action.
      * @param inputs An array of input parameters for the action.
-     * @throws ActionException If the action is invalid or cannot be 
-     *         performed.
+     * @return {@code ActionResult.OK} if the card can be bought, 
+     *         otherwise the reason why it cannot.
      */
-    public void checkReserved(Board board, Player player, String[] inputs)
-            throws ActionException {
-        final int number = Integer.parseInt(inputs[1]);
-        this.validateNumber(number);
-        final DevCard card = player.getReservedCards()[number - 1];
-        this.validateCardPresence(card);
-        this.validatePlayerResources(player, card);
+    private ActionResult validateReserved(Player player, String[] inputs) {
+        final int number = parseNumber(inputs[1]);
+        if (number < 0) return ActionResult.INVALID_INPUT;
+        if (number < 1 || Values.MAX_RESERVED_CARDS < number)
+            return ActionResult.INVALID_NUMBER;
+        return this.validateCard(player, player.getReservedCard(number - 1));
     }
 
     /**
-     * Checks and validates a player's attempt to perform an action on a 
-     * development card on the board.
+     * Validates a player's attempt to buy a development card on the 
+     * board.
      * 
      * @param board The game board.
      * @param player The player attempting the action.
      * @param inputs An array of input parameters for the action.
-     * @throws ActionException If the action is invalid or cannot be 
-     *         performed.
-     */
-    public void checkBoard(Board board, Player player, String[] inputs)
-            throws ActionException {
-        final int tier = Integer.parseInt(inputs[0]);
-        final int column = Integer.parseInt(inputs[1]);
-        this.validateTier(tier);
-        this.validateColumn(column);
-        final DevCard card = board.getCard(tier - 1, column - 1);
-        this.validateCardPresence(card);
-        this.validatePlayerResources(player, card);
-    }
-
-    /**
-     * Validates the format of the input for buying a card.
-     *
-     * @param input The input provided by the player.
-     * @return An array containing the tier and column values.
-     * @throws InvalidInputException If the input format is invalid.
-     */
-    private String[] validateInputFormat(String input)
-            throws InvalidInputException {
-        final String[] inputs = input.split(" ");
-        if (inputs.length == 2) return inputs;
-        throw new InvalidInputException(Messages.BUY_CARD_INVALID_INPUT);
-    }
-
-    /**
-     * Validates that the tier value is within the allowed range.
-     *
-     * @param tier The tier value.
-     * @throws InvalidTierException If the tier is outside the allowed range.
+     * @return {@code ActionResult.OK} if the card can be bought, 
+     *         otherwise the reason why it cannot.
      */
-    private void validateTier(int tier) throws InvalidTierException {
-        if (1 <= tier && tier <= Values.TIER_NUMBER) return;
-        throw new InvalidTierException(Messages.CARD_INVALID_TIER);
+    private ActionResult validateBoard(
+            Board board, Player player, String[] inputs) {
+        final int tier = parseNumber(inputs[0]);
+        final int column = parseNumber(inputs[1]);
+        if (tier < 0 || column < 0) return ActionResult.INVALID_INPUT;
+        if (tier < 1 || Values.TIER_NUMBER < tier)
+            return ActionResult.INVALID_TIER;
+        if (column < 1 || Values.COLUMN_NUMBER < column)
+            return ActionResult.INVALID_COLUMN;
+        return this.validateCard(player, board.getCard(tier - 1, column - 1));
     }
 
     /**
-     * Validates that the column value is within the allowed range.
+     * Validates that a card is present at the chosen position and that 
+     * the player has enough resources to buy it.
      *
-     * @param column The column value.
-     * @throws InvalidColumnException If the column is outside the 
-     *         allowed range.
-     */
-    private void validateColumn(int column) throws InvalidColumnException {
-        if (1 <= column && column <= Values.COLUMN_NUMBER) return;
-        throw new InvalidColumnException(Messages.CARD_INVALID_COLUMN);
-    }
-
-    /**
-     * Validates that the number value is within the allowed range.
-     *
-     * @param number The column value.
-     * @throws InvalidColumnException If the number is outside the 
-     *         allowed range.
-     */
-    private void validateNumber(int number) throws InvalidNumberException {
-        if (number <= Values.MAX_RESERVED_CARDS) return;
-        throw new InvalidNumberException(Messages.CARD_INVALID_NUMBER);
-    }
-
-    /**
-     * Validates that a card is present at the specified position on 
-     * the board.
-     *
-     * @param card The DevCard object to validate.
-     * @throws NullCardException If there is no card at the specified 
-     *         position.
+     * @param player The player performing the action.
+     * @param card The DevCard object to be purchased, possibly 
+     *        {@code null}.
+     * @return {@code ActionResult.OK} if the card can be bought, 
+     *         otherwise the reason why it cannot.
      */
-    private void validateCardPresence(DevCard card) throws NullCardException {
-        if (card != null) return;
-        throw new NullCardException(Messages.CARD_EMPTY_SLOT);
+    private ActionResult validateCard(Player player, DevCard card) {
+        if (card == null) return ActionResult.EMPTY_SLOT;
+        if (!player.canBuyCard(card)) 
+            return ActionResult.NOT_ENOUGH_RESOURCES;
+        return ActionResult.OK;
     }
 
     /**
-     * Validates that the player has enough resources to buy the 
-     * specified card.
+     * Retrieves the message explaining to the player why their input 
+     * was refused.
      *
+     * @param result The result of the validation of the input.
      * @param player The player performing the action.
-     * @param card The DevCard object to be purchased.
-     * @throws NotEnoughResourcesException If the player does not have 
-     *         enough resources to buy the card.
+     * @return The message of the result.
      */
-    private void validatePlayerResources(Player player, DevCard card) 
-            throws NotEnoughResourcesException {
-        if (!player.canBuyCard(card)) throw new NotEnoughResourcesException(
-            Messages.BUY_CARD_NOT_ENOUGH_RESOURCES);
+    @Override
+    protected String getMessage(ActionResult result, Player player) {
+        switch (result) {
+            case INVALID_INPUT: return Messages.BUY_CARD_INVALID_INPUT;
+            case NOT_ENOUGH_RESOURCES: 
+                return Messages.BUY_CARD_NOT_ENOUGH_RESOURCES;
+            default: return result.getMessage();
+        }
     }
 
     /**
@@ -206,10 +157,8 @@ public class BuyCard extends HumanAction {
         DevCard card;
         if ("R".equals(inputs[0])) { // Reserved card.
             final int number = Integer.parseInt(inputs[1]);
-            // Get the reserved card at the specified index.
-            card = player.getReservedCards()[number - 1];
-            // Remove the reserved card from the player's reserved cards.
-            player.removeReservedCard(number - 1);
+            // Remove the reserved card at the specified index.
+            card = player.removeReservedCard(number - 1);
         } else { // Default card.
             final int tier = Integer.parseInt(inputs[0]) - 1;
             final int column = Integer.parseInt(inputs[1]) - 1;
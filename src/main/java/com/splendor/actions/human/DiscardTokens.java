@@ -1,15 +1,13 @@
 package com.splendor.actions.human;
 
+import java.text.MessageFormat;
 import java.util.HashMap;
 import static java.util.Map.Entry;
 
+import com.splendor.actions.ActionResult;
 import com.splendor.board.Board;
 import com.splendor.constants.Messages;
 import com.splendor.constants.Resource;
-import com.splendor.constants.Utility;
-import com.splendor.exceptions.ActionException;
-import com.splendor.exceptions.InvalidInputException;
-import com.splendor.exceptions.NotEnoughResourcesException;
 import com.splendor.player.Player;
 
 
@@ -31,71 +29,53 @@ public class DiscardTokens extends Token {
      */
     @Override
     public void displayAction(Player player) {
-        Utility.display.out.println(Messages.RESOURCES_SELECTION);
-        super.displayResources();
-        Utility.display.out.println(Messages.DISCARD_TOKEN_MESSAGE);
+        player.getIO().out.println(Messages.RESOURCES_SELECTION);
+        super.displayResources(player);
+        player.getIO().out.println(Messages.DISCARD_TOKEN_MESSAGE);
     }
 
     /**
-     * Checks the validity of the player's input for the discard 
-     * tokens action.
+     * Validates the player's input for the discard tokens action: as many 
+     * letters as tokens to discard, of which the player has enough.
      *
      * @param board The game board on which the action is performed.
      * @param player The player performing the action.
      * @param input The player's input to be checked for validity.
-     * @throws ActionException If the input is invalid for the discard 
-     *         tokens action.
+     * @return {@code ActionResult.OK} if the tokens can be discarded, 
+     *         otherwise the reason why they cannot.
      */
     @Override
-    public void checkInputValidity(Board board, Player player, String input) 
-            throws ActionException {
-        final String[] inputs = this.validateInputFormat(input, player);
+    public ActionResult validate(Board board, Player player, String input) {
+        final String[] inputs = input.split(" ");
+        if (inputs.length != player.getNumberResourcesToDiscard())
+            return ActionResult.INVALID_NUMBER;
+        for (final String letter : inputs)
+            if (!Token.resources.containsKey(letter))
+                return ActionResult.INVALID_INPUT;
         final HashMap<Resource, Integer> resources = 
             this.extractResources(inputs);
-        this.validateResources(player, resources);
+        for (final Entry<Resource, Integer> entry : resources.entrySet())
+            if (player.getNbResource(entry.getKey()) < entry.getValue())
+                return ActionResult.NOT_ENOUGH_RESOURCES;
+        return ActionResult.OK;
     }
 
     /**
-     * Validates the format of the player's input for the discard 
-     * tokens action.
+     * Retrieves the message explaining to the player why their input 
+     * was refused.
      *
-     * @param input The player's input to be validated.
+     * @param result The result of the validation of the input.
      * @param player The player performing the action.
-     * @return An array of validated inputs (token identifiers) if the 
-     *         format is correct.
-     * @throws InvalidInputException If the input format is invalid.
+     * @return The message of the result.
      */
-    private String[] validateInputFormat(String input, Player player)
-            throws InvalidInputException {
-        final String[] inputs = input.split(" ");
-        final int resources = player.getNumberResourcesToDiscard();
-        if (inputs.length != resources) throw new InvalidInputException(
-            String.format(Messages.DISCARD_TOKEN_SUPPLY_ERROR, resources));
-        for (final String letter : inputs) {
-            if (Token.resources.containsKey(letter)) continue;
-            throw new InvalidInputException(Messages.DISCARD_TOKEN_ERROR);
-        }
-        return inputs;
-    }
-
-    /**
-     * Validates that the player has enough resources to buy the 
-     * specified card.
-     *
-     * @param player The player performing the action.
-     * @param card The DevCard object to be purchased.
-     * @throws NotEnoughResourcesException If the player does not have enough
-     *         resources to buy the card.
-     */
-    private void validateResources(
-            Player player, HashMap<Resource, Integer> map) 
-            throws NotEnoughResourcesException {
-        for (final Entry<Resource, Integer> entry : map.entrySet()) {
-            final Resource resource = entry.getKey();
-            final int value = entry.getValue();
-            if (player.getNbResource(resource) >= value) continue;
-            throw new NotEnoughResourcesException(
-                Messages.NOT_ENOUGH_RESOURCES);
+    @Override
+    protected String getMessage(ActionResult result, Player player) {
+        switch (result) {
+            case INVALID_NUMBER: return MessageFormat.format(
+                Messages.DISCARD_TOKEN_SUPPLY_ERROR,
+                player.getNumberResourcesToDiscard());
+            case INVALID_INPUT: return Messages.DISCARD_TOKEN_ERROR;
+            default: return result.getMessage();
         }
     }
 
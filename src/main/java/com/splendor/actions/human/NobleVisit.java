@@ -1,18 +1,16 @@
 package com.splendor.actions.human;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 
+import com.splendor.actions.ActionResult;
 import com.splendor.actions.HumanAction;
 import com.splendor.board.Board;
+import com.splendor.board.BoardView;
 import com.splendor.board.Resources;
+import com.splendor.cards.CardTable;
 import com.splendor.cards.Noble;
 import com.splendor.constants.Messages;
 import com.splendor.constants.Resource;
-import com.splendor.constants.Utility;
-import com.splendor.exceptions.ActionException;
-import com.splendor.exceptions.InvalidInputException;
-import com.splendor.exceptions.InvalidNumberException;
 import com.splendor.player.Player;
 
 
@@ -24,44 +22,28 @@ import com.splendor.player.Player;
  */
 public class NobleVisit extends HumanAction {
 
-    private final Board board;
+    private final BoardView board;
 
-    public NobleVisit(Board board) {
+    public NobleVisit(BoardView board) {
         this.board = board;
     }
 
     /**
-     * Gets the nobles from the board that a player can visit.
+     * Gets the nobles from the board that a player can visit, as their 
+     * bonuses cover the requirements of the nobles.
      *
-     * @param board The game board containing the nobles.
      * @param player The player for whom to check if they can visit 
-     *        the nobles.
+     *        the nobles, watching the board.
      * @return An array of nobles that the player can visit.
      */
-    private Noble[] getNobles(Board board, Player player) {
-        final ArrayList<Noble> noblesVisit = new ArrayList<Noble>();
-        for (Noble noble : board.getNobles())
-            if (noble != null && this.canNobleVisit(noble, player))
-                noblesVisit.add(noble);
-        return noblesVisit.toArray(new Noble[noblesVisit.size()]);
-    }
-
-    /**
-     * Checks if a player can visit a noble based on the required 
-     * resources from purchased cards.
-     *
-     * @param noble The noble to be visited.
-     * @param player The player attempting to visit the noble.
-     * @return {@code true} if the player can visit the noble, 
-     *         {@code false} otherwise.
-     */
-    private boolean canNobleVisit(Noble noble, Player player) {
-        final Resources cost = noble.getCost();
-        for (Resource resource : cost.getAvailableResources()) {
-            final int playerResources = player.getResFromCards(resource);
-            if (cost.getNbResource(resource) > playerResources) return false;
-        }
-        return true;
+    private Noble[] getNobles(Player player) {
+        final CardTable table = CardTable.get();
+        int visiting = player.getVisitingNobles();
+        final Noble[] nobles = new Noble[Integer.bitCount(visiting)];
+        for (int index = 0; visiting != 0; visiting &= visiting - 1)
+            nobles[index++] = (Noble) table.getCard(this.board.nobleId(
+                Integer.numberOfTrailingZeros(visiting)));
+        return nobles;
     }
 
     /**
@@ -92,13 +74,27 @@ public class NobleVisit extends HumanAction {
      */
     @Override
     public boolean process(Board board, Player player) {
-        final Noble[] nobles = this.getNobles(this.board, player);
-        if (nobles.length > 0) {
+        player.watch(board);
+        if (player.getVisitingNobles() != 0) {
             if (!super.process(board, player)) return false;
-        } else Utility.display.out.println(Messages.NO_NOBLE);
+        } else player.getIO().out.println(Messages.NO_NOBLE);
         return true;
     }
 
+    /**
+     * Checks whether the player has to choose a noble, i.e. whether any 
+     * noble can visit them.
+     *
+     * @param board The game board.
+     * @param player The player performing the action.
+     * @return {@code true} if at least one noble can visit the player.
+     */
+    @Override
+    public boolean needsInput(Board board, Player player) {
+        player.watch(board);
+        return player.getVisitingNobles() != 0;
+    }
+
     /**
      * Displays the available nobles and prompts the player to choose one.
      *
@@ -106,59 +102,51 @@ public class NobleVisit extends HumanAction {
      */
     @Override
     public void displayAction(Player player) {
-        final Noble[] nobles = this.getNobles(this.board, player);
+        final Noble[] nobles = this.getNobles(player);
         // Select the correct message according to the number of Nobles.
         String message = Messages.NOBLES_AVAILABLE;
         if (nobles.length == 1) message = Messages.NOBLE_AVAILABLE;
         // Display messages and information about each Nobles.
-        Utility.display.out.println(message);
-        for (Noble noble : nobles) Utility.display.out.println(noble);
-        Utility.display.out.println(Messages.NOBLE_SELECTION);
+        player.getIO().out.println(message);
+        for (Noble noble : nobles) player.getIO().out.println(noble);
+        player.getIO().out.println(Messages.NOBLE_SELECTION);
     }
 
     /**
-     * Checks the validity of the player's input for acquiring nobles.
+     * Validates the player's input for acquiring nobles: the number of 
+     * one of the nobles who can visit them.
      *
      * @param board The game board.
      * @param player The player making the input.
      * @param input The player's input to be validated.
-     * @throws ActionException If the input is invalid.
+     * @return {@code ActionResult.OK} if the noble can be chosen, 
+     *         otherwise the reason why it cannot.
      */
     @Override
-    public void checkInputValidity(Board board, Player player, String input) 
-            throws ActionException {
-        final String[] inputs = this.validateInputFormat(input, player);
-        final int number = Integer.parseInt(inputs[0]);
-        this.validateNumber(number, this.getNobles(board, player).length);
-    }
-
-    /**
-     * Validates the format of the player's input for acquiring nobles.
-     *
-     * @param input The player's input.
-     * @param player The player making the input.
-     * @return An array containing the validated input.
-     * @throws InvalidInputException If the input format is invalid.
-     */
-    private String[] validateInputFormat(String input, Player player)
-            throws InvalidInputException {
+    public ActionResult validate(Board board, Player player, String input) {
         final String[] inputs = input.split(" ");
-        if (inputs.length == 1) return inputs;
-        throw new InvalidInputException(Messages.NOBLE_INVALID_INPUT);
+        final int number = inputs.length == 1 ? parseNumber(inputs[0]) : -1;
+        if (number < 0) return ActionResult.INVALID_INPUT;
+        player.watch(board);
+        final int noblesCount = Integer.bitCount(player.getVisitingNobles());
+        if (0 < number && number <= noblesCount) return ActionResult.OK;
+        return ActionResult.INVALID_NUMBER;
     }
 
     /**
-     * Validates the chosen number against the number of available nobles.
+     * Retrieves the message explaining to the player why their input 
+     * was refused.
      *
-     * @param number The chosen number.
-     * @param noblesCount The total number of available nobles.
-     * @throws InvalidNumberException If the chosen number is invalid.
+     * @param result The result of the validation of the input.
+     * @param player The player making the input.
+     * @return The message of the result.
      */
-    private void validateNumber(int number, int noblesCount)
-            throws InvalidNumberException {
-        if (0 < number && number <= noblesCount) return;
-        throw new InvalidNumberException(MessageFormat.format(
-            Messages.NOBLE_NUMBER_ERROR, noblesCount));
+    @Override
+    protected String getMessage(ActionResult result, Player player) {
+        if (result == ActionResult.INVALID_INPUT) 
+            return Messages.NOBLE_INVALID_INPUT;
+        return MessageFormat.format(Messages.NOBLE_NUMBER_ERROR, 
+            Integer.bitCount(player.getVisitingNobles()));
     }
 
     /**
@@ -172,7 +160,8 @@ public class NobleVisit extends HumanAction {
     public void processInput(Board board, Player player, String input) {
         final String[] inputs = input.split(" ");
         final int number = Integer.parseInt(inputs[0]);
-        final Noble[] nobles = this.getNobles(board, player);
+        player.watch(board);
+        final Noble[] nobles = this.getNobles(player);
         final Noble noble = nobles[number - 1];
         this.addNoble(noble, player);
     }
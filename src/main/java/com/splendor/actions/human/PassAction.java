@@ -3,7 +3,6 @@ package com.splendor.actions.human;
 import com.splendor.actions.IAction;
 import com.splendor.board.Board;
 import com.splendor.constants.Messages;
-import com.splendor.constants.Utility;
 import com.splendor.player.Player;
 
 
@@ -23,7 +22,7 @@ public class PassAction implements IAction {
      */
     @Override
     public boolean process(Board board, Player player) {
-        Utility.display.out.println(Messages.TAKE_YOUR_TURN);
+        player.getIO().out.println(Messages.TAKE_YOUR_TURN);
         return true;
     }
 
@@ -1,15 +1,10 @@
 package com.splendor.actions.human;
 
-import java.util.Arrays;
-
+import com.splendor.actions.ActionResult;
 import com.splendor.board.Board;
 import com.splendor.constants.Messages;
 import com.splendor.constants.Resource;
-import com.splendor.constants.Utility;
 import com.splendor.constants.Values;
-import com.splendor.exceptions.ActionException;
-import com.splendor.exceptions.InvalidInputException;
-import com.splendor.exceptions.NotEnoughResourcesException;
 import com.splendor.player.Player;
 
 
@@ -26,51 +21,56 @@ public class PickDifferentTokens extends Token {
      */
     @Override
     public void displayAction(Player player) {
-        Utility.display.out.println(Messages.RESOURCES_SELECTION);
-        super.displayResources();
-        Utility.display.out.println(Messages.DIFFERENT_TOKEN_MESSAGE);
+        player.getIO().out.println(Messages.RESOURCES_SELECTION);
+        super.displayResources(player);
+        player.getIO().out.println(Messages.DIFFERENT_TOKEN_MESSAGE);
     }
 
     /**
-     * Checks the validity of the user input for the action.
-     * The input should consist of three letters separated by a space, 
-     * corresponding to different resources.
+     * Validates the user input for the action. The input should consist 
+     * of three different letters separated by a space, corresponding to 
+     * resources of which the board has enough tokens.
      *
      * @param board The game board.
      * @param player The player performing the action.
      * @param input The user input.
-     * @throws ActionException If the input format is invalid or if there 
-     *         are not enough resources on the board.
+     * @return {@code ActionResult.OK} if the tokens can be taken, 
+     *         otherwise the reason why they cannot.
      */
     @Override
-    public void checkInputValidity(Board board, Player player, String input) 
-            throws ActionException {
-        final String[] inputs = this.validateInputFormat(input);
-        final Resource[] resources = this.extractResources(inputs);
-        this.validateBoardResources(board, resources);
+    public ActionResult validate(Board board, Player player, String input) {
+        final String[] inputs = input.split(" ");
+        if (inputs.length != Values.DIFF_TOKEN_LIMIT)
+            return ActionResult.INVALID_INPUT;
+        for (int index = 0; index < inputs.length; index++) {
+            // Check that the letter exists in the Token static map.
+            if (!Token.resources.containsKey(inputs[index]))
+                return ActionResult.INVALID_INPUT;
+            // Moreover, check that there is no duplicate letters.
+            for (int other = 0; other < index; other++)
+                if (inputs[other].equals(inputs[index]))
+                    return ActionResult.INVALID_INPUT;
+        }
+        for (final String letter : inputs)
+            if (board.getNbResource(Token.resources.get(letter)) 
+                    < Values.DIFF_TOKEN_NUMBER)
+                return ActionResult.NOT_ENOUGH_RESOURCES;
+        return ActionResult.OK;
     }
 
     /**
-     * Validates the format of the user input for the action.
-     * The input should consist of three letters separated by a space.
+     * Retrieves the message explaining to the player why their input 
+     * was refused.
      *
-     * @param input The user input.
-     * @return An array of strings representing individual resource letters.
-     * @throws InvalidInputException If the input format is invalid.
+     * @param result The result of the validation of the input.
+     * @param player The player performing the action.
+     * @return The message of the result.
      */
-    private String[] validateInputFormat(String input)
-            throws InvalidInputException {
-        final String[] inputs = input.split(" ");
-        if (inputs.length != Values.DIFF_TOKEN_LIMIT)
-            throw new InvalidInputException(Messages.DIFFERENT_TOKEN_ERROR);
-        // Check that input letters exist in the Token static map.
-        boolean valid = Token.resources.containsKey(inputs[0]);
-        valid = valid && Token.resources.containsKey(inputs[1]);
-        valid = valid && Token.resources.containsKey(inputs[2]);
-        int uniqueCount = (int) Arrays.stream(inputs).distinct().count();
-        // Moreover, check that there is no duplicate letters.
-        if (valid && uniqueCount == inputs.length) return inputs;
-        throw new InvalidInputException(Messages.DIFFERENT_TOKEN_ERROR);
+    @Override
+    protected String getMessage(ActionResult result, Player player) {
+        if (result == ActionResult.INVALID_INPUT) 
+            return Messages.DIFFERENT_TOKEN_ERROR;
+        return Messages.NOT_ENOUGH_GEMS;
     }
 
     /**
@@ -87,22 +87,6 @@ public class PickDifferentTokens extends Token {
         return resources;
     }
 
-    /**
-     * Validates whether there are enough resources on the board for the 
-     * player to take.
-     *
-     * @param board The game board instance.
-     * @param resources An array of `Resource` objects representing the 
-     *        selected resources.
-     * @throws NotEnoughResourcesException If there are not enough 
-     *         resources on the board.
-     */
-    private void validateBoardResources(Board board, Resource[] resources) 
-            throws NotEnoughResourcesException {
-        if (board.canGiveDiffTokens(resources)) return;
-        throw new NotEnoughResourcesException(Messages.NOT_ENOUGH_GEMS);
-    }
-
     /**
      * Processes the user input and updates the player's resources accordingly.
      *
@@ -1,13 +1,10 @@
 package com.splendor.actions.human;
 
+import com.splendor.actions.ActionResult;
 import com.splendor.board.Board;
 import com.splendor.constants.Messages;
 import com.splendor.constants.Resource;
-import com.splendor.constants.Utility;
 import com.splendor.constants.Values;
-import com.splendor.exceptions.ActionException;
-import com.splendor.exceptions.InvalidInputException;
-import com.splendor.exceptions.NotEnoughResourcesException;
 import com.splendor.player.Player;
 
 
@@ -24,46 +21,45 @@ public class PickSameTokens extends Token {
      */
     @Override
     public void displayAction(Player player) {
-        Utility.display.out.println(Messages.RESOURCE_SELECTION);
-        super.displayResources();
-        Utility.display.out.println(Messages.SAME_TOKEN_MESSAGE);
+        player.getIO().out.println(Messages.RESOURCE_SELECTION);
+        super.displayResources(player);
+        player.getIO().out.println(Messages.SAME_TOKEN_MESSAGE);
     }
 
     /**
-     * Checks the validity of the user input for the action. The input 
-     * should consist of a single letter corresponding to a resource.
+     * Validates the user input for the action. The input should consist 
+     * of a single letter corresponding to a resource, of which the board 
+     * has enough tokens.
      *
      * @param board The game board.
      * @param player The player performing the action.
      * @param input The user input.
-     * @throws ActionException If the input format is invalid or if 
-     *         there are not enough resources on the board.
+     * @return {@code ActionResult.OK} if the tokens can be taken, 
+     *         otherwise the reason why they cannot.
      */
     @Override
-    public void checkInputValidity(Board board, Player player, String input) 
-            throws ActionException {
-        final String[] inputs = this.validateInputFormat(input);
-        final Resource resource = this.extractResource(inputs);
-        this.validateBoardResource(board, resource);
+    public ActionResult validate(Board board, Player player, String input) {
+        final String[] inputs = input.split(" ");
+        if (!Token.resources.containsKey(inputs[0]))
+            return ActionResult.INVALID_INPUT;
+        if (!board.canGiveSameTokens(this.extractResource(inputs)))
+            return ActionResult.NOT_ENOUGH_RESOURCES;
+        return ActionResult.OK;
     }
 
     /**
-     * Validates the format of the user input for the action.
-     * The input should consist of a single letter.
+     * Retrieves the message explaining to the player why their input 
+     * was refused.
      *
-     * @param input The user input.
-     * @return An array of strings representing the individual 
-     *         resource letters.
-     * @throws InvalidInputException If the input format is invalid.
+     * @param result The result of the validation of the input.
+     * @param player The player performing the action.
+     * @return The message of the result.
      */
-    private String[] validateInputFormat(String input) 
-            throws InvalidInputException {
-        final String[] inputs = input.split(" ");
-        if (inputs.length < 1) // Not enough value to unpack.
-            throw new InvalidInputException(Messages.SAME_TOKEN_ERROR);
-        final boolean valid = Token.resources.containsKey(inputs[0]);
-        if (valid) return inputs;
-        throw new InvalidInputException(Messages.SAME_TOKEN_ERROR);
+    @Override
+    protected String getMessage(ActionResult result, Player player) {
+        if (result == ActionResult.INVALID_INPUT) 
+            return Messages.SAME_TOKEN_ERROR;
+        return Messages.NOT_ENOUGH_GEMS;
     }
 
     /**
@@ -77,21 +73,6 @@ public class PickSameTokens extends Token {
         return Token.resources.get(inputs[0]);
     }
 
-    /**
-     * Validates whether there are enough resources on the board for 
-     * the player to take.
-     *
-     * @param board The game board.
-     * @param resource A `Resource` object representing the selected resource.
-     * @throws NotEnoughResourcesException If there are not enough 
-     *         resources on the board.
-     */
-    private void validateBoardResource(Board board, Resource resource) 
-            throws NotEnoughResourcesException {
-        if (board.canGiveSameTokens(resource)) return;
-        throw new NotEnoughResourcesException(Messages.NOT_ENOUGH_GEMS);
-    }
-
     /**
      * Processes the user input and updates the player's resources 
      * accordingly.
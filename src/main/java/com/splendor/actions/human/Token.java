@@ -5,7 +5,7 @@ import java.util.Map;
 
 import com.splendor.actions.HumanAction;
 import com.splendor.constants.Resource;
-import com.splendor.constants.Utility;
+import com.splendor.player.Player;
 
 
 /**
@@ -33,12 +33,14 @@ public abstract class Token extends HumanAction {
     /**
      * Displays the available token resources along with their 
      * corresponding identifiers.
+     *
+     * @param player The player for whom the resources are displayed.
      */
-    public void displayResources() {
+    public void displayResources(Player player) {
         for (Map.Entry<String, Resource> entry : Token.resources.entrySet()) {
             final String resourcePreview = entry.getValue().toString();
             final String output = entry.getKey() + " : " + resourcePreview;
-            Utility.display.out.println(output);
+            player.getIO().out.println(output);
         }
     }
 }
@@ -1,11 +1,8 @@
 package com.splendor.actions.robot;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
 import java.util.Random;
-import java.util.stream.Collectors;
 
+import com.splendor.actions.ActionResult;
 import com.splendor.actions.RobotAction;
 import com.splendor.board.Board;
 import com.splendor.board.Resources;
@@ -21,6 +18,58 @@ import com.splendor.player.Player;
  */
 public class BuyCard extends RobotAction {
 
+    /**
+     * The position of the card to buy on the board, or {@code -1} to 
+     * buy a random card.
+     */
+    private final int tier;
+    private final int column;
+
+    /**
+     * Constructs an action buying a random card the player can afford, 
+     * reserved or on the board.
+     */
+    public BuyCard() {
+        this(-1, -1);
+    }
+
+    /**
+     * Constructs an action buying the card at the specified position 
+     * on the board.
+     *
+     * @param tier The tier (row) of the card, starting at 0.
+     * @param column The column of the card, starting at 0.
+     */
+    public BuyCard(int tier, int column) {
+        this.tier = tier;
+        this.column = column;
+    }
+
+    /**
+     * Validates that the targeted card is on the board and affordable, 
+     * or that any card is affordable when buying a random one.
+     *
+     * @param board The game board.
+     * @param player The player performing the action.
+     * @return {@code ActionResult.OK} if a card can be bought, otherwise 
+     *         the reason why none can.
+     */
+    @Override
+    public ActionResult validate(Board board, Player player) {
+        player.watch(board);
+        if (this.tier < 0) return player.getAffordableCards() != 0 
+            ? ActionResult.OK : ActionResult.NOT_ENOUGH_RESOURCES;
+        if (Values.TIER_NUMBER <= this.tier) return ActionResult.INVALID_TIER;
+        if (this.column < 0 || Values.COLUMN_NUMBER <= this.column)
+            return ActionResult.INVALID_COLUMN;
+        if (board.getCardId(this.tier, this.column) < 0) 
+            return ActionResult.EMPTY_SLOT;
+        final int slot = this.tier * Values.COLUMN_NUMBER + this.column;
+        if ((player.getAffordableCards() & 1 << slot) == 0)
+            return ActionResult.NOT_ENOUGH_RESOURCES;
+        return ActionResult.OK;
+    }
+
     /**
      * Processes the valid input and updates the player's purchased 
      * cards, points, and the board.
@@ -31,21 +80,21 @@ public class BuyCard extends RobotAction {
     @Override
     public void processInput(Board board, Player player) {
         DevCard card;
-        // Extract the non null reserved cards from the fixed array.
-        final DevCard[] reservedCards = player.getReservedCards();
-        final List<DevCard> nonNullCards = Arrays.stream(reservedCards)
-            .filter(Objects::nonNull).collect(Collectors.toList());
-        final int reservedCardsLength = nonNullCards.size();
-        // Randomly purchase a reserved card or card on the board.
-        if (reservedCardsLength > 0 && new Random().nextBoolean()) {
-            final int number = new Random().nextInt(reservedCardsLength);
-            // Get the reserved card at the specified index.
-            card = nonNullCards.get(number);
+        int slot = this.tier * Values.COLUMN_NUMBER + this.column;
+        if (this.tier < 0) { // Random card, reserved or on the board.
+            int affordable = player.getAffordableCards();
+            // Skip a random number of the affordable cards.
+            for (int skip = new Random().nextInt(
+                    Integer.bitCount(affordable)); skip > 0; skip--)
+                affordable &= affordable - 1;
+            slot = Integer.numberOfTrailingZeros(affordable);
+        } // Targeted card otherwise.
+        if (slot >= Values.VISIBLE_CARDS) { // Reserved card.
             // Remove the reserved card from the player's reserved cards.
-            player.removeReservedCard(number);
-        } else { // Default card.
-            final int tier = new Random().nextInt(Values.TIER_NUMBER);
-            final int column = new Random().nextInt(Values.TIER_NUMBER);
+            card = player.removeReservedCard(slot - Values.VISIBLE_CARDS);
+        } else { // Card on the board.
+            final int tier = slot / Values.COLUMN_NUMBER;
+            final int column = slot % Values.COLUMN_NUMBER;
             // Get the card at the specified tier and column
             card = board.getCard(tier, column);
             // Update the board by removing the card.
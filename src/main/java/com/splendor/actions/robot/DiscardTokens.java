@@ -23,10 +23,10 @@ public class DiscardTokens extends Token {
     public void processInput(Board board, Player player) {
         final int quantity = player.getNumberResourcesToDiscard();
         for (int index = 0; index < quantity; index++) {
-            Resource resource;
-            // Take a random token until the quantity is sufficient.
-            do resource = super.getRandomResource();
-            while (player.getNbResource(resource) >= 1);
+            // Give back a random token among the ones the player holds.
+            final Resource resource = Token.getRandomResource(
+                held -> player.getNbResource(held) >= 1);
+            if (resource == null) return;
             player.updateNbResource(resource, -1);
             board.updateNbResource(resource, 1);
         }
@@ -1,6 +1,5 @@
 package com.splendor.actions.robot;
 
-import java.util.ArrayList;
 import java.util.Random;
 
 import com.splendor.actions.RobotAction;
@@ -20,7 +19,8 @@ import com.splendor.player.Player;
 public class NobleVisit extends RobotAction {
 
     /**
-     * Gets the nobles from the board that a player can visit.
+     * Gets the nobles from the board that a player can visit, as their 
+     * bonuses cover the requirements of the nobles.
      *
      * @param board The game board containing the nobles.
      * @param player The player for whom to check if they can visit 
@@ -28,29 +28,13 @@ public class NobleVisit extends RobotAction {
      * @return An array of nobles that the player can visit.
      */
     private Noble[] getNobles(Board board, Player player) {
-        final ArrayList<Noble> noblesVisit = new ArrayList<Noble>();
-        for (Noble noble : board.getNobles())
-            if (noble != null && this.canNobleVisit(noble, player))
-                noblesVisit.add(noble);
-        return noblesVisit.toArray(new Noble[noblesVisit.size()]);
-    }
-
-    /**
-     * Checks if a player can visit a noble based on the required 
-     * resources from purchased cards.
-     *
-     * @param noble The noble to be visited.
-     * @param player The player attempting to visit the noble.
-     * @return {@code true} if the player can visit the noble, 
-     *         {@code false} otherwise.
-     */
-    private boolean canNobleVisit(Noble noble, Player player) {
-        final Resources cost = noble.getCost();
-        for (Resource resource : cost.getAvailableResources()) {
-            final int playerResources = player.getNbResource(resource);
-            if (cost.getNbResource(resource) > playerResources) return false;
-        }
-        return true;
+        player.watch(board);
+        int visiting = player.getVisitingNobles();
+        final Noble[] nobles = new Noble[Integer.bitCount(visiting)];
+        for (int index = 0; visiting != 0; visiting &= visiting - 1)
+            nobles[index++] = board.getNobles()[
+                Integer.numberOfTrailingZeros(visiting)];
+        return nobles;
     }
 
     /**
@@ -80,8 +64,9 @@ public class NobleVisit extends RobotAction {
      */
     @Override
     public void processInput(Board board, Player player) {
-        Noble[] nobles = this.getNobles(board, player);
-        if (nobles.length == 0) return; // No Nobles can be visited.
+        player.watch(board);
+        if (player.getVisitingNobles() == 0) return; // No Nobles to visit.
+        final Noble[] nobles = this.getNobles(board, player);
         final int number = new Random().nextInt(nobles.length);
         final Noble noble = nobles[number];
         this.addNoble(noble, player);
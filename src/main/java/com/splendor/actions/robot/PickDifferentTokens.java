@@ -1,7 +1,6 @@
 package com.splendor.actions.robot;
 
-import java.util.Random;
-
+import com.splendor.actions.ActionResult;
 import com.splendor.board.Board;
 import com.splendor.constants.Resource;
 import com.splendor.constants.Values;
@@ -15,11 +14,40 @@ import com.splendor.player.Player;
  */
 public class PickDifferentTokens extends Token {
 
-    private Resource[] getRandomResources() {
-        return new Random()
-            .ints(Values.DIFF_TOKEN_LIMIT, 0, Resource.values().length)
-            .mapToObj(index -> Resource.values()[index])
-            .toArray(Resource[]::new);
+    /**
+     * Picks random resources among the ones the board has tokens of, 
+     * which is as likely as drawing resources until the board has 
+     * tokens of all of them, but ends even when it has none.
+     *
+     * @param board The game board.
+     * @return The resources picked, or {@code null} if the board has 
+     *         no tokens.
+     */
+    private Resource[] getRandomResources(Board board) {
+        final Resource[] resources = new Resource[Values.DIFF_TOKEN_LIMIT];
+        for (int index = 0; index < resources.length; index++) {
+            resources[index] = Token.getRandomResource(resource -> 
+                board.getNbResource(resource) >= Values.DIFF_TOKEN_NUMBER);
+            if (resources[index] == null) return null;
+        }
+        return resources;
+    }
+
+    /**
+     * Validates that the board has tokens left, so that random picks 
+     * eventually find some to take.
+     *
+     * @param board The game board.
+     * @param player The player performing the action.
+     * @return {@code ActionResult.OK} if tokens can be taken, 
+     *         {@code ActionResult.NOT_ENOUGH_RESOURCES} otherwise.
+     */
+    @Override
+    public ActionResult validate(Board board, Player player) {
+        for (Resource resource : RESOURCES)
+            if (board.getNbResource(resource) >= Values.DIFF_TOKEN_NUMBER)
+                return ActionResult.OK;
+        return ActionResult.NOT_ENOUGH_RESOURCES;
     }
 
     /**
@@ -30,9 +58,8 @@ public class PickDifferentTokens extends Token {
      */
     @Override
     public void processInput(Board board, Player player) {
-        Resource[] resources;
-        do resources = this.getRandomResources();
-        while(!board.canGiveDiffTokens(resources));
+        final Resource[] resources = this.getRandomResources(board);
+        if (resources == null) return;
         for (final Resource resource : resources)
             player.updateNbResource(resource, Values.DIFF_TOKEN_NUMBER);
     }
@@ -1,5 +1,6 @@
 package com.splendor.actions.robot;
 
+import com.splendor.actions.ActionResult;
 import com.splendor.board.Board;
 import com.splendor.constants.Resource;
 import com.splendor.constants.Values;
@@ -13,6 +14,22 @@ import com.splendor.player.Player;
  */
 public class PickSameTokens extends Token {
 
+    /**
+     * Validates that the board has enough tokens of some resource for 
+     * two of them to be taken.
+     *
+     * @param board The game board.
+     * @param player The player performing the action.
+     * @return {@code ActionResult.OK} if tokens can be taken, 
+     *         {@code ActionResult.NOT_ENOUGH_RESOURCES} otherwise.
+     */
+    @Override
+    public ActionResult validate(Board board, Player player) {
+        for (Resource resource : RESOURCES)
+            if (board.canGiveSameTokens(resource)) return ActionResult.OK;
+        return ActionResult.NOT_ENOUGH_RESOURCES;
+    }
+
     /**
      * Processes the user input and updates the player's resources 
      * accordingly.
@@ -22,9 +39,9 @@ public class PickSameTokens extends Token {
      */
     @Override
     public void processInput(Board board, Player player) {
-        Resource resource;
-        do resource = super.getRandomResource();
-        while (!board.canGiveSameTokens(resource));
+        final Resource resource = 
+            Token.getRandomResource(board::canGiveSameTokens);
+        if (resource == null) return;
         player.updateNbResource(resource, Values.SAME_TOKEN_NUMBER);
     }
 }
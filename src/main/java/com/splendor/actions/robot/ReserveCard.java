@@ -2,6 +2,7 @@ package com.splendor.actions.robot;
 
 import java.util.Random;
 
+import com.splendor.actions.ActionResult;
 import com.splendor.actions.RobotAction;
 import com.splendor.board.Board;
 import com.splendor.cards.DevCard;
@@ -18,22 +19,66 @@ import com.splendor.player.Player;
 public class ReserveCard extends RobotAction {
 
     /**
-     * Processes the valid input and updates the player's purchased cards, 
-     * points, and the board.
+     * Validates that the player has a free reserved slot, and that there 
+     * is a card to reserve, visible or on top of a deck.
+     *
+     * @param board The game board.
+     * @param player The player performing the action.
+     * @return {@code ActionResult.OK} if the player can reserve a card, 
+     *         otherwise the reason why they cannot.
+     */
+    @Override
+    public ActionResult validate(Board board, Player player) {
+        if (!player.canReserveCard()) return ActionResult.MAX_RESERVED_CARDS;
+        return ReserveCard.getTargets(board) != 0 
+            ? ActionResult.OK : ActionResult.EMPTY_SLOT;
+    }
+
+    /**
+     * Processes the valid input and updates the player's reserved cards, 
+     * tokens, and the board: reserves either a random visible card, or 
+     * the top card of a random deck which is not empty. The player 
+     * receives a joker once the card is reserved.
      *
      * @param board The game board.
      * @param player The player performing the action.
      */
     @Override
     public void processInput(Board board, Player player) {
-        final int tier = new Random().nextInt(Values.TIER_NUMBER) + 1;
-        final DevCard newCard = board.drawCard(tier);
-        if (new Random().nextBoolean()) {
-            final int column = new Random().nextInt(Values.TIER_NUMBER);
-            final DevCard card = board.getCard(tier, column);
-            board.updateCard(newCard, tier, column);
-            player.addReservedCard(card);
-        } else player.addReservedCard(newCard);
+        int targets = ReserveCard.getTargets(board);
+        // Skip a random number of the cards which can be reserved.
+        for (int skip = new Random().nextInt(Integer.bitCount(targets));
+                skip > 0; skip--)
+            targets &= targets - 1;
+        final int slot = Integer.numberOfTrailingZeros(targets);
+        DevCard card;
+        if (slot < Values.VISIBLE_CARDS) { // Visible card.
+            final int tier = slot / Values.COLUMN_NUMBER;
+            final int column = slot % Values.COLUMN_NUMBER;
+            card = board.getCard(tier, column);
+            board.updateCard(card, tier, column);
+        } else card = board.drawCard(slot - Values.VISIBLE_CARDS + 1);
+        if (player.addReservedCard(card) < 0) return;
         player.updateNbResource(Resource.JOKER, 1);
     }
+
+    /**
+     * Lists the cards which can be reserved: the visible cards, numbered 
+     * as the slots of the board, then the decks which are not empty, 
+     * numbered by tier after them.
+     *
+     * @param board The game board.
+     * @return The bitset of the cards which can be reserved.
+     */
+    private static int getTargets(Board board) {
+        int targets = 0;
+        for (int slot = 0; slot < Values.VISIBLE_CARDS; slot++)
+            if (board.getCardId(slot / Values.COLUMN_NUMBER, 
+                    slot % Values.COLUMN_NUMBER) >= 0)
+                targets |= 1 << slot;
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++)
+            if (board.getDeckSize(tier) > 0)
+                targets |= 1 << Values.VISIBLE_CARDS + tier - 1;
+        return targets;
+    }
 }
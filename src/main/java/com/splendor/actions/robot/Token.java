@@ -3,6 +3,7 @@ package com.splendor.actions.robot;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Predicate;
 
 import com.splendor.actions.RobotAction;
 import com.splendor.constants.Resource;
@@ -22,6 +23,11 @@ public abstract class Token extends RobotAction {
     public static final Map<String, Resource> resources = 
         new LinkedHashMap<String, Resource>();
 
+    /**
+     * The resources the robots pick their tokens from, jokers included.
+     */
+    protected static final Resource[] RESOURCES = Resource.values();
+
     static {
         Token.resources.put("A", Resource.EMERALD);
         Token.resources.put("B", Resource.DIAMOND);
@@ -41,4 +47,24 @@ public abstract class Token extends RobotAction {
         final int index = new Random().nextInt(resources.length);
         return resources[index];
     }
+
+    /**
+     * Picks a random resource among the ones accepted by the filter, 
+     * each of them being as likely. Unlike drawing resources until one 
+     * is accepted, this ends even when none of them is.
+     *
+     * @param accepted The filter of the resources which can be picked.
+     * @return A randomly selected resource among the accepted ones, 
+     *         or {@code null} if none of them is.
+     */
+    protected static Resource getRandomResource(
+            Predicate<Resource> accepted) {
+        int candidates = 0;
+        for (int index = 0; index < RESOURCES.length; index++)
+            if (accepted.test(RESOURCES[index])) candidates |= 1 << index;
+        if (candidates == 0) return null;
+        int pick = new Random().nextInt(Integer.bitCount(candidates));
+        for (; pick > 0; pick--) candidates &= candidates - 1;
+        return RESOURCES[Integer.numberOfTrailingZeros(candidates)];
+    }
 }
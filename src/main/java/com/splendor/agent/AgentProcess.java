@@ -0,0 +1,371 @@
+package com.splendor.agent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.splendor.constants.Messages;
+import com.splendor.constants.Values;
+
+
+/**
+ * The AgentProcess class connects the engine to an agent running in
+ * another process, through the standard input and output of the process.
+ * The decisions asked by every game are batched: while the agent answers
+ * a batch, the new requests queue up and are sent together as the next
+ * batch, so that the cost of a round trip is shared by many games.
+ *
+ * Every message is prefixed with its length, in bytes, as an
+ * {@code int}; all the numbers are big-endian. A batch sent to the agent:
+ * <pre>
+ * byte    version of the protocol
+ * short   number of decisions, then for each decision:
+ *   int     identifier of the decision
+ *   byte    number of legal moves, followed by the moves (1 byte each)
+ *   float[] observation of the player, of ObservationEncoder.SIZE floats
+ * </pre>
+ * The answer of the agent:
+ * <pre>
+ * short   number of decisions, then for each decision:
+ *   int     identifier of the decision
+ *   byte    move chosen
+ * </pre>
+ * A decision left unanswered by a batch, or asked once the agent is gone,
+ * completes with {@code NO_MOVE}. An agent which leaves a batch
+ * unanswered for longer than its stall timeout is considered gone too:
+ * the next decision asked closes it, as its answer may never come.
+ */
+public class AgentProcess implements Closeable {
+
+    /**
+     * Version of the protocol.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * The move of a decision the agent did not take.
+     */
+    public static final int NO_MOVE = -1;
+
+    /**
+     * The child process, or {@code null} for an agent reached through
+     * existing streams.
+     */
+    private final Process process;
+
+    /**
+     * The streams to and from the agent.
+     */
+    private final DataOutputStream out;
+    private final DataInputStream in;
+
+    /**
+     * The decisions waiting for the next batch.
+     */
+    private final LinkedBlockingQueue<Decision> queue =
+        new LinkedBlockingQueue<Decision>();
+
+    /**
+     * The thread sending the batches and reading the answers.
+     */
+    private final Thread thread;
+
+    /**
+     * Whether the agent is gone, closed or broken.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * The time, in milliseconds, the agent has to answer a batch.
+     */
+    private final long stallTimeout;
+
+    /**
+     * The time, as given by {@code System.nanoTime}, the batch being
+     * exchanged was sent, or 0 if no batch waits for its answer.
+     */
+    private volatile long sentAt = 0L;
+
+    /**
+     * The next identifier of decision.
+     */
+    private int nextId = 0;
+
+    /**
+     * The number of batches and of decisions sent to the agent.
+     */
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong decisions = new AtomicLong();
+
+    /**
+     * Starts an agent as a child process.
+     *
+     * @param command The command starting the agent.
+     * @throws IOException If the process cannot be started.
+     */
+    public AgentProcess(List<String> command) throws IOException {
+        this(command, Values.AGENT_STALL_TIMEOUT);
+    }
+
+    /**
+     * Starts an agent as a child process, closed once it leaves a batch
+     * unanswered for too long.
+     *
+     * @param command The command starting the agent.
+     * @param stallTimeout The time, in milliseconds, the agent has to
+     *        answer a batch.
+     * @throws IOException If the process cannot be started.
+     */
+    public AgentProcess(List<String> command, long stallTimeout)
+            throws IOException {
+        this(new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT).start(),
+            stallTimeout);
+    }
+
+    /**
+     * Connects to an agent through existing streams.
+     *
+     * @param in The stream of the answers of the agent.
+     * @param out The stream of the batches sent to the agent.
+     */
+    public AgentProcess(InputStream in, OutputStream out) {
+        this(null, in, out, Values.AGENT_STALL_TIMEOUT);
+    }
+
+    /**
+     * Connects to an agent through the streams of a child process.
+     *
+     * @param process The child process.
+     * @param stallTimeout The time, in milliseconds, the agent has to
+     *        answer a batch.
+     */
+    private AgentProcess(Process process, long stallTimeout) {
+        this(process, process.getInputStream(), process.getOutputStream(),
+            stallTimeout);
+    }
+
+    /**
+     * Connects to an agent and starts the thread exchanging the batches.
+     *
+     * @param process The child process, or {@code null}.
+     * @param in The stream of the answers of the agent.
+     * @param out The stream of the batches sent to the agent.
+     * @param stallTimeout The time, in milliseconds, the agent has to
+     *        answer a batch.
+     */
+    private AgentProcess(Process process, InputStream in, OutputStream out,
+            long stallTimeout) {
+        this.process = process;
+        this.stallTimeout = stallTimeout;
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.thread = new Thread(this::exchange, "agent");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Asks the agent for a move.
+     *
+     * @param observation The observation of the player, as written by
+     *        the {@code ObservationEncoder}.
+     * @param legal The bitset of the legal moves.
+     * @return The move chosen, or {@code NO_MOVE}. The caller may stop
+     *         waiting by completing it, in which case the decision is
+     *         not sent if it is still queued.
+     */
+    public CompletableFuture<Integer> decide(byte[] observation, long legal) {
+        final Decision decision = new Decision(observation, legal);
+        final long sentAt = this.sentAt;
+        if (sentAt != 0L && !this.closed && System.nanoTime() - sentAt
+                > TimeUnit.MILLISECONDS.toNanos(this.stallTimeout))
+            this.close();
+        if (this.closed) decision.complete(NO_MOVE);
+        else this.queue.add(decision);
+        return decision;
+    }
+
+    /**
+     * Retrieves the number of batches sent to the agent.
+     *
+     * @return The number of round trips.
+     */
+    public long getBatches() {
+        return this.batches.get();
+    }
+
+    /**
+     * Retrieves the number of decisions sent to the agent.
+     *
+     * @return The number of decisions.
+     */
+    public long getDecisions() {
+        return this.decisions.get();
+    }
+
+    /**
+     * Checks whether the agent is gone, closed, broken or stalled, in
+     * which case every decision completes with {@code NO_MOVE}.
+     *
+     * @return {@code true} if the agent is closed, {@code false}
+     *         otherwise.
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Stops exchanging with the agent, and destroys its process if any.
+     * The decisions pending complete with {@code NO_MOVE}.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.thread.interrupt();
+        try {
+            this.out.close();
+        } catch (IOException exception) {
+            // The agent is gone already.
+        }
+        try {
+            // Ends the wait for an answer, if the stream allows it.
+            this.in.close();
+        } catch (IOException exception) {
+            // The agent is gone already.
+        }
+        if (this.process != null) this.process.destroy();
+        this.fail(new ArrayList<Decision>());
+    }
+
+    /**
+     * Sends the batches and reads the answers until the agent is closed.
+     */
+    private void exchange() {
+        final List<Decision> batch = new ArrayList<Decision>();
+        try {
+            while (!this.closed) {
+                batch.add(this.queue.take());
+                this.queue.drainTo(batch, Values.AGENT_MAX_BATCH - 1);
+                batch.removeIf(Decision::isDone);
+                if (batch.isEmpty()) continue;
+                this.send(batch);
+                this.sentAt = System.nanoTime();
+                this.receive(batch);
+                this.sentAt = 0L;
+                for (Decision decision : batch) decision.complete(NO_MOVE);
+                batch.clear();
+            }
+        } catch (IOException | InterruptedException exception) {
+            this.closed = true;
+        }
+        this.fail(batch);
+    }
+
+    /**
+     * Writes a batch to the agent.
+     *
+     * @param batch The decisions of the batch.
+     * @throws IOException If the agent cannot be written to.
+     */
+    private void send(List<Decision> batch) throws IOException {
+        int length = Byte.BYTES + Short.BYTES;
+        for (Decision decision : batch) {
+            decision.id = this.nextId++;
+            length += Integer.BYTES + Byte.BYTES
+                + Long.bitCount(decision.legal)
+                + decision.observation.length;
+        }
+        this.out.writeInt(length);
+        this.out.writeByte(VERSION);
+        this.out.writeShort(batch.size());
+        for (Decision decision : batch) {
+            this.out.writeInt(decision.id);
+            this.out.writeByte(Long.bitCount(decision.legal));
+            for (long moves = decision.legal; moves != 0;
+                    moves &= moves - 1)
+                this.out.writeByte(Long.numberOfTrailingZeros(moves));
+            this.out.write(decision.observation);
+        }
+        this.out.flush();
+        this.batches.incrementAndGet();
+        this.decisions.addAndGet(batch.size());
+    }
+
+    /**
+     * Reads the answer of the agent to a batch, and completes the
+     * decisions answered.
+     *
+     * @param batch The decisions of the batch, in the order sent.
+     * @throws IOException If the agent cannot be read, or its answer is
+     *         malformed.
+     */
+    private void receive(List<Decision> batch) throws IOException {
+        final int length = this.in.readInt();
+        final int count = this.in.readUnsignedShort();
+        if (length != Short.BYTES + count * (Integer.BYTES + Byte.BYTES))
+            throw new IOException(Messages.AGENT_PROTOCOL_ERROR);
+        for (int index = 0; index < count; index++) {
+            final int id = this.in.readInt();
+            final int move = this.in.readByte();
+            // The identifiers of a batch are consecutive.
+            final int position = id - batch.get(0).id;
+            if (0 <= position && position < batch.size())
+                batch.get(position).complete(move);
+        }
+    }
+
+    /**
+     * Completes the decisions of a batch and of the queue with
+     * {@code NO_MOVE}, once the agent is gone.
+     *
+     * @param batch The decisions of the batch being exchanged.
+     */
+    private void fail(List<Decision> batch) {
+        this.queue.drainTo(batch);
+        for (Decision decision : batch) decision.complete(NO_MOVE);
+    }
+
+    /**
+     * The Decision class is a move asked to the agent.
+     */
+    private static class Decision extends CompletableFuture<Integer> {
+
+        /**
+         * The observation of the player.
+         */
+        private final byte[] observation;
+
+        /**
+         * The bitset of the legal moves.
+         */
+        private final long legal;
+
+        /**
+         * The identifier of the decision, set when sent.
+         */
+        private int id;
+
+        /**
+         * Constructs a decision.
+         *
+         * @param observation The observation of the player.
+         * @param legal The bitset of the legal moves.
+         */
+        private Decision(byte[] observation, long legal) {
+            this.observation = observation;
+            this.legal = legal;
+        }
+    }
+}
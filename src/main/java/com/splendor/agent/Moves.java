@@ -0,0 +1,142 @@
+package com.splendor.agent;
+
+import java.util.Map.Entry;
+
+import com.splendor.actions.HumanAction;
+import com.splendor.actions.IAction;
+import com.splendor.actions.human.BuyCard;
+import com.splendor.actions.human.PassAction;
+import com.splendor.actions.human.PickDifferentTokens;
+import com.splendor.actions.human.PickSameTokens;
+import com.splendor.actions.human.ReserveCard;
+import com.splendor.actions.human.Token;
+import com.splendor.board.Board;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.env.SplendorEnv;
+import com.splendor.player.Player;
+
+
+/**
+ * The Moves class lists the moves an agent can choose from during a game
+ * of the engine, numbered as the actions of the {@code SplendorEnv} so
+ * that an agent trained in the environment can play real games. Each move
+ * is an action of the console game with a fixed input, whose legality is
+ * checked by the action itself.
+ */
+public final class Moves {
+
+    /**
+     * The action of each move, and its input.
+     */
+    private static final HumanAction[] ACTIONS =
+        new HumanAction[SplendorEnv.ACTIONS];
+    private static final String[] INPUTS = new String[SplendorEnv.ACTIONS];
+
+    /**
+     * The moves, as actions the game can process.
+     */
+    private static final IAction[] MOVES = new IAction[SplendorEnv.ACTIONS];
+
+    static {
+        final String[] letters = new String[SplendorEnv.COLORS.length];
+        for (int color = 0; color < letters.length; color++)
+            letters[color] = Moves.letter(SplendorEnv.COLORS[color]);
+        int move = SplendorEnv.TAKE_DIFFERENT;
+        for (int first = 0; first < letters.length; first++)
+            for (int second = first + 1; second < letters.length; second++)
+                for (int third = second + 1; third < letters.length; third++)
+                    Moves.define(move++, new PickDifferentTokens(),
+                        letters[first] + " " + letters[second]
+                        + " " + letters[third]);
+        for (int color = 0; color < letters.length; color++)
+            Moves.define(SplendorEnv.TAKE_SAME + color,
+                new PickSameTokens(), letters[color]);
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++)
+            for (int column = 0; column < Values.COLUMN_NUMBER; column++) {
+                final int slot = tier * Values.COLUMN_NUMBER + column;
+                final String input = (tier + 1) + " " + (column + 1);
+                Moves.define(SplendorEnv.BUY_VISIBLE + slot,
+                    new BuyCard(), input);
+                Moves.define(SplendorEnv.RESERVE_VISIBLE + slot,
+                    new ReserveCard(), input);
+            }
+        for (int slot = 0; slot < Values.MAX_RESERVED_CARDS; slot++)
+            Moves.define(SplendorEnv.BUY_RESERVED + slot,
+                new BuyCard(), "R " + (slot + 1));
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++)
+            Moves.define(SplendorEnv.RESERVE_DECK + tier,
+                new ReserveCard(), String.valueOf(tier + 1));
+        Moves.MOVES[SplendorEnv.PASS] = new PassAction();
+    }
+
+    /**
+     * Private constructor, as the class only has static members.
+     */
+    private Moves() {}
+
+    /**
+     * Lists the legal moves of a player.
+     *
+     * @param board The board of the game.
+     * @param player The player about to play.
+     * @return The bitset of the legal moves, bit {@code n} being set if
+     *         move {@code n} is legal. Passing is always legal.
+     */
+    public static long legal(Board board, Player player) {
+        long legal = 1L << SplendorEnv.PASS;
+        for (int move = 0; move < SplendorEnv.PASS; move++)
+            if (ACTIONS[move].validate(board, player, INPUTS[move]).isValid())
+                legal |= 1L << move;
+        return legal;
+    }
+
+    /**
+     * Retrieves the action of a move.
+     *
+     * @param move The identifier of the move.
+     * @return The action playing the move, shared by every game.
+     * @throws ArrayIndexOutOfBoundsException If no move has this
+     *         identifier.
+     */
+    public static IAction get(int move) throws ArrayIndexOutOfBoundsException {
+        return MOVES[move];
+    }
+
+    /**
+     * Defines a move as an action with a fixed input.
+     *
+     * @param move The identifier of the move.
+     * @param action The action of the console game.
+     * @param input The input of the action.
+     */
+    private static void define(int move, HumanAction action, String input) {
+        ACTIONS[move] = action;
+        INPUTS[move] = input;
+        MOVES[move] = new IAction() {
+            @Override
+            public boolean process(Board board, Player player) {
+                return action.process(board, player, input);
+            }
+
+            @Override
+            public String toString() {
+                return action.toString();
+            }
+        };
+    }
+
+    /**
+     * Retrieves the letter typed to choose a color of token.
+     *
+     * @param color The color.
+     * @return The letter of the color.
+     * @throws IllegalArgumentException If no letter chooses the color.
+     */
+    public static String letter(Resource color)
+            throws IllegalArgumentException {
+        for (Entry<String, Resource> entry : Token.resources.entrySet())
+            if (entry.getValue() == color) return entry.getKey();
+        throw new IllegalArgumentException(color.name());
+    }
+}
@@ -0,0 +1,162 @@
+package com.splendor.archive;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.splendor.constants.Messages;
+import com.splendor.exceptions.ArchiveException;
+
+
+/**
+ * The ArchiveReader class gives read access to the replay records of a
+ * game archive. Every segment is memory-mapped when the archive is opened:
+ * a game is then fetched by its number without any search in the data
+ * files, and records are scanned sequentially as zero-copy slices.
+ *
+ * The reader sees the records written before it was opened. It can be
+ * shared between threads.
+ */
+public class ArchiveReader implements Iterable<ByteBuffer> {
+
+    /**
+     * The non-empty segments of the archive, in ascending order.
+     */
+    private final Segment[] segments;
+
+    /**
+     * The number of the first game of each segment, used to locate the
+     * segment of a game.
+     */
+    private final long[] bases;
+
+    /**
+     * The fewest games held by a segment but the last. Two segments never
+     * start less than a stride apart, so that a run of stride games holds
+     * the start of one segment at most.
+     */
+    private final int stride;
+
+    /**
+     * The segment holding the first game of each run of stride games.
+     */
+    private final int[] runs;
+
+    /**
+     * The total number of games of the archive.
+     */
+    private final long size;
+
+    /**
+     * Opens the archive stored in the specified directory, mapping all of
+     * its segments.
+     *
+     * @param directory The directory of the archive.
+     * @throws ArchiveException If a segment cannot be mapped or is not a
+     *         valid segment.
+     */
+    public ArchiveReader(Path directory) throws ArchiveException {
+        final ArrayList<Segment> segments = new ArrayList<Segment>();
+        long base = 0;
+        for (int number : Segment.list(directory)) {
+            final Segment segment = new Segment(directory, number, base);
+            base += segment.getCount();
+            // Empty segments would share their base with the next one.
+            if (segment.getCount() > 0) segments.add(segment);
+        }
+        this.segments = segments.toArray(new Segment[segments.size()]);
+        this.bases = Arrays.stream(this.segments)
+            .mapToLong(Segment::getBase).toArray();
+        this.size = base;
+        // Records have various lengths, so do the counts of the segments.
+        int stride = Integer.MAX_VALUE;
+        for (int index = 0; index + 1 < this.segments.length; index++)
+            stride = Math.min(stride, this.segments[index].getCount());
+        this.stride = stride;
+        this.runs = new int[(int) (this.size / this.stride) + 1];
+        int index = 0;
+        for (int run = 0; run < this.runs.length; run++) {
+            final long first = (long) run * this.stride;
+            while (index + 1 < this.bases.length
+                    && this.bases[index + 1] <= first)
+                index++;
+            this.runs[run] = index;
+        }
+    }
+
+    /**
+     * Retrieves the total number of games of the archive.
+     *
+     * @return The number of games of the archive.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Retrieves the non-empty segments of the archive, so that they can
+     * be scanned independently, e.g. by several threads.
+     *
+     * @return A copy of the array of segments.
+     */
+    public Segment[] getSegments() {
+        return this.segments.clone();
+    }
+
+    /**
+     * Retrieves the record of the specified game as a read-only slice of
+     * its mapped segment.
+     *
+     * @param game The archive-wide number of the game.
+     * @return A read-only buffer positioned on the record.
+     * @throws IndexOutOfBoundsException If the game is not part of
+     *         the archive.
+     */
+    public ByteBuffer getRecord(long game) throws IndexOutOfBoundsException {
+        if (game < 0 || this.size <= game)
+            throw new IndexOutOfBoundsException(MessageFormat.format(
+                Messages.ARCHIVE_INVALID_GAME, game));
+        int index = this.runs[(int) (game / this.stride)];
+        // The run may hold the start of the next segment.
+        if (index + 1 < this.bases.length && this.bases[index + 1] <= game)
+            index++;
+        final Segment segment = this.segments[index];
+        return segment.getRecord((int) (game - segment.getBase()));
+    }
+
+    /**
+     * Returns an iterator over all the records of the archive, in the
+     * order of their game numbers.
+     *
+     * @return An iterator of read-only slices.
+     */
+    @Override
+    public Iterator<ByteBuffer> iterator() {
+        return new Iterator<ByteBuffer>() {
+            private int segment = 0;
+            private int slot = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.segment < ArchiveReader.this.segments.length;
+            }
+
+            @Override
+            public ByteBuffer next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                final Segment current =
+                    ArchiveReader.this.segments[this.segment];
+                final ByteBuffer record = current.getRecord(this.slot++);
+                if (this.slot == current.getCount()) {
+                    this.segment++;
+                    this.slot = 0;
+                }
+                return record;
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.splendor.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+
+import com.splendor.constants.Messages;
+import com.splendor.constants.Values;
+import com.splendor.exceptions.ArchiveException;
+
+
+/**
+ * The ArchiveWriter class appends replay records to a game archive. An
+ * archive is a directory of append-only segments, each one made of a data
+ * file and a fixed-width offset index (see {@link Segment}).
+ *
+ * Several threads may append at the same time: each one reserves a region
+ * of the current segment under a short lock, then writes its record outside
+ * of it. When a record does not fit in the current segment anymore, the
+ * writer rolls over to a new segment.
+ */
+public class ArchiveWriter implements AutoCloseable {
+
+    /**
+     * The directory of the archive.
+     */
+    private final Path directory;
+
+    /**
+     * The maximum size, in bytes, of the data file of a segment.
+     */
+    private final int segmentSize;
+
+    /**
+     * The segment currently appended to.
+     */
+    private SegmentWriter current;
+
+    /**
+     * Opens an archive for appending, with the default segment size.
+     *
+     * @param directory The directory of the archive, created if needed.
+     * @throws ArchiveException If the archive cannot be opened.
+     */
+    public ArchiveWriter(Path directory) throws ArchiveException {
+        this(directory, Values.ARCHIVE_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens an archive for appending. Existing segments are left as is,
+     * and the records are appended to a new segment following them.
+     *
+     * @param directory The directory of the archive, created if needed.
+     * @param segmentSize The maximum size, in bytes, of the data file
+     *        of a segment.
+     * @throws IllegalArgumentException If the segment size cannot hold
+     *         the header of a segment.
+     * @throws ArchiveException If the archive cannot be opened.
+     */
+    public ArchiveWriter(Path directory, int segmentSize)
+            throws IllegalArgumentException, ArchiveException {
+        if (segmentSize <= Segment.HEADER_SIZE)
+            throw new IllegalArgumentException(MessageFormat.format(
+                Messages.ARCHIVE_SEGMENT_SIZE_ERROR, segmentSize));
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        // Resume after the last segment of the archive, if any.
+        long base = 0;
+        final int[] numbers = Segment.list(directory);
+        for (int number : numbers) base += Segment.count(directory, number);
+        final int next = numbers.length == 0
+            ? 0 : numbers[numbers.length - 1] + 1;
+        try {
+            Files.createDirectories(directory);
+            this.current = new SegmentWriter(
+                directory, next, base, segmentSize);
+        } catch (IOException exception) {
+            throw new ArchiveException(MessageFormat.format(
+                Messages.ARCHIVE_OPEN_ERROR, exception.getMessage()));
+        }
+    }
+
+    /**
+     * Appends a record to the archive. The remaining bytes of the buffer
+     * are written, its position being left untouched.
+     *
+     * @param record The record to append.
+     * @return The archive-wide number of the appended game.
+     * @throws ArchiveException If the record is larger than a segment,
+     *         cannot be written, or if the archive is closed.
+     */
+    public long append(ByteBuffer record) throws ArchiveException {
+        final int length = record.remaining();
+        if ((long) length + Segment.HEADER_SIZE > this.segmentSize)
+            throw new ArchiveException(MessageFormat.format(
+                Messages.ARCHIVE_RECORD_SIZE_ERROR, length));
+        SegmentWriter segment;
+        long reservation;
+        try {
+            synchronized (this) {
+                if (this.current == null)
+                    throw new ArchiveException(Messages.ARCHIVE_CLOSED);
+                if (!this.current.fits(length)) this.rollOver();
+                segment = this.current;
+                reservation = segment.reserve(length);
+            }
+            return segment.write(reservation, record.duplicate());
+        } catch (IOException exception) {
+            throw new ArchiveException(MessageFormat.format(
+                Messages.ARCHIVE_WRITE_ERROR, exception.getMessage()));
+        }
+    }
+
+    /**
+     * Appends a record to the archive.
+     *
+     * @param record The record to append.
+     * @return The archive-wide number of the appended game.
+     * @throws ArchiveException If the record is larger than a segment,
+     *         or cannot be written.
+     */
+    public long append(byte[] record) throws ArchiveException {
+        return this.append(ByteBuffer.wrap(record));
+    }
+
+    /**
+     * Seals the current segment and starts the next one. Must be called
+     * under the lock of the writer.
+     *
+     * @throws IOException If the next segment cannot be created.
+     */
+    private void rollOver() throws IOException {
+        final SegmentWriter previous = this.current;
+        previous.seal();
+        this.current = new SegmentWriter(this.directory,
+            previous.getNumber() + 1, previous.getNextBase(),
+            this.segmentSize);
+    }
+
+    /**
+     * Closes the archive. The files of the current segment are closed
+     * once the appends still in progress are done.
+     *
+     * @throws ArchiveException If the files cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws ArchiveException {
+        if (this.current == null) return;
+        try {
+            this.current.seal();
+            this.current = null;
+        } catch (IOException exception) {
+            throw new ArchiveException(MessageFormat.format(
+                Messages.ARCHIVE_WRITE_ERROR, exception.getMessage()));
+        }
+    }
+}
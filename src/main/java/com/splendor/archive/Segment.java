@@ -0,0 +1,248 @@
+package com.splendor.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.stream.Stream;
+
+import com.splendor.constants.Messages;
+import com.splendor.exceptions.ArchiveException;
+
+
+/**
+ * The Segment class represents one read-only, memory-mapped segment of
+ * a game archive. A segment is made of two files: a data file holding
+ * the replay records appended one after the other, and an index file
+ * holding one fixed-width entry (offset and length) per record.
+ *
+ * Records are returned as slices of the mapped data file, so reading
+ * a record never copies it.
+ */
+public class Segment {
+
+    /**
+     * Magic number at the beginning of a data file ("SPLD").
+     */
+    public static final int DATA_MAGIC = 0x53504C44;
+
+    /**
+     * Magic number at the beginning of an index file ("SPLI").
+     */
+    public static final int INDEX_MAGIC = 0x53504C49;
+
+    /**
+     * Version of the segment file format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Size, in bytes, of the header of both files (magic and version).
+     */
+    public static final int HEADER_SIZE = 8;
+
+    /**
+     * Size, in bytes, of an index entry (offset and length).
+     */
+    public static final int ENTRY_SIZE = 8;
+
+    /**
+     * File name templates of the data and index files of a segment.
+     */
+    private static final String DATA_FILE = "segment-%05d.dat";
+    private static final String INDEX_FILE = "segment-%05d.idx";
+
+    /**
+     * The number of the segment within the archive.
+     */
+    private final int number;
+
+    /**
+     * The archive-wide number of the first game of the segment.
+     */
+    private final long base;
+
+    /**
+     * The mapped data and index files of the segment.
+     */
+    private final ByteBuffer data;
+    private final ByteBuffer index;
+
+    /**
+     * The number of records referenced by the index of the segment.
+     */
+    private final int count;
+
+    /**
+     * Opens and maps the segment with the specified number.
+     *
+     * @param directory The directory of the archive.
+     * @param number The number of the segment within the archive.
+     * @param base The archive-wide number of the first game of
+     *        the segment.
+     * @throws ArchiveException If one of the files cannot be mapped or
+     *         is not a valid segment file.
+     */
+    public Segment(Path directory, int number, long base)
+            throws ArchiveException {
+        this.number = number;
+        this.base = base;
+        final Path dataPath = Segment.dataPath(directory, number);
+        final Path indexPath = Segment.indexPath(directory, number);
+        this.data = Segment.map(dataPath);
+        this.index = Segment.map(indexPath);
+        Segment.checkHeader(this.data, DATA_MAGIC, dataPath);
+        Segment.checkHeader(this.index, INDEX_MAGIC, indexPath);
+        this.count = (this.index.limit() - HEADER_SIZE) / ENTRY_SIZE;
+    }
+
+    /**
+     * Retrieves the number of the segment within the archive.
+     *
+     * @return The number of the segment.
+     */
+    public int getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Retrieves the archive-wide number of the first game of the segment.
+     *
+     * @return The number of the first game of the segment.
+     */
+    public long getBase() {
+        return this.base;
+    }
+
+    /**
+     * Retrieves the number of records of the segment.
+     *
+     * @return The number of records of the segment.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Retrieves the record at the specified slot as a read-only slice of
+     * the mapped data file. A slot whose writer never completed reads as
+     * an empty record. This method is safe to call from several threads.
+     *
+     * @param slot The slot of the record within the segment.
+     * @return A read-only buffer positioned on the record.
+     * @throws IndexOutOfBoundsException If the slot is out of bounds.
+     */
+    public ByteBuffer getRecord(int slot) throws IndexOutOfBoundsException {
+        if (slot < 0 || this.count <= slot)
+            throw new IndexOutOfBoundsException(MessageFormat.format(
+                Messages.ARCHIVE_INVALID_GAME, this.base + slot));
+        final int entry = HEADER_SIZE + slot * ENTRY_SIZE;
+        final int offset = this.index.getInt(entry);
+        final int length = this.index.getInt(entry + Integer.BYTES);
+        return this.data.slice(offset, length);
+    }
+
+    /**
+     * Retrieves the path of the data file of a segment.
+     *
+     * @param directory The directory of the archive.
+     * @param number The number of the segment.
+     * @return The path of the data file.
+     */
+    static Path dataPath(Path directory, int number) {
+        return directory.resolve(String.format(DATA_FILE, number));
+    }
+
+    /**
+     * Retrieves the path of the index file of a segment.
+     *
+     * @param directory The directory of the archive.
+     * @param number The number of the segment.
+     * @return The path of the index file.
+     */
+    static Path indexPath(Path directory, int number) {
+        return directory.resolve(String.format(INDEX_FILE, number));
+    }
+
+    /**
+     * Lists, in ascending order, the numbers of the segments present in
+     * the specified directory.
+     *
+     * @param directory The directory of the archive.
+     * @return The sorted numbers of the segments.
+     * @throws ArchiveException If the directory cannot be listed.
+     */
+    static int[] list(Path directory) throws ArchiveException {
+        if (!Files.isDirectory(directory)) return new int[0];
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                .filter(name -> name.matches("segment-\\d+\\.idx"))
+                .mapToInt(name -> Integer.parseInt(name.substring(8,
+                    name.length() - 4)))
+                .sorted().toArray();
+        } catch (IOException exception) {
+            throw new ArchiveException(MessageFormat.format(
+                Messages.ARCHIVE_OPEN_ERROR, exception.getMessage()));
+        }
+    }
+
+    /**
+     * Counts the records referenced by the index file of a segment,
+     * without mapping it.
+     *
+     * @param directory The directory of the archive.
+     * @param number The number of the segment.
+     * @return The number of records of the segment.
+     * @throws ArchiveException If the index file cannot be read.
+     */
+    static int count(Path directory, int number) throws ArchiveException {
+        try {
+            final Path path = Segment.indexPath(directory, number);
+            final long size = Files.size(path);
+            return (int) Math.max(0, (size - HEADER_SIZE) / ENTRY_SIZE);
+        } catch (IOException exception) {
+            throw new ArchiveException(MessageFormat.format(
+                Messages.ARCHIVE_OPEN_ERROR, exception.getMessage()));
+        }
+    }
+
+    /**
+     * Maps the whole specified file in read-only mode. The channel is
+     * closed right away, the mapping remaining valid.
+     *
+     * @param path The path of the file to map.
+     * @return The mapped buffer.
+     * @throws ArchiveException If the file cannot be mapped.
+     */
+    private static ByteBuffer map(Path path) throws ArchiveException {
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.READ)) {
+            return channel.map(
+                FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException exception) {
+            throw new ArchiveException(MessageFormat.format(
+                Messages.ARCHIVE_OPEN_ERROR, exception.getMessage()));
+        }
+    }
+
+    /**
+     * Checks the magic number and the version of a mapped file.
+     *
+     * @param buffer The mapped file.
+     * @param magic The expected magic number.
+     * @param path The path of the mapped file.
+     * @throws ArchiveException If the header does not match.
+     */
+    private static void checkHeader(ByteBuffer buffer, int magic, Path path)
+            throws ArchiveException {
+        final boolean valid = buffer.limit() >= HEADER_SIZE
+            && buffer.getInt(0) == magic
+            && buffer.getInt(Integer.BYTES) == VERSION;
+        if (valid) return;
+        throw new ArchiveException(MessageFormat.format(
+            Messages.ARCHIVE_FORMAT_ERROR, path));
+    }
+}
@@ -0,0 +1,217 @@
+package com.splendor.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * The SegmentWriter class represents the segment an archive is currently
+ * appending to. Regions of the data file and slots of the index file are
+ * reserved by the {@code ArchiveWriter} under its lock, then filled with
+ * positional writes, so that several threads write their records at the
+ * same time. The files are closed once the segment is sealed and the last
+ * pending write is done.
+ */
+class SegmentWriter {
+
+    /**
+     * The number of the segment within the archive.
+     */
+    private final int number;
+
+    /**
+     * The archive-wide number of the first game of the segment.
+     */
+    private final long base;
+
+    /**
+     * The maximum size, in bytes, of the data file.
+     */
+    private final int capacity;
+
+    /**
+     * The data and index files of the segment.
+     */
+    private final FileChannel data;
+    private final FileChannel index;
+
+    /**
+     * The end of the last reserved region of the data file, and the
+     * number of reserved slots of the index file. Both are only updated
+     * under the lock of the {@code ArchiveWriter}.
+     */
+    private int position = Segment.HEADER_SIZE;
+    private int slots = 0;
+
+    /**
+     * The number of reserved regions still being written.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Whether the segment accepts no more reservations, and whether its
+     * files are closed.
+     */
+    private volatile boolean sealed = false;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates the files of a new segment and writes their headers.
+     *
+     * @param directory The directory of the archive.
+     * @param number The number of the segment within the archive.
+     * @param base The archive-wide number of the first game of
+     *        the segment.
+     * @param capacity The maximum size, in bytes, of the data file.
+     * @throws IOException If one of the files cannot be created.
+     */
+    SegmentWriter(Path directory, int number, long base, int capacity)
+            throws IOException {
+        this.number = number;
+        this.base = base;
+        this.capacity = capacity;
+        this.data = SegmentWriter.create(
+            Segment.dataPath(directory, number), Segment.DATA_MAGIC);
+        this.index = SegmentWriter.create(
+            Segment.indexPath(directory, number), Segment.INDEX_MAGIC);
+    }
+
+    /**
+     * Retrieves the number of the segment within the archive.
+     *
+     * @return The number of the segment.
+     */
+    int getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Retrieves the archive-wide number of the game following the last
+     * reserved slot of the segment.
+     *
+     * @return The number of the next game of the archive.
+     */
+    long getNextBase() {
+        return this.base + this.slots;
+    }
+
+    /**
+     * Checks whether a record of the specified length fits in the
+     * remaining space of the segment. An empty segment accepts any
+     * record that fits in a whole segment.
+     *
+     * @param length The length, in bytes, of the record.
+     * @return {@code true} if the record fits, {@code false} otherwise.
+     */
+    boolean fits(int length) {
+        return (long) this.position + length <= this.capacity;
+    }
+
+    /**
+     * Reserves a region of the data file and a slot of the index file
+     * for a record. Must be called under the lock of the archive writer.
+     *
+     * @param length The length, in bytes, of the record.
+     * @return The reserved region, packed as the offset in the high
+     *         32 bits and the slot in the low 32 bits.
+     */
+    long reserve(int length) {
+        final long reservation = (long) this.position << 32 | this.slots;
+        this.position += length;
+        this.slots++;
+        this.pending.incrementAndGet();
+        return reservation;
+    }
+
+    /**
+     * Writes a record into a region reserved beforehand, then releases
+     * it. May be called concurrently for distinct reservations.
+     *
+     * @param reservation The reservation returned by {@link #reserve}.
+     * @param record The record to write.
+     * @return The archive-wide number of the written game.
+     * @throws IOException If the record or its index entry cannot be
+     *         written.
+     */
+    long write(long reservation, ByteBuffer record) throws IOException {
+        final int offset = (int) (reservation >>> 32);
+        final int slot = (int) reservation;
+        try {
+            final int length = record.remaining();
+            SegmentWriter.writeFully(this.data, record, offset);
+            final ByteBuffer entry = ByteBuffer.allocate(Segment.ENTRY_SIZE);
+            entry.putInt(offset).putInt(length).flip();
+            final long entryOffset = Segment.HEADER_SIZE
+                + (long) slot * Segment.ENTRY_SIZE;
+            SegmentWriter.writeFully(this.index, entry, entryOffset);
+            return this.base + slot;
+        } finally {
+            if (this.pending.decrementAndGet() == 0 && this.sealed)
+                this.close();
+        }
+    }
+
+    /**
+     * Seals the segment: no more region is reserved in it, and its files
+     * are closed as soon as the pending writes are done. Must be called
+     * under the lock of the archive writer.
+     *
+     * @throws IOException If the files cannot be closed.
+     */
+    void seal() throws IOException {
+        this.sealed = true;
+        if (this.pending.get() == 0) this.close();
+    }
+
+    /**
+     * Closes the files of the segment, once.
+     *
+     * @throws IOException If the files cannot be closed.
+     */
+    private void close() throws IOException {
+        if (!this.closed.compareAndSet(false, true)) return;
+        try (FileChannel data = this.data; FileChannel index = this.index) {
+            data.force(false);
+            index.force(false);
+        }
+    }
+
+    /**
+     * Creates a file and writes the header of a segment file into it.
+     *
+     * @param path The path of the file to create.
+     * @param magic The magic number of the file.
+     * @return The channel of the created file.
+     * @throws IOException If the file cannot be created or written.
+     */
+    private static FileChannel create(Path path, int magic)
+            throws IOException {
+        final FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        final ByteBuffer header = ByteBuffer.allocate(Segment.HEADER_SIZE);
+        header.putInt(magic).putInt(Segment.VERSION).flip();
+        SegmentWriter.writeFully(channel, header, 0);
+        return channel;
+    }
+
+    /**
+     * Writes all the remaining bytes of a buffer at the specified
+     * position of a channel, without moving the position of the channel.
+     *
+     * @param channel The channel to write to.
+     * @param buffer The bytes to write.
+     * @param position The position of the first byte in the channel.
+     * @throws IOException If the bytes cannot be written.
+     */
+    private static void writeFully(
+            FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining())
+            position += channel.write(buffer, position);
+    }
+}
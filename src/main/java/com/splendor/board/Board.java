@@ -1,10 +1,15 @@
 package com.splendor.board;
 
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Stack;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
-import com.splendor.cards.CardReader;
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.CardTable;
 import com.splendor.cards.DevCard;
 import com.splendor.cards.Noble;
 import com.splendor.constants.Cards;
@@ -20,7 +25,9 @@ import com.splendor.exceptions.CardReaderException;
 /**
  * The `Board` class represents the game board in Splendor and implements 
  * the `Displayable` interface. It manages resources, development cards, 
- * and provides methods for interacting with the game state.
+ * and provides methods for interacting with the game state. The players 
+ * choosing their action are handed its read-only `BoardView`, which 
+ * cannot be cast back to the board.
  */
 public class Board implements Displayable {
 
@@ -30,39 +37,131 @@ public class Board implements Displayable {
     private Resources resources = new Resources();
 
     /**
-     * The stack of Noble / development cards for each level.
+     * The deck of development cards of each level.
      */
-    @SuppressWarnings("unchecked")
-    private Stack<DevCard>[] cards = new Stack[Values.TIER_NUMBER];
+    private Deck[] cards = new Deck[Values.TIER_NUMBER];
     private Noble[] nobles;
 
     /**
-     * The visible development / Noble cards on the board.
+     * The visible development cards on the board, as card identifiers, 
+     * in the same rows as the decks.
      */
-    private DevCard[][] visibleCards;
+    private short[][] visibleCards = 
+        new short[Values.TIER_NUMBER][Values.COLUMN_NUMBER];
+
+    /**
+     * The table of the data of the cards.
+     */
+    private CardTable table;
+
+    /**
+     * The listeners notified when a visible card is replaced.
+     */
+    private final List<BoardListener> listeners = 
+        new ArrayList<BoardListener>();
+
+    /**
+     * The read-only view of a board, reading the state of the board in 
+     * place.
+     */
+    private class View implements BoardView {
+        @Override
+        public int visibleCardId(int tier, int column) 
+                throws ArrayIndexOutOfBoundsException {
+            return Board.this.getCardId(tier, column);
+        }
+
+        @Override
+        public int tokens(Resource colour) {
+            return Board.this.resources.getNbResource(colour);
+        }
+
+        @Override
+        public int nobleMask() {
+            int mask = 0;
+            for (int index = 0; index < Board.this.nobles.length; index++)
+                if (Board.this.nobles[index] != null) mask |= 1 << index;
+            return mask;
+        }
+
+        @Override
+        public int nobleId(int index) throws ArrayIndexOutOfBoundsException {
+            return CardCatalog.getId(Board.this.nobles[index]);
+        }
+
+        @Override
+        public int deckRemaining(int tier) 
+                throws ArrayIndexOutOfBoundsException {
+            return Board.this.getDeckSize(tier);
+        }
+    }
+
+    /**
+     * The read-only view of the board.
+     */
+    private final BoardView view = new View();
 
     /**
      * Constructs a new Board by initializing it with development 
-     * and noble cards.
+     * and noble cards, shuffled at random.
      *
      * @throws CardReaderException If there is an issue reading 
      *         cards from the CardReader.
      */
     public Board(int playersCount) throws CardReaderException {
-        CardReader cardReader = new CardReader();
-        this.cards = cardReader.getDevCards();
-        this.nobles = cardReader.getNobleCards(playersCount + 1);
-        int length = this.cards.length; // Dimension of the board.
-        this.visibleCards = new DevCard[length][length + 1];
-        this.initializeBoard(length);
+        this(playersCount, new Random());
     }
 
+    /**
+     * Constructs a new Board from the cards of the catalog, shuffled with
+     * the specified source of randomness, so that a seeded source always
+     * deals the same board without reading the CSV file again.
+     *
+     * @param playersCount The number of players of the game.
+     * @param random The source of randomness used to shuffle the cards.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public Board(int playersCount, Random random) throws CardReaderException {
+        this.table = CardCatalog.getTable();
+        final List<Noble> nobles = new ArrayList<Noble>();
+        final int[] sizes = new int[Values.TIER_NUMBER];
+        for (int id = 0; id < this.table.size(); id++)
+            if (this.table.isNoble(id)) 
+                nobles.add((Noble) this.table.getCard(id));
+            else sizes[this.table.getTier(id) - 1]++;
+        final short[][] decks = new short[Values.TIER_NUMBER][];
+        for (int tier = 0; tier < decks.length; tier++) {
+            decks[tier] = new short[sizes[tier]];
+            sizes[tier] = 0;
+        }
+        for (int id = 0; id < this.table.size(); id++) {
+            if (this.table.isNoble(id)) continue;
+            final int tier = this.table.getTier(id) - 1;
+            decks[tier][sizes[tier]++] = (short) id;
+        }
+        for (int tier = 0; tier < decks.length; tier++) {
+            this.cards[tier] = new Deck(decks[tier]);
+            this.cards[tier].shuffle(random);
+        }
+        Collections.shuffle(nobles, random);
+        this.nobles = nobles.stream()
+            .limit(playersCount + 1).toArray(Noble[]::new);
+        this.initializeBoard(this.cards.length);
+    }
+
+    /**
+     * Constructs an empty board, to be filled from a snapshot.
+     */
+    private Board() {}
+
     /**
      * Initializes the board by populating the visible cards array.
      *
      * @param length The dimension of the board.
      */
     private void initializeBoard(int length) {
+        for (short[] row : this.visibleCards)
+            Arrays.fill(row, CardTable.NONE);
         for (int tier = 0; tier < length; tier++)
             for (int column = 0; column < length + 1; column++)
                 this.updateCard(this.getCard(tier, column), tier, column);
@@ -74,8 +173,11 @@ public class Board implements Displayable {
      * @return An array containing the visible cards.
      */
     public DevCard[] getVisibleCards() {
-        return Arrays.stream(this.visibleCards)
-            .flatMap(Arrays::stream).toArray(DevCard[]::new);
+        final DevCard[] cards = new DevCard[Values.VISIBLE_CARDS];
+        int index = 0;
+        for (short[] row : this.visibleCards)
+            for (short id : row) cards[index++] = this.table.getCard(id);
+        return cards;
     }
 
     /**
@@ -95,7 +197,9 @@ public class Board implements Displayable {
      *         index is out of bounds.
      */
     public void removeNoble(int index) {
-        this.getNobles()[index] = null;
+        this.nobles[index] = null;
+        for (int listener = 0; listener < this.listeners.size(); listener++)
+            this.listeners.get(listener).nobleRemoved(this, index);
     }
 
     /**
@@ -150,8 +254,42 @@ public class Board implements Displayable {
      */
     public DevCard getCard(int tier, int column) 
             throws ArrayIndexOutOfBoundsException {
-        tier = Values.TIER_NUMBER - tier - 1;
-        return this.visibleCards[tier][column];
+        return this.table.getCard(this.getCardId(tier, column));
+    }
+
+    /**
+     * Retrieves the identifier of the development card at the specified 
+     * tier (row) and column on the board.
+     *
+     * @param tier The tier (row) of the development card.
+     * @param column The column of the development card.
+     * @return The identifier of the card, or {@code CardTable.NONE} if 
+     *         the slot is empty.
+     * @throws ArrayIndexOutOfBoundsException If the specified tier 
+     *         or column is out of bounds.
+     */
+    public int getCardId(int tier, int column) 
+            throws ArrayIndexOutOfBoundsException {
+        return this.visibleCards[Values.TIER_NUMBER - tier - 1][column];
+    }
+
+    /**
+     * Retrieves the read-only view of the board, handed to the players 
+     * choosing their action.
+     *
+     * @return The view of the board, reading its state in place.
+     */
+    public BoardView getView() {
+        return this.view;
+    }
+
+    /**
+     * Retrieves the table of the data of the cards of the board.
+     *
+     * @return The table of the cards.
+     */
+    public CardTable getTable() {
+        return this.table;
     }
 
     /**
@@ -168,11 +306,30 @@ public class Board implements Displayable {
      */
     public void updateCard(DevCard card, int tier, int column)
             throws NullPointerException, ArrayIndexOutOfBoundsException {
-        tier = Values.TIER_NUMBER - tier - 1;
-        if (card == null && this.cards[tier].isEmpty())
+        final int row = Values.TIER_NUMBER - tier - 1;
+        if (card == null && this.cards[row].size() == 0)
             throw new NullPointerException(Messages.SLOT_NOT_EMPTY);
-        this.visibleCards[tier][column] = this.cards[tier].isEmpty() 
-            ? null : this.cards[tier].pop();
+        this.visibleCards[row][column] = (short) this.cards[row].draw();
+        for (int index = 0; index < this.listeners.size(); index++)
+            this.listeners.get(index).cardChanged(this, tier, column);
+    }
+
+    /**
+     * Adds a listener notified whenever a visible card is replaced.
+     *
+     * @param listener The listener to add.
+     */
+    public void addListener(BoardListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener of the board, if it was added.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeListener(BoardListener listener) {
+        this.listeners.remove(listener);
     }
 
     /**
@@ -189,12 +346,60 @@ public class Board implements Displayable {
      */
     public DevCard drawCard(int tier) throws ArrayIndexOutOfBoundsException {
         if (1 <= tier && tier <= this.cards.length) {
-            Stack<DevCard> row = this.cards[Values.TIER_NUMBER - tier];
-            return row.isEmpty() ? null : row.pop();
+            final int row = Values.TIER_NUMBER - tier;
+            return this.table.getCard(this.cards[row].draw());
         }
         throw new ArrayIndexOutOfBoundsException(Messages.INVALID_TIER);
     }
 
+    /**
+     * Puts the last card drawn from the specified tier's deck back on 
+     * top of it, e.g. to undo a move when exploring moves.
+     *
+     * @param tier The tier (row) of the deck, from 1 to 3.
+     * @throws ArrayIndexOutOfBoundsException If the specified tier 
+     *         value is out of bounds.
+     * @throws IllegalStateException If no card was drawn from the deck.
+     */
+    public void undoDraw(int tier) 
+            throws ArrayIndexOutOfBoundsException, IllegalStateException {
+        if (tier < 1 || this.cards.length < tier)
+            throw new ArrayIndexOutOfBoundsException(Messages.INVALID_TIER);
+        this.cards[Values.TIER_NUMBER - tier].undoDraw();
+    }
+
+    /**
+     * Retrieves the number of cards left in the deck of the specified tier.
+     *
+     * @param tier The tier (row) of the deck, from 1 to 3.
+     * @return The number of cards left in the deck.
+     * @throws ArrayIndexOutOfBoundsException If the specified tier 
+     *         value is out of bounds.
+     */
+    public int getDeckSize(int tier) throws ArrayIndexOutOfBoundsException {
+        if (1 <= tier && tier <= this.cards.length)
+            return this.cards[Values.TIER_NUMBER - tier].size();
+        throw new ArrayIndexOutOfBoundsException(Messages.INVALID_TIER);
+    }
+
+    /**
+     * Retrieves the identifier of a card left in the deck of the specified
+     * tier, without drawing it.
+     *
+     * @param tier The tier (row) of the deck, from 1 to 3.
+     * @param index The position of the card, from 0 for the bottom of the
+     *        deck to {@code getDeckSize(tier) - 1} for its top.
+     * @return The identifier of the card.
+     * @throws ArrayIndexOutOfBoundsException If the specified tier value
+     *         is out of bounds, or no card is left at this position.
+     */
+    public int getDeckCardId(int tier, int index)
+            throws ArrayIndexOutOfBoundsException {
+        if (1 <= tier && tier <= this.cards.length)
+            return this.cards[Values.TIER_NUMBER - tier].get(index);
+        throw new ArrayIndexOutOfBoundsException(Messages.INVALID_TIER);
+    }
+
     /**
      * Checks if the count of the specified resource allows giving tokens.
      *
@@ -228,6 +433,75 @@ public class Board implements Displayable {
         return true;
     }
 
+    /**
+     * Writes the state of the board into a snapshot: the resources, the 
+     * decks from bottom to top, the visible cards and the Noble cards, 
+     * every card being written as its catalog identifier.
+     *
+     * @param buffer The buffer to write the snapshot into.
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        this.resources.writeSnapshot(buffer);
+        for (Deck deck : this.cards) {
+            buffer.putShort((short) deck.size());
+            for (int index = 0; index < deck.size(); index++)
+                buffer.putShort((short) deck.get(index));
+        }
+        for (short[] row : this.visibleCards)
+            for (short id : row) buffer.putShort(id);
+        buffer.put((byte) this.nobles.length);
+        for (Noble noble : this.nobles)
+            buffer.putShort((short) CardCatalog.getId(noble));
+    }
+
+    /**
+     * Creates a board from a snapshot written by 
+     * {@link #writeSnapshot(ByteBuffer)}. The cards are the shared 
+     * instances of the card catalog.
+     *
+     * @param buffer The buffer to read the snapshot from.
+     * @return The restored board.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public static Board readSnapshot(ByteBuffer buffer)
+            throws CardReaderException {
+        final Board board = new Board();
+        board.table = CardCatalog.getTable();
+        board.resources.readSnapshot(buffer);
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++) {
+            final short[] deck = new short[buffer.getShort()];
+            for (int index = 0; index < deck.length; index++)
+                deck[index] = buffer.getShort();
+            board.cards[tier] = new Deck(deck);
+        }
+        for (short[] row : board.visibleCards)
+            for (int column = 0; column < row.length; column++)
+                row[column] = buffer.getShort();
+        board.nobles = new Noble[buffer.get()];
+        for (int index = 0; index < board.nobles.length; index++)
+            board.nobles[index] = (Noble) CardCatalog.getCard(
+                buffer.getShort());
+        return board;
+    }
+
+    /**
+     * Copies the board: the tokens, the decks, the visible cards and the 
+     * Noble cards, but none of its listeners.
+     *
+     * @return An independent copy of the board.
+     */
+    public Board copy() {
+        final Board board = new Board();
+        board.table = this.table;
+        board.resources.putAll(this.resources);
+        for (int tier = 0; tier < this.cards.length; tier++)
+            board.cards[tier] = this.cards[tier].copy();
+        for (int row = 0; row < this.visibleCards.length; row++)
+            board.visibleCards[row] = this.visibleCards[row].clone();
+        board.nobles = this.nobles.clone();
+        return board;
+    }
+
     /**
      * Converts information about the cards in the specified deck tier to a
      * formatted string array. The resulting array represents a visual preview 
@@ -304,7 +578,8 @@ public class Board implements Displayable {
             final int limit = this.visibleCards[row].length;
             for (int column = 0; column < limit; column++) {
                 // Retrieve the card from the visible cards and display it.
-                final DevCard current = this.visibleCards[row][column];
+                final DevCard current = 
+                    this.table.getCard(this.visibleCards[row][column]);
                 String[] displayed = current != null  // Default: empty deck.
                     ? current.toStringArray() : Cards.EMPTY_DECK_PREVIEW;
                 tierCards = Display.concatStringArray(tierCards, displayed);
@@ -0,0 +1,31 @@
+package com.splendor.board;
+
+
+/**
+ * Interface for objects notified when a visible card of a board is 
+ * replaced or a noble leaves it, e.g. to keep what a player can afford 
+ * up to date without scanning the whole board. The methods are called on 
+ * the thread playing the game.
+ */
+public interface BoardListener {
+
+    /**
+     * Called when a visible card of the board was replaced by the next 
+     * card of its deck, or by no card if the deck is empty.
+     *
+     * @param board The board whose card changed.
+     * @param tier The tier (row) of the card, as given to 
+     *        {@link Board#getCard(int, int)}.
+     * @param column The column of the card.
+     */
+    public void cardChanged(Board board, int tier, int column);
+
+    /**
+     * Called when a noble left the board, after visiting a player. Does 
+     * nothing by default.
+     *
+     * @param board The board the noble left.
+     * @param index The index of the noble in {@link Board#getNobles()}.
+     */
+    public default void nobleRemoved(Board board, int index) {}
+}
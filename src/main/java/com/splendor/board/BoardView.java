@@ -0,0 +1,67 @@
+package com.splendor.board;
+
+import com.splendor.constants.Resource;
+
+
+/**
+ * Read-only view of a board, given to the players choosing their action.
+ * Every accessor reads the state of the board in place: nothing is copied
+ * or allocated, so strategies may query it as often as they need. The
+ * view is not the board itself, so they cannot change the board through
+ * it. The cards are designated by their identifier in the
+ * {@code CardTable}.
+ */
+public interface BoardView {
+
+    /**
+     * Retrieves the identifier of the card visible at the specified tier
+     * (row) and column of the board.
+     *
+     * @param tier The tier (row) of the card, as given to
+     *        {@link Board#getCard(int, int)}.
+     * @param column The column of the card.
+     * @return The identifier of the card, or {@code CardTable.NONE} if
+     *         the slot is empty.
+     * @throws ArrayIndexOutOfBoundsException If the specified tier
+     *         or column is out of bounds.
+     */
+    public int visibleCardId(int tier, int column)
+        throws ArrayIndexOutOfBoundsException;
+
+    /**
+     * Retrieves the number of tokens of a color left on the board.
+     *
+     * @param colour The color of the tokens, jokers included.
+     * @return The number of tokens.
+     */
+    public int tokens(Resource colour);
+
+    /**
+     * Retrieves the mask of the nobles still on the board.
+     *
+     * @return The mask of the nobles, bit {@code index} being set if the
+     *         noble at this index of {@link Board#getNobles()} did not
+     *         visit any player yet.
+     */
+    public int nobleMask();
+
+    /**
+     * Retrieves the identifier of a noble of the board.
+     *
+     * @param index The index of the noble in {@link Board#getNobles()}.
+     * @return The identifier of the noble, or {@code CardTable.NONE} if
+     *         the noble left the board.
+     * @throws ArrayIndexOutOfBoundsException If there is no such noble.
+     */
+    public int nobleId(int index) throws ArrayIndexOutOfBoundsException;
+
+    /**
+     * Retrieves the number of cards left in the deck of a tier.
+     *
+     * @param tier The tier (row) of the deck, from 1 to 3.
+     * @return The number of cards left in the deck.
+     * @throws ArrayIndexOutOfBoundsException If the specified tier
+     *         value is out of bounds.
+     */
+    public int deckRemaining(int tier) throws ArrayIndexOutOfBoundsException;
+}
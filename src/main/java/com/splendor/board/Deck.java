@@ -0,0 +1,115 @@
+package com.splendor.board;
+
+import java.util.Random;
+
+import com.splendor.cards.CardTable;
+import com.splendor.constants.Messages;
+
+
+/**
+ * The Deck class represents a deck of development cards, as the card 
+ * identifiers of a shuffled array consumed from the top by a cursor. 
+ * Drawing a card only moves the cursor, so that a draw can be undone, 
+ * e.g. when exploring moves, and the deck copied with a single array 
+ * copy. A deck is not thread-safe.
+ */
+public class Deck {
+
+    /**
+     * The identifiers of the cards, from the bottom to the top of the 
+     * deck, followed by the cards drawn, the last drawn first.
+     */
+    private final short[] cards;
+
+    /**
+     * The number of cards left in the deck, which is also the index of 
+     * the last card drawn.
+     */
+    private int size;
+
+    /**
+     * Constructs a deck of the specified cards.
+     *
+     * @param cards The identifiers of the cards, from the bottom to the 
+     *        top of the deck. The deck keeps the array.
+     */
+    public Deck(short[] cards) {
+        this.cards = cards;
+        this.size = cards.length;
+    }
+
+    /**
+     * Draws the card from the top of the deck.
+     *
+     * @return The identifier of the card drawn, or {@code CardTable.NONE} 
+     *         if the deck is empty.
+     */
+    public int draw() {
+        return this.size == 0 ? CardTable.NONE : this.cards[--this.size];
+    }
+
+    /**
+     * Puts the last card drawn back on top of the deck.
+     *
+     * @throws IllegalStateException If no card was drawn from the deck.
+     */
+    public void undoDraw() throws IllegalStateException {
+        if (this.size == this.cards.length)
+            throw new IllegalStateException(Messages.DECK_UNDO_ERROR);
+        this.size++;
+    }
+
+    /**
+     * Retrieves the number of cards left in the deck.
+     *
+     * @return The number of cards left.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Retrieves a card left in the deck.
+     *
+     * @param index The position of the card, from 0 for the bottom of 
+     *        the deck to {@code size() - 1} for its top.
+     * @return The identifier of the card.
+     * @throws ArrayIndexOutOfBoundsException If no card is left at this 
+     *         position.
+     */
+    public int get(int index) throws ArrayIndexOutOfBoundsException {
+        if (index < 0 || this.size <= index)
+            throw new ArrayIndexOutOfBoundsException(index);
+        return this.cards[index];
+    }
+
+    /**
+     * Shuffles the cards left in the deck, drawing from the source of 
+     * randomness as {@code Collections.shuffle} does, so that a seed 
+     * deals the same cards as it did when the decks were lists.
+     *
+     * @param random The source of randomness.
+     */
+    public void shuffle(Random random) {
+        for (int size = this.size; size > 1; size--) {
+            final int index = random.nextInt(size);
+            final short card = this.cards[size - 1];
+            this.cards[size - 1] = this.cards[index];
+            this.cards[index] = card;
+        }
+    }
+
+    /**
+     * Copies the deck, including the cards drawn, which can still be put 
+     * back on top of the copy.
+     *
+     * @return An independent copy of the deck.
+     */
+    public Deck copy() {
+        final short[] cards = new short[this.cards.length];
+        System.arraycopy(this.cards, 0, cards, 0, cards.length);
+        final Deck deck = new Deck(cards);
+        deck.size = this.size;
+        return deck;
+    }
+}
@@ -1,22 +1,28 @@
 package com.splendor.board;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 
 import com.splendor.constants.Resource;
 
 
 /**
  * The Resources class represents a collection of resources in Splendor. 
- * Extends HashMap to associate each resource with its quantity.
+ * Extends EnumMap to associate each resource with its quantity.
  */
-public class Resources extends HashMap<Resource, Integer> {
+public class Resources extends EnumMap<Resource, Integer> {
+
+    /**
+     * The high bit of the byte of every resource, in packed quantities.
+     */
+    private static final long PACKED_HIGH_BITS = 0x8080_8080_8080L;
 
     /**
      * Constructs an empty Resources object.
      */
     public Resources() {
-        super();
+        super(Resource.class);
     }
 
     /**
@@ -68,4 +74,71 @@ public class Resources extends HashMap<Resource, Integer> {
         Resource[] resource = new Resource[availableResources.size()];
         return availableResources.toArray(resource);
     }
+
+    /**
+     * Packs the quantities of the collection into a {@code long}, one 
+     * byte per resource in the order of their ordinals. The quantities 
+     * must be below 128.
+     *
+     * @return The packed quantities.
+     */
+    public long pack() {
+        long packed = 0L;
+        for (Resource resource : this.keySet())
+            packed |= (long) this.getNbResource(resource) 
+                << Byte.SIZE * resource.ordinal();
+        return packed;
+    }
+
+    /**
+     * Counts the quantities missing from packed quantities to cover 
+     * other packed quantities, in all the resources at once. The sum of 
+     * the quantities missing must be below 256, as for any card.
+     *
+     * @param required The packed quantities to cover.
+     * @param owned The packed quantities available.
+     * @return The sum, over the resources, of the quantity required 
+     *         beyond the quantity available; 0 if the quantities 
+     *         available cover the quantities required.
+     */
+    public static int missing(long required, long owned) {
+        // The high bit of a byte stays set if no quantity is missing.
+        final long difference = (required | PACKED_HIGH_BITS) - owned;
+        final long missing = difference & ((difference & PACKED_HIGH_BITS) 
+            >>> Byte.SIZE - 1) * Byte.MAX_VALUE;
+        // Sums the bytes, each lower than 128, into the highest byte.
+        return (int) (missing * 0x0101_0101_0101_0101L >>> Long.SIZE 
+            - Byte.SIZE);
+    }
+
+    /**
+     * Writes the quantities of the collection into a snapshot: a byte 
+     * holding the mask of the resources present in the collection, then 
+     * one byte per present resource.
+     *
+     * @param buffer The buffer to write the snapshot into.
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        int mask = 0;
+        for (Resource resource : this.keySet())
+            mask |= 1 << resource.ordinal();
+        buffer.put((byte) mask);
+        for (Resource resource : Resource.values())
+            if (this.containsKey(resource))
+                buffer.put((byte) this.getNbResource(resource));
+    }
+
+    /**
+     * Replaces the quantities of the collection by the ones read from a 
+     * snapshot written by {@link #writeSnapshot(ByteBuffer)}.
+     *
+     * @param buffer The buffer to read the snapshot from.
+     */
+    public void readSnapshot(ByteBuffer buffer) {
+        this.clear();
+        final int mask = buffer.get();
+        for (Resource resource : Resource.values())
+            if ((mask & 1 << resource.ordinal()) != 0)
+                this.put(resource, Byte.toUnsignedInt(buffer.get()));
+    }
 }
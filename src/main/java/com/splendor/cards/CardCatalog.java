@@ -0,0 +1,89 @@
+package com.splendor.cards;
+
+import com.splendor.exceptions.CardReaderException;
+
+
+/**
+ * The CardCatalog class holds one shared instance of every card of the
+ * game, indexed by its identifier (its position in the CSV file). The
+ * catalog is read once, the first time it is needed, so that a card can
+ * be retrieved from its identifier without reading the CSV file again.
+ */
+public final class CardCatalog {
+
+    /**
+     * All the cards of the game, indexed by their identifier.
+     */
+    private static volatile DevCard[] cards;
+
+    /**
+     * Private constructor, as the catalog only has static members.
+     */
+    private CardCatalog() {}
+
+    /**
+     * Retrieves the card with the specified identifier.
+     *
+     * @param id The identifier of the card, or {@code -1} for no card.
+     * @return The card with the specified identifier, or {@code null} 
+     *         if the identifier is negative.
+     * @throws CardReaderException If the catalog cannot be read.
+     * @throws ArrayIndexOutOfBoundsException If no card has the
+     *         specified identifier.
+     */
+    public static DevCard getCard(int id)
+            throws CardReaderException, ArrayIndexOutOfBoundsException {
+        return id < 0 ? null : CardCatalog.getCards()[id];
+    }
+
+    /**
+     * Retrieves the identifier of the specified card.
+     *
+     * @param card The card, possibly {@code null}.
+     * @return The identifier of the card, or {@code -1} if the card 
+     *         is {@code null} or not part of the catalog.
+     */
+    public static int getId(DevCard card) {
+        return card == null ? -1 : card.getId();
+    }
+
+    /**
+     * Retrieves the table of the data of the cards of the catalog.
+     *
+     * @return The table of the cards, indexed by their identifier.
+     * @throws CardReaderException If the catalog cannot be read.
+     */
+    public static CardTable getTable() throws CardReaderException {
+        CardCatalog.getCards();
+        return CardTable.get();
+    }
+
+    /**
+     * Retrieves the number of cards of the catalog.
+     *
+     * @return The number of cards of the catalog.
+     * @throws CardReaderException If the catalog cannot be read.
+     */
+    public static int size() throws CardReaderException {
+        return CardCatalog.getCards().length;
+    }
+
+    /**
+     * Retrieves the cards of the catalog, reading them on first use.
+     *
+     * @return The cards of the catalog, indexed by their identifier.
+     * @throws CardReaderException If the catalog cannot be read.
+     */
+    private static DevCard[] getCards() throws CardReaderException {
+        DevCard[] cards = CardCatalog.cards;
+        if (cards != null) return cards;
+        synchronized (CardCatalog.class) {
+            if (CardCatalog.cards == null) {
+                cards = new CardReader().getCatalog();
+                CardTable.load(cards);
+                CardCatalog.cards = cards;
+            }
+            return CardCatalog.cards;
+        }
+    }
+}
@@ -44,6 +44,12 @@ public class CardReader {
     private final HashMap<Integer, ArrayList<DevCard>> devCards;
     private final ArrayList<Noble> nobleCards;
 
+    /**
+     * All the cards (development and Noble cards) in the order of the 
+     * CSV file, the index of a card being its identifier.
+     */
+    private final ArrayList<DevCard> catalog;
+
     /**
      * Constructs a CardReader object and initializes the list of DevCard
      * objects by extracting data from the CSV file.
@@ -54,6 +60,7 @@ public class CardReader {
     public CardReader() throws CardReaderException {
         this.devCards = new HashMap<Integer, ArrayList<DevCard>>();
         this.nobleCards = new ArrayList<Noble>();
+        this.catalog = new ArrayList<DevCard>();
         this.extractCards();
     }
 
@@ -85,6 +92,15 @@ public class CardReader {
             .distinct().limit(playersCount).toArray(Noble[]::new);
     }
 
+    /**
+     * Gets all the cards, unshuffled, indexed by their identifier.
+     *
+     * @return The array of all the cards of the CSV file.
+     */
+    public DevCard[] getCatalog() {
+        return this.catalog.toArray(new DevCard[this.catalog.size()]);
+    }
+
     /**
      * Reads the content of the CSV file containing development card statistics.
      *
@@ -114,7 +130,6 @@ public class CardReader {
      */
     private void extractCards() throws CardReaderException {
         final List<String> rawCards = this.readCardsFile();
-        Collections.shuffle(rawCards);  // Randomly shuffle cards.
         rawCards.forEach(card -> {
             final String[] values = card.split(",");
             final int tier = Integer.parseInt(values[TIER_INDEX]);
@@ -137,11 +152,21 @@ public class CardReader {
             resources.setNbResource(Resource.RUBY, rubyCost);
             resources.setNbResource(Resource.ONYX, onyxCost);
 
-            if (type != null) {
-                DevCard devCard = new DevCard(tier, resources, points, type);
-                devCards.computeIfAbsent(tier, t -> new ArrayList<DevCard>());
-                devCards.get(tier).add(devCard);
-            } else nobleCards.add(new Noble(tier, resources, points));
+            final int id = this.catalog.size(); // Order of the file.
+            this.catalog.add(type != null 
+                ? new DevCard(id, tier, resources, points, type)
+                : new Noble(id, tier, resources, points));
+        });
+        final List<DevCard> cards = new ArrayList<DevCard>(this.catalog);
+        Collections.shuffle(cards);  // Randomly shuffle cards.
+        cards.forEach(card -> {
+            if (card instanceof Noble) {
+                this.nobleCards.add((Noble) card);
+                return;
+            }
+            final int tier = card.getLevel();
+            devCards.computeIfAbsent(tier, t -> new ArrayList<DevCard>());
+            devCards.get(tier).add(card);
         });
     }
 }
@@ -0,0 +1,171 @@
+package com.splendor.cards;
+
+import com.splendor.constants.Messages;
+import com.splendor.constants.Resource;
+
+
+/**
+ * The CardTable class holds the data of the cards of the catalog in 
+ * parallel arrays indexed by card identifier. The engine can then keep 
+ * cards as {@code short} identifiers and read their data from a few 
+ * compact arrays, rather than from a graph of card objects.
+ *
+ * The table is built once, along with the catalog, and never changes. 
+ * The costs are packed as by {@code Resources.pack}.
+ */
+public final class CardTable {
+
+    /**
+     * The identifier of no card.
+     */
+    public static final short NONE = -1;
+
+    /**
+     * The resources, in the order of their ordinals.
+     */
+    private static final Resource[] RESOURCES = Resource.values();
+
+    /**
+     * The table of the catalog, once read.
+     */
+    private static volatile CardTable table;
+
+    /**
+     * The cards of the catalog, indexed by identifier.
+     */
+    private final DevCard[] cards;
+
+    /**
+     * The level, packed cost, points and ordinal of the bonus of each 
+     * card, indexed by identifier. The bonus is {@code -1} for nobles.
+     */
+    private final byte[] tiers;
+    private final long[] costs;
+    private final byte[] points;
+    private final byte[] bonuses;
+
+    /**
+     * Constructs the table of the specified cards.
+     *
+     * @param cards The cards of the catalog, indexed by identifier.
+     */
+    private CardTable(DevCard[] cards) {
+        this.cards = cards;
+        this.tiers = new byte[cards.length];
+        this.costs = new long[cards.length];
+        this.points = new byte[cards.length];
+        this.bonuses = new byte[cards.length];
+        for (int id = 0; id < cards.length; id++) {
+            final DevCard card = cards[id];
+            this.tiers[id] = (byte) card.getLevel();
+            this.costs[id] = card.getCost().pack();
+            this.points[id] = (byte) card.getPoints();
+            this.bonuses[id] = (byte) (card.getBonus() == null 
+                ? -1 : card.getBonus().ordinal());
+        }
+    }
+
+    /**
+     * Builds the table of the catalog, once its cards are read.
+     *
+     * @param cards The cards of the catalog, indexed by identifier.
+     */
+    static void load(DevCard[] cards) {
+        CardTable.table = new CardTable(cards);
+    }
+
+    /**
+     * Retrieves the table of the catalog. As card identifiers come from 
+     * the catalog, code holding identifiers can rely on it being read.
+     *
+     * @return The table of the catalog.
+     * @throws IllegalStateException If the catalog is not read yet.
+     */
+    public static CardTable get() throws IllegalStateException {
+        final CardTable table = CardTable.table;
+        if (table == null)
+            throw new IllegalStateException(Messages.CARD_TABLE_ERROR);
+        return table;
+    }
+
+    /**
+     * Retrieves the number of cards of the table.
+     *
+     * @return The number of cards.
+     */
+    public int size() {
+        return this.cards.length;
+    }
+
+    /**
+     * Retrieves the shared instance of a card.
+     *
+     * @param id The identifier of the card, or {@code NONE}.
+     * @return The card, or {@code null} for {@code NONE}.
+     */
+    public DevCard getCard(int id) {
+        return id < 0 ? null : this.cards[id];
+    }
+
+    /**
+     * Retrieves the level of a card.
+     *
+     * @param id The identifier of the card.
+     * @return The level of the card.
+     */
+    public int getTier(int id) {
+        return this.tiers[id];
+    }
+
+    /**
+     * Retrieves the cost of a card, in every resource.
+     *
+     * @param id The identifier of the card.
+     * @return The cost, packed as by {@code Resources.pack}.
+     */
+    public long getCost(int id) {
+        return this.costs[id];
+    }
+
+    /**
+     * Retrieves the cost of a card in a resource.
+     *
+     * @param id The identifier of the card.
+     * @param resource The resource.
+     * @return The number of tokens of the resource the card costs.
+     */
+    public int getCost(int id, Resource resource) {
+        return (int) (this.costs[id] >>> Byte.SIZE * resource.ordinal()) 
+            & 0xFF;
+    }
+
+    /**
+     * Retrieves the prestige points of a card.
+     *
+     * @param id The identifier of the card.
+     * @return The points of the card.
+     */
+    public int getPoints(int id) {
+        return this.points[id];
+    }
+
+    /**
+     * Retrieves the bonus of a card.
+     *
+     * @param id The identifier of the card.
+     * @return The bonus of the card, or {@code null} for a noble.
+     */
+    public Resource getBonus(int id) {
+        return this.bonuses[id] < 0 ? null : RESOURCES[this.bonuses[id]];
+    }
+
+    /**
+     * Checks whether a card is a noble.
+     *
+     * @param id The identifier of the card.
+     * @return {@code true} if the card is a noble, {@code false} otherwise.
+     */
+    public boolean isNoble(int id) {
+        return this.bonuses[id] < 0;
+    }
+}
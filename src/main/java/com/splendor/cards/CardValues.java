@@ -0,0 +1,202 @@
+package com.splendor.cards;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.splendor.constants.Messages;
+import com.splendor.exceptions.CardReaderException;
+
+
+/**
+ * The CardValues class is a lookup table of statistics per card, indexed
+ * by catalog identifier, computed from simulated games: how often a card
+ * is purchased (or a noble visits), on which round on average, and how
+ * much more often the players purchasing it win. Robots load it at
+ * startup to value cards in constant time.
+ *
+ * The table is stored as a small versioned binary file: a magic number,
+ * the version, the number of cards and games, then three floats per card.
+ */
+public class CardValues {
+
+    /**
+     * Magic number at the beginning of the file ("SPLV").
+     */
+    private static final int MAGIC = 0x53504C56;
+
+    /**
+     * Version of the file format.
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * Size, in bytes, of the header of the file and of a card entry.
+     */
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 3 * Float.BYTES;
+
+    /**
+     * The number of games the statistics were computed from.
+     */
+    private final long games;
+
+    /**
+     * The statistics of each card, indexed by catalog identifier.
+     */
+    private final float[] purchaseRates;
+    private final float[] averageRounds;
+    private final float[] winRateDeltas;
+
+    /**
+     * Constructs a table of card values.
+     *
+     * @param games The number of games the statistics were computed from.
+     * @param purchaseRates The rate of games in which each card is
+     *        purchased.
+     * @param averageRounds The average round on which each card is
+     *        purchased.
+     * @param winRateDeltas The difference between the win rate of the
+     *        players purchasing each card and the one of the others.
+     */
+    public CardValues(long games, float[] purchaseRates,
+            float[] averageRounds, float[] winRateDeltas) {
+        this.games = games;
+        this.purchaseRates = purchaseRates;
+        this.averageRounds = averageRounds;
+        this.winRateDeltas = winRateDeltas;
+    }
+
+    /**
+     * Retrieves the number of games the statistics were computed from.
+     *
+     * @return The number of games.
+     */
+    public long getGames() {
+        return this.games;
+    }
+
+    /**
+     * Retrieves the number of cards of the table.
+     *
+     * @return The number of cards.
+     */
+    public int size() {
+        return this.purchaseRates.length;
+    }
+
+    /**
+     * Retrieves the rate of games in which a card is purchased.
+     *
+     * @param id The catalog identifier of the card.
+     * @return The purchase rate, between 0 and 1.
+     */
+    public float getPurchaseRate(int id) {
+        return this.purchaseRates[id];
+    }
+
+    /**
+     * Retrieves the average round on which a card is purchased.
+     *
+     * @param id The catalog identifier of the card.
+     * @return The average round, or {@code NaN} if never purchased.
+     */
+    public float getAverageRound(int id) {
+        return this.averageRounds[id];
+    }
+
+    /**
+     * Retrieves the difference between the win rate of the players who
+     * purchase a card and the one of the players who do not.
+     *
+     * @param id The catalog identifier of the card.
+     * @return The win rate delta, between -1 and 1, or 0 if unknown.
+     */
+    public float getWinRateDelta(int id) {
+        return this.winRateDeltas[id];
+    }
+
+    /**
+     * Retrieves the value of a card, i.e. its win rate delta.
+     *
+     * @param card The card, possibly {@code null}.
+     * @return The value of the card, or {@code -Infinity} for no card or
+     *         a card out of the table.
+     */
+    public float getValue(DevCard card) {
+        return this.getValue(CardCatalog.getId(card));
+    }
+
+    /**
+     * Retrieves the value of a card from its identifier, i.e. its win 
+     * rate delta.
+     *
+     * @param id The catalog identifier of the card, or 
+     *        {@code CardTable.NONE}.
+     * @return The value of the card, or {@code -Infinity} for no card or
+     *         a card out of the table.
+     */
+    public float getValue(int id) {
+        if (id < 0 || this.size() <= id) return Float.NEGATIVE_INFINITY;
+        return this.winRateDeltas[id];
+    }
+
+    /**
+     * Writes the table into a file.
+     *
+     * @param path The path of the file.
+     * @throws CardReaderException If the file cannot be written.
+     */
+    public void save(Path path) throws CardReaderException {
+        final ByteBuffer buffer = ByteBuffer.allocate(
+            HEADER_SIZE + this.size() * ENTRY_SIZE);
+        buffer.putInt(MAGIC).putShort(VERSION);
+        buffer.putShort((short) this.size());
+        buffer.putLong(this.games);
+        for (int id = 0; id < this.size(); id++) {
+            buffer.putFloat(this.purchaseRates[id]);
+            buffer.putFloat(this.averageRounds[id]);
+            buffer.putFloat(this.winRateDeltas[id]);
+        }
+        try {
+            Files.write(path, buffer.array());
+        } catch (IOException exception) {
+            throw new CardReaderException(exception.getMessage());
+        }
+    }
+
+    /**
+     * Reads a table from a file written by {@link #save(Path)}.
+     *
+     * @param path The path of the file.
+     * @return The table read.
+     * @throws CardReaderException If the file cannot be read, or is not
+     *         a table of card values of a supported version.
+     */
+    public static CardValues load(Path path) throws CardReaderException {
+        final ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        } catch (IOException exception) {
+            throw new CardReaderException(exception.getMessage());
+        }
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC
+                || buffer.getShort() != VERSION)
+            throw new CardReaderException(Messages.CARD_VALUES_ERROR);
+        final int size = buffer.getShort();
+        final long games = buffer.getLong();
+        if (buffer.remaining() != size * ENTRY_SIZE)
+            throw new CardReaderException(Messages.CARD_VALUES_ERROR);
+        final float[] purchaseRates = new float[size];
+        final float[] averageRounds = new float[size];
+        final float[] winRateDeltas = new float[size];
+        for (int id = 0; id < size; id++) {
+            purchaseRates[id] = buffer.getFloat();
+            averageRounds[id] = buffer.getFloat();
+            winRateDeltas[id] = buffer.getFloat();
+        }
+        return new CardValues(
+            games, purchaseRates, averageRounds, winRateDeltas);
+    }
+}
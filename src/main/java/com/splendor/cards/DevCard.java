@@ -18,6 +18,12 @@ import com.splendor.display.Displayable;
  */
 public class DevCard implements Displayable {
 
+    /**
+     * The identifier of the card in the card catalog, or {@code -1} if 
+     * the card is not part of the catalog.
+     */
+    private final int id;
+
     /**
      * The level of the development card.
      */
@@ -41,18 +47,44 @@ public class DevCard implements Displayable {
     /**
      * Constructs a new DevCard with the specified parameters.
      *
+     * @param id The identifier of the card in the card catalog.
      * @param level The level of the development card.
      * @param cost The resources required to acquire the development card.
      * @param points The prestige points associated with the development card.
      * @param bonus A bonus resource associated with the development card.
      */
-    public DevCard(int level, Resources cost, int points, Resource bonus) {
+    public DevCard(
+            int id, int level, Resources cost, int points, Resource bonus) {
+        this.id = id;
         this.level = level;
         this.cost = cost;
         this.points = points;
         this.bonus = bonus;
     }
 
+    /**
+     * Constructs a new DevCard, which is not part of the card catalog, 
+     * with the specified parameters.
+     *
+     * @param level The level of the development card.
+     * @param cost The resources required to acquire the development card.
+     * @param points The prestige points associated with the development card.
+     * @param bonus A bonus resource associated with the development card.
+     */
+    public DevCard(int level, Resources cost, int points, Resource bonus) {
+        this(-1, level, cost, points, bonus);
+    }
+
+    /**
+     * Retrieves the identifier of the card in the card catalog.
+     *
+     * @return The identifier of the card, or {@code -1} if the card is 
+     *         not part of the catalog.
+     */
+    public int getId() {
+        return this.id;
+    }
+
     /**
      * Retrieves the level of the development card.
      *
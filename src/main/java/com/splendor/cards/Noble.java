@@ -9,14 +9,55 @@ import com.splendor.board.Resources;
  */
 public class Noble extends DevCard {
 
+    /**
+     * The bonuses required for the noble to visit a player, packed as by 
+     * {@link Resources#pack()}.
+     */
+    private long requirement;
+
     /**
      * Constructs a new instance of the {@code Noble} development card.
      *
+     * @param id The identifier of the noble card in the card catalog.
+     * @param level The level of the noble card.
+     * @param cost The resource cost required to acquire the noble card.
+     * @param points The victory points associated with the noble card.
+     */
+    public Noble(int id, int level, Resources cost, int points) {
+        super(id, level, cost, points, null);
+        this.requirement = cost.pack();
+    }
+
+    /**
+     * Constructs a new instance of the {@code Noble} development card, 
+     * which is not part of the card catalog.
+     *
      * @param level The level of the noble card.
      * @param cost The resource cost required to acquire the noble card.
      * @param points The victory points associated with the noble card.
      */
     public Noble(int level, Resources cost, int points) {
         super(level, cost, points, null);
+        this.requirement = cost.pack();
+    }
+
+    /**
+     * Retrieves the bonuses required for the noble to visit a player.
+     *
+     * @return The bonuses required, packed as by {@link Resources#pack()}.
+     */
+    public long getRequirement() {
+        return this.requirement;
+    }
+
+    /**
+     * Sets the bonuses required for the noble to visit a player.
+     *
+     * @param cost The new bonuses required.
+     */
+    @Override
+    public void setCost(Resources cost) {
+        super.setCost(cost);
+        this.requirement = cost.pack();
     }
 }
@@ -144,4 +144,145 @@ public final class Messages {
     
     public static final String NOBLE_NUMBER_ERROR =
         "Le numéro doit être compris entre 1 et {0}.";
+
+    public static final String INVALID_MOVE = 
+        "Cette action n'est pas possible.";
+
+    public static final String ARCHIVE_OPEN_ERROR =
+        "Impossible d'ouvrir l'archive : {0}";
+
+    public static final String ARCHIVE_WRITE_ERROR =
+        "Impossible d'écrire dans l'archive : {0}";
+
+    public static final String ARCHIVE_FORMAT_ERROR =
+        "Le fichier {0} n'est pas un segment d'archive valide.";
+
+    public static final String ARCHIVE_RECORD_SIZE_ERROR =
+        "L'enregistrement ({0} octets) dépasse la taille d'un segment.";
+
+    public static final String ARCHIVE_SEGMENT_SIZE_ERROR =
+        "La taille de segment ({0} octets) ne contient pas son en-tête.";
+
+    public static final String ARCHIVE_CLOSED =
+        "L'archive est fermée.";
+
+    public static final String ARCHIVE_INVALID_GAME =
+        "La partie {0} n'existe pas dans l'archive.";
+
+    public static final String SNAPSHOT_ERROR =
+        "L'instantané ne correspond pas à une partie.";
+
+    public static final String SNAPSHOT_PLAYER_ERROR =
+        "Le joueur {0} de l''instantané ne peut pas être recréé.";
+
+    public static final String WATCHDOG_BUDGET_ERROR =
+        "Le temps de décision doit être positif : {0} ms.";
+
+    public static final String WATCHDOG_THREADS_ERROR =
+        "{0} décisions bloquées retiennent tous les fils du chien de garde.";
+
+    public static final String SNAPSHOT_PLAYERS_ERROR =
+        "L''instantané compte {0} joueurs, au lieu de 2 à 4.";
+
+    public static final String SNAPSHOT_CURRENT_ERROR =
+        "Le joueur courant de l''instantané n''existe pas : {0}.";
+
+    public static final String SNAPSHOT_KIND_ERROR =
+        "Le joueur {0} de l''instantané est d''un type inconnu : {1}.";
+
+    public static final String CARD_VALUES_ERROR =
+        "Le fichier ne contient pas de valeurs de cartes valides.";
+
+    public static final String GAME_NOT_ADVANCING =
+        "La partie attend une saisie ou est terminée.";
+
+    public static final String GAME_NOT_AWAITING_INPUT =
+        "La partie n'attend aucune saisie.";
+
+    public static final String SERVER_LISTENING =
+        "Serveur de parties à l''écoute sur {0}.";
+
+    public static final String SERVER_GAME_ERROR =
+        "La partie s''est interrompue : {0}";
+
+    public static final String LOAD_REPORT =
+        "{0} parties jouées par {1} clients en {2} ms ({3} parties/s), "
+        + "{4} en erreur, {5} connexions refusées.";
+
+    public static final String DEMAND_ERROR =
+        "Le nombre d''événements demandés doit être positif : {0}";
+
+    public static final String ENV_GAME_OVER =
+        "La partie est terminée, elle doit être réinitialisée.";
+
+    public static final String ENV_ILLEGAL_ACTION =
+        "L''action {0} n''est pas autorisée.";
+
+    public static final String AGENT_PROTOCOL_ERROR =
+        "La réponse de l''agent est invalide.";
+
+    public static final String CARD_TABLE_ERROR =
+        "Les cartes du catalogue n'ont pas encore été lues.";
+
+    public static final String DECK_UNDO_ERROR =
+        "Aucune carte n'a été piochée dans ce paquet.";
+
+    public static final String SOAK_BOARD = "Le plateau";
+
+    public static final String SOAK_TOKENS =
+        "Les jetons {0} du plateau ont changé : {1} au lieu de {2}.";
+
+    public static final String SOAK_NEGATIVE =
+        "{0} a un nombre négatif de jetons {1} : {2}.";
+
+    public static final String SOAK_RESERVED =
+        "{0} a {1} cartes réservées.";
+
+    public static final String SOAK_DUPLICATE =
+        "La carte {0} est en jeu plusieurs fois.";
+
+    public static final String SOAK_SLOW_TURN =
+        "Le tour a duré {0} ms.";
+
+    public static final String SOAK_HUNG_TURN =
+        "Le tour ne s''est pas terminé après {0} ms.";
+
+    public static final String SOAK_VIOLATION =
+        "Graine {0}, {1} joueurs, coups [{2}] : {3}";
+
+    public static final String SOAK_REPORT =
+        "{0} parties jouées ({1} tours) sur {2} fils en {3} ms, "
+        + "{4} violations.";
+
+    public static final String DIFF_LEGAL =
+        "les coups légaux ({0} au lieu de {1})";
+
+    public static final String DIFF_TURN = "le tour";
+
+    public static final String DIFF_BOARD_TOKENS = "les jetons du plateau";
+
+    public static final String DIFF_DECK = "le paquet de tier {0}";
+
+    public static final String DIFF_VISIBLE = "les cartes visibles";
+
+    public static final String DIFF_NOBLES = "les nobles";
+
+    public static final String DIFF_PLAYER_TOKENS = "les jetons du joueur {0}";
+
+    public static final String DIFF_PLAYER_POINTS = "les points du joueur {0}";
+
+    public static final String DIFF_PLAYER_PURCHASED =
+        "les cartes achetées du joueur {0}";
+
+    public static final String DIFF_PLAYER_RESERVED =
+        "les cartes réservées du joueur {0}";
+
+    public static final String DIFF_SIZE = "la taille de l'état";
+
+    public static final String DIFF_DIVERGENCE =
+        "Les moteurs divergent sur {0}.";
+
+    public static final String DIFF_REPORT =
+        "{0} parties comparées ({1} coups) sur {2} fils en {3} ms, "
+        + "{4} divergences.";
 }
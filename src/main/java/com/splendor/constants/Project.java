@@ -15,4 +15,12 @@ public final class Project {
     public static final String DISPLAY_FONT_FILE =
         Paths.get("..", "resources", "unifont.otf").toString(); // BlueJ.
         // Paths.get("build", "resources", "main", "unifont.otf").toString(); // Gradle.
+
+    /**
+     * The file path of the table of card values computed from 
+     * simulated games.
+     */
+    public static final String CARD_VALUES_FILE =
+        Paths.get("..", "resources", "values.bin").toString(); // BlueJ.
+        // Paths.get("build", "resources", "main", "values.bin").toString(); // Gradle.
 }
@@ -51,4 +51,10 @@ public final class Symbols {
      * Represents the vertical delimiter symbol.
      */
     public static final String VERTICAL_DELIMITER = " \u250A";
+
+    /**
+     * Represents the prompt sent to a remote player when the game waits 
+     * for their input.
+     */
+    public static final String PROMPT = "> ";
 }
@@ -46,11 +46,22 @@ public final class Values {
      */
     public final static int COLUMN_NUMBER = 4;
 
+    /**
+     * Number of development cards visible on the game board.
+     */
+    public final static int VISIBLE_CARDS = TIER_NUMBER * COLUMN_NUMBER;
+
     /**
      * Maximum number of reserved cards per player.
      */
     public final static int MAX_RESERVED_CARDS = 3;
 
+    /**
+     * Initial capacity of the purchased cards of a player, grown as 
+     * needed.
+     */
+    public final static int PURCHASED_CARDS_CAPACITY = 16;
+
     /**
      * Maximum number of resources per development card.
      */
@@ -91,4 +102,106 @@ public final class Values {
      * Allows only uppercase letters, numbers, and spaces.
      */
     public static final String INPUT_REGEX = "[^A-Z1-9 ]+";
+
+    /**
+     * Default size, in bytes, of an archive segment before rolling over 
+     * to the next one (256 MiB).
+     */
+    public static final int ARCHIVE_SEGMENT_SIZE = 256 * 1024 * 1024;
+
+    /**
+     * Maximum size, in bytes, of the snapshot of a game in progress.
+     */
+    public static final int SNAPSHOT_SIZE = 2048;
+
+    /**
+     * Number of replays below which a query scans a range of an archive 
+     * without splitting it further.
+     */
+    public static final int QUERY_SCAN_THRESHOLD = 16384;
+
+    /**
+     * Default port of the game server.
+     */
+    public static final int SERVER_PORT = 7700;
+
+    /**
+     * Maximum number of pending connections to the game server.
+     */
+    public static final int SERVER_BACKLOG = 4096;
+
+    /**
+     * Time, in milliseconds, the game server waits before accepting 
+     * connections again after failing to accept one.
+     */
+    public static final int SERVER_ACCEPT_PAUSE = 100;
+
+    /**
+     * Maximum length, in bytes, of a line sent to the game server.
+     */
+    public static final int SERVER_LINE_LENGTH = 256;
+
+    /**
+     * Number of updates in a row a spectator can refuse before being 
+     * dropped.
+     */
+    public static final int SPECTATOR_MAX_MISSES = 8;
+
+    /**
+     * Time, in milliseconds, before an update refused by a spectator is 
+     * offered again, when the game has not moved on meanwhile.
+     */
+    public static final int SPECTATOR_RETRY_DELAY = 10;
+
+    /**
+     * Default size of the buffer of events of a subscriber of a game.
+     */
+    public static final int EVENTS_BUFFER_SIZE = 256;
+
+    /**
+     * Number of rounds after which a game of the training environment is
+     * over, whatever the points of the players.
+     */
+    public static final int ENV_MAX_ROUNDS = 100;
+
+    /**
+     * Number of games below which a vectorized environment steps a range
+     * of games without splitting it further.
+     */
+    public static final int ENV_SLICE_SIZE = 64;
+
+    /**
+     * Default time, in milliseconds, an external agent has to choose 
+     * a move.
+     */
+    public static final int AGENT_DEADLINE = 200;
+
+    /**
+     * Maximum number of decisions sent to an external agent at once.
+     */
+    public static final int AGENT_MAX_BATCH = 4096;
+
+    /**
+     * Default time, in milliseconds, after which an external agent which 
+     * has not answered a batch is considered gone, and closed.
+     */
+    public static final int AGENT_STALL_TIMEOUT = 10_000;
+
+    /**
+     * Maximum number of refused actions a player who chooses on their 
+     * own may retry in a turn, before a fallback action is played.
+     */
+    public static final int MAX_ACTION_RETRIES = 3;
+
+    /**
+     * Default time, in milliseconds, a player who chooses on their own 
+     * has to make a decision, before a fallback action is played.
+     */
+    public static final int DECISION_BUDGET = 1000;
+
+    /**
+     * Maximum number of threads running the decisions of the players 
+     * under one watchdog, each decision which never ends holding one.
+     */
+    public static final int DECISION_THREADS = 16;
 }
@@ -0,0 +1,83 @@
+package com.splendor.display;
+
+import java.io.Reader;
+import java.util.Scanner;
+
+
+/**
+ * The GameIO class gathers the input and outputs of one game: the source 
+ * of the inputs of the human player, the console sink where actions are 
+ * prompted and the board sink where the state of the game is drawn. 
+ * Every game has its own, so that one JVM can run many independent 
+ * games, in windows or headless.
+ */
+public class GameIO {
+
+    /**
+     * The source of the inputs of the human player.
+     */
+    public final Readable in;
+
+    /**
+     * The sink of the console, where actions are prompted and errors 
+     * reported.
+     */
+    public final Sink out;
+
+    /**
+     * The sink of the board, where the state of the game is drawn.
+     */
+    public final Sink outBoard;
+
+    /**
+     * The scanner reading lines from the source, created on first use 
+     * and kept so that nothing read ahead is lost between two lines.
+     */
+    private Scanner scanner;
+
+    /**
+     * Constructs the IO of a game.
+     *
+     * @param in The source of the inputs of the human player.
+     * @param out The sink of the console.
+     * @param outBoard The sink of the board.
+     */
+    public GameIO(Readable in, Sink out, Sink outBoard) {
+        this.in = in;
+        this.out = out;
+        this.outBoard = outBoard;
+    }
+
+    /**
+     * Creates the IO of a game played in the specified display window.
+     *
+     * @param display The display of the game.
+     * @return The IO reading from and writing to the display.
+     */
+    public static GameIO of(Display display) {
+        return new GameIO(display.in, display.out, display.outBoard);
+    }
+
+    /**
+     * Creates the IO of a headless game, which has no input and 
+     * discards its outputs. Its players can only be robots, or humans 
+     * whose inputs are submitted to the game.
+     *
+     * @return The IO of a headless game.
+     */
+    public static GameIO headless() {
+        return new GameIO(Reader.nullReader(), Sink.NULL, Sink.NULL);
+    }
+
+    /**
+     * Reads the next line from the source, waiting for it to arrive.
+     *
+     * @return The line read, without its line terminator.
+     * @throws java.util.NoSuchElementException If the source has no 
+     *         more lines.
+     */
+    public synchronized String readLine() {
+        if (this.scanner == null) this.scanner = new Scanner(this.in);
+        return this.scanner.nextLine();
+    }
+}
@@ -6,7 +6,7 @@ import javax.swing.JTextArea;
 /**
  * A simple utility class for printing text to a JTextArea.
  */
-public class PrintStream {
+public class PrintStream implements Sink {
 
     private final JTextArea textArea;
 
@@ -22,6 +22,7 @@ public class PrintStream {
     /**
      * Clears the content of the associated JTextArea.
      */
+    @Override
     public void clean() {
         this.textArea.setText("");
     }
@@ -29,6 +30,7 @@ public class PrintStream {
     /**
      * Appends a newline character to the associated JTextArea.
      */
+    @Override
     public void newLine() {
         this.print("\n");
     }
@@ -38,6 +40,7 @@ public class PrintStream {
      *
      * @param objects The objects to be printed.
      */
+    @Override
     public void print(Object... objects) {
         for (Object object : objects)
             this.textArea.append(String.valueOf(object));
@@ -49,6 +52,7 @@ public class PrintStream {
      *
      * @param objects The objects to be printed.
      */
+    @Override
     public void println(Object... objects) {
         this.print(objects);
         this.newLine();
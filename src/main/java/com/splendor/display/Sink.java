@@ -0,0 +1,51 @@
+package com.splendor.display;
+
+
+/**
+ * The Sink interface is implemented by the outputs a game writes to: 
+ * the console of the player and the board, either shown in a window, 
+ * written as text or discarded.
+ */
+public interface Sink {
+
+    /**
+     * A sink discarding everything written to it.
+     */
+    public static final Sink NULL = new Sink() {
+        @Override
+        public void clean() {}
+
+        @Override
+        public void print(Object... objects) {}
+    };
+
+    /**
+     * Clears the content of the sink, if it can be cleared.
+     */
+    public void clean();
+
+    /**
+     * Prints the specified objects to the sink.
+     *
+     * @param objects The objects to be printed.
+     */
+    public void print(Object... objects);
+
+    /**
+     * Prints a newline character to the sink.
+     */
+    public default void newLine() {
+        this.print("\n");
+    }
+
+    /**
+     * Prints the specified objects followed by a newline character 
+     * to the sink.
+     *
+     * @param objects The objects to be printed.
+     */
+    public default void println(Object... objects) {
+        this.print(objects);
+        this.newLine();
+    }
+}
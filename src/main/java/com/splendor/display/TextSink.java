@@ -0,0 +1,48 @@
+package com.splendor.display;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+
+/**
+ * A sink writing text to an {@code Appendable}, e.g. the standard output 
+ * or a {@code StringBuilder}. A text sink cannot be cleared: cleaning it 
+ * only separates what follows with a newline.
+ */
+public class TextSink implements Sink {
+
+    private final Appendable appendable;
+
+    /**
+     * Constructs a TextSink writing to the specified appendable.
+     *
+     * @param appendable The appendable to which text will be written.
+     */
+    public TextSink(Appendable appendable) {
+        this.appendable = appendable;
+    }
+
+    /**
+     * Separates what follows from what was written with a newline.
+     */
+    @Override
+    public void clean() {
+        this.newLine();
+    }
+
+    /**
+     * Writes the specified objects to the appendable.
+     *
+     * @param objects The objects to be written.
+     * @throws UncheckedIOException If the appendable cannot be written.
+     */
+    @Override
+    public void print(Object... objects) throws UncheckedIOException {
+        try {
+            for (Object object : objects)
+                this.appendable.append(String.valueOf(object));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.splendor.encoding;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+import com.splendor.board.Board;
+import com.splendor.cards.CardTable;
+import com.splendor.cards.Noble;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+
+
+/**
+ * The ObservationEncoder class writes a position of a game, from the
+ * perspective of the current player, as a fixed number of floats straight
+ * into a buffer of the caller: nothing is allocated while encoding, so
+ * that one encoder can fill the observations of many games in place. An
+ * encoder keeps the buffer it writes into between two calls, hence is
+ * meant to be used by one thread at a time.
+ *
+ * Layout of version 1, by index of float:
+ * <pre>
+ *   0  version of the layout
+ *   1  12 visible cards, tier row * 4 + column, 12 floats each:
+ *      present, cost by color (5), points, bonus as one-hot (5)
+ * 145  cards left in each deck, by tier (3)
+ * 148  5 nobles, 6 floats each: present, cost by color (5)
+ * 178  tokens of the board, by resource (6)
+ * 184  current player: tokens by resource (6), bonuses by color (5),
+ *      points, then its 3 reserved cards, 12 floats each as above
+ * 232  3 other players, in turn order, 13 floats each: tokens (6),
+ *      bonuses (5), points, number of reserved cards
+ * 271  end
+ * </pre>
+ * The colors are ordered as {@code DIAMOND, SAPPHIRE, EMERALD, ONYX,
+ * RUBY}, followed by {@code JOKER} for the tokens. Missing cards, nobles
+ * and players are written as zeros.
+ */
+public class ObservationEncoder {
+
+    /**
+     * Version of the layout, written as the first float.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Number of floats of a card, a noble, and a player.
+     */
+    private static final int CARD_SIZE = 12;
+    private static final int NOBLE_SIZE = 6;
+    private static final int PLAYER_SIZE = 12;
+    private static final int OPPONENT_SIZE = 13;
+
+    /**
+     * Number of colors of cost and bonus, i.e. resources but the joker.
+     */
+    private static final int COLORS = Resource.JOKER.ordinal();
+
+    /**
+     * Offsets of the sections of the layout.
+     */
+    private static final int CARDS = 1;
+    private static final int DECKS = CARDS
+        + Values.TIER_NUMBER * Values.COLUMN_NUMBER * CARD_SIZE;
+    private static final int NOBLES = DECKS + Values.TIER_NUMBER;
+    private static final int TOKENS = NOBLES
+        + (Values.MAX_PLAYERS + 1) * NOBLE_SIZE;
+    private static final int PLAYER = TOKENS + Resource.values().length;
+    private static final int RESERVED = PLAYER + PLAYER_SIZE;
+    private static final int OPPONENTS = RESERVED
+        + Values.MAX_RESERVED_CARDS * CARD_SIZE;
+
+    /**
+     * Number of floats, and of bytes, of an observation.
+     */
+    public static final int SIZE = OPPONENTS
+        + (Values.MAX_PLAYERS - 1) * OPPONENT_SIZE;
+    public static final int BYTES = SIZE * Float.BYTES;
+
+    /**
+     * The resources, in the order of the layout.
+     */
+    private static final Resource[] RESOURCES = Resource.values();
+
+    /**
+     * The buffer being written, either of floats or of bytes, and the
+     * index of the first float of the observation.
+     */
+    private FloatBuffer floats;
+    private ByteBuffer bytes;
+    private int start;
+
+    /**
+     * Writes an observation at the position of a buffer of floats, and
+     * moves the position after it.
+     *
+     * @param board The board of the game.
+     * @param players The players of the game, in turn order.
+     * @param current The index of the current player.
+     * @param out The buffer, with at least {@code SIZE} floats remaining.
+     * @throws BufferOverflowException If the buffer is too small.
+     */
+    public void encode(Board board, Player[] players, int current,
+            FloatBuffer out) {
+        if (out.remaining() < SIZE) throw new BufferOverflowException();
+        this.floats = out;
+        this.start = out.position();
+        this.encode(board, players, current);
+        out.position(this.start + SIZE);
+        this.floats = null;
+    }
+
+    /**
+     * Writes an observation at the position of a buffer of bytes, in the
+     * byte order of the buffer, and moves the position after it.
+     *
+     * @param board The board of the game.
+     * @param players The players of the game, in turn order.
+     * @param current The index of the current player.
+     * @param out The buffer, with at least {@code BYTES} bytes remaining.
+     * @throws BufferOverflowException If the buffer is too small.
+     */
+    public void encode(Board board, Player[] players, int current,
+            ByteBuffer out) {
+        if (out.remaining() < BYTES) throw new BufferOverflowException();
+        this.bytes = out;
+        this.start = out.position();
+        this.encode(board, players, current);
+        out.position(this.start + BYTES);
+        this.bytes = null;
+    }
+
+    /**
+     * Writes every section of an observation.
+     *
+     * @param board The board of the game.
+     * @param players The players of the game, in turn order.
+     * @param current The index of the current player.
+     */
+    private void encode(Board board, Player[] players, int current) {
+        final CardTable table = board.getTable();
+        for (int index = 0; index < SIZE; index++) this.put(index, 0f);
+        this.put(0, VERSION);
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++)
+            for (int column = 0; column < Values.COLUMN_NUMBER; column++)
+                this.putCard(table, board.getCardId(tier, column), CARDS
+                    + (tier * Values.COLUMN_NUMBER + column) * CARD_SIZE);
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++)
+            this.put(DECKS + tier - 1, board.getDeckSize(tier));
+        final Noble[] nobles = board.getNobles();
+        for (int index = 0; index < nobles.length; index++) {
+            if (nobles[index] == null) continue;
+            this.put(NOBLES + index * NOBLE_SIZE, 1f);
+            this.putCost(table, nobles[index].getId(), 
+                NOBLES + index * NOBLE_SIZE + 1);
+        }
+        for (Resource resource : RESOURCES)
+            this.put(TOKENS + resource.ordinal(),
+                board.getNbResource(resource));
+        this.putPlayer(players[current], PLAYER);
+        for (int slot = 0; slot < Values.MAX_RESERVED_CARDS; slot++)
+            this.putCard(table, players[current].getReservedId(slot), 
+                RESERVED + slot * CARD_SIZE);
+        for (int index = 1; index < players.length; index++) {
+            final Player player = players[(current + index) % players.length];
+            final int offset = OPPONENTS + (index - 1) * OPPONENT_SIZE;
+            this.putPlayer(player, offset);
+            this.put(offset + PLAYER_SIZE,
+                Integer.bitCount(player.getReservedMask()));
+        }
+    }
+
+    /**
+     * Writes a card, or leaves zeros for no card.
+     *
+     * @param table The table of the cards.
+     * @param id The identifier of the card, possibly {@code NONE}.
+     * @param offset The index of the first float of the card.
+     */
+    private void putCard(CardTable table, int id, int offset) {
+        if (id < 0) return;
+        this.put(offset, 1f);
+        this.putCost(table, id, offset + 1);
+        this.put(offset + 1 + COLORS, table.getPoints(id));
+        final Resource bonus = table.getBonus(id);
+        if (bonus != null && bonus != Resource.JOKER)
+            this.put(offset + 2 + COLORS + bonus.ordinal(), 1f);
+    }
+
+    /**
+     * Writes the cost of a card, by color.
+     *
+     * @param table The table of the cards.
+     * @param id The identifier of the card.
+     * @param offset The index of the first float of the cost.
+     */
+    private void putCost(CardTable table, int id, int offset) {
+        for (int color = 0; color < COLORS; color++)
+            this.put(offset + color, table.getCost(id, RESOURCES[color]));
+    }
+
+    /**
+     * Writes the tokens, bonuses and points of a player.
+     *
+     * @param player The player.
+     * @param offset The index of the first float of the player.
+     */
+    private void putPlayer(Player player, int offset) {
+        for (Resource resource : RESOURCES)
+            this.put(offset + resource.ordinal(),
+                player.getNbResource(resource));
+        for (int color = 0; color < COLORS; color++)
+            this.put(offset + RESOURCES.length + color,
+                player.getResFromCards(RESOURCES[color]));
+        this.put(offset + RESOURCES.length + COLORS, player.getPoints());
+    }
+
+    /**
+     * Writes one float of the observation into the buffer being written.
+     *
+     * @param index The index of the float in the observation.
+     * @param value The value of the float.
+     */
+    private void put(int index, float value) {
+        if (this.floats != null) this.floats.put(this.start + index, value);
+        else this.bytes.putFloat(
+            this.start + index * Float.BYTES, value);
+    }
+}
@@ -0,0 +1,244 @@
+package com.splendor.env;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import com.splendor.constants.Messages;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.env.SoakHarness.Violation;
+import com.splendor.exceptions.CardReaderException;
+
+
+/**
+ * The DifferentialHarness class plays the same games through two rule
+ * engines, a reference and a candidate, and compares their states after
+ * every move, so that an engine holding its state another way can be
+ * proven to play by the same rules.
+ *
+ * A game only depends on its seed, which deals the cards and draws every
+ * move among the legal ones of the reference. The first divergence of a
+ * game, in the legal moves or in the state written by the engines, is
+ * reported with the seed and the moves played until then, and names the
+ * part of the state which differs.
+ */
+public class DifferentialHarness {
+
+    /**
+     * The engines compared.
+     */
+    private final RuleEngine reference;
+    private final RuleEngine candidate;
+
+    /**
+     * The number of players of the games.
+     */
+    private final int playersCount;
+
+    /**
+     * The states written by the engines after the last move.
+     */
+    private final ByteBuffer expected = ByteBuffer.allocate(4096);
+    private final ByteBuffer actual = ByteBuffer.allocate(4096);
+
+    /**
+     * The moves played in the current game.
+     */
+    private final int[] moves =
+        new int[Values.ENV_MAX_ROUNDS * Values.MAX_PLAYERS + 1];
+
+    /**
+     * The number of moves played in the current game.
+     */
+    private int played;
+
+    /**
+     * Constructs a harness comparing two engines.
+     *
+     * @param reference The engine whose rules are the reference.
+     * @param candidate The engine checked against the reference.
+     * @param playersCount The number of players of the games of both
+     *        engines.
+     */
+    public DifferentialHarness(RuleEngine reference, RuleEngine candidate,
+            int playersCount) {
+        this.reference = reference;
+        this.candidate = candidate;
+        this.playersCount = playersCount;
+    }
+
+    /**
+     * Retrieves the number of moves played in the last game compared.
+     *
+     * @return The number of moves played.
+     */
+    public int getPlayed() {
+        return this.played;
+    }
+
+    /**
+     * Plays a game through both engines, every move being drawn among the
+     * legal ones of the reference.
+     *
+     * @param seed The seed of the game, which deals the cards and draws
+     *        the moves.
+     * @return The first divergence of the game, including an engine
+     *         failing to play a move, or {@code null} if both engines
+     *         played the whole game the same way.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public Violation compare(long seed) throws CardReaderException {
+        final SplittableRandom random = new SplittableRandom(seed);
+        this.played = 0;
+        this.reference.reset(seed);
+        this.candidate.reset(seed);
+        String message = this.diff();
+        while (message == null && !this.reference.isDone()) {
+            final int move = SplendorEnv.randomAction(
+                this.reference.getLegalActions(), random);
+            this.moves[this.played++] = move;
+            try {
+                this.reference.step(move);
+                this.candidate.step(move);
+                message = this.diff();
+            } catch (RuntimeException exception) {
+                // An engine failing to play a legal move diverges too.
+                message = exception.toString();
+            }
+        }
+        if (message == null) return null;
+        return new Violation(seed, this.playersCount,
+            Arrays.copyOf(this.moves, this.played),
+            MessageFormat.format(Messages.DIFF_DIVERGENCE, message));
+    }
+
+    /**
+     * Compares the legal moves and the states of the engines.
+     *
+     * @return The part of the state which differs, or {@code null} if the
+     *         engines are in the same state.
+     */
+    private String diff() {
+        final long expected = this.reference.getLegalActions();
+        final long actual = this.candidate.getLegalActions();
+        if (expected != actual) return MessageFormat.format(
+            Messages.DIFF_LEGAL, Long.toHexString(actual),
+            Long.toHexString(expected));
+        this.expected.clear();
+        this.reference.writeState(this.expected);
+        this.actual.clear();
+        this.candidate.writeState(this.actual);
+        final int mismatch = Arrays.mismatch(
+            this.expected.array(), 0, this.expected.position(),
+            this.actual.array(), 0, this.actual.position());
+        if (mismatch < 0) return null;
+        return DifferentialHarness.part(this.expected, mismatch);
+    }
+
+    /**
+     * Names the part of a state, written in the layout shared by the
+     * engines, which holds a byte.
+     *
+     * @param state The state.
+     * @param offset The offset of the byte.
+     * @return The name of the part of the state.
+     */
+    private static String part(ByteBuffer state, int offset) {
+        final int tokens = Resource.values().length;
+        int end = Integer.BYTES + 1;
+        if (offset < end) return Messages.DIFF_TURN;
+        if (offset < (end += tokens)) return Messages.DIFF_BOARD_TOKENS;
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++) {
+            end += Short.BYTES * (1 + state.getShort(end));
+            if (offset < end)
+                return MessageFormat.format(Messages.DIFF_DECK, tier);
+        }
+        if (offset < (end += Short.BYTES * Values.VISIBLE_CARDS))
+            return Messages.DIFF_VISIBLE;
+        if (offset < (end += 1 + Short.BYTES * state.get(end)))
+            return Messages.DIFF_NOBLES;
+        for (int player = 0; end < state.position(); player++) {
+            if (offset < (end += tokens)) return MessageFormat.format(
+                Messages.DIFF_PLAYER_TOKENS, player);
+            if (offset < (end += Short.BYTES)) return MessageFormat.format(
+                Messages.DIFF_PLAYER_POINTS, player);
+            if (offset < (end += Short.BYTES * (1 + state.getShort(end))))
+                return MessageFormat.format(
+                    Messages.DIFF_PLAYER_PURCHASED, player);
+            if (offset < (end += Short.BYTES * Values.MAX_RESERVED_CARDS))
+                return MessageFormat.format(
+                    Messages.DIFF_PLAYER_RESERVED, player);
+        }
+        // The candidate wrote more than the reference.
+        return Messages.DIFF_SIZE;
+    }
+
+    /**
+     * Compares games with consecutive seeds on several threads, the number
+     * of players going from 2 to 4 with the seed, and reports the first
+     * divergence of the first games which diverge.
+     *
+     * @param reference The factory of the reference engines, by number of
+     *        players.
+     * @param candidate The factory of the candidate engines, by number of
+     *        players.
+     * @param firstSeed The seed of the first game.
+     * @param games The number of games to compare.
+     * @param threads The number of threads comparing the games.
+     * @param reports The number of divergences printed at most.
+     * @param out The stream the divergences and the summary are printed
+     *        on.
+     * @return The number of games which diverged.
+     * @throws InterruptedException If the thread is interrupted while
+     *         waiting for the workers.
+     */
+    public static long run(IntFunction<RuleEngine> reference,
+            IntFunction<RuleEngine> candidate, long firstSeed, long games,
+            int threads, int reports, PrintStream out)
+            throws InterruptedException {
+        final AtomicLong compared = new AtomicLong();
+        final AtomicLong moves = new AtomicLong();
+        final AtomicLong divergences = new AtomicLong();
+        final long start = System.nanoTime();
+        new Workers<DifferentialHarness>("differential", threads,
+            players -> new DifferentialHarness(reference.apply(players),
+                candidate.apply(players), players),
+            firstSeed, games, (harness, seed) -> {
+                final Violation divergence = harness.compare(seed);
+                compared.incrementAndGet();
+                moves.addAndGet(harness.played);
+                if (divergence != null
+                        && divergences.incrementAndGet() <= reports)
+                    out.println(divergence);
+            }).join();
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        out.println(MessageFormat.format(Messages.DIFF_REPORT, compared.get(),
+            moves.get(), threads, elapsed, divergences.get()));
+        return divergences.get();
+    }
+
+    /**
+     * Compares the console engine with the training environment on every
+     * core, and reports their divergences.
+     *
+     * @param args Optionally the number of games, the seed of the first
+     *        game, the number of divergences printed and the number of
+     *        threads.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        final long games =
+            args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        final int reports = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        final int threads = args.length > 3 ? Integer.parseInt(args[3])
+            : Runtime.getRuntime().availableProcessors();
+        DifferentialHarness.run(ReferenceEngine::new, SplendorEnv::new,
+            seed, games, threads, reports, System.out);
+    }
+}
@@ -0,0 +1,190 @@
+package com.splendor.env;
+
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.Random;
+
+import com.splendor.Game;
+import com.splendor.actions.IAction;
+import com.splendor.actions.human.DiscardTokens;
+import com.splendor.actions.human.NobleVisit;
+import com.splendor.agent.Moves;
+import com.splendor.board.Board;
+import com.splendor.board.BoardView;
+import com.splendor.constants.Messages;
+import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
+import com.splendor.exceptions.CardReaderException;
+import com.splendor.player.Player;
+
+
+/**
+ * The ReferenceEngine class plays the moves of the {@code SplendorEnv}
+ * through the object-based engine of the console game: a {@code Game}
+ * whose players play the actions of the moves, as {@code Moves} lists
+ * them, and whose rules are the ones of the actions.
+ *
+ * The decisions the environment takes on its own are taken the same way
+ * by the players of the game: the first noble the player can receive
+ * visits them. Should the game ask for tokens over the limit, they are
+ * given back the most numerous color first. The game is over on the
+ * same conditions.
+ */
+public class ReferenceEngine implements RuleEngine {
+
+    /**
+     * A player playing the move handed over by the engine.
+     */
+    private static class Scripted extends Player {
+
+        /**
+         * The move to play on the next turn of the player.
+         */
+        private int move;
+
+        /**
+         * Constructs a player named after its index, as the players of
+         * the environment are.
+         *
+         * @param id The index of the player.
+         */
+        private Scripted(int id) {
+            super(MessageFormat.format(Messages.ROBOT, id), id);
+        }
+
+        @Override
+        public IAction chooseAction(BoardView board) {
+            return Moves.get(this.move);
+        }
+
+        @Override
+        public IAction discardToken() {
+            return (board, player) -> {
+                final int excess = player.getNumberResourcesToDiscard();
+                final int[] counts = new int[SplendorEnv.COLORS.length];
+                for (int color = 0; color < counts.length; color++)
+                    counts[color] = player.getNbResource(
+                        SplendorEnv.COLORS[color]);
+                final StringBuilder input = new StringBuilder();
+                for (int index = 0; index < excess; index++) {
+                    int most = 0;
+                    for (int color = 1; color < counts.length; color++)
+                        if (counts[color] > counts[most]) most = color;
+                    counts[most]--;
+                    if (index > 0) input.append(' ');
+                    input.append(Moves.letter(SplendorEnv.COLORS[most]));
+                }
+                return new DiscardTokens().process(
+                    board, player, input.toString());
+            };
+        }
+
+        @Override
+        public IAction nobleVisit(BoardView board) {
+            final NobleVisit visit = new NobleVisit(board);
+            return (on, player) -> {
+                player.watch(on);
+                return player.getVisitingNobles() == 0
+                    || visit.process(on, player, "1");
+            };
+        }
+    }
+
+    /**
+     * The number of players of the games.
+     */
+    private final int playersCount;
+
+    /**
+     * The current game and its players.
+     */
+    private Game game;
+    private Scripted[] players;
+
+    /**
+     * The legal moves of the current player, listed once per turn.
+     */
+    private long legalActions = 0L;
+
+    /**
+     * Constructs an engine for games of the specified number of players,
+     * to be reset before the first step.
+     *
+     * @param playersCount The number of players, between 2 and 4.
+     * @throws IllegalArgumentException If the number of players is not
+     *         within the valid range.
+     */
+    public ReferenceEngine(int playersCount)
+            throws IllegalArgumentException {
+        if (playersCount < 2 || Values.MAX_PLAYERS < playersCount)
+            throw new IllegalArgumentException(Messages.PLAYERS_NUMBER_ERROR);
+        this.playersCount = playersCount;
+    }
+
+    /**
+     * Retrieves the current game.
+     *
+     * @return The game, or {@code null} before the first reset.
+     */
+    public Game getGame() {
+        return this.game;
+    }
+
+    @Override
+    public void reset(long seed) throws CardReaderException {
+        this.players = new Scripted[this.playersCount];
+        for (int index = 0; index < this.playersCount; index++)
+            this.players[index] = new Scripted(index);
+        this.game = new Game(this.players, GameIO.headless(),
+            new Random(seed));
+        this.game.start();
+        this.updateLegalActions();
+    }
+
+    @Override
+    public boolean isDone() {
+        if (this.game.isOver()) return true;
+        final int turn = this.game.getTurn();
+        return turn % this.playersCount == 0
+            && turn >= Values.ENV_MAX_ROUNDS * this.playersCount;
+    }
+
+    @Override
+    public long getLegalActions() {
+        return this.legalActions;
+    }
+
+    @Override
+    public float step(int action)
+            throws IllegalStateException, IllegalArgumentException {
+        if (this.isDone())
+            throw new IllegalStateException(Messages.ENV_GAME_OVER);
+        if (action < 0 || SplendorEnv.ACTIONS <= action
+                || (this.legalActions & 1L << action) == 0)
+            throw new IllegalArgumentException(MessageFormat.format(
+                Messages.ENV_ILLEGAL_ACTION, action));
+        final Scripted player = this.players[
+            this.game.getCurrentPlayer().getId()];
+        final int points = player.getPoints();
+        player.move = action;
+        this.game.advance();
+        this.updateLegalActions();
+        return player.getPoints() - points;
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        RuleEngine.writeState(buffer, this.game.getTurn(),
+            this.game.getCurrentPlayer().getId(), this.game.getBoard(),
+            this.players);
+    }
+
+    /**
+     * Lists the legal moves of the current player, as the actions of the
+     * moves validate them.
+     */
+    private void updateLegalActions() {
+        this.legalActions = this.isDone() ? 0L : Moves.legal(
+            this.game.getBoard(), this.game.getCurrentPlayer());
+    }
+}
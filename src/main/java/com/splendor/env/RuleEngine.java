@@ -0,0 +1,124 @@
+package com.splendor.env;
+
+import java.nio.ByteBuffer;
+
+import com.splendor.board.Board;
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.DevCard;
+import com.splendor.cards.Noble;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.exceptions.CardReaderException;
+import com.splendor.player.Player;
+
+
+/**
+ * Interface for the implementations of the rules of Splendor which play
+ * the moves numbered as the actions of the {@code SplendorEnv}, so that
+ * the {@code DifferentialHarness} can check that they play the same
+ * games, whatever the way they hold their state.
+ *
+ * The state of a game is written in a layout shared by every engine, in
+ * which two engines playing the same game write the same bytes:
+ * <pre>
+ * int    the number of turns played
+ * byte   the index of the current player
+ * byte*6 the tokens of the board, by resource
+ * per deck, from tier 1 to 3:
+ *   short  the number of cards left
+ *   short* the cards, from the bottom of the deck to its top
+ * short*12 the visible cards, tier by tier, -1 for an empty slot
+ * byte   the number of nobles dealt
+ * short* the nobles, -1 for a noble gone
+ * per player:
+ *   byte*6 the tokens, by resource
+ *   short  the points
+ *   short  the number of purchased cards, nobles included
+ *   short* the purchased cards, in the order they were purchased
+ *   short*3 the reserved cards, by slot, -1 for an empty slot
+ * </pre>
+ */
+public interface RuleEngine {
+
+    /**
+     * Starts a new game, dealt from the specified seed as a board shuffled
+     * with {@code new Random(seed)} is.
+     *
+     * @param seed The seed of the game.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public void reset(long seed) throws CardReaderException;
+
+    /**
+     * Checks whether the current game is over.
+     *
+     * @return {@code true} if the game is over, {@code false} otherwise.
+     */
+    public boolean isDone();
+
+    /**
+     * Retrieves the legal moves of the current player.
+     *
+     * @return The bitset of the legal moves, or 0 if the game is over.
+     */
+    public long getLegalActions();
+
+    /**
+     * Plays a move for the current player and passes the turn.
+     *
+     * @param action The identifier of the move, legal for the current
+     *        player.
+     * @return The points won by the player during the turn.
+     * @throws IllegalStateException If the game is over.
+     * @throws IllegalArgumentException If the move is not legal.
+     */
+    public float step(int action)
+        throws IllegalStateException, IllegalArgumentException;
+
+    /**
+     * Writes the state of the current game, in the layout shared by every
+     * engine.
+     *
+     * @param buffer The buffer to write the state into.
+     */
+    public void writeState(ByteBuffer buffer);
+
+    /**
+     * Writes the state of a game held by a board and players, in the
+     * layout shared by every engine.
+     *
+     * @param buffer The buffer to write the state into.
+     * @param turn The number of turns played.
+     * @param currentPlayer The index of the current player.
+     * @param board The board of the game.
+     * @param players The players of the game, in the order of play.
+     */
+    public static void writeState(ByteBuffer buffer, int turn,
+            int currentPlayer, Board board, Player[] players) {
+        buffer.putInt(turn).put((byte) currentPlayer);
+        for (Resource resource : Resource.values())
+            buffer.put((byte) board.getNbResource(resource));
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++) {
+            buffer.putShort((short) board.getDeckSize(tier));
+            for (int index = 0; index < board.getDeckSize(tier); index++)
+                buffer.putShort((short) board.getDeckCardId(tier, index));
+        }
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++)
+            for (int column = 0; column < Values.COLUMN_NUMBER; column++)
+                buffer.putShort((short) board.getCardId(tier, column));
+        final Noble[] nobles = board.getNobles();
+        buffer.put((byte) nobles.length);
+        for (Noble noble : nobles)
+            buffer.putShort((short) CardCatalog.getId(noble));
+        for (Player player : players) {
+            for (Resource resource : Resource.values())
+                buffer.put((byte) player.getNbResource(resource));
+            buffer.putShort((short) player.getPoints());
+            buffer.putShort((short) player.getPurchasedCards().size());
+            for (DevCard card : player.getPurchasedCards())
+                buffer.putShort((short) card.getId());
+            for (int slot = 0; slot < Values.MAX_RESERVED_CARDS; slot++)
+                buffer.putShort((short) player.getReservedId(slot));
+        }
+    }
+}
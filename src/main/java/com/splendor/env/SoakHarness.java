@@ -0,0 +1,461 @@
+package com.splendor.env;
+
+import java.io.PrintStream;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.splendor.board.Board;
+import com.splendor.cards.CardTable;
+import com.splendor.cards.DevCard;
+import com.splendor.constants.Messages;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.exceptions.CardReaderException;
+import com.splendor.player.Player;
+
+
+/**
+ * The SoakHarness class plays random games of Splendor in a training
+ * environment, every move being drawn among the legal ones, and checks
+ * the invariants of the game after every turn:
+ * <ul>
+ * <li>the tokens of the board stay the tokens dealt, as the tokens taken
+ * and paid only change the tokens of the players,</li>
+ * <li>no count of tokens is negative,</li>
+ * <li>no player holds more than {@code MAX_RESERVED_CARDS} cards,</li>
+ * <li>no development card is in two places: a deck, the visible cards,
+ * or the reserved or purchased cards of a player. Cards leave the game
+ * when a noble visits and when a visible card is reserved, as in the
+ * console game.</li>
+ * </ul>
+ *
+ * A game only depends on its seed, which deals the cards and draws the
+ * moves, so that the first violation is reported with the seed and the
+ * moves played until then, which is the shortest prefix of the game
+ * reproducing it. A turn longer than the time bound is reported too.
+ *
+ * Run on its own, the harness plays games with consecutive seeds on
+ * every core, and keeps watching the workers, so that a turn which
+ * never ends is reported while the other workers go on.
+ */
+public class SoakHarness {
+
+    /**
+     * A violation of the invariants, or a turn too long, and the way to
+     * reproduce it.
+     */
+    public static class Violation {
+
+        /**
+         * The seed of the game.
+         */
+        private final long seed;
+
+        /**
+         * The number of players of the game.
+         */
+        private final int playersCount;
+
+        /**
+         * The moves played from the beginning of the game until the
+         * violation, included.
+         */
+        private final int[] moves;
+
+        /**
+         * The description of the violation.
+         */
+        private final String message;
+
+        /**
+         * Constructs a violation.
+         *
+         * @param seed The seed of the game.
+         * @param playersCount The number of players of the game.
+         * @param moves The moves played until the violation, included.
+         * @param message The description of the violation.
+         */
+        public Violation(long seed, int playersCount, int[] moves,
+                String message) {
+            this.seed = seed;
+            this.playersCount = playersCount;
+            this.moves = moves;
+            this.message = message;
+        }
+
+        /**
+         * Retrieves the seed of the game.
+         *
+         * @return The seed.
+         */
+        public long getSeed() {
+            return this.seed;
+        }
+
+        /**
+         * Retrieves the number of players of the game.
+         *
+         * @return The number of players.
+         */
+        public int getPlayersCount() {
+            return this.playersCount;
+        }
+
+        /**
+         * Retrieves the moves played until the violation.
+         *
+         * @return A copy of the moves, in the order they were played.
+         */
+        public int[] getMoves() {
+            return this.moves.clone();
+        }
+
+        /**
+         * Retrieves the description of the violation.
+         *
+         * @return The description.
+         */
+        public String getMessage() {
+            return this.message;
+        }
+
+        @Override
+        public String toString() {
+            final String moves = Arrays.stream(this.moves)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(" "));
+            return MessageFormat.format(Messages.SOAK_VIOLATION,
+                Long.toString(this.seed), this.playersCount, moves,
+                this.message);
+        }
+    }
+
+    /**
+     * The environment playing the games.
+     */
+    private final SplendorEnv env;
+
+    /**
+     * The number of players of the games.
+     */
+    private final int playersCount;
+
+    /**
+     * The time, in nanoseconds, a turn may take.
+     */
+    private final long turnBound;
+
+    /**
+     * The tokens of each color dealt at the beginning of the game.
+     */
+    private final int[] dealt = new int[Resource.values().length];
+
+    /**
+     * The places of the cards seen by the check of the uniqueness.
+     */
+    private boolean[] seen;
+
+    /**
+     * The moves played in the current game.
+     */
+    private final int[] moves =
+        new int[Values.ENV_MAX_ROUNDS * Values.MAX_PLAYERS + 1];
+
+    /**
+     * The seed of the current game, the number of moves played in it,
+     * the time the current turn started at, or 0 between turns, and the
+     * time the last turn reported as never ending started at, shared
+     * with the thread watching the workers.
+     */
+    private volatile long seed;
+    private volatile int played;
+    private volatile long turnStart = 0;
+    private volatile long reported = 0;
+
+    /**
+     * Constructs a harness for games of the specified number of players.
+     *
+     * @param playersCount The number of players, between 2 and 4.
+     * @param turnBound The time, in milliseconds, a turn may take.
+     * @throws IllegalArgumentException If the number of players is not
+     *         within the valid range.
+     */
+    public SoakHarness(int playersCount, long turnBound)
+            throws IllegalArgumentException {
+        this.env = new SplendorEnv(playersCount);
+        this.playersCount = playersCount;
+        this.turnBound = turnBound * 1_000_000;
+    }
+
+    /**
+     * Retrieves the environment playing the games, whose state is the one
+     * of the last move played.
+     *
+     * @return The environment.
+     */
+    public SplendorEnv getEnv() {
+        return this.env;
+    }
+
+    /**
+     * Plays a whole game, every move being drawn among the legal ones.
+     *
+     * @param seed The seed of the game, which deals the cards and draws
+     *        the moves.
+     * @return The first violation of the game, or {@code null} if the
+     *         game ended without any.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public Violation play(long seed) throws CardReaderException {
+        final SplittableRandom random = new SplittableRandom(seed);
+        return this.run(seed, null, random);
+    }
+
+    /**
+     * Plays moves from the beginning of a game, to reproduce a violation.
+     *
+     * @param seed The seed of the game.
+     * @param moves The moves to play, legal in this game.
+     * @return The first violation, or {@code null} if the moves were
+     *         played without any.
+     * @throws CardReaderException If the card catalog cannot be read.
+     * @throws IllegalArgumentException If a move is not legal.
+     */
+    public Violation replay(long seed, int[] moves)
+            throws CardReaderException, IllegalArgumentException {
+        return this.run(seed, moves, null);
+    }
+
+    /**
+     * Plays a game, either replaying moves or drawing them, until the
+     * first violation or the end of the game.
+     *
+     * @param seed The seed of the game.
+     * @param moves The moves to replay, or {@code null} to draw them.
+     * @param random The source of the moves drawn, or {@code null}.
+     * @return The first violation, or {@code null}.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    private Violation run(long seed, int[] moves, SplittableRandom random)
+            throws CardReaderException {
+        this.seed = seed;
+        this.played = 0;
+        this.env.reset(seed);
+        final Board board = this.env.getBoard();
+        for (Resource resource : Resource.values())
+            this.dealt[resource.ordinal()] = board.getNbResource(resource);
+        String message = this.check();
+        while (message == null && !this.env.isDone()) {
+            if (moves != null && this.played == moves.length) return null;
+            final int move = moves != null ? moves[this.played]
+                : SplendorEnv.randomAction(this.env.getLegalActions(), random);
+            this.moves[this.played] = move;
+            final long start = System.nanoTime();
+            this.turnStart = start;
+            this.env.step(move);
+            this.turnStart = 0;
+            this.played++;
+            final long elapsed = System.nanoTime() - start;
+            message = this.check();
+            if (message == null && elapsed > this.turnBound
+                    && start != this.reported)
+                message = MessageFormat.format(Messages.SOAK_SLOW_TURN,
+                    elapsed / 1_000_000);
+        }
+        if (message == null) return null;
+        return new Violation(seed, this.playersCount,
+            Arrays.copyOf(this.moves, this.played), message);
+    }
+
+    /**
+     * Checks the invariants of the current state of the game.
+     *
+     * @return The description of the first violation found, or
+     *         {@code null} if every invariant holds.
+     */
+    public String check() {
+        final Board board = this.env.getBoard();
+        final Player[] players = this.env.getPlayers();
+        for (Resource resource : Resource.values()) {
+            final int total = board.getNbResource(resource);
+            if (total < 0) return MessageFormat.format(
+                Messages.SOAK_NEGATIVE, Messages.SOAK_BOARD, resource, total);
+            if (total != this.dealt[resource.ordinal()])
+                return MessageFormat.format(Messages.SOAK_TOKENS, resource,
+                    total, this.dealt[resource.ordinal()]);
+            for (Player player : players) {
+                final int held = player.getNbResource(resource);
+                if (held < 0) return MessageFormat.format(
+                    Messages.SOAK_NEGATIVE, player, resource, held);
+            }
+        }
+        for (Player player : players) {
+            final int reserved = Integer.bitCount(player.getReservedMask());
+            if (reserved > Values.MAX_RESERVED_CARDS)
+                return MessageFormat.format(
+                    Messages.SOAK_RESERVED, player, reserved);
+        }
+        return this.checkCards(board, players);
+    }
+
+    /**
+     * Checks that no development card is in two places.
+     *
+     * @param board The board of the game.
+     * @param players The players of the game.
+     * @return The description of the violation, or {@code null}.
+     */
+    private String checkCards(Board board, Player[] players) {
+        final CardTable table = board.getTable();
+        if (this.seen == null) this.seen = new boolean[table.size()];
+        Arrays.fill(this.seen, false);
+        int duplicate = CardTable.NONE;
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++)
+            for (int index = 0; index < board.getDeckSize(tier); index++)
+                duplicate = this.see(board.getDeckCardId(tier, index),
+                    duplicate);
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++)
+            for (int column = 0; column < Values.COLUMN_NUMBER; column++) {
+                final int id = board.getCardId(tier, column);
+                if (id == CardTable.NONE) continue;
+                duplicate = this.see(id, duplicate);
+            }
+        for (Player player : players) {
+            for (int slot = 0; slot < Values.MAX_RESERVED_CARDS; slot++) {
+                final int id = player.getReservedId(slot);
+                if (id == CardTable.NONE) continue;
+                duplicate = this.see(id, duplicate);
+            }
+            for (DevCard card : player.getPurchasedCards()) {
+                if (table.isNoble(card.getId())) continue;
+                duplicate = this.see(card.getId(), duplicate);
+            }
+        }
+        if (duplicate == CardTable.NONE) return null;
+        return MessageFormat.format(Messages.SOAK_DUPLICATE, duplicate);
+    }
+
+    /**
+     * Marks a card as seen.
+     *
+     * @param id The identifier of the card.
+     * @param duplicate The first card seen twice so far, or
+     *        {@code CardTable.NONE}.
+     * @return The first card seen twice, including this one.
+     */
+    private int see(int id, int duplicate) {
+        if (this.seen[id] && duplicate == CardTable.NONE) duplicate = id;
+        this.seen[id] = true;
+        return duplicate;
+    }
+
+    /**
+     * Checks whether the turn in progress was reported as never ending,
+     * and has not ended since.
+     *
+     * @return {@code true} if the harness is stuck in the turn.
+     */
+    private boolean isStuck() {
+        final long start = this.turnStart;
+        return start != 0 && start == this.reported;
+    }
+
+    /**
+     * Reports the turn in progress if it has lasted longer than the time
+     * bound, once, the move being played included in the moves reported.
+     *
+     * @param now The current time, from {@code System.nanoTime()}.
+     * @return The violation, or {@code null} if no turn is in progress,
+     *         the turn is within the bound or was already reported.
+     */
+    private Violation checkHung(long now) {
+        final long start = this.turnStart;
+        if (start == 0 || start == this.reported
+                || now - start <= this.turnBound) return null;
+        this.reported = start;
+        final int played = this.played;
+        return new Violation(this.seed, this.playersCount,
+            Arrays.copyOf(this.moves, played + 1), MessageFormat.format(
+                Messages.SOAK_HUNG_TURN, (now - start) / 1_000_000));
+    }
+
+    /**
+     * Plays games with consecutive seeds on several threads, the number
+     * of players going from 2 to 4 with the seed, and reports every
+     * violation as it is found. The thread calling the method watches
+     * the workers, so that it reports a turn which never ends once, and
+     * returns when the other workers are done.
+     *
+     * @param firstSeed The seed of the first game.
+     * @param games The number of games to play.
+     * @param threads The number of threads playing the games.
+     * @param turnBound The time, in milliseconds, a turn may take.
+     * @param out The stream the violations and the summary are printed on.
+     * @return The number of violations found.
+     * @throws InterruptedException If the thread is interrupted while
+     *         waiting for the workers.
+     */
+    public static int run(long firstSeed, long games, int threads,
+            long turnBound, PrintStream out) throws InterruptedException {
+        final AtomicLong turns = new AtomicLong();
+        final AtomicLong violations = new AtomicLong();
+        final long start = System.nanoTime();
+        final Workers<SoakHarness> workers = new Workers<SoakHarness>(
+            "soak", threads, players -> new SoakHarness(players, turnBound),
+            firstSeed, games, (harness, seed) -> {
+                final Violation violation = harness.play(seed);
+                turns.addAndGet(harness.played);
+                if (violation == null) return;
+                violations.incrementAndGet();
+                out.println(violation);
+            });
+        // Watch the workers until each one is done or stuck in a turn.
+        for (boolean done = false; !done;) {
+            done = true;
+            for (int index = 0; index < threads; index++) {
+                final Thread worker = workers.getThread(index);
+                worker.join(Math.max(1, turnBound));
+                if (!worker.isAlive()) continue;
+                for (SoakHarness harness : workers.getHarnesses(index)) {
+                    final Violation violation =
+                        harness.checkHung(System.nanoTime());
+                    if (violation == null) continue;
+                    violations.incrementAndGet();
+                    out.println(violation);
+                }
+                boolean stuck = false;
+                for (SoakHarness harness : workers.getHarnesses(index))
+                    stuck |= harness.isStuck();
+                done &= stuck;
+            }
+        }
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        out.println(MessageFormat.format(Messages.SOAK_REPORT,
+            workers.getStarted(), turns.get(), threads, elapsed,
+            violations.get()));
+        return (int) violations.get();
+    }
+
+    /**
+     * Plays random games on every core, and reports the violations of
+     * the invariants.
+     *
+     * @param args Optionally the number of games, the seed of the first
+     *        game, the time bound of a turn in milliseconds and the
+     *        number of threads.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        final long games =
+            args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        final long turnBound =
+            args.length > 2 ? Long.parseLong(args[2]) : 1000;
+        final int threads = args.length > 3 ? Integer.parseInt(args[3])
+            : Runtime.getRuntime().availableProcessors();
+        SoakHarness.run(seed, games, threads, turnBound, System.out);
+    }
+}
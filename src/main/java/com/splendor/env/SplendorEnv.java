@@ -0,0 +1,465 @@
+package com.splendor.env;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.text.MessageFormat;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import com.splendor.Game;
+import com.splendor.board.Board;
+import com.splendor.board.Resources;
+import com.splendor.cards.CardTable;
+import com.splendor.cards.DevCard;
+import com.splendor.cards.Noble;
+import com.splendor.constants.Messages;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.encoding.ObservationEncoder;
+import com.splendor.exceptions.CardReaderException;
+import com.splendor.player.Player;
+import com.splendor.player.RobotPlayer;
+
+
+/**
+ * The SplendorEnv class is a training environment over one game of
+ * Splendor, played in self-play: every action is taken by the current
+ * player, whose perspective the observation and the legal actions follow.
+ *
+ * A turn is one discrete action out of {@link #ACTIONS}, so that the legal
+ * actions fit a single {@code long} bitset:
+ * <pre>
+ *  0..9   take three tokens of different colors (see {@link #COLORS})
+ * 10..14  take two tokens of the same color
+ * 15..26  buy the visible card of tier row * 4 + column
+ * 27..29  buy the reserved card of a slot
+ * 30..41  reserve the visible card of tier row * 4 + column
+ * 42..44  reserve the top card of a deck
+ * 45      pass
+ * </pre>
+ *
+ * The state is held by a {@code Board} and {@code Player} objects, and an
+ * action is legal and played as the action of the console game is: the
+ * tokens taken and paid only change the tokens of the player, and the
+ * first noble the player can receive visits them, so that a turn never
+ * needs a second decision. Where the console game fails to reserve a
+ * visible card of a tier whose deck is empty, the slot is left empty.
+ */
+public class SplendorEnv implements RuleEngine {
+
+    /**
+     * Offsets of the kinds of actions, and number of actions.
+     */
+    public static final int TAKE_DIFFERENT = 0;
+    public static final int TAKE_SAME = 10;
+    public static final int BUY_VISIBLE = 15;
+    public static final int BUY_RESERVED = 27;
+    public static final int RESERVE_VISIBLE = 30;
+    public static final int RESERVE_DECK = 42;
+    public static final int PASS = 45;
+    public static final int ACTIONS = 46;
+
+    /**
+     * The colors of tokens which can be taken, i.e. every resource but
+     * the joker.
+     */
+    public static final Resource[] COLORS = {
+        Resource.DIAMOND, Resource.SAPPHIRE, Resource.EMERALD,
+        Resource.ONYX, Resource.RUBY
+    };
+
+    /**
+     * The combinations of three different colors, indexed by action.
+     */
+    private static final Resource[][] COMBINATIONS =
+        SplendorEnv.combinations();
+
+    /**
+     * The number of players of the games.
+     */
+    private final int playersCount;
+
+    /**
+     * The source of randomness dealing the cards, seeded on reset.
+     */
+    private final Random random = new Random();
+
+    /**
+     * The board and the players of the current game.
+     */
+    private Board board;
+    private Player[] players;
+
+    /**
+     * The index of the current player, and the number of turns played.
+     */
+    private int currentPlayer;
+    private int turn;
+
+    /**
+     * Whether the current game is over.
+     */
+    private boolean done = true;
+
+    /**
+     * The legal actions of the current player, as a bitset.
+     */
+    private long legalActions = 0L;
+
+    /**
+     * The bonuses of the current player, by color, updated along with
+     * the legal actions.
+     */
+    private final int[] bonuses = new int[COLORS.length];
+
+    /**
+     * The tokens of the board, by color, read once to compute the legal
+     * actions.
+     */
+    private final int[] supply = new int[COLORS.length];
+
+    /**
+     * The encoder of the observations.
+     */
+    private final ObservationEncoder encoder = new ObservationEncoder();
+
+    /**
+     * Constructs an environment for games of the specified number of
+     * players, to be reset before the first step.
+     *
+     * @param playersCount The number of players, between 2 and 4.
+     * @throws IllegalArgumentException If the number of players is not
+     *         within the valid range.
+     */
+    public SplendorEnv(int playersCount) throws IllegalArgumentException {
+        if (playersCount < 2 || Values.MAX_PLAYERS < playersCount)
+            throw new IllegalArgumentException(Messages.PLAYERS_NUMBER_ERROR);
+        this.playersCount = playersCount;
+    }
+
+    /**
+     * Starts a new game, dealt from the specified seed.
+     *
+     * @param seed The seed of the game: the same seed always deals the
+     *        same game.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public void reset(long seed) throws CardReaderException {
+        this.random.setSeed(seed);
+        this.board = new Board(this.playersCount, this.random);
+        Game.setDefaultResources(this.board, this.playersCount);
+        this.players = new Player[this.playersCount];
+        for (int index = 0; index < this.playersCount; index++) {
+            this.players[index] = new RobotPlayer(
+                MessageFormat.format(Messages.ROBOT, index), index);
+            this.players[index].watch(this.board);
+        }
+        this.currentPlayer = 0;
+        this.turn = 0;
+        this.done = false;
+        this.updateLegalActions();
+    }
+
+    /**
+     * Plays an action for the current player and passes the turn.
+     *
+     * @param action The identifier of the action, legal for the current
+     *        player.
+     * @return The reward of the player who played, i.e. the points won
+     *         during the turn.
+     * @throws IllegalStateException If the game is over.
+     * @throws IllegalArgumentException If the action is not legal.
+     */
+    public float step(int action)
+            throws IllegalStateException, IllegalArgumentException {
+        if (this.done)
+            throw new IllegalStateException(Messages.ENV_GAME_OVER);
+        if (action < 0 || ACTIONS <= action
+                || (this.legalActions & 1L << action) == 0)
+            throw new IllegalArgumentException(MessageFormat.format(
+                Messages.ENV_ILLEGAL_ACTION, action));
+        final Player player = this.players[this.currentPlayer];
+        final int points = player.getPoints();
+        this.play(player, action);
+        this.nobleVisit(player);
+        this.turn++;
+        this.currentPlayer = (this.currentPlayer + 1) % this.playersCount;
+        if (this.currentPlayer == 0) this.done = this.isGameOver();
+        this.updateLegalActions();
+        return player.getPoints() - points;
+    }
+
+    /**
+     * Checks whether the current game is over.
+     *
+     * @return {@code true} if the game is over and must be reset,
+     *         {@code false} otherwise.
+     */
+    public boolean isDone() {
+        return this.done;
+    }
+
+    /**
+     * Retrieves the legal actions of the current player.
+     *
+     * @return The bitset of the legal actions, bit {@code n} being set if
+     *         action {@code n} is legal, or 0 if the game is over.
+     */
+    public long getLegalActions() {
+        return this.legalActions;
+    }
+
+    /**
+     * Draws an action among the legal ones, all being as likely, as the
+     * random games of the harnesses do.
+     *
+     * @param legal The bitset of the legal actions, never empty.
+     * @param random The source of randomness.
+     * @return The action drawn.
+     */
+    public static int randomAction(long legal, SplittableRandom random) {
+        int pick = random.nextInt(Long.bitCount(legal));
+        for (; pick > 0; pick--) legal &= legal - 1;
+        return Long.numberOfTrailingZeros(legal);
+    }
+
+    /**
+     * Writes the observation of the current player at the position of a
+     * buffer, as laid out by the {@code ObservationEncoder}.
+     *
+     * @param out The buffer, with at least
+     *        {@code ObservationEncoder.SIZE} floats remaining.
+     */
+    public void observe(FloatBuffer out) {
+        this.encoder.encode(
+            this.board, this.players, this.currentPlayer, out);
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        RuleEngine.writeState(buffer, this.turn, this.currentPlayer,
+            this.board, this.players);
+    }
+
+    /**
+     * Retrieves the board of the current game.
+     *
+     * @return The board.
+     */
+    public Board getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Retrieves the players of the current game.
+     *
+     * @return The players, indexed by their identifier.
+     */
+    public Player[] getPlayers() {
+        return this.players;
+    }
+
+    /**
+     * Retrieves the index of the current player.
+     *
+     * @return The index of the player who plays the next step.
+     */
+    public int getCurrentPlayer() {
+        return this.currentPlayer;
+    }
+
+    /**
+     * Retrieves the number of turns played in the current game.
+     *
+     * @return The number of turns.
+     */
+    public int getTurn() {
+        return this.turn;
+    }
+
+    /**
+     * Retrieves the bonuses of the current player, by color.
+     *
+     * @param color The index of the color in {@link #COLORS}.
+     * @return The number of purchased cards with this bonus.
+     */
+    public int getBonus(int color) {
+        return this.bonuses[color];
+    }
+
+    /**
+     * Applies an action of the current player to the board.
+     *
+     * @param player The current player.
+     * @param action The identifier of the legal action.
+     */
+    private void play(Player player, int action) {
+        if (action < TAKE_SAME) {
+            for (Resource color : COMBINATIONS[action - TAKE_DIFFERENT])
+                this.takeTokens(player, color, Values.DIFF_TOKEN_NUMBER);
+        } else if (action < BUY_VISIBLE) {
+            final Resource color = COLORS[action - TAKE_SAME];
+            this.takeTokens(player, color, Values.SAME_TOKEN_NUMBER);
+        } else if (action < BUY_RESERVED) {
+            final int slot = action - BUY_VISIBLE;
+            final int tier = slot / Values.COLUMN_NUMBER;
+            final int column = slot % Values.COLUMN_NUMBER;
+            final DevCard card = this.board.getCard(tier, column);
+            this.board.updateCard(card, tier, column);
+            this.buyCard(player, card);
+        } else if (action < RESERVE_VISIBLE) {
+            final int slot = action - BUY_RESERVED;
+            this.buyCard(player, player.removeReservedCard(slot));
+        } else if (action < RESERVE_DECK) {
+            final int slot = action - RESERVE_VISIBLE;
+            final int tier = slot / Values.COLUMN_NUMBER;
+            final int column = slot % Values.COLUMN_NUMBER;
+            final DevCard card = this.board.getCard(tier, column);
+            // The console game draws the card of the slot first, and
+            // loses it.
+            final DevCard drawn = this.board.drawCard(tier + 1);
+            this.board.updateCard(drawn != null ? drawn : card, tier, column);
+            this.reserveCard(player, card);
+        } else if (action < PASS) {
+            final int tier = action - RESERVE_DECK + 1;
+            this.reserveCard(player, this.board.drawCard(tier));
+        }
+    }
+
+    /**
+     * Gives tokens of a color to a player.
+     *
+     * @param player The player taking the tokens.
+     * @param color The color of the tokens.
+     * @param quantity The number of tokens.
+     */
+    private void takeTokens(Player player, Resource color, int quantity) {
+        player.updateNbResource(color, quantity);
+    }
+
+    /**
+     * Adds a card to the purchased cards of a player, who pays its full
+     * cost out of their tokens, down to none.
+     *
+     * @param player The player buying the card.
+     * @param card The card, affordable by the player.
+     */
+    private void buyCard(Player player, DevCard card) {
+        player.addPurchasedCard(card);
+        player.updatePoints(card);
+        final CardTable table = this.board.getTable();
+        for (Resource color : COLORS)
+            player.updateNbResource(color,
+                -table.getCost(card.getId(), color));
+    }
+
+    /**
+     * Adds a card to the reserved cards of a player, who receives a joker.
+     *
+     * @param player The player reserving the card.
+     * @param card The card to reserve.
+     */
+    private void reserveCard(Player player, DevCard card) {
+        player.addReservedCard(card);
+        this.takeTokens(player, Resource.JOKER, 1);
+    }
+
+    /**
+     * Lets the first noble whose cost is covered by the bonuses of a
+     * player visit them, in exchange for the purchased cards covering
+     * its cost. The noble stays on the board.
+     *
+     * @param player The player who has just played.
+     */
+    private void nobleVisit(Player player) {
+        final int visiting = player.getVisitingNobles();
+        if (visiting == 0) return;
+        final Noble noble = this.board.getNobles()[
+            Integer.numberOfTrailingZeros(visiting)];
+        player.addPurchasedCard(noble);
+        final Resources cost = noble.getCost();
+        for (Resource resource : cost.getAvailableResources())
+            for (int index = cost.getNbResource(resource); index > 0; index--)
+                player.removePurchasedCard(resource);
+        player.updatePoints(noble);
+    }
+
+    /**
+     * Checks whether the game is over, at the end of a round: a player
+     * reached the points to win, or the maximum number of rounds is played.
+     *
+     * @return {@code true} if the game is over, {@code false} otherwise.
+     */
+    private boolean isGameOver() {
+        if (this.turn >= Values.ENV_MAX_ROUNDS * this.playersCount)
+            return true;
+        for (Player player : this.players)
+            if (player.getPoints() >= Values.WIN_THRESHOLD) return true;
+        return false;
+    }
+
+    /**
+     * Computes the legal actions of the current player.
+     */
+    private void updateLegalActions() {
+        if (this.done) {
+            this.legalActions = 0L;
+            return;
+        }
+        final Player player = this.players[this.currentPlayer];
+        this.updateBonuses(player);
+        for (int color = 0; color < COLORS.length; color++)
+            this.supply[color] = this.board.getNbResource(COLORS[color]);
+        long legal = 1L << PASS;
+        // Same rules as Board.canGiveDiffTokens and canGiveSameTokens.
+        for (int index = 0; index < COMBINATIONS.length; index++) {
+            boolean canGive = true;
+            for (Resource color : COMBINATIONS[index])
+                canGive &= this.supply[color.ordinal()]
+                    >= Values.DIFF_TOKEN_NUMBER;
+            if (canGive) legal |= 1L << TAKE_DIFFERENT + index;
+        }
+        for (int color = 0; color < COLORS.length; color++)
+            if (this.supply[color] >= Values.REQUIRED_RESOURCES)
+                legal |= 1L << TAKE_SAME + color;
+        // The affordable cards are numbered as the actions buying them.
+        legal |= (long) player.getAffordableCards() << BUY_VISIBLE;
+        final boolean canReserve = player.canReserveCard();
+        for (int slot = 0; slot < BUY_RESERVED - BUY_VISIBLE; slot++)
+            if (canReserve && this.board.getCard(slot / Values.COLUMN_NUMBER,
+                    slot % Values.COLUMN_NUMBER) != null)
+                legal |= 1L << RESERVE_VISIBLE + slot;
+        for (int tier = 1; tier <= Values.TIER_NUMBER && canReserve; tier++)
+            if (this.board.getDeckSize(tier) > 0)
+                legal |= 1L << RESERVE_DECK + tier - 1;
+        this.legalActions = legal;
+    }
+
+    /**
+     * Reads the bonuses of a player, by color.
+     *
+     * @param player The player whose bonuses are read.
+     */
+    private void updateBonuses(Player player) {
+        for (int color = 0; color < COLORS.length; color++)
+            this.bonuses[color] = player.getResFromCards(COLORS[color]);
+    }
+
+    /**
+     * Lists the combinations of three different colors, in lexicographic
+     * order of their indexes in {@link #COLORS}.
+     *
+     * @return The combinations of colors.
+     */
+    private static Resource[][] combinations() {
+        final Resource[][] combinations = new Resource[10][];
+        int index = 0;
+        for (int first = 0; first < COLORS.length; first++)
+            for (int second = first + 1; second < COLORS.length; second++)
+                for (int third = second + 1; third < COLORS.length; third++)
+                    combinations[index++] = new Resource[] {
+                        COLORS[first], COLORS[second], COLORS[third]
+                    };
+        return combinations;
+    }
+}
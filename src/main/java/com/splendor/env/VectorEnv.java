@@ -0,0 +1,280 @@
+package com.splendor.env;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.splendor.constants.Values;
+import com.splendor.encoding.ObservationEncoder;
+import com.splendor.exceptions.CardReaderException;
+
+
+/**
+ * The VectorEnv class steps many independent games of Splendor in
+ * lock-step: one call plays one action in every game, the games being
+ * split in ranges stepped in parallel by a pool of workers.
+ *
+ * The results are written into arrays allocated once, game {@code n}
+ * owning the floats {@code n * ObservationEncoder.SIZE} to
+ * {@code (n + 1) * ObservationEncoder.SIZE - 1} of the observations, and the
+ * entries {@code n} of the legal actions, rewards and end flags. A game
+ * which is over is reset right away with the next seed of its sequence,
+ * so that its observation is the first one of a new game; the seeds only
+ * depend on the seed of {@link #reset(long)}, not on the workers.
+ */
+public class VectorEnv {
+
+    /**
+     * The environments of the games.
+     */
+    private final SplendorEnv[] envs;
+
+    /**
+     * The number of games each environment has started since the reset.
+     */
+    private final long[] episodes;
+
+    /**
+     * The observations, legal actions, rewards and end flags of the games.
+     */
+    private final float[] observations;
+    private final long[] legalActions;
+    private final float[] rewards;
+    private final boolean[] dones;
+
+    /**
+     * The view of each game over its floats of the observations.
+     */
+    private final FloatBuffer[] views;
+
+    /**
+     * The pool of workers stepping the games.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The seed of the last reset.
+     */
+    private long seed;
+
+    /**
+     * Constructs environments stepped by the common pool.
+     *
+     * @param count The number of games.
+     * @param playersCount The number of players of each game.
+     * @throws IllegalArgumentException If the number of players is not
+     *         between 2 and 4.
+     */
+    public VectorEnv(int count, int playersCount)
+            throws IllegalArgumentException {
+        this(count, playersCount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs environments stepped by the specified pool.
+     *
+     * @param count The number of games.
+     * @param playersCount The number of players of each game.
+     * @param pool The pool of workers stepping the games.
+     * @throws IllegalArgumentException If the number of players is not
+     *         between 2 and 4.
+     */
+    public VectorEnv(int count, int playersCount, ForkJoinPool pool)
+            throws IllegalArgumentException {
+        this.envs = new SplendorEnv[count];
+        for (int index = 0; index < count; index++)
+            this.envs[index] = new SplendorEnv(playersCount);
+        this.episodes = new long[count];
+        this.observations = new float[count * ObservationEncoder.SIZE];
+        this.legalActions = new long[count];
+        this.rewards = new float[count];
+        this.dones = new boolean[count];
+        this.views = new FloatBuffer[count];
+        for (int index = 0; index < count; index++)
+            this.views[index] = FloatBuffer.wrap(this.observations,
+                index * ObservationEncoder.SIZE,
+                ObservationEncoder.SIZE).slice();
+        this.pool = pool;
+    }
+
+    /**
+     * Starts a new game in every environment, game {@code n} being dealt
+     * from the seed {@code seed + n}.
+     *
+     * @param seed The seed of the games.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public void reset(long seed) throws CardReaderException {
+        this.seed = seed;
+        for (int index = 0; index < this.envs.length; index++) {
+            this.episodes[index] = 0;
+            this.rewards[index] = 0f;
+            this.dones[index] = false;
+            this.start(index);
+        }
+    }
+
+    /**
+     * Plays one action in every game and waits for all of them.
+     *
+     * @param actions The action of each game, legal for its current
+     *        player.
+     * @throws IllegalStateException If the environments were not reset.
+     * @throws IllegalArgumentException If an action is not legal.
+     */
+    public void step(int[] actions)
+            throws IllegalStateException, IllegalArgumentException {
+        this.pool.invoke(new StepTask(actions, 0, this.envs.length));
+    }
+
+    /**
+     * Retrieves the number of games.
+     *
+     * @return The number of games.
+     */
+    public int size() {
+        return this.envs.length;
+    }
+
+    /**
+     * Retrieves the environment of a game.
+     *
+     * @param index The index of the game.
+     * @return The environment of the game.
+     */
+    public SplendorEnv getEnv(int index) {
+        return this.envs[index];
+    }
+
+    /**
+     * Retrieves the observations of the games, from the perspective of
+     * their current player.
+     *
+     * @return The observations, {@code ObservationEncoder.SIZE} floats
+     *         per game.
+     */
+    public float[] getObservations() {
+        return this.observations;
+    }
+
+    /**
+     * Retrieves the legal actions of the current player of each game.
+     *
+     * @return The bitsets of the legal actions, one per game.
+     */
+    public long[] getLegalActions() {
+        return this.legalActions;
+    }
+
+    /**
+     * Retrieves the rewards of the last step.
+     *
+     * @return The reward of the player who played in each game.
+     */
+    public float[] getRewards() {
+        return this.rewards;
+    }
+
+    /**
+     * Retrieves the games which ended during the last step, and were
+     * reset since.
+     *
+     * @return For each game, {@code true} if it ended on the last step.
+     */
+    public boolean[] getDones() {
+        return this.dones;
+    }
+
+    /**
+     * Starts the next game of an environment and writes its observation.
+     *
+     * @param index The index of the environment.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    private void start(int index) throws CardReaderException {
+        final long episode = this.episodes[index]++;
+        this.envs[index].reset(
+            this.seed + index + episode * this.envs.length);
+        this.observe(index);
+    }
+
+    /**
+     * Writes the observation and the legal actions of a game.
+     *
+     * @param index The index of the game.
+     */
+    private void observe(int index) {
+        final SplendorEnv env = this.envs[index];
+        env.observe(this.views[index].clear());
+        this.legalActions[index] = env.getLegalActions();
+    }
+
+    /**
+     * The StepTask class steps a range of games, splitting it in halves
+     * stepped in parallel while it is larger than {@code ENV_SLICE_SIZE}.
+     */
+    private class StepTask extends RecursiveAction {
+
+        /**
+         * Serial version of the task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The actions of all the games.
+         */
+        private final int[] actions;
+
+        /**
+         * The range of games stepped, end excluded.
+         */
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructs a task stepping a range of games.
+         *
+         * @param actions The actions of all the games.
+         * @param from The index of the first game.
+         * @param to The index after the last game.
+         */
+        private StepTask(int[] actions, int from, int to) {
+            this.actions = actions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > Values.ENV_SLICE_SIZE) {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new StepTask(this.actions, this.from, middle),
+                    new StepTask(this.actions, middle, this.to));
+                return;
+            }
+            for (int index = this.from; index < this.to; index++)
+                this.step(index);
+        }
+
+        /**
+         * Steps a game, and starts the next one if it is over.
+         *
+         * @param index The index of the game.
+         */
+        private void step(int index) {
+            final SplendorEnv env = VectorEnv.this.envs[index];
+            VectorEnv.this.rewards[index] = env.step(this.actions[index]);
+            VectorEnv.this.dones[index] = env.isDone();
+            if (!env.isDone()) {
+                VectorEnv.this.observe(index);
+                return;
+            }
+            try {
+                VectorEnv.this.start(index);
+            } catch (CardReaderException exception) {
+                // Not expected: the catalog was read by the reset.
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.splendor.env;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import com.splendor.constants.Values;
+import com.splendor.exceptions.CardReaderException;
+
+
+/**
+ * The Workers class plays games with consecutive seeds on several
+ * threads, the number of players going from 2 to 4 with the seed, for the
+ * harnesses run on their own. Every thread owns one harness per number of
+ * players, and takes the next seed as soon as its game is over.
+ *
+ * @param <T> The type of the harnesses playing the games.
+ */
+final class Workers<T> {
+
+    /**
+     * A game played by a harness of a worker.
+     *
+     * @param <T> The type of the harnesses.
+     */
+    @FunctionalInterface
+    interface Game<T> {
+
+        /**
+         * Plays a game.
+         *
+         * @param harness The harness of the worker for the number of
+         *        players of the game.
+         * @param seed The seed of the game.
+         * @throws CardReaderException If the card catalog cannot be read.
+         */
+        void play(T harness, long seed) throws CardReaderException;
+    }
+
+    /**
+     * The index of the next game to play, and the number of games.
+     */
+    private final AtomicLong next = new AtomicLong();
+    private final long games;
+
+    /**
+     * The harnesses of the workers, by number of players from 2.
+     */
+    private final List<List<T>> harnesses = new ArrayList<List<T>>();
+
+    /**
+     * The threads of the workers.
+     */
+    private final Thread[] threads;
+
+    /**
+     * Starts the workers.
+     *
+     * @param name The name of the threads, followed by their index.
+     * @param threads The number of threads playing the games.
+     * @param harness The factory of the harnesses, by number of players.
+     * @param firstSeed The seed of the first game.
+     * @param games The number of games to play.
+     * @param game The game played by the harnesses.
+     */
+    Workers(String name, int threads, IntFunction<T> harness,
+            long firstSeed, long games, Game<T> game) {
+        this.games = games;
+        this.threads = new Thread[threads];
+        for (int index = 0; index < threads; index++) {
+            final List<T> own = new ArrayList<T>();
+            for (int players = 2; players <= Values.MAX_PLAYERS; players++)
+                own.add(harness.apply(players));
+            this.harnesses.add(own);
+            this.threads[index] = new Thread(() -> {
+                for (long played; (played = this.next.getAndIncrement())
+                        < games;) {
+                    final long seed = firstSeed + played;
+                    try {
+                        game.play(own.get(Math.floorMod(seed, own.size())),
+                            seed);
+                    } catch (CardReaderException exception) {
+                        throw new IllegalStateException(exception);
+                    }
+                }
+            }, name + "-" + index);
+            // A worker stuck in a game does not keep the JVM running.
+            this.threads[index].setDaemon(true);
+            this.threads[index].start();
+        }
+    }
+
+    /**
+     * Retrieves the number of threads of the workers.
+     *
+     * @return The number of workers.
+     */
+    int size() {
+        return this.threads.length;
+    }
+
+    /**
+     * Retrieves the thread of a worker.
+     *
+     * @param index The index of the worker.
+     * @return The thread of the worker.
+     */
+    Thread getThread(int index) {
+        return this.threads[index];
+    }
+
+    /**
+     * Retrieves the harnesses of a worker.
+     *
+     * @param index The index of the worker.
+     * @return The harnesses, by number of players from 2.
+     */
+    List<T> getHarnesses(int index) {
+        return this.harnesses.get(index);
+    }
+
+    /**
+     * Retrieves the number of games started by the workers.
+     *
+     * @return The number of games started.
+     */
+    long getStarted() {
+        return Math.min(this.next.get(), this.games);
+    }
+
+    /**
+     * Waits for every worker to be done.
+     *
+     * @throws InterruptedException If the thread is interrupted while
+     *         waiting.
+     */
+    void join() throws InterruptedException {
+        for (Thread thread : this.threads) thread.join();
+    }
+}
@@ -0,0 +1,257 @@
+package com.splendor.evaluation;
+
+import java.util.Arrays;
+
+import com.splendor.board.Board;
+import com.splendor.cards.CardTable;
+import com.splendor.constants.Messages;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+
+
+/**
+ * The AffordabilityBatch class evaluates at once what every player of a 
+ * game can buy: for every player and card, the tokens missing in each 
+ * color, the jokers needed to cover them, and whether the player holds 
+ * that many jokers. The card slots of a player are the visible cards, 
+ * then their reserved cards, numbered as in 
+ * {@code Player.getAffordableCards}.
+ *
+ * The costs are gathered from the card table into one row of bytes per 
+ * player and color, so that the computation runs with the vector API 
+ * when the {@code jdk.incubator.vector} module is present, and one slot 
+ * at a time otherwise. A batch is reusable, but not thread-safe.
+ */
+public class AffordabilityBatch {
+
+    /**
+     * Number of lanes per player and color, covering the card slots.
+     */
+    public static final int LANES = 16;
+
+    /**
+     * Number of colors of tokens, the first resources by ordinal.
+     */
+    public static final int COLORS = Resource.values().length - 1;
+
+    /**
+     * Number of card slots of a player: the visible and reserved cards.
+     */
+    public static final int SLOTS = 
+        Values.VISIBLE_CARDS + Values.MAX_RESERVED_CARDS;
+
+    /**
+     * The resources, in the order of their ordinals.
+     */
+    private static final Resource[] RESOURCES = Resource.values();
+
+    /**
+     * The computation of the batches, vectorized if possible.
+     */
+    private static final AffordabilityKernel KERNEL = 
+        AffordabilityBatch.loadKernel();
+
+    /**
+     * The maximum number of players.
+     */
+    private final int capacity;
+
+    /**
+     * The inputs: costs by player, color and slot; tokens plus bonuses by 
+     * player and color; jokers by player.
+     */
+    private final byte[] costs;
+    private final byte[] owned;
+    private final byte[] jokers;
+
+    /**
+     * The outputs: tokens missing by player, color and slot; jokers 
+     * needed by player and slot; mask of the affordable slots by player.
+     */
+    private final byte[] shortfalls;
+    private final byte[] needed;
+    private final int[] masks;
+
+    /**
+     * The mask of the slots holding a card, by player.
+     */
+    private final int[] presence;
+
+    /**
+     * The number of players of the last evaluation.
+     */
+    private int players = 0;
+
+    /**
+     * Constructs a batch for games of up to the specified number of 
+     * players.
+     *
+     * @param capacity The maximum number of players.
+     */
+    public AffordabilityBatch(int capacity) {
+        this.capacity = capacity;
+        this.costs = new byte[capacity * COLORS * LANES];
+        this.owned = new byte[capacity * COLORS];
+        this.jokers = new byte[capacity];
+        this.shortfalls = new byte[capacity * COLORS * LANES];
+        this.needed = new byte[capacity * LANES];
+        this.masks = new int[capacity];
+        this.presence = new int[capacity];
+    }
+
+    /**
+     * Constructs a batch for games of any number of players.
+     */
+    public AffordabilityBatch() {
+        this(Values.MAX_PLAYERS);
+    }
+
+    /**
+     * Checks whether the batches are computed with the vector API.
+     *
+     * @return {@code true} if the vector API is used, {@code false} if 
+     *         the scalar fallback is.
+     */
+    public static boolean isVectorized() {
+        return !(KERNEL instanceof ScalarAffordability);
+    }
+
+    /**
+     * Evaluates what every player can buy on a board.
+     *
+     * @param board The board of the game.
+     * @param players The players of the game.
+     * @throws IllegalArgumentException If there are more players than 
+     *         the capacity of the batch.
+     */
+    public void evaluate(Board board, Player[] players) 
+            throws IllegalArgumentException {
+        if (players.length > this.capacity)
+            throw new IllegalArgumentException(Messages.PLAYERS_NUMBER_ERROR);
+        final CardTable table = board.getTable();
+        this.players = players.length;
+        Arrays.fill(this.costs, 0, players.length * COLORS * LANES, 
+            (byte) 0);
+        int present = 0;
+        for (int slot = 0; slot < Values.VISIBLE_CARDS; slot++) {
+            final int id = board.getCardId(slot / Values.COLUMN_NUMBER, 
+                slot % Values.COLUMN_NUMBER);
+            if (id < 0) continue;
+            present |= 1 << slot;
+            for (int player = 0; player < players.length; player++)
+                this.putCost(table, id, player, slot);
+        }
+        for (int player = 0; player < players.length; player++) {
+            int mask = present;
+            for (int index = 0; index < Values.MAX_RESERVED_CARDS; index++) {
+                final int id = players[player].getReservedId(index);
+                if (id < 0) continue;
+                mask |= 1 << Values.VISIBLE_CARDS + index;
+                this.putCost(table, id, player, Values.VISIBLE_CARDS + index);
+            }
+            for (int color = 0; color < COLORS; color++)
+                this.owned[player * COLORS + color] = saturate(
+                    players[player].getNbResource(RESOURCES[color])
+                    + players[player].getResFromCards(RESOURCES[color]));
+            this.jokers[player] = saturate(
+                players[player].getNbResource(Resource.JOKER));
+            this.presence[player] = mask;
+        }
+        KERNEL.evaluate(players.length, this.costs, this.owned, this.jokers,
+            this.shortfalls, this.needed, this.masks);
+        for (int player = 0; player < players.length; player++)
+            this.masks[player] &= this.presence[player];
+    }
+
+    /**
+     * Retrieves the mask of the cards a player can afford, counting 
+     * their jokers, as of the last evaluation.
+     *
+     * @param player The index of the player.
+     * @return The mask of the affordable slots.
+     */
+    public int getAffordableCards(int player) {
+        return this.masks[player];
+    }
+
+    /**
+     * Retrieves the number of tokens of a color a player misses to buy 
+     * the card of a slot, as of the last evaluation.
+     *
+     * @param player The index of the player.
+     * @param slot The slot of the card.
+     * @param color The color.
+     * @return The number of tokens missing, 0 for an empty slot.
+     */
+    public int getShortfall(int player, int slot, Resource color) {
+        return this.shortfalls[
+            (player * COLORS + color.ordinal()) * LANES + slot];
+    }
+
+    /**
+     * Retrieves the number of jokers a player needs to buy the card of a 
+     * slot, as of the last evaluation.
+     *
+     * @param player The index of the player.
+     * @param slot The slot of the card.
+     * @return The number of jokers needed, 0 for an empty slot.
+     */
+    public int getJokersNeeded(int player, int slot) {
+        return this.needed[player * LANES + slot];
+    }
+
+    /**
+     * Retrieves the number of players of the last evaluation.
+     *
+     * @return The number of players.
+     */
+    public int getPlayers() {
+        return this.players;
+    }
+
+    /**
+     * Writes the cost of a card into the lanes of a slot of a player.
+     *
+     * @param table The table of the cards.
+     * @param id The identifier of the card.
+     * @param player The index of the player.
+     * @param slot The slot of the card.
+     */
+    private void putCost(CardTable table, int id, int player, int slot) {
+        final long cost = table.getCost(id);
+        for (int color = 0; color < COLORS; color++)
+            this.costs[(player * COLORS + color) * LANES + slot] = 
+                (byte) (cost >>> Byte.SIZE * color);
+    }
+
+    /**
+     * Limits a quantity to a byte lane, where it must stay positive.
+     *
+     * @param quantity The quantity.
+     * @return The quantity, at most {@code Byte.MAX_VALUE}.
+     */
+    private static byte saturate(int quantity) {
+        return (byte) Math.min(quantity, Byte.MAX_VALUE);
+    }
+
+    /**
+     * Loads the vectorized computation if the vector API is present, or 
+     * the scalar one otherwise.
+     *
+     * @return The computation of the batches.
+     */
+    private static AffordabilityKernel loadKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return new ScalarAffordability();
+        try {
+            // Loaded by name, as it cannot even be linked without the API.
+            return (AffordabilityKernel) Class.forName(
+                AffordabilityBatch.class.getPackageName() 
+                + ".VectorAffordability").getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | LinkageError exception) {
+            return new ScalarAffordability();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.splendor.evaluation;
+
+
+/**
+ * Interface for the computations of an {@code AffordabilityBatch}, on 
+ * arrays laid out by the batch: for each player, {@code COLORS} rows of 
+ * {@code LANES} bytes, one lane per card slot.
+ */
+interface AffordabilityKernel {
+
+    /**
+     * Computes, for every player and card slot, the tokens missing in 
+     * each color, the jokers needed to cover them and whether the player 
+     * holds that many jokers.
+     *
+     * @param players The number of players.
+     * @param costs The cost of the card of each slot, by player and color.
+     * @param owned The tokens plus bonuses of each player, by color.
+     * @param jokers The jokers of each player.
+     * @param shortfalls The tokens missing, laid out as the costs.
+     * @param needed The jokers needed, by player and slot.
+     * @param masks The mask of the slots whose card each player can 
+     *        afford with their jokers, before the empty slots are removed.
+     */
+    public void evaluate(int players, byte[] costs, byte[] owned, 
+        byte[] jokers, byte[] shortfalls, byte[] needed, int[] masks);
+}
@@ -0,0 +1,33 @@
+package com.splendor.evaluation;
+
+
+/**
+ * The ScalarAffordability class computes the affordability of a batch 
+ * one card slot at a time, where the vector API is not available.
+ */
+class ScalarAffordability implements AffordabilityKernel {
+
+    @Override
+    public void evaluate(int players, byte[] costs, byte[] owned, 
+            byte[] jokers, byte[] shortfalls, byte[] needed, int[] masks) {
+        final int lanes = AffordabilityBatch.LANES;
+        final int colors = AffordabilityBatch.COLORS;
+        for (int player = 0; player < players; player++) {
+            int mask = 0;
+            for (int lane = 0; lane < lanes; lane++) {
+                int total = 0;
+                for (int color = 0; color < colors; color++) {
+                    final int index = (player * colors + color) * lanes 
+                        + lane;
+                    final int shortfall = Math.max(0, 
+                        costs[index] - owned[player * colors + color]);
+                    shortfalls[index] = (byte) shortfall;
+                    total += shortfall;
+                }
+                needed[player * lanes + lane] = (byte) total;
+                if (total <= jokers[player]) mask |= 1 << lane;
+            }
+            masks[player] = mask;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.splendor.evaluation;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * The VectorAffordability class computes the affordability of a batch 
+ * with the vector API: the card slots of a player fill the lanes of one 
+ * vector, so that each color takes a subtraction and a maximum for all 
+ * the cards at once, and the jokers a comparison. It is only loaded when 
+ * the {@code jdk.incubator.vector} module is present.
+ */
+class VectorAffordability implements AffordabilityKernel {
+
+    /**
+     * One byte lane per card slot.
+     */
+    private static final VectorSpecies<Byte> SPECIES = 
+        ByteVector.SPECIES_128;
+
+    @Override
+    public void evaluate(int players, byte[] costs, byte[] owned, 
+            byte[] jokers, byte[] shortfalls, byte[] needed, int[] masks) {
+        final int lanes = AffordabilityBatch.LANES;
+        final int colors = AffordabilityBatch.COLORS;
+        for (int player = 0; player < players; player++) {
+            ByteVector total = ByteVector.zero(SPECIES);
+            for (int color = 0; color < colors; color++) {
+                final int offset = (player * colors + color) * lanes;
+                final ByteVector shortfall = ByteVector
+                    .fromArray(SPECIES, costs, offset)
+                    .sub(owned[player * colors + color])
+                    .max((byte) 0);
+                shortfall.intoArray(shortfalls, offset);
+                total = total.add(shortfall);
+            }
+            total.intoArray(needed, player * lanes);
+            masks[player] = (int) total
+                .compare(VectorOperators.LE, jokers[player]).toLong();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.splendor.events;
+
+
+/**
+ * The GameEvent class is an immutable record of something which happened 
+ * in a game, published to the subscribers of the game: its start, an 
+ * action processed, the end of a turn, or its end. It holds copies of 
+ * the values it reports, so that it can be read on any thread while the 
+ * game goes on.
+ */
+public class GameEvent {
+
+    /**
+     * The kinds of event.
+     */
+    public enum Kind { STARTED, ACTION, TURN, OVER }
+
+    /**
+     * The kind of the event.
+     */
+    private final Kind kind;
+
+    /**
+     * The number of turns played when the event happened.
+     */
+    private final int turn;
+
+    /**
+     * The index of the player concerned, or -1 for the whole game.
+     */
+    private final int player;
+
+    /**
+     * The points of the player after the event, or 0.
+     */
+    private final int points;
+
+    /**
+     * The name of the action processed, or {@code null}.
+     */
+    private final String action;
+
+    /**
+     * Whether the action was processed correctly.
+     */
+    private final boolean isOk;
+
+    /**
+     * Constructs an event.
+     *
+     * @param kind The kind of the event.
+     * @param turn The number of turns played.
+     * @param player The index of the player concerned, or -1.
+     * @param points The points of the player after the event, or 0.
+     * @param action The name of the action processed, or {@code null}.
+     * @param isOk Whether the action was processed correctly.
+     */
+    public GameEvent(Kind kind, int turn, int player, int points, 
+            String action, boolean isOk) {
+        this.kind = kind;
+        this.turn = turn;
+        this.player = player;
+        this.points = points;
+        this.action = action;
+        this.isOk = isOk;
+    }
+
+    /**
+     * Retrieves the kind of the event.
+     *
+     * @return The kind of the event.
+     */
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Retrieves the number of turns played when the event happened.
+     *
+     * @return The number of turns played.
+     */
+    public int getTurn() {
+        return this.turn;
+    }
+
+    /**
+     * Retrieves the index of the player concerned.
+     *
+     * @return The index of the player, or -1 for the whole game.
+     */
+    public int getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Retrieves the points of the player after the event.
+     *
+     * @return The points of the player, or 0 for the whole game.
+     */
+    public int getPoints() {
+        return this.points;
+    }
+
+    /**
+     * Retrieves the name of the action processed.
+     *
+     * @return The name of the action, or {@code null} if the event is 
+     *         not an action.
+     */
+    public String getAction() {
+        return this.action;
+    }
+
+    /**
+     * Checks whether the action was processed correctly.
+     *
+     * @return {@code true} if the action was processed correctly, 
+     *         {@code false} if it was refused or the event is not an 
+     *         action.
+     */
+    public boolean isOk() {
+        return this.isOk;
+    }
+
+    /**
+     * Returns a string representation of the event, e.g. for a logger.
+     *
+     * @return A string representation of the event.
+     */
+    @Override
+    public String toString() {
+        return this.kind + " turn=" + this.turn + " player=" + this.player
+            + " points=" + this.points 
+            + (this.action == null ? "" : " " + this.action + " ok=" 
+            + this.isOk);
+    }
+}
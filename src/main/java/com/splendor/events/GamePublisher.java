@@ -0,0 +1,322 @@
+package com.splendor.events;
+
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.splendor.Game;
+import com.splendor.GameListener;
+import com.splendor.actions.IAction;
+import com.splendor.constants.Messages;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+
+
+/**
+ * The GamePublisher class publishes the events of a game to any number 
+ * of {@code Flow} subscribers, e.g. loggers, replay writers, metrics or 
+ * spectator feeds. It listens to the game and turns every notification 
+ * into a {@link GameEvent}.
+ *
+ * Every subscriber has its own bounded buffer, filled by the thread 
+ * playing the game and drained by the tasks of an executor, one at a 
+ * time per subscriber, as far as the subscriber requested. When the 
+ * buffer of a subscriber is full, its {@link Overflow} policy decides 
+ * whether the game drops an event or waits: with {@code DROP} or 
+ * {@code LATEST}, a slow subscriber never slows the game down.
+ */
+public class GamePublisher implements Flow.Publisher<GameEvent>, GameListener {
+
+    /**
+     * The executor delivering the events to the subscribers.
+     */
+    private final Executor executor;
+
+    /**
+     * The subscriptions of the subscribers.
+     */
+    private final List<EventSubscription> subscriptions = 
+        new CopyOnWriteArrayList<EventSubscription>();
+
+    /**
+     * The number of events dropped for all the subscribers.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Whether the game is over, in which case new subscribers are 
+     * completed at once.
+     */
+    private volatile boolean over = false;
+
+    /**
+     * Constructs a publisher.
+     *
+     * @param executor The executor delivering the events.
+     */
+    public GamePublisher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribes a subscriber with a buffer of the default size, 
+     * dropping the oldest events when it is full.
+     *
+     * @param subscriber The subscriber.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        this.subscribe(subscriber, Values.EVENTS_BUFFER_SIZE, Overflow.LATEST);
+    }
+
+    /**
+     * Subscribes a subscriber, who receives the events published from 
+     * now on.
+     *
+     * @param subscriber The subscriber.
+     * @param capacity The size of the buffer of the subscriber.
+     * @param overflow The policy applied when the buffer is full.
+     * @throws IllegalArgumentException If the size is not positive.
+     */
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber, 
+            int capacity, Overflow overflow) 
+            throws IllegalArgumentException {
+        if (capacity <= 0) throw new IllegalArgumentException(
+            MessageFormat.format(Messages.DEMAND_ERROR, capacity));
+        final EventSubscription subscription = 
+            new EventSubscription(subscriber, capacity, overflow);
+        this.subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        if (this.over) subscription.complete();
+    }
+
+    @Override
+    public void gameStarted(Game game) {
+        this.publish(new GameEvent(
+            GameEvent.Kind.STARTED, game.getTurn(), -1, 0, null, false));
+    }
+
+    @Override
+    public void actionProcessed(
+            Game game, Player player, IAction action, boolean isOk) {
+        this.publish(new GameEvent(GameEvent.Kind.ACTION, game.getTurn(), 
+            player.getId(), player.getPoints(), 
+            action.getClass().getSimpleName(), isOk));
+    }
+
+    @Override
+    public void turnPlayed(Game game, Player player) {
+        this.publish(new GameEvent(GameEvent.Kind.TURN, game.getTurn(), 
+            player.getId(), player.getPoints(), null, false));
+    }
+
+    /**
+     * Publishes the end of the game, then completes every subscriber 
+     * once it has received the events buffered.
+     *
+     * @param game The game that is over.
+     */
+    @Override
+    public void gameOver(Game game) {
+        this.publish(new GameEvent(
+            GameEvent.Kind.OVER, game.getTurn(), -1, 0, null, false));
+        this.over = true;
+        for (EventSubscription subscription : this.subscriptions)
+            subscription.complete();
+    }
+
+    /**
+     * Retrieves the number of events dropped so far for all the 
+     * subscribers.
+     *
+     * @return The number of events dropped.
+     */
+    public long getDropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Publishes an event to every subscriber.
+     *
+     * @param event The event to publish.
+     */
+    private void publish(GameEvent event) {
+        for (EventSubscription subscription : this.subscriptions)
+            subscription.publish(event);
+    }
+
+    /**
+     * The EventSubscription class buffers the events of one subscriber 
+     * and delivers them as requested. The buffer, the demand and the 
+     * flags are guarded by the subscription itself.
+     */
+    private class EventSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final int capacity;
+        private final Overflow overflow;
+        private final ArrayDeque<GameEvent> buffer;
+
+        /**
+         * The number of events requested and not delivered yet.
+         */
+        private long demand = 0;
+
+        /**
+         * Whether the subscriber is to be completed once the buffer is 
+         * empty, whether it was, and whether it cancelled.
+         */
+        private boolean completing = false;
+        private boolean completed = false;
+        private boolean cancelled = false;
+
+        /**
+         * The error to signal to the subscriber, or {@code null}.
+         */
+        private Throwable error;
+
+        /**
+         * Whether a task delivering the events is scheduled or running.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        /**
+         * Constructs the subscription of a subscriber.
+         *
+         * @param subscriber The subscriber.
+         * @param capacity The size of the buffer.
+         * @param overflow The policy applied when the buffer is full.
+         */
+        private EventSubscription(Flow.Subscriber<? super GameEvent> 
+                subscriber, int capacity, Overflow overflow) {
+            this.subscriber = subscriber;
+            this.capacity = capacity;
+            this.overflow = overflow;
+            this.buffer = new ArrayDeque<GameEvent>(capacity);
+        }
+
+        /**
+         * Adds an event to the buffer, applying the overflow policy if 
+         * it is full.
+         *
+         * @param event The event to publish.
+         */
+        private void publish(GameEvent event) {
+            synchronized (this) {
+                while (!this.cancelled 
+                        && this.buffer.size() >= this.capacity) {
+                    if (this.overflow == Overflow.DROP) {
+                        GamePublisher.this.dropped.incrementAndGet();
+                        return;
+                    } else if (this.overflow == Overflow.LATEST) {
+                        this.buffer.poll();
+                        GamePublisher.this.dropped.incrementAndGet();
+                    } else try {
+                        this.wait();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        GamePublisher.this.dropped.incrementAndGet();
+                        return;
+                    }
+                }
+                if (this.cancelled) return;
+                this.buffer.add(event);
+            }
+            this.schedule();
+        }
+
+        /**
+         * Completes the subscriber once the buffer is empty.
+         */
+        private void complete() {
+            synchronized (this) {
+                this.completing = true;
+            }
+            this.schedule();
+        }
+
+        @Override
+        public void request(long count) {
+            synchronized (this) {
+                if (count <= 0) {
+                    this.error = new IllegalArgumentException(
+                        MessageFormat.format(Messages.DEMAND_ERROR, count));
+                    this.cancel();
+                } else {
+                    this.demand += count;
+                    // Unbounded once it overflows, as per the specification.
+                    if (this.demand < 0) this.demand = Long.MAX_VALUE;
+                }
+            }
+            this.schedule();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            this.cancelled = true;
+            this.buffer.clear();
+            this.notifyAll();
+            GamePublisher.this.subscriptions.remove(this);
+        }
+
+        /**
+         * Schedules a task delivering the events, unless one is already 
+         * scheduled or running.
+         */
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true))
+                GamePublisher.this.executor.execute(this::deliver);
+        }
+
+        /**
+         * Checks whether the subscriber can be signaled something.
+         *
+         * @return {@code true} if an event, the completion or an error 
+         *         can be signaled.
+         */
+        private synchronized boolean isReady() {
+            if (this.completed) return false;
+            if (this.cancelled) return this.error != null;
+            return this.demand > 0 && !this.buffer.isEmpty()
+                || this.completing && this.buffer.isEmpty();
+        }
+
+        /**
+         * Delivers the buffered events as far as they were requested, 
+         * then the completion or the error if any.
+         */
+        private void deliver() {
+            while (true) {
+                GameEvent event = null;
+                Throwable error = null;
+                boolean complete = false;
+                synchronized (this) {
+                    if (this.completed) break;
+                    if (this.cancelled) {
+                        if (this.error == null) break;
+                        error = this.error;
+                        this.completed = true;
+                    } else if (this.demand > 0 && !this.buffer.isEmpty()) {
+                        event = this.buffer.poll();
+                        this.demand--;
+                        this.notifyAll();
+                    } else if (this.completing && this.buffer.isEmpty()) {
+                        complete = true;
+                        this.completed = true;
+                        GamePublisher.this.subscriptions.remove(this);
+                    } else break;
+                }
+                if (event != null) this.subscriber.onNext(event);
+                else if (error != null) this.subscriber.onError(error);
+                else if (complete) this.subscriber.onComplete();
+            }
+            this.scheduled.set(false);
+            if (this.isReady()) this.schedule();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.splendor.events;
+
+
+/**
+ * The policies applied when an event is published to a subscriber whose 
+ * buffer is full.
+ */
+public enum Overflow {
+
+    /**
+     * Drops the new event, keeping the buffered ones.
+     */
+    DROP,
+
+    /**
+     * Drops the oldest buffered event, keeping the new one.
+     */
+    LATEST,
+
+    /**
+     * Blocks the thread playing the game until the subscriber makes 
+     * room, so that no event is lost.
+     */
+    BLOCK
+}
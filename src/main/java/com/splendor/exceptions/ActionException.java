@@ -3,7 +3,8 @@ package com.splendor.exceptions;
 
 /**
  * Exception class to represent errors related to game actions 
- * in the Splendor game application.
+ * in the Splendor game application. An invalid action is an expected 
+ * outcome rather than a bug, so these exceptions capture no stack trace.
  */
 public class ActionException extends Exception {
 
@@ -11,7 +12,7 @@ public class ActionException extends Exception {
      * Constructs a new ActionException with no detail message.
      */
     public ActionException() {
-        super();
+        this(null);
     }
 
     /**
@@ -20,6 +21,6 @@ public class ActionException extends Exception {
      * @param message The detail message.
      */
     public ActionException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,30 @@
+package com.splendor.exceptions;
+
+
+/**
+ * Exception thrown to indicate an issue related to a game archive.
+ * This exception is a subclass of {@code Exception} and can be used 
+ * when a segment or an index file of an archive cannot be created, 
+ * read or written.
+ */
+public class ArchiveException extends Exception {
+
+    /**
+     * Constructs an {@code ArchiveException} with no specified 
+     * detail message.
+     */
+    public ArchiveException() {
+        super();
+    }
+
+    /**
+     * Constructs an {@code ArchiveException} with the specified 
+     * detail message.
+     *
+     * @param message The detail message (which is saved for later 
+     *        retrieval by the {@link #getMessage()} method).
+     */
+    public ArchiveException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,147 @@
+package com.splendor.player;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.splendor.Game;
+import com.splendor.GameListener;
+import com.splendor.actions.IAction;
+import com.splendor.actions.robot.DiscardTokens;
+import com.splendor.actions.robot.NobleVisit;
+import com.splendor.agent.AgentProcess;
+import com.splendor.agent.Moves;
+import com.splendor.board.Board;
+import com.splendor.board.BoardView;
+import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
+import com.splendor.encoding.ObservationEncoder;
+import com.splendor.env.SplendorEnv;
+
+
+/**
+ * The ExternalAgentPlayer class represents a player whose moves are chosen
+ * by an agent running in another process. On each turn, the observation
+ * of the player and its legal moves are sent to the agent, and the move
+ * answered is played. If the agent does not answer before the deadline,
+ * or answers an illegal move, the fallback move is played instead: pass.
+ *
+ * The player listens to its game to know the board and the other players,
+ * which it needs whole to list its legal moves and encode its
+ * observation. A copy of the player deciding on a copy of the game knows
+ * the copies instead. Tokens are discarded and nobles chosen as the
+ * robots do.
+ */
+public class ExternalAgentPlayer extends Player implements GameListener {
+
+    /**
+     * The agent choosing the moves, shared with other players.
+     */
+    private final AgentProcess agent;
+
+    /**
+     * The time, in milliseconds, the agent has to choose a move.
+     */
+    private final long deadline;
+
+    /**
+     * The board and the players of the game, known once it has started.
+     */
+    private Board board;
+    private Player[] players;
+
+    /**
+     * The number of moves which were not chosen by the agent, shared 
+     * with the copies of the player deciding for it.
+     */
+    private final AtomicInteger fallbacks = new AtomicInteger();
+
+    /**
+     * Constructs a player whose moves are chosen by an agent.
+     *
+     * @param name The name of the player.
+     * @param id The unique identifier of the player.
+     * @param io The input and outputs of the game of the player.
+     * @param agent The agent choosing the moves.
+     * @param deadline The time, in milliseconds, the agent has to choose
+     *        a move.
+     */
+    public ExternalAgentPlayer(String name, int id, GameIO io,
+            AgentProcess agent, long deadline) {
+        super(name, id, io);
+        this.agent = agent;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Constructs a player whose moves are chosen by an agent, which has
+     * the default time to choose each move.
+     *
+     * @param name The name of the player.
+     * @param id The unique identifier of the player.
+     * @param io The input and outputs of the game of the player.
+     * @param agent The agent choosing the moves.
+     */
+    public ExternalAgentPlayer(String name, int id, GameIO io,
+            AgentProcess agent) {
+        this(name, id, io, agent, Values.AGENT_DEADLINE);
+    }
+
+    @Override
+    public void gameStarted(Game game) {
+        this.board = game.getBoard();
+        this.players = game.getPlayers();
+    }
+
+    @Override
+    public IAction discardToken() {
+        return new DiscardTokens();
+    }
+
+    @Override
+    public IAction nobleVisit(BoardView board) {
+        return new NobleVisit();
+    }
+
+    @Override
+    public IAction chooseAction(BoardView view) {
+        final long legal = Moves.legal(this.board, this);
+        final byte[] observation = new byte[ObservationEncoder.BYTES];
+        // Not kept, as a late decision may still encode when the next one
+        // starts.
+        new ObservationEncoder().encode(this.board, this.players,
+            this.getId(), ByteBuffer.wrap(observation));
+        final CompletableFuture<Integer> decision =
+            this.agent.decide(observation, legal);
+        int move = AgentProcess.NO_MOVE;
+        try {
+            move = decision.get(this.deadline, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            // Withdraws the decision if it is not sent yet.
+            decision.complete(AgentProcess.NO_MOVE);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            // Not expected: decisions only complete with a move.
+        }
+        if (move < 0 || SplendorEnv.ACTIONS <= move
+                || (legal & 1L << move) == 0) {
+            this.fallbacks.incrementAndGet();
+            move = SplendorEnv.PASS;
+        }
+        return Moves.get(move);
+    }
+
+    /**
+     * Retrieves the number of moves which were not chosen by the agent,
+     * because it was late, gone or chose an illegal move.
+     *
+     * @return The number of fallback moves played.
+     */
+    public int getFallbacks() {
+        return this.fallbacks.get();
+    }
+}
@@ -2,7 +2,6 @@ package com.splendor.player;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Scanner;
 
 import com.splendor.actions.IAction;
 import com.splendor.actions.human.BuyCard;
@@ -13,9 +12,10 @@ import com.splendor.actions.human.ReserveCard;
 import com.splendor.actions.human.DiscardTokens;
 import com.splendor.actions.human.NobleVisit;
 import com.splendor.board.Board;
+import com.splendor.board.BoardView;
 import com.splendor.constants.Messages;
-import com.splendor.constants.Utility;
 import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
 
 
 /**
@@ -47,6 +47,18 @@ public class HumanPlayer extends Player {
         super(name, id);
     }
 
+    /**
+     * Constructs a new HumanPlayer with the specified name and ID, playing 
+     * a game with the specified input and outputs.
+     *
+     * @param name The name of the human player.
+     * @param id The unique ID of the human player.
+     * @param io The input and outputs of the game of the player.
+     */
+    public HumanPlayer(String name, int id, GameIO io) {
+        super(name, id, io);
+    }
+
     /**
      * Creates and returns an action to discard a token.
      *
@@ -59,29 +71,58 @@ public class HumanPlayer extends Player {
     /**
      * Creates and returns an action for a noble visit.
      *
+     * @param board The read-only view of the board the nobles are on.
      * @return An {@code IAction} representing the action of a noble visit.
      */
-    public IAction nobleVisit(Board board) {
+    public IAction nobleVisit(BoardView board) {
         return new NobleVisit(board);
     }
 
+    /**
+     * Checks whether the player chooses actions through an input.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean needsInput() {
+        return true;
+    }
+
+    /**
+     * Displays the available actions to the player.
+     */
+    @Override
+    public void promptAction() {
+        this.getIO().out.clean();
+        this.getIO().out.println(Messages.ACTION_SELECTION);
+        for (final IAction action : actions.values())
+            this.getIO().out.println(action.toString());
+    }
+
+    /**
+     * Chooses the action designated by an input of the player.
+     *
+     * @param input The raw input of the player.
+     * @return The chosen action, or {@code null} if the input designates 
+     *         no action.
+     */
+    @Override
+    public IAction chooseAction(String input) {
+        // Remove all characters that are not letters.
+        return actions.get(input.replaceAll(Values.INPUT_REGEX, ""));
+    }
+
     /**
      * Allows the human player to choose an action from the available options.
      *
      * @param board The game board on which the action is performed.
      * @return The chosen action.
      */
-    public IAction chooseAction(Board board) {
-        Utility.display.out.clean();
-        Utility.display.out.println(Messages.ACTION_SELECTION);
-        for (final IAction action : actions.values())
-            Utility.display.out.println(action.toString());
-        final Scanner scanner = new Scanner(Utility.display.in);
-        String choice;
-        // Remove all characters that are not letters.
-        do choice = scanner.nextLine().replaceAll(Values.INPUT_REGEX, "");
-        while (!actions.containsKey(choice));
-        scanner.close();
-        return actions.get(choice);
+    public IAction chooseAction(BoardView board) {
+        this.promptAction();
+        IAction action;
+        do action = this.chooseAction(this.getIO().readLine());
+        while (action == null);
+        return action;
     }
 }
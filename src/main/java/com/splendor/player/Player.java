@@ -1,24 +1,55 @@
 package com.splendor.player;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 import com.splendor.actions.IAction;
 import com.splendor.board.Board;
+import com.splendor.board.BoardListener;
+import com.splendor.board.BoardView;
 import com.splendor.board.Resources;
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.CardTable;
 import com.splendor.cards.DevCard;
+import com.splendor.cards.Noble;
 import com.splendor.constants.Resource;
 import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
 import com.splendor.display.Displayable;
+import com.splendor.exceptions.CardReaderException;
 
 
 /**
  * The Player class represents a Splendor player, and implements the
  * Displayable interface. A player has an ID, a name, a list of resources, 
  * a list of purchased cards, and prestige points.
+ *
+ * A player watching a board keeps the mask of the cards they can afford, 
+ * updated only when a visible card is replaced or when their tokens, 
+ * bonuses or reserved cards change, so that what they can buy is known 
+ * without scanning the board. As tokens move one color at a time, the 
+ * mask is recomputed once, when next retrieved, after such changes. 
+ * Likewise, the nobles of the board the player's bonuses satisfy, and how 
+ * many bonuses they miss for each noble, are updated only when their 
+ * bonuses change.
  */
-public abstract class Player implements Displayable {
+public abstract class Player 
+        implements Displayable, BoardListener, Cloneable {
+
+    /**
+     * The resources, in the order of their ordinals.
+     */
+    private static final Resource[] RESOURCES = Resource.values();
+
+    /**
+     * The mask of the reserved slots when they are all occupied.
+     */
+    private static final int RESERVED_SLOTS = 
+        (1 << Values.MAX_RESERVED_CARDS) - 1;
 
     /**
      * The ID of the player.
@@ -33,19 +64,104 @@ public abstract class Player implements Displayable {
     /**
      * The resources of the player.
      */
-    private final Resources resources;
+    private Resources resources;
+
+    /**
+     * The identifiers of the purchased cards of the player, including the 
+     * nobles who visited them, in the order of purchase.
+     */
+    private short[] purchasedCards;
+    private int purchasedCount = 0;
+
+    /**
+     * A read-only view of the purchased cards of the player.
+     */
+    private class PurchasedView extends AbstractList<DevCard> {
+        @Override
+        public DevCard get(int index) {
+            Objects.checkIndex(index, Player.this.purchasedCount);
+            return CardTable.get().getCard(Player.this.purchasedCards[index]);
+        }
+
+        @Override
+        public int size() {
+            return Player.this.purchasedCount;
+        }
+    }
 
     /**
-     * The list of purchased cards of the player.
+     * The read-only view of the purchased cards.
      */
-    private final ArrayList<DevCard> purchasedCards;
+    private List<DevCard> purchasedView = new PurchasedView();
 
-    private DevCard[] reservedCards;
+    /**
+     * The identifiers of the reserved cards of the player, in fixed 
+     * slots, {@code CardTable.NONE} for an empty slot.
+     */
+    private short[] reservedCards = new short[Values.MAX_RESERVED_CARDS];
+
+    /**
+     * The mask of the occupied reserved slots, bit {@code index} being 
+     * set if slot {@code index} holds a card.
+     */
+    private int reservedMask = 0;
+
+    /**
+     * The number of purchased cards giving each bonus, indexed by the 
+     * ordinal of the resource.
+     */
+    private int[] bonuses = new int[RESOURCES.length];
+
+    /**
+     * The bonuses, packed as by {@code Resources.pack}.
+     */
+    private long packedBonuses = 0L;
+
+    /**
+     * The board watched by the player, or {@code null}.
+     */
+    private Board board;
+
+    /**
+     * The mask of the cards the player can afford: bit 
+     * {@code tier * COLUMN_NUMBER + column} for the visible cards, then 
+     * bit {@code VISIBLE_CARDS + index} for the reserved cards.
+     */
+    private int affordableCards = 0;
+
+    /**
+     * The tokens plus bonuses of the player when the mask was computed, 
+     * packed as by {@code Resources.pack}.
+     */
+    private long packedOwned = 0L;
+
+    /**
+     * Whether the tokens, bonuses or reserved cards of the player changed 
+     * since the mask of the affordable cards was computed.
+     */
+    private boolean affordableStale = true;
+
+    /**
+     * The mask of the nobles of the board whose requirements the bonuses 
+     * of the player cover, by index in {@code Board.getNobles}.
+     */
+    private int visitingNobles = 0;
+
+    /**
+     * The number of bonuses the player misses for each noble of the 
+     * board, by index in {@code Board.getNobles}.
+     */
+    private int[] nobleDistances = new int[0];
 
     /**
      * The prestige points of the player.
      */
     private int points;
+
+    /**
+     * The input and outputs of the game of the player.
+     */
+    private final GameIO io;
     
     /**
      * Constructs a new player with the specified name and identifier.
@@ -55,11 +171,24 @@ public abstract class Player implements Displayable {
      * @param id The unique identifier of the player.
      */
     public Player(String name, int id) {
+        this(name, id, GameIO.headless());
+    }
+
+    /**
+     * Constructs a new player with the specified name and identifier, 
+     * playing a game with the specified input and outputs.
+     *
+     * @param name The name of the player.
+     * @param id The unique identifier of the player.
+     * @param io The input and outputs of the game of the player.
+     */
+    public Player(String name, int id, GameIO io) {
+        this.io = io;
         this.name = name;
         this.id = id;
         this.resources = new Resources();
-        this.purchasedCards = new ArrayList<DevCard>();
-        this.reservedCards = new DevCard[Values.MAX_RESERVED_CARDS];
+        this.purchasedCards = new short[Values.PURCHASED_CARDS_CAPACITY];
+        Arrays.fill(this.reservedCards, CardTable.NONE);
         this.points = 0;
     }
 
@@ -77,18 +206,49 @@ public abstract class Player implements Displayable {
      * Implementing classes must define the specific behavior of a 
      * noble visit.
      *
+     * @param board The read-only view of the board the nobles are on.
      * @return An {@code IAction} representing the action of a noble visit.
      */
-    public abstract IAction nobleVisit(Board board);
+    public abstract IAction nobleVisit(BoardView board);
 
     /**
      * Abstract method for choosing an action.
      * Concrete implementations in subclasses should define the logic 
      * for selecting and returning an action.
      *
+     * @param board A read-only view of the game board, which may be 
+     *        queried at will without allocating.
      * @return The chosen action.
      */
-    public abstract IAction chooseAction(Board board);
+    public abstract IAction chooseAction(BoardView board);
+
+    /**
+     * Checks whether the player chooses actions through an input, which 
+     * the game waits for, rather than on their own.
+     *
+     * @return {@code false} by default.
+     */
+    public boolean needsInput() {
+        return false;
+    }
+
+    /**
+     * Prompts the player to choose an action through an input. Does 
+     * nothing by default.
+     */
+    public void promptAction() {}
+
+    /**
+     * Chooses an action from an input of the player which has already 
+     * arrived.
+     *
+     * @param input The raw input of the player.
+     * @return The chosen action, or {@code null} if the input designates 
+     *         no action, which is the case by default.
+     */
+    public IAction chooseAction(String input) {
+        return null;
+    }
 
     /**
      * Retrieves the id of the player.
@@ -99,6 +259,15 @@ public abstract class Player implements Displayable {
         return this.id;
     }
 
+    /**
+     * Retrieves the input and outputs of the game of the player.
+     *
+     * @return The input and outputs of the game.
+     */
+    public GameIO getIO() {
+        return this.io;
+    }
+
     /**
      * Retrieves the name of the player.
      *
@@ -146,9 +315,7 @@ public abstract class Player implements Displayable {
      *         resource.
      */
     public int getResFromCards(Resource resource) {
-        return (int) this.purchasedCards.stream().filter(
-            card -> card != null && card.getBonus() != null 
-            && card.getBonus().equals(resource)).count();
+        return this.bonuses[resource.ordinal()];
     }
 
     /**
@@ -159,6 +326,7 @@ public abstract class Player implements Displayable {
      */
     public void updateNbResource(Resource resource, int quantity) {
         this.resources.updateNbResource(resource, quantity);
+        this.affordableStale = true;
     }
 
     /**
@@ -176,10 +344,29 @@ public abstract class Player implements Displayable {
      * Adds a purchased development card to the player's collection.
      *
      * @param card The development card to be added to the player's purchased 
-     *        cards.
+     *        cards, from the card catalog.
      */
     public void addPurchasedCard(DevCard card) {
-        this.purchasedCards.add(card);
+        if (this.purchasedCount == this.purchasedCards.length)
+            this.purchasedCards = Arrays.copyOf(
+                this.purchasedCards, 2 * this.purchasedCount);
+        this.purchasedCards[this.purchasedCount++] = 
+            (short) CardCatalog.getId(card);
+        if (card == null || card.getBonus() == null) return;
+        this.bonuses[card.getBonus().ordinal()]++;
+        this.packedBonuses += 1L << Byte.SIZE * card.getBonus().ordinal();
+        this.affordableStale = true;
+        this.updateNobles();
+    }
+
+    /**
+     * Retrieves the development and Noble cards purchased by the player.
+     *
+     * @return A read-only view of the purchased cards, in the order 
+     *         they were purchased.
+     */
+    public List<DevCard> getPurchasedCards() {
+        return this.purchasedView;
     }
 
     /**
@@ -190,9 +377,17 @@ public abstract class Player implements Displayable {
      *        of card to remove.
      */
     public void removePurchasedCard(Resource bonus) {
-        for (DevCard card : this.purchasedCards) {
-            if (card.getBonus() != bonus) continue;
-            this.purchasedCards.remove(card);
+        final CardTable table = CardTable.get();
+        for (int index = 0; index < this.purchasedCount; index++) {
+            final int id = this.purchasedCards[index];
+            if (id < 0 || table.getBonus(id) != bonus) continue;
+            System.arraycopy(this.purchasedCards, index + 1, 
+                this.purchasedCards, index, --this.purchasedCount - index);
+            if (bonus == null) return;
+            this.bonuses[bonus.ordinal()]--;
+            this.packedBonuses -= 1L << Byte.SIZE * bonus.ordinal();
+            this.affordableStale = true;
+            this.updateNobles();
             return;
         }
     }
@@ -200,47 +395,90 @@ public abstract class Player implements Displayable {
     /**
      * Retrieves the array of reserved development cards for the player.
      *
-     * @return The array of reserved development cards.
+     * @return A new array of the reserved development cards, 
+     *         {@code null} for an empty slot.
      */
     public DevCard[] getReservedCards() {
-        return this.reservedCards;
+        final DevCard[] cards = new DevCard[this.reservedCards.length];
+        for (int index = 0; index < cards.length; index++)
+            if (this.reservedCards[index] >= 0)
+                cards[index] = CardTable.get().getCard(
+                    this.reservedCards[index]);
+        return cards;
+    }
+
+    /**
+     * Retrieves the identifier of a reserved card of the player.
+     *
+     * @param index The index of the reserved card.
+     * @return The identifier of the card, or {@code CardTable.NONE} if 
+     *         the slot is empty.
+     * @throws ArrayIndexOutOfBoundsException If the index is out of 
+     *         bounds.
+     */
+    public int getReservedId(int index) 
+            throws ArrayIndexOutOfBoundsException {
+        return this.reservedCards[index];
+    }
+
+    /**
+     * Retrieves a reserved card of the player, without copying the 
+     * reserved cards.
+     *
+     * @param index The index of the reserved slot.
+     * @return The reserved card, or {@code null} if the slot is empty.
+     * @throws ArrayIndexOutOfBoundsException If the index is out of 
+     *         bounds.
+     */
+    public DevCard getReservedCard(int index) 
+            throws ArrayIndexOutOfBoundsException {
+        return CardTable.get().getCard(this.reservedCards[index]);
     }
 
     /**
-     * Removes the reserved card at the specified index and returns the 
-     * updated array of reserved cards.
+     * Retrieves the mask of the occupied reserved slots.
+     *
+     * @return The mask of the slots holding a card, bit {@code index} 
+     *         being set if slot {@code index} holds one.
+     */
+    public int getReservedMask() {
+        return this.reservedMask;
+    }
+
+    /**
+     * Removes the reserved card at the specified index. The other 
+     * reserved cards keep their slot.
      *
      * @param selectedIndex The index of the reserved card to be removed.
+     * @return The removed card, or {@code null} if the slot was empty.
+     * @throws ArrayIndexOutOfBoundsException If the index is out of 
+     *         bounds.
      */
-    public void removeReservedCard(int selectedIndex) {
-        // Create a new array to store the updated reserved cards.
-        DevCard[] newCards = new DevCard[Values.MAX_RESERVED_CARDS];
-        int reservedIndex = 0; // Increment only if index != selectedIndex.
-        // Iterate through the existing reserved cards array.
-        for (int index = 0; index < this.reservedCards.length; index++) {
-            // Skip the card at the specified index to remove it.
-            if (reservedIndex == selectedIndex) continue;
-            final DevCard card = this.reservedCards[reservedIndex];
-            newCards[reservedIndex] = card;
-            reservedIndex++;
-        }
-        // Update the reservedCards field with the new array.
-        this.reservedCards = newCards;
+    public DevCard removeReservedCard(int selectedIndex) 
+            throws ArrayIndexOutOfBoundsException {
+        final DevCard card = this.getReservedCard(selectedIndex);
+        this.reservedCards[selectedIndex] = CardTable.NONE;
+        this.reservedMask &= ~(1 << selectedIndex);
+        this.affordableStale = true;
+        return card;
     }
 
     /**
-     * Adds a development card to the player's reserved cards.
+     * Adds a development card to the player's reserved cards, in the 
+     * first empty slot. Does nothing if every slot is occupied, or if 
+     * there is no card, e.g. when drawn from an empty deck.
      * 
      * @param card The development card to be added to the reserved cards.
+     * @return The index of the slot of the card, or {@code -1} if every 
+     *         slot was occupied or there was no card.
      */
-    public void addReservedCard(DevCard card) {
-        for (int index = 0; index < this.reservedCards.length; index++) {
-            // If an empty slot is found, add the card and return.
-            if (this.reservedCards[index] == null) {
-                this.reservedCards[index] = card;
-                return;
-            }
-        }
+    public int addReservedCard(DevCard card) {
+        if (this.reservedMask == RESERVED_SLOTS || card == null) return -1;
+        final int index = Integer.numberOfTrailingZeros(~this.reservedMask);
+        this.reservedCards[index] = (short) CardCatalog.getId(card);
+        this.reservedMask |= 1 << index;
+        this.affordableStale = true;
+        return index;
     }
 
     /**
@@ -263,6 +501,190 @@ public abstract class Player implements Displayable {
         return true;
     }
 
+    /**
+     * Starts watching a board, to keep the mask of the cards the player 
+     * can afford up to date. Stops watching the previous board, if any. 
+     * Does nothing if the player already watches the board.
+     *
+     * @param board The board of the game of the player.
+     */
+    public void watch(Board board) {
+        if (board == this.board) return;
+        if (this.board != null) this.board.removeListener(this);
+        this.board = board;
+        board.addListener(this);
+        this.affordableStale = true;
+        this.nobleDistances = new int[board.getNobles().length];
+        this.updateNobles();
+    }
+
+    /**
+     * Copies the player, to watch another board, usually a copy of the 
+     * board they watch. The copy has the state of the player, which the 
+     * game never changes, and shares everything else with the player, 
+     * such as the way they choose their actions.
+     *
+     * @param board The board the copy watches.
+     * @return The copy of the player.
+     */
+    public Player copy(Board board) {
+        final Player copy;
+        try {
+            copy = (Player) super.clone();
+        } catch (CloneNotSupportedException exception) {
+            throw new IllegalStateException(exception); // Cloneable.
+        }
+        copy.resources = new Resources();
+        copy.resources.putAll(this.resources);
+        copy.purchasedCards = this.purchasedCards.clone();
+        copy.purchasedView = copy.new PurchasedView();
+        copy.reservedCards = this.reservedCards.clone();
+        copy.bonuses = this.bonuses.clone();
+        copy.board = null;
+        copy.watch(board);
+        return copy;
+    }
+
+    /**
+     * Retrieves the mask of the cards the player can afford, on the 
+     * board they watch and among their reserved cards.
+     *
+     * @return The mask of the affordable cards: bit 
+     *         {@code tier * COLUMN_NUMBER + column} for the visible card 
+     *         at this tier and column, as given to {@code Board.getCard}, 
+     *         and bit {@code VISIBLE_CARDS + index} for the reserved card 
+     *         at this index.
+     */
+    public int getAffordableCards() {
+        if (this.affordableStale) this.updateAffordableCards();
+        return this.affordableCards;
+    }
+
+    @Override
+    public void cardChanged(Board board, int tier, int column) {
+        if (this.affordableStale) return; // Recomputed when retrieved.
+        final int bit = 1 << tier * Values.COLUMN_NUMBER + column;
+        if (this.affords(board.getCardId(tier, column), this.packedOwned))
+            this.affordableCards |= bit;
+        else this.affordableCards &= ~bit;
+    }
+
+    /**
+     * Retrieves the mask of the nobles of the board the player watches 
+     * which can visit them, as their bonuses cover the requirements.
+     *
+     * @return The mask of the nobles, bit {@code n} being set for the 
+     *         noble at index {@code n} in {@code Board.getNobles}.
+     */
+    public int getVisitingNobles() {
+        return this.visitingNobles;
+    }
+
+    /**
+     * Retrieves the number of bonuses the player misses for a noble of 
+     * the board they watch to visit them.
+     *
+     * @param index The index of the noble in {@code Board.getNobles}.
+     * @return The number of bonuses missing, 0 if the noble can visit 
+     *         the player, or {@code Integer.MAX_VALUE} if the noble left 
+     *         the board.
+     * @throws ArrayIndexOutOfBoundsException If there is no such noble.
+     */
+    public int getNobleDistance(int index) 
+            throws ArrayIndexOutOfBoundsException {
+        return this.nobleDistances[index];
+    }
+
+    @Override
+    public void nobleRemoved(Board board, int index) {
+        this.visitingNobles &= ~(1 << index);
+        this.nobleDistances[index] = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Recomputes the nobles which can visit the player and the distances 
+     * to the nobles, after their bonuses changed.
+     */
+    private void updateNobles() {
+        if (this.board == null) return;
+        final Noble[] nobles = this.board.getNobles();
+        int visiting = 0;
+        for (int index = 0; index < this.nobleDistances.length; index++) {
+            final int distance = nobles[index] == null ? Integer.MAX_VALUE
+                : Resources.missing(nobles[index].getRequirement(), 
+                    this.packedBonuses);
+            if (distance == 0) visiting |= 1 << index;
+            this.nobleDistances[index] = distance;
+        }
+        this.visitingNobles = visiting;
+    }
+
+    /**
+     * Recomputes the mask of the cards the player can afford, after 
+     * their tokens, bonuses or reserved cards changed.
+     */
+    private void updateAffordableCards() {
+        this.affordableStale = false;
+        this.packedOwned = this.packOwned();
+        this.affordableCards = this.computeAffordableCards();
+    }
+
+    /**
+     * Computes the mask of the cards the player can afford from their 
+     * tokens, bonuses and reserved cards, without keeping it.
+     *
+     * @return The mask of the affordable cards.
+     */
+    private int computeAffordableCards() {
+        final long owned = this.packOwned();
+        int mask = 0;
+        if (this.board != null)
+            for (int slot = 0; slot < Values.VISIBLE_CARDS; slot++)
+                if (this.affords(this.board.getCardId(
+                        slot / Values.COLUMN_NUMBER,
+                        slot % Values.COLUMN_NUMBER), owned))
+                    mask |= 1 << slot;
+        for (int slots = this.reservedMask; slots != 0; slots &= slots - 1) {
+            final int index = Integer.numberOfTrailingZeros(slots);
+            if (this.affords(this.reservedCards[index], owned))
+                mask |= 1 << Values.VISIBLE_CARDS + index;
+        }
+        return mask;
+    }
+
+    /**
+     * Packs the tokens plus bonuses of the player, as by 
+     * {@code Resources.pack}.
+     *
+     * @return The packed quantities, saturated at 127 each.
+     */
+    private long packOwned() {
+        long owned = 0L;
+        for (int index = 0; index < RESOURCES.length; index++) {
+            final int quantity = this.bonuses[index] 
+                + this.resources.getNbResource(RESOURCES[index]);
+            // Saturated, as the packed quantities must stay below 128.
+            owned |= (long) Math.min(quantity, Byte.MAX_VALUE) 
+                << Byte.SIZE * index;
+        }
+        return owned;
+    }
+
+    /**
+     * Checks whether the tokens and bonuses of the player cover the cost 
+     * of a card, as {@link #canBuyCard(DevCard)} does.
+     *
+     * @param id The identifier of the card to check, possibly 
+     *        {@code CardTable.NONE}.
+     * @param owned The tokens plus bonuses of the player, packed.
+     * @return {@code true} if there is a card and the player can afford 
+     *         it, {@code false} otherwise.
+     */
+    private boolean affords(int id, long owned) {
+        return id >= 0 && Resources.missing(
+            CardTable.get().getCost(id), owned) == 0;
+    }
+
     /**
      * Checks if the player can reserve additional development cards.
      * 
@@ -270,9 +692,7 @@ public abstract class Player implements Displayable {
      *         available slot), {@code false} otherwise.
      */
     public boolean canReserveCard() {
-        for (final DevCard card : this.reservedCards)
-            if (card == null) return true;
-        return false;
+        return this.reservedMask != RESERVED_SLOTS;
     }
 
     /**
@@ -297,6 +717,57 @@ public abstract class Player implements Displayable {
         return sum - Values.MAX_NUMBER_RESOURCES_PER_PLAYER;
     }
 
+    /**
+     * Writes the state of the player into a snapshot: the tokens, the 
+     * points, the purchased cards and the reserved cards, every card 
+     * being written as its catalog identifier.
+     *
+     * @param buffer The buffer to write the snapshot into.
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        this.resources.writeSnapshot(buffer);
+        buffer.putShort((short) this.points);
+        buffer.putShort((short) this.purchasedCount);
+        for (int index = 0; index < this.purchasedCount; index++)
+            buffer.putShort(this.purchasedCards[index]);
+        for (short card : this.reservedCards) buffer.putShort(card);
+    }
+
+    /**
+     * Replaces the state of the player by the one read from a snapshot 
+     * written by {@link #writeSnapshot(ByteBuffer)}. The cards are the 
+     * shared instances of the card catalog.
+     *
+     * @param buffer The buffer to read the snapshot from.
+     * @throws CardReaderException If the card catalog cannot be read.
+     */
+    public void readSnapshot(ByteBuffer buffer) throws CardReaderException {
+        this.resources.readSnapshot(buffer);
+        this.points = buffer.getShort();
+        final CardTable table = CardCatalog.getTable();
+        Arrays.fill(this.bonuses, 0);
+        this.packedBonuses = 0L;
+        this.purchasedCount = buffer.getShort();
+        this.purchasedCards = new short[Math.max(this.purchasedCount, 
+            Values.PURCHASED_CARDS_CAPACITY)];
+        for (int index = 0; index < this.purchasedCount; index++) {
+            final short id = buffer.getShort();
+            this.purchasedCards[index] = id;
+            final Resource bonus = table.getBonus(id);
+            if (bonus == null) continue;
+            this.bonuses[bonus.ordinal()]++;
+            this.packedBonuses += 1L << Byte.SIZE * bonus.ordinal();
+        }
+        this.reservedMask = 0;
+        for (int index = 0; index < this.reservedCards.length; index++) {
+            this.reservedCards[index] = buffer.getShort();
+            if (this.reservedCards[index] >= 0)
+                this.reservedMask |= 1 << index;
+        }
+        this.affordableStale = true;
+        this.updateNobles();
+    }
+
     /**
      * Converts the player's information and assets to a formatted 
      * string array.
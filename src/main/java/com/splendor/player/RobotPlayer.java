@@ -1,7 +1,5 @@
 package com.splendor.player;
 
-import java.util.Arrays;
-
 import com.splendor.actions.IAction;
 import com.splendor.actions.robot.BuyCard;
 import com.splendor.actions.robot.DiscardTokens;
@@ -10,9 +8,11 @@ import com.splendor.actions.robot.PassAction;
 import com.splendor.actions.robot.PickDifferentTokens;
 import com.splendor.actions.robot.PickSameTokens;
 import com.splendor.board.Board;
-import com.splendor.cards.DevCard;
+import com.splendor.board.BoardView;
+import com.splendor.cards.CardValues;
 import com.splendor.constants.Resource;
 import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
 
 
 /**
@@ -21,6 +21,17 @@ import com.splendor.constants.Values;
  */
 public class RobotPlayer extends Player {
 
+    /**
+     * The resources, in the order of their ordinals.
+     */
+    private static final Resource[] RESOURCES = Resource.values();
+
+    /**
+     * The table of card values of the robot, or {@code null} to buy the 
+     * cards of the highest level first.
+     */
+    private final CardValues cardValues;
+
     /**
      * Constructs a new RobotPlayer with the given name and ID.
      *
@@ -29,6 +40,37 @@ public class RobotPlayer extends Player {
      */
     public RobotPlayer(String name, int id) {
         super(name, id);
+        this.cardValues = null;
+    }
+
+    /**
+     * Constructs a new RobotPlayer with the specified name and ID, playing 
+     * a game with the specified input and outputs.
+     *
+     * @param name The name of the robot player.
+     * @param id The unique ID of the robot player.
+     * @param io The input and outputs of the game of the player.
+     */
+    public RobotPlayer(String name, int id, GameIO io) {
+        this(name, id, io, null);
+    }
+
+    /**
+     * Constructs a new RobotPlayer with the specified name and ID, playing 
+     * a game with the specified input and outputs, and choosing the card 
+     * to buy with a table of card values.
+     *
+     * @param name The name of the robot player.
+     * @param id The unique ID of the robot player.
+     * @param io The input and outputs of the game of the player.
+     * @param cardValues The table of card values, typically loaded once 
+     *        at startup, or {@code null} to buy the cards of the highest 
+     *        level first.
+     */
+    public RobotPlayer(String name, int id, GameIO io, 
+            CardValues cardValues) {
+        super(name, id, io);
+        this.cardValues = cardValues;
     }
 
     /**
@@ -46,34 +88,33 @@ public class RobotPlayer extends Player {
      * @param board Unused.
      * @return An {@code IAction} representing the action of a noble visit.
      */
-    public IAction nobleVisit(Board board) {
+    public IAction nobleVisit(BoardView board) {
         return new NobleVisit();
     }
 
     /**
-     * Retrieves the highest development card level among the visible cards.
+     * Chooses the affordable card of the board with the highest value.
      *
-     * @param visibleCards An array of visible development cards.
-     * @return The highest development card level, or 0 if there are no 
-     *         visible cards.
-     */
-    private int getHighestLevel(DevCard[] visibleCards) {
-        return Arrays.stream(visibleCards).mapToInt(DevCard::getLevel)
-            .max().orElse(0);
-    }
-
-    /**
-     * Retrieves an array of development cards at the specified level from
-     * the visible cards.
-     *
-     * @param visibleCards An array of visible development cards.
-     * @param level The level of development cards to retrieve.
-     * @return An array containing development cards at the specified level.
+     * @param board The game board.
+     * @param values The table of card values.
+     * @return An action buying the chosen card, or {@code null} if no 
+     *         card of the board is affordable.
      */
-    private DevCard[] getCardsAtLevel(DevCard[] visibleCards, int level) {
-        return Arrays.stream(visibleCards)
-            .filter(card -> card.getLevel() == level)
-            .toArray(DevCard[]::new);
+    private IAction buyMostValuableCard(BoardView board, CardValues values) {
+        final int affordable = this.getAffordableCards();
+        IAction action = null;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++)
+            for (int column = 0; column < Values.COLUMN_NUMBER; column++) {
+                final int slot = tier * Values.COLUMN_NUMBER + column;
+                if ((affordable & 1 << slot) == 0) continue;
+                final float value = values.getValue(
+                    board.visibleCardId(tier, column));
+                if (action != null && value <= bestValue) continue;
+                action = new BuyCard(tier, column);
+                bestValue = value;
+            }
+        return action;
     }
 
     /**
@@ -83,19 +124,26 @@ public class RobotPlayer extends Player {
      * @return The action chosen by the robot player.
      */
     @Override
-    public IAction chooseAction(Board board) {
-        // Attempt to buy a card, starting with the highest level available.
-        DevCard[] visibleCards = board.getVisibleCards();
-        int highestLevel = this.getHighestLevel(visibleCards);
-        for (int level = highestLevel; level >= 1; level--)
-            for (DevCard card : this.getCardsAtLevel(visibleCards, level))
-                if (this.canBuyCard(card)) return new BuyCard();
+    public IAction chooseAction(BoardView board) {
+        final CardValues values = this.cardValues;
+        if (values != null) {
+            // Attempt to buy the affordable card with the highest value.
+            final IAction action = this.buyMostValuableCard(board, values);
+            if (action != null) return action;
+        } else {
+            // Attempt to buy a card, if any visible card is affordable.
+            final int visible = (1 << Values.VISIBLE_CARDS) - 1;
+            if ((this.getAffordableCards() & visible) != 0)
+                return new BuyCard();
+        }
         // If unable to buy a card or to acquire tokens, pass the turn.
-        Resource[] availableResources = board.getAvailableResources();
-        if (availableResources.length == 0) return new PassAction();
+        int availableTokens = 0;
+        for (Resource resource : RESOURCES)
+            availableTokens += board.tokens(resource);
+        if (availableTokens == 0) return new PassAction();
         // Try to take two tokens of the same type.
-        for (Resource resource : Resource.values())
-            if (board.getNbResource(resource) >= Values.REQUIRED_RESOURCES)
+        for (Resource resource : RESOURCES)
+            if (board.tokens(resource) >= Values.REQUIRED_RESOURCES)
                 return new PickSameTokens();
         // Otherwise, try to take tokens of different types.
         return new PickDifferentTokens();
@@ -0,0 +1,39 @@
+package com.splendor.query;
+
+import com.splendor.replay.Replay;
+
+
+/**
+ * Interface for the aggregations computed by the {@code QueryEngine}.
+ * Every scanning thread accumulates the replays it reads into its own
+ * partial result, and the partial results are then merged two by two.
+ *
+ * @param <A> The type of the partial and final results.
+ */
+public interface Aggregation<A> {
+
+    /**
+     * Creates an empty partial result.
+     *
+     * @return A new partial result.
+     */
+    public A create();
+
+    /**
+     * Accumulates a replay into a partial result. The replay is a view 
+     * which is reused for the next record, so it must not be kept.
+     *
+     * @param partial The partial result of the current thread.
+     * @param replay The replay to accumulate.
+     */
+    public void accumulate(A partial, Replay replay);
+
+    /**
+     * Merges two partial results.
+     *
+     * @param left The first partial result, which may be reused.
+     * @param right The second partial result.
+     * @return The merged result.
+     */
+    public A merge(A left, A right);
+}
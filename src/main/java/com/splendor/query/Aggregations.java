@@ -0,0 +1,88 @@
+package com.splendor.query;
+
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import com.splendor.replay.Replay;
+
+
+/**
+ * Factory of the usual aggregations, all of them computing a 
+ * {@code Statistic}.
+ */
+public final class Aggregations {
+
+    /**
+     * Private constructor, as the class only has static members.
+     */
+    private Aggregations() {}
+
+    /**
+     * Counts the games matching a predicate.
+     *
+     * @param filter The predicate on the games to count.
+     * @return The aggregation, whose count is the number of games.
+     */
+    public static Aggregation<Statistic> count(Predicate<Replay> filter) {
+        return Aggregations.average(filter, replay -> 1);
+    }
+
+    /**
+     * Computes a metric over the games matching a predicate, e.g. the 
+     * average length of the games in which a noble is out.
+     *
+     * @param filter The predicate on the games to aggregate.
+     * @param metric The metric to compute for each game.
+     * @return The aggregation of the metric.
+     */
+    public static Aggregation<Statistic> average(
+            Predicate<Replay> filter, ToIntFunction<Replay> metric) {
+        return new StatisticAggregation() {
+            @Override
+            public void accumulate(Statistic partial, Replay replay) {
+                if (filter.test(replay))
+                    partial.add(metric.applyAsInt(replay));
+            }
+        };
+    }
+
+    /**
+     * Computes, among the players matching a predicate, the rate of the 
+     * ones matching an outcome, e.g. the win rate of the players who 
+     * bought a tier 3 card before round 10.
+     *
+     * @param population The predicate on the players to consider.
+     * @param outcome The predicate on the outcome to measure.
+     * @return The aggregation, whose mean is the rate.
+     */
+    public static Aggregation<Statistic> rate(
+            PlayerPredicate population, PlayerPredicate outcome) {
+        return new StatisticAggregation() {
+            @Override
+            public void accumulate(Statistic partial, Replay replay) {
+                for (int player = 0; player < replay.getPlayerCount(); 
+                        player++) {
+                    if (!population.test(replay, player)) continue;
+                    partial.add(outcome.test(replay, player) ? 1 : 0);
+                }
+            }
+        };
+    }
+
+    /**
+     * Base class of the aggregations computing a {@code Statistic}.
+     */
+    private abstract static class StatisticAggregation 
+            implements Aggregation<Statistic> {
+
+        @Override
+        public Statistic create() {
+            return new Statistic();
+        }
+
+        @Override
+        public Statistic merge(Statistic left, Statistic right) {
+            return left.merge(right);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.splendor.query;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.splendor.archive.ArchiveReader;
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.CardValues;
+import com.splendor.constants.Project;
+import com.splendor.replay.Replay;
+
+
+/**
+ * The CardValueJob class streams over the replays of an archive of
+ * simulated games and computes, for every card and noble of the catalog,
+ * its purchase rate, the average round on which it is purchased and the
+ * win rate delta of the players purchasing it. The counts are aggregated
+ * in parallel by the {@code QueryEngine}, then turned into a
+ * {@code CardValues} table.
+ */
+public class CardValueJob implements Aggregation<CardValueJob.Counts> {
+
+    /**
+     * The number of cards of the catalog.
+     */
+    private final int cards;
+
+    /**
+     * Constructs a job for a catalog of the specified size.
+     *
+     * @param cards The number of cards of the catalog.
+     */
+    public CardValueJob(int cards) {
+        this.cards = cards;
+    }
+
+    /**
+     * Runs the job over an archive.
+     *
+     * @param reader The archive of simulated games.
+     * @param engine The engine scanning the archive.
+     * @return The table of card values.
+     */
+    public CardValues run(ArchiveReader reader, QueryEngine engine) {
+        return this.toValues(engine.run(reader, this));
+    }
+
+    /**
+     * Computes the values of the cards from the aggregated counts.
+     *
+     * @param counts The counts aggregated over all the games.
+     * @return The table of card values.
+     */
+    public CardValues toValues(Counts counts) {
+        final float[] purchaseRates = new float[this.cards];
+        final float[] averageRounds = new float[this.cards];
+        final float[] winRateDeltas = new float[this.cards];
+        for (int id = 0; id < this.cards; id++) {
+            final long purchases = counts.purchases[id];
+            final long others = counts.players - purchases;
+            final long wins = counts.purchaseWins[id];
+            purchaseRates[id] = counts.games == 0
+                ? 0 : (float) purchases / counts.games;
+            averageRounds[id] = purchases == 0
+                ? Float.NaN : (float) counts.rounds[id] / purchases;
+            // Unknown when no player, or every player, purchased it.
+            winRateDeltas[id] = purchases == 0 || others == 0 ? 0
+                : (float) wins / purchases
+                    - (float) (counts.wins - wins) / others;
+        }
+        return new CardValues(
+            counts.games, purchaseRates, averageRounds, winRateDeltas);
+    }
+
+    @Override
+    public Counts create() {
+        return new Counts(this.cards);
+    }
+
+    @Override
+    public void accumulate(Counts partial, Replay replay) {
+        partial.games++;
+        partial.players += replay.getPlayerCount();
+        for (int player = 0; player < replay.getPlayerCount(); player++)
+            if (replay.isWinner(player)) partial.wins++;
+        for (int event = 0; event < replay.getEventCount(); event++) {
+            if (replay.getEventKind(event) == Replay.RESERVE) continue;
+            final int id = replay.getEventCard(event);
+            if (id < 0 || this.cards <= id) continue;
+            partial.purchases[id]++;
+            partial.rounds[id] += replay.getEventRound(event);
+            if (replay.isWinner(replay.getEventPlayer(event)))
+                partial.purchaseWins[id]++;
+        }
+    }
+
+    @Override
+    public Counts merge(Counts left, Counts right) {
+        left.games += right.games;
+        left.players += right.players;
+        left.wins += right.wins;
+        for (int id = 0; id < this.cards; id++) {
+            left.purchases[id] += right.purchases[id];
+            left.rounds[id] += right.rounds[id];
+            left.purchaseWins[id] += right.purchaseWins[id];
+        }
+        return left;
+    }
+
+    /**
+     * The Counts class holds the counts aggregated by the job.
+     */
+    public static class Counts {
+
+        /**
+         * The number of games, of players over all the games, and of
+         * winning players.
+         */
+        private long games = 0;
+        private long players = 0;
+        private long wins = 0;
+
+        /**
+         * For each card, the number of purchases, the sum of the rounds
+         * of the purchases, and the number of purchases by a winner.
+         */
+        private final long[] purchases;
+        private final long[] rounds;
+        private final long[] purchaseWins;
+
+        /**
+         * Constructs empty counts.
+         *
+         * @param cards The number of cards of the catalog.
+         */
+        private Counts(int cards) {
+            this.purchases = new long[cards];
+            this.rounds = new long[cards];
+            this.purchaseWins = new long[cards];
+        }
+    }
+
+    /**
+     * Computes the table of card values of an archive and writes it.
+     *
+     * @param args The directory of the archive, and optionally the path
+     *        of the table to write.
+     * @throws Exception If the archive or the catalog cannot be read,
+     *         or the table cannot be written.
+     */
+    public static void main(String[] args) throws Exception {
+        final ArchiveReader reader = new ArchiveReader(Paths.get(args[0]));
+        final Path output = Paths.get(
+            args.length > 1 ? args[1] : Project.CARD_VALUES_FILE);
+        final CardValueJob job = new CardValueJob(CardCatalog.size());
+        job.run(reader, new QueryEngine()).save(output);
+    }
+}
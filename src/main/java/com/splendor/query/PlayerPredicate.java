@@ -0,0 +1,42 @@
+package com.splendor.query;
+
+import com.splendor.replay.Replay;
+
+
+/**
+ * Interface for the predicates on a player of a replayed game, e.g. 
+ * "won the game" or "bought a tier 3 card before round 10".
+ */
+@FunctionalInterface
+public interface PlayerPredicate {
+
+    /**
+     * Evaluates the predicate on a player of a replay.
+     *
+     * @param replay The replay of the game.
+     * @param player The index of the player.
+     * @return {@code true} if the player matches the predicate,
+     *         {@code false} otherwise.
+     */
+    public boolean test(Replay replay, int player);
+
+    /**
+     * Combines the predicate with another one, both having to match.
+     *
+     * @param other The other predicate.
+     * @return The combined predicate.
+     */
+    public default PlayerPredicate and(PlayerPredicate other) {
+        return (replay, player) -> 
+            this.test(replay, player) && other.test(replay, player);
+    }
+
+    /**
+     * Negates the predicate.
+     *
+     * @return The negated predicate.
+     */
+    public default PlayerPredicate negate() {
+        return (replay, player) -> !this.test(replay, player);
+    }
+}
@@ -0,0 +1,85 @@
+package com.splendor.query;
+
+import java.util.function.Predicate;
+
+import com.splendor.replay.Replay;
+
+
+/**
+ * Factory of the usual predicates on replayed games and on their players.
+ * Predicates on the outcome only read the header of a record, while 
+ * predicates on the actions of a player go through its events.
+ */
+public final class Predicates {
+
+    /**
+     * Private constructor, as the class only has static members.
+     */
+    private Predicates() {}
+
+    /**
+     * Matches the games in which the specified noble is out.
+     *
+     * @param id The catalog identifier of the noble.
+     * @return The predicate.
+     */
+    public static Predicate<Replay> nobleOut(int id) {
+        return replay -> replay.hasNoble(id);
+    }
+
+    /**
+     * Matches the games with the specified number of players.
+     *
+     * @param count The number of players.
+     * @return The predicate.
+     */
+    public static Predicate<Replay> players(int count) {
+        return replay -> replay.getPlayerCount() == count;
+    }
+
+    /**
+     * Matches the players who won the game.
+     *
+     * @return The predicate.
+     */
+    public static PlayerPredicate won() {
+        return Replay::isWinner;
+    }
+
+    /**
+     * Matches the players who bought a card of the specified tier before 
+     * the specified round.
+     *
+     * @param tier The tier of the card.
+     * @param round The round before which the card must be bought.
+     * @return The predicate.
+     */
+    public static PlayerPredicate boughtTierBefore(int tier, int round) {
+        return (replay, player) -> {
+            for (int event = 0; event < replay.getEventCount(); event++) {
+                // Events are recorded in the order of the game.
+                if (replay.getEventRound(event) >= round) return false;
+                if (replay.getEventPlayer(event) == player
+                    && replay.getEventKind(event) == Replay.BUY
+                    && replay.getEventTier(event) == tier) return true;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Matches the players who bought the specified card.
+     *
+     * @param id The catalog identifier of the card.
+     * @return The predicate.
+     */
+    public static PlayerPredicate bought(int id) {
+        return (replay, player) -> {
+            for (int event = 0; event < replay.getEventCount(); event++)
+                if (replay.getEventPlayer(event) == player
+                    && replay.getEventKind(event) == Replay.BUY
+                    && replay.getEventCard(event) == id) return true;
+            return false;
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.splendor.query;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.splendor.archive.ArchiveReader;
+import com.splendor.archive.Segment;
+
+
+/**
+ * The QueryEngine class computes aggregations over all the replays of a 
+ * game archive. The mapped segments are scanned in parallel with 
+ * fork/join, each thread aggregating its own range, and the partial 
+ * results are merged at the end.
+ *
+ * For example, the win rate of the players who bought a tier 3 card 
+ * before round 10:
+ * <pre>
+ * engine.run(reader, Aggregations.rate(
+ *     Predicates.boughtTierBefore(3, 10), Predicates.won()));
+ * </pre>
+ */
+public class QueryEngine {
+
+    /**
+     * The pool running the scans.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a query engine running on the common fork/join pool.
+     */
+    public QueryEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a query engine running on the specified pool.
+     *
+     * @param pool The pool running the scans.
+     */
+    public QueryEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes an aggregation over all the replays of an archive.
+     *
+     * @param <A> The type of the result of the aggregation.
+     * @param reader The archive to scan.
+     * @param aggregation The aggregation to compute.
+     * @return The result of the aggregation.
+     */
+    public <A> A run(ArchiveReader reader, Aggregation<A> aggregation) {
+        final Segment[] segments = reader.getSegments();
+        return this.pool.invoke(new ScanTask<A>(
+            segments, 0, segments.length, aggregation));
+    }
+}
@@ -0,0 +1,137 @@
+package com.splendor.query;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.RecursiveTask;
+
+import com.splendor.archive.Segment;
+import com.splendor.constants.Values;
+import com.splendor.replay.Replay;
+
+
+/**
+ * The ScanTask class scans a range of an archive with fork/join: a range 
+ * of several segments is split by segment, and a range within a segment 
+ * is split in halves until it is small enough to be scanned by a single 
+ * thread into its own partial result.
+ *
+ * @param <A> The type of the results of the aggregation.
+ */
+class ScanTask<A> extends RecursiveTask<A> {
+
+    /**
+     * The segments of the archive.
+     */
+    private final Segment[] segments;
+
+    /**
+     * The range of segments to scan, first included, last excluded.
+     */
+    private final int first;
+    private final int last;
+
+    /**
+     * The range of slots to scan when the task covers a single segment, 
+     * first included, last excluded.
+     */
+    private final int from;
+    private final int to;
+
+    /**
+     * The aggregation to compute.
+     */
+    private final Aggregation<A> aggregation;
+
+    /**
+     * Constructs a task scanning whole segments.
+     *
+     * @param segments The segments of the archive.
+     * @param first The first segment to scan.
+     * @param last The segment following the last one to scan.
+     * @param aggregation The aggregation to compute.
+     */
+    ScanTask(Segment[] segments, int first, int last,
+            Aggregation<A> aggregation) {
+        this(segments, first, last, 0, 
+            last - first == 1 ? segments[first].getCount() : 0, 
+            aggregation);
+    }
+
+    /**
+     * Constructs a task scanning a range of segments or of slots.
+     *
+     * @param segments The segments of the archive.
+     * @param first The first segment to scan.
+     * @param last The segment following the last one to scan.
+     * @param from The first slot to scan, for a single segment.
+     * @param to The slot following the last one to scan, for a 
+     *        single segment.
+     * @param aggregation The aggregation to compute.
+     */
+    private ScanTask(Segment[] segments, int first, int last, int from, 
+            int to, Aggregation<A> aggregation) {
+        this.segments = segments;
+        this.first = first;
+        this.last = last;
+        this.from = from;
+        this.to = to;
+        this.aggregation = aggregation;
+    }
+
+    /**
+     * Scans the range, splitting it if it is too large.
+     *
+     * @return The partial result of the range.
+     */
+    @Override
+    protected A compute() {
+        if (this.last - this.first > 1) { // Split by segment.
+            final int middle = (this.first + this.last) >>> 1;
+            return this.join(
+                new ScanTask<A>(this.segments, this.first, middle, 
+                    this.aggregation),
+                new ScanTask<A>(this.segments, middle, this.last, 
+                    this.aggregation));
+        }
+        if (this.to - this.from > Values.QUERY_SCAN_THRESHOLD) {
+            final int middle = (this.from + this.to) >>> 1;
+            return this.join(
+                new ScanTask<A>(this.segments, this.first, this.last, 
+                    this.from, middle, this.aggregation),
+                new ScanTask<A>(this.segments, this.first, this.last, 
+                    middle, this.to, this.aggregation));
+        }
+        return this.scan();
+    }
+
+    /**
+     * Runs two subtasks in parallel and merges their results.
+     *
+     * @param left The first subtask, forked.
+     * @param right The second subtask, run by the current thread.
+     * @return The merged result.
+     */
+    private A join(ScanTask<A> left, ScanTask<A> right) {
+        left.fork();
+        final A result = right.compute();
+        return this.aggregation.merge(left.join(), result);
+    }
+
+    /**
+     * Scans the slots of the range, reusing a single replay view.
+     *
+     * @return The partial result of the range.
+     */
+    private A scan() {
+        final A partial = this.aggregation.create();
+        if (this.first == this.last) return partial;
+        final Segment segment = this.segments[this.first];
+        final Replay replay = new Replay();
+        for (int slot = this.from; slot < this.to; slot++) {
+            final ByteBuffer record = segment.getRecord(slot);
+            // Skip the records never written, or of another version.
+            if (replay.wrap(record))
+                this.aggregation.accumulate(partial, replay);
+        }
+        return partial;
+    }
+}
@@ -0,0 +1,103 @@
+package com.splendor.query;
+
+
+/**
+ * The Statistic class accumulates integer values, and gives their count, 
+ * sum, minimum, maximum and mean. A rate is the mean of values which are 
+ * either 0 or 1.
+ */
+public class Statistic {
+
+    /**
+     * The number of values, and their sum.
+     */
+    private long count = 0;
+    private long sum = 0;
+
+    /**
+     * The minimum and maximum values.
+     */
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * Adds a value.
+     *
+     * @param value The value to add.
+     */
+    public void add(int value) {
+        this.count++;
+        this.sum += value;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Adds the values of another statistic.
+     *
+     * @param other The statistic to merge into this one.
+     * @return This statistic.
+     */
+    public Statistic merge(Statistic other) {
+        this.count += other.count;
+        this.sum += other.sum;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        return this;
+    }
+
+    /**
+     * Retrieves the number of values.
+     *
+     * @return The number of values.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Retrieves the sum of the values.
+     *
+     * @return The sum of the values.
+     */
+    public long getSum() {
+        return this.sum;
+    }
+
+    /**
+     * Retrieves the minimum value.
+     *
+     * @return The minimum value, or 0 if there is no value.
+     */
+    public int getMin() {
+        return this.count == 0 ? 0 : this.min;
+    }
+
+    /**
+     * Retrieves the maximum value.
+     *
+     * @return The maximum value, or 0 if there is no value.
+     */
+    public int getMax() {
+        return this.count == 0 ? 0 : this.max;
+    }
+
+    /**
+     * Computes the mean of the values.
+     *
+     * @return The mean of the values, or {@code NaN} if there is no value.
+     */
+    public double getMean() {
+        return this.count == 0 ? Double.NaN : (double) this.sum / this.count;
+    }
+
+    /**
+     * Returns a string representation of the statistic.
+     *
+     * @return The count and the mean of the values.
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.4f", this.count, this.getMean());
+    }
+}
@@ -0,0 +1,250 @@
+package com.splendor.replay;
+
+import java.nio.ByteBuffer;
+
+import com.splendor.constants.Values;
+
+
+/**
+ * The Replay class is a read-only view over the record of a finished
+ * game, as written by the {@code ReplayRecorder}. Every field is read at
+ * a fixed offset of the underlying buffer, so that reading the outcome of
+ * a game never decodes its events, and one view can be reused for many
+ * records through {@link #wrap(ByteBuffer)}.
+ *
+ * Layout of a record (big-endian):
+ * <pre>
+ *  0  byte      version
+ *  1  byte      number of players
+ *  2  short     number of rounds played
+ *  4  byte      mask of the winning players
+ *  5  byte      number of nobles
+ *  6  short[5]  catalog identifiers of the nobles
+ * 16  byte[4]   points of each player
+ * 20  short     number of events
+ * 22  short     unused
+ * 24  events, 8 bytes each:
+ *     short round, byte player, byte kind, short card, byte tier,
+ *     byte bonus (ordinal of the resource, -1 for a noble)
+ * </pre>
+ */
+public class Replay {
+
+    /**
+     * Version of the record format.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * Kinds of event: a card bought, a card reserved, a noble visit.
+     */
+    public static final byte BUY = 0;
+    public static final byte RESERVE = 1;
+    public static final byte NOBLE = 2;
+
+    /**
+     * Offsets of the fields of the header.
+     */
+    static final int PLAYERS = 1;
+    static final int ROUNDS = 2;
+    static final int WINNERS = 4;
+    static final int NOBLE_COUNT = 5;
+    static final int NOBLES = 6;
+    static final int POINTS = 16;
+    static final int EVENT_COUNT = 20;
+
+    /**
+     * Size, in bytes, of the header and of an event.
+     */
+    public static final int HEADER_SIZE = 24;
+    public static final int EVENT_SIZE = 8;
+
+    /**
+     * Maximum number of nobles of a game.
+     */
+    static final int MAX_NOBLES = Values.MAX_PLAYERS + 1;
+
+    /**
+     * The record currently viewed, and the offset of its first byte.
+     */
+    private ByteBuffer buffer;
+    private int offset;
+
+    /**
+     * Constructs a view over no record, to be set with
+     * {@link #wrap(ByteBuffer)}.
+     */
+    public Replay() {}
+
+    /**
+     * Constructs a view over the specified record.
+     *
+     * @param buffer The record, starting at the position of the buffer.
+     */
+    public Replay(ByteBuffer buffer) {
+        this.wrap(buffer);
+    }
+
+    /**
+     * Sets the record viewed, without copying it.
+     *
+     * @param buffer The record, starting at the position of the buffer.
+     * @return {@code true} if the buffer holds a record of a supported
+     *         version, {@code false} if it is empty or unsupported.
+     */
+    public boolean wrap(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.offset = buffer.position();
+        return buffer.remaining() >= HEADER_SIZE
+            && buffer.get(this.offset) == VERSION;
+    }
+
+    /**
+     * Retrieves the number of players of the game.
+     *
+     * @return The number of players.
+     */
+    public int getPlayerCount() {
+        return this.buffer.get(this.offset + PLAYERS);
+    }
+
+    /**
+     * Retrieves the number of rounds played, i.e. the length of the game.
+     *
+     * @return The number of rounds.
+     */
+    public int getRounds() {
+        return this.buffer.getShort(this.offset + ROUNDS);
+    }
+
+    /**
+     * Checks whether the specified player won the game.
+     *
+     * @param player The index of the player.
+     * @return {@code true} if the player won, {@code false} otherwise.
+     */
+    public boolean isWinner(int player) {
+        return (this.buffer.get(this.offset + WINNERS) & 1 << player) != 0;
+    }
+
+    /**
+     * Retrieves the number of nobles of the game.
+     *
+     * @return The number of nobles.
+     */
+    public int getNobleCount() {
+        return this.buffer.get(this.offset + NOBLE_COUNT);
+    }
+
+    /**
+     * Retrieves the catalog identifier of a noble of the game.
+     *
+     * @param index The index of the noble.
+     * @return The identifier of the noble.
+     */
+    public int getNoble(int index) {
+        return this.buffer.getShort(this.offset + NOBLES + index * 2);
+    }
+
+    /**
+     * Checks whether the noble with the specified identifier was out
+     * during the game.
+     *
+     * @param id The catalog identifier of the noble.
+     * @return {@code true} if the noble was out, {@code false} otherwise.
+     */
+    public boolean hasNoble(int id) {
+        for (int index = 0; index < this.getNobleCount(); index++)
+            if (this.getNoble(index) == id) return true;
+        return false;
+    }
+
+    /**
+     * Retrieves the points of a player at the end of the game.
+     *
+     * @param player The index of the player.
+     * @return The points of the player.
+     */
+    public int getPoints(int player) {
+        return this.buffer.get(this.offset + POINTS + player);
+    }
+
+    /**
+     * Retrieves the number of events of the game.
+     *
+     * @return The number of events.
+     */
+    public int getEventCount() {
+        return this.buffer.getShort(this.offset + EVENT_COUNT);
+    }
+
+    /**
+     * Retrieves the round of an event, starting at 1.
+     *
+     * @param event The index of the event.
+     * @return The round during which the event happened.
+     */
+    public int getEventRound(int event) {
+        return this.buffer.getShort(this.event(event));
+    }
+
+    /**
+     * Retrieves the player of an event.
+     *
+     * @param event The index of the event.
+     * @return The index of the player.
+     */
+    public int getEventPlayer(int event) {
+        return this.buffer.get(this.event(event) + 2);
+    }
+
+    /**
+     * Retrieves the kind of an event.
+     *
+     * @param event The index of the event.
+     * @return {@code BUY}, {@code RESERVE} or {@code NOBLE}.
+     */
+    public int getEventKind(int event) {
+        return this.buffer.get(this.event(event) + 3);
+    }
+
+    /**
+     * Retrieves the catalog identifier of the card of an event.
+     *
+     * @param event The index of the event.
+     * @return The identifier of the card.
+     */
+    public int getEventCard(int event) {
+        return this.buffer.getShort(this.event(event) + 4);
+    }
+
+    /**
+     * Retrieves the tier of the card of an event.
+     *
+     * @param event The index of the event.
+     * @return The tier of the card, 0 for a noble.
+     */
+    public int getEventTier(int event) {
+        return this.buffer.get(this.event(event) + 6);
+    }
+
+    /**
+     * Retrieves the bonus of the card of an event.
+     *
+     * @param event The index of the event.
+     * @return The ordinal of the bonus resource, or -1 for a noble.
+     */
+    public int getEventBonus(int event) {
+        return this.buffer.get(this.event(event) + 7);
+    }
+
+    /**
+     * Computes the absolute offset of an event.
+     *
+     * @param event The index of the event.
+     * @return The offset of the event in the buffer.
+     */
+    private int event(int event) {
+        return this.offset + HEADER_SIZE + event * EVENT_SIZE;
+    }
+}
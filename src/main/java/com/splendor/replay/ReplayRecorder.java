@@ -0,0 +1,173 @@
+package com.splendor.replay;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.splendor.Game;
+import com.splendor.GameListener;
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.DevCard;
+import com.splendor.cards.Noble;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+
+
+/**
+ * The ReplayRecorder class listens to a game and records it as a compact
+ * replay record (see {@link Replay} for the layout): the nobles out, the
+ * outcome, and one event per card bought or reserved and per noble visit.
+ *
+ * Events are found by comparing, after every turn, the cards of the player
+ * with the ones already recorded, so that the actions need not know about
+ * the recorder. A recorder records one game at a time.
+ */
+public class ReplayRecorder implements GameListener {
+
+    /**
+     * The events recorded so far.
+     */
+    private ByteBuffer events = ByteBuffer.allocate(64 * Replay.EVENT_SIZE);
+
+    /**
+     * The cards already recorded for each player, by catalog identifier.
+     */
+    private BitSet[] purchased;
+    private BitSet[] reserved;
+
+    /**
+     * The catalog identifiers of the nobles of the game.
+     */
+    private int[] nobles;
+
+    /**
+     * The record of the last finished game, or {@code null}.
+     */
+    private byte[] record;
+
+    /**
+     * Starts recording a game. The cards the players already own, if the
+     * game was restored, are not recorded as events.
+     *
+     * @param game The game being played.
+     */
+    @Override
+    public void gameStarted(Game game) {
+        this.events.clear();
+        this.record = null;
+        this.nobles = Arrays.stream(game.getBoard().getNobles())
+            .mapToInt(CardCatalog::getId).filter(id -> id >= 0)
+            .limit(Replay.MAX_NOBLES).toArray();
+        final Player[] players = game.getPlayers();
+        this.purchased = new BitSet[players.length];
+        this.reserved = new BitSet[players.length];
+        for (Player player : players) {
+            final int index = player.getId();
+            this.purchased[index] = new BitSet();
+            this.reserved[index] = new BitSet();
+            this.findNewCards(player, 0, false);
+        }
+    }
+
+    /**
+     * Records the cards bought and reserved, and the nobles visited by
+     * the player during the turn.
+     *
+     * @param game The game being played.
+     * @param player The player who has just played.
+     */
+    @Override
+    public void turnPlayed(Game game, Player player) {
+        final int round = game.getTurn() / game.getNbPlayers() + 1;
+        this.findNewCards(player, round, true);
+    }
+
+    /**
+     * Builds the record of the game.
+     *
+     * @param game The game that is over.
+     */
+    @Override
+    public void gameOver(Game game) {
+        final Player[] players = game.getPlayers();
+        final int eventsSize = this.events.position();
+        final ByteBuffer record =
+            ByteBuffer.allocate(Replay.HEADER_SIZE + eventsSize);
+        int winners = 0;
+        for (Player player : players)
+            if (player.getPoints() >= Values.WIN_THRESHOLD)
+                winners |= 1 << player.getId();
+        record.put(Replay.VERSION).put((byte) players.length);
+        record.putShort((short) (game.getTurn() / players.length));
+        record.put((byte) winners).put((byte) this.nobles.length);
+        for (int index = 0; index < Replay.MAX_NOBLES; index++)
+            record.putShort((short) (index < this.nobles.length
+                ? this.nobles[index] : -1));
+        for (int index = 0; index < Values.MAX_PLAYERS; index++)
+            record.put((byte) (index < players.length
+                ? players[index].getPoints() : 0));
+        record.putShort((short) (eventsSize / Replay.EVENT_SIZE));
+        record.putShort((short) 0);
+        record.put(this.events.array(), 0, eventsSize);
+        this.record = record.array();
+    }
+
+    /**
+     * Retrieves the record of the last finished game.
+     *
+     * @return The record of the game, or {@code null} if no game
+     *         recorded by this recorder is over yet.
+     */
+    public byte[] getRecord() {
+        return this.record;
+    }
+
+    /**
+     * Finds the cards of a player which are not recorded yet, marks them
+     * as recorded and optionally adds the matching events.
+     *
+     * @param player The player whose cards are checked.
+     * @param round The current round.
+     * @param record {@code true} to add events, {@code false} to only
+     *        mark the cards as recorded.
+     */
+    private void findNewCards(Player player, int round, boolean record) {
+        final int index = player.getId();
+        for (DevCard card : player.getPurchasedCards()) {
+            final int id = CardCatalog.getId(card);
+            if (id < 0 || this.purchased[index].get(id)) continue;
+            this.purchased[index].set(id);
+            final byte kind = card instanceof Noble
+                ? Replay.NOBLE : Replay.BUY;
+            if (record) this.addEvent(round, index, kind, card);
+        }
+        for (DevCard card : player.getReservedCards()) {
+            final int id = CardCatalog.getId(card);
+            if (id < 0 || this.reserved[index].get(id)) continue;
+            this.reserved[index].set(id);
+            if (record) this.addEvent(round, index, Replay.RESERVE, card);
+        }
+    }
+
+    /**
+     * Adds an event to the record, growing the buffer of events if needed.
+     *
+     * @param round The round during which the event happened.
+     * @param player The index of the player.
+     * @param kind The kind of the event.
+     * @param card The card of the event.
+     */
+    private void addEvent(int round, int player, byte kind, DevCard card) {
+        if (this.events.remaining() < Replay.EVENT_SIZE) {
+            final ByteBuffer events =
+                ByteBuffer.allocate(this.events.capacity() * 2);
+            this.events.flip();
+            this.events = events.put(this.events);
+        }
+        final int bonus = card.getBonus() == null
+            ? -1 : card.getBonus().ordinal();
+        this.events.putShort((short) round).put((byte) player).put(kind);
+        this.events.putShort((short) card.getId());
+        this.events.put((byte) card.getLevel()).put((byte) bonus);
+    }
+}
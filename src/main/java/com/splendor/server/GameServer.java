@@ -0,0 +1,326 @@
+package com.splendor.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.splendor.constants.Messages;
+import com.splendor.constants.Values;
+import com.splendor.exceptions.CardReaderException;
+
+
+/**
+ * The GameServer class lets remote human players play against robots, 
+ * many games at once in one JVM. Every connection gets its own table 
+ * and plays a line-based protocol (see {@link Session}), e.g. with 
+ * {@code nc localhost 7700}.
+ *
+ * All the connections are served by one thread with a selector, and the 
+ * games run on a shared executor, so that neither a connection nor a 
+ * game holds a thread while waiting for the player.
+ */
+public class GameServer implements Runnable, Closeable {
+
+    /**
+     * The socket accepting the connections.
+     */
+    private final ServerSocketChannel server;
+
+    /**
+     * The selector of the thread serving the connections.
+     */
+    private final Selector selector;
+
+    /**
+     * The number of players of each game, including the human player.
+     */
+    private final int players;
+
+    /**
+     * The executor running the games.
+     */
+    private final Executor executor;
+
+    /**
+     * The sessions with output waiting to be sent.
+     */
+    private final Queue<Session> writes = 
+        new ConcurrentLinkedQueue<Session>();
+
+    /**
+     * The number of sessions opened, and of sessions over.
+     */
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong closed = new AtomicLong();
+
+    /**
+     * The number of connections which could not be accepted.
+     */
+    private final AtomicLong refused = new AtomicLong();
+
+    /**
+     * Whether accepting the connections is paused, after a failure.
+     */
+    private boolean acceptPaused = false;
+
+    /**
+     * Whether the server is running.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a server listening on the specified address.
+     *
+     * @param address The address to listen on, e.g. the loopback 
+     *        address to only serve the local machine.
+     * @param players The number of players of each game, including the 
+     *        human player.
+     * @param executor The executor running the games.
+     * @throws IOException If the address cannot be listened on.
+     */
+    public GameServer(InetSocketAddress address, int players, 
+            Executor executor) throws IOException {
+        this.players = players;
+        this.executor = executor;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        this.server.bind(address, Values.SERVER_BACKLOG);
+        this.server.configureBlocking(false);
+        this.server.register(this.selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Retrieves the address the server listens on.
+     *
+     * @return The address of the server.
+     * @throws IOException If the socket of the server is closed.
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) this.server.getLocalAddress();
+    }
+
+    /**
+     * Retrieves the executor running the games.
+     *
+     * @return The executor of the games.
+     */
+    Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Retrieves the number of sessions opened since the server started.
+     *
+     * @return The number of sessions opened.
+     */
+    public long getOpenedSessions() {
+        return this.opened.get();
+    }
+
+    /**
+     * Retrieves the number of sessions over since the server started.
+     *
+     * @return The number of sessions over.
+     */
+    public long getClosedSessions() {
+        return this.closed.get();
+    }
+
+    /**
+     * Retrieves the number of connections which could not be accepted 
+     * since the server started, e.g. as it ran out of file descriptors.
+     *
+     * @return The number of connections refused.
+     */
+    public long getRefusedConnections() {
+        return this.refused.get();
+    }
+
+    /**
+     * Serves the connections until the server is closed, or its selector 
+     * fails.
+     */
+    @Override
+    public void run() {
+        try {
+            while (this.running) {
+                if (!this.acceptPaused) this.selector.select();
+                else {
+                    this.selector.select(Values.SERVER_ACCEPT_PAUSE);
+                    this.server.keyFor(this.selector)
+                        .interestOps(SelectionKey.OP_ACCEPT);
+                    this.acceptPaused = false;
+                }
+                this.registerWrites();
+                final Iterator<SelectionKey> keys = 
+                    this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable()) this.accept();
+                    else this.serve(key);
+                }
+            }
+        } catch (IOException exception) {
+            this.running = false;
+        } finally {
+            for (SelectionKey key : this.selector.keys())
+                this.close(key);
+            try {
+                this.selector.close();
+            } catch (IOException exception) {}
+        }
+    }
+
+    /**
+     * Stops the server and closes every connection.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        this.selector.wakeup();
+    }
+
+    /**
+     * Asks the thread of the server to send the output of a session.
+     *
+     * @param session The session with output waiting to be sent.
+     */
+    void requestWrite(Session session) {
+        this.writes.add(session);
+        this.selector.wakeup();
+    }
+
+    /**
+     * Accepts a new connection and opens its session. A connection which 
+     * cannot be accepted is counted, and the other connections are still 
+     * served, accepting being paused for a while as the same failure 
+     * would most likely happen again at once.
+     */
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = this.server.accept();
+            if (channel == null) return;
+            channel.configureBlocking(false);
+            final SelectionKey key = 
+                channel.register(this.selector, SelectionKey.OP_READ);
+            try {
+                key.attach(new Session(this, channel, this.players));
+                this.opened.incrementAndGet();
+            } catch (CardReaderException exception) {
+                this.close(key);
+            }
+        } catch (IOException exception) {
+            this.refused.incrementAndGet();
+            this.server.keyFor(this.selector).interestOps(0);
+            this.acceptPaused = true;
+            if (channel != null) try {
+                channel.close();
+            } catch (IOException closing) {}
+        }
+    }
+
+    /**
+     * Reads from, or writes to, the connection of a session.
+     *
+     * @param key The key of the connection.
+     */
+    private void serve(SelectionKey key) {
+        final Session session = (Session) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable() && !session.read())
+                this.close(key);
+            if (key.isValid() && key.isWritable()) this.send(key);
+        } catch (IOException exception) {
+            this.close(key);
+        }
+    }
+
+    /**
+     * Registers the interest in writing of the sessions with output 
+     * waiting to be sent.
+     */
+    private void registerWrites() {
+        Session session;
+        while ((session = this.writes.poll()) != null) {
+            final SelectionKey key = 
+                session.getChannel().keyFor(this.selector);
+            if (key == null || !key.isValid()) continue;
+            try {
+                this.send(key);
+            } catch (IOException exception) {
+                this.close(key);
+            }
+        }
+    }
+
+    /**
+     * Sends the waiting output of a session, keeping the interest in 
+     * writing while some remains, and closes the connection once the 
+     * game is over and its output sent.
+     *
+     * @param key The key of the connection.
+     * @throws IOException If the connection cannot be written.
+     */
+    private void send(SelectionKey key) throws IOException {
+        final Session session = (Session) key.attachment();
+        final boolean sent = session.write();
+        if (session.isOver()) this.close(key);
+        else if (sent) key.interestOps(SelectionKey.OP_READ);
+        else key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Closes the connection of a key, abandoning its game if not over.
+     *
+     * @param key The key of the connection.
+     */
+    private void close(SelectionKey key) {
+        key.cancel();
+        if (key.attachment() != null) this.closed.incrementAndGet();
+        key.attach(null);
+        try {
+            key.channel().close();
+        } catch (IOException exception) {}
+    }
+
+    /**
+     * Starts a game server on the local machine.
+     *
+     * @param args Optionally the port, the number of players of each 
+     *        game and the number of threads running the games.
+     * @throws IOException If the port cannot be listened on.
+     */
+    public static void main(String[] args) throws IOException {
+        final int port = args.length > 0 
+            ? Integer.parseInt(args[0]) : Values.SERVER_PORT;
+        final int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        final int threads = args.length > 2 ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+        final ExecutorService executor = 
+            Executors.newFixedThreadPool(threads);
+        final InetSocketAddress address = 
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        try (GameServer server = new GameServer(address, players, executor)) {
+            System.out.println(MessageFormat.format(
+                Messages.SERVER_LISTENING, server.getAddress()));
+            server.run();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.splendor.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.splendor.constants.Messages;
+import com.splendor.constants.Symbols;
+
+
+/**
+ * The LoadGenerator class simulates many concurrent remote players 
+ * connected to a game server, to check how it scales. Every scripted 
+ * client passes its turn each time it is prompted, until its game is 
+ * over, then connects again for its next game.
+ *
+ * All the clients are driven by one thread with a selector.
+ */
+public class LoadGenerator {
+
+    /**
+     * The input sent by the scripted clients: passing their turn.
+     */
+    private static final byte[] PASS = 
+        "E\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The prompt marking that the game waits for an input.
+     */
+    private static final byte[] PROMPT = 
+        Symbols.PROMPT.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The address of the server.
+     */
+    private final InetSocketAddress address;
+
+    /**
+     * The number of concurrent clients, and of games each one plays.
+     */
+    private final int clients;
+    private final int games;
+
+    /**
+     * The number of games played so far, of games which ended on an 
+     * error, and of clients still playing.
+     */
+    private int played = 0;
+    private int errors = 0;
+    private int active = 0;
+
+    /**
+     * Constructs a load generator.
+     *
+     * @param address The address of the server.
+     * @param clients The number of concurrent clients.
+     * @param games The number of games each client plays.
+     */
+    public LoadGenerator(InetSocketAddress address, int clients, int games) {
+        this.address = address;
+        this.clients = clients;
+        this.games = games;
+    }
+
+    /**
+     * The Client class holds the state of one scripted client.
+     */
+    private static class Client {
+
+        /**
+         * The number of games left to play.
+         */
+        private int games;
+
+        /**
+         * Whether the server sent output for the current game, which it 
+         * does not for a connection it fails to accept.
+         */
+        private boolean served;
+
+        /**
+         * The buffer receiving the output of the game, of which only 
+         * the end matters.
+         */
+        private final ByteBuffer input = ByteBuffer.allocate(8192);
+
+        /**
+         * Constructs a client.
+         *
+         * @param games The number of games to play.
+         */
+        private Client(int games) {
+            this.games = games;
+        }
+    }
+
+    /**
+     * Plays every game of every client.
+     *
+     * @return The number of games played until their end, the games 
+     *         which ended on an error being counted apart.
+     * @throws IOException If the selector cannot be opened.
+     * @see #getErrors()
+     */
+    public int run() throws IOException {
+        try (Selector selector = Selector.open()) {
+            for (int index = 0; index < this.clients; index++)
+                this.connect(selector, new Client(this.games));
+            this.active = this.clients;
+            while (this.active > 0) {
+                selector.select();
+                final Iterator<SelectionKey> keys = 
+                    selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    this.serve(selector, key);
+                }
+            }
+        }
+        return this.played;
+    }
+
+    /**
+     * Retrieves the number of games which ended on an error: a connection 
+     * refused, reset or closed before the game started.
+     *
+     * @return The number of games which ended on an error.
+     */
+    public int getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Connects a client to the server for its next game.
+     *
+     * @param selector The selector driving the clients.
+     * @param client The client to connect.
+     * @throws IOException If the connection cannot be opened.
+     */
+    private void connect(Selector selector, Client client) 
+            throws IOException {
+        final SocketChannel channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        client.served = false;
+        // A connection to the local machine may be established at once.
+        final int operations = channel.connect(this.address)
+            ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT;
+        channel.register(selector, operations, client);
+    }
+
+    /**
+     * Completes the connection of a client, or reads the output of its 
+     * game and passes if prompted. Once the game is over, the client 
+     * connects again if it has games left to play.
+     *
+     * @param selector The selector driving the clients.
+     * @param key The key of the connection of the client.
+     * @throws IOException If a new connection cannot be opened.
+     */
+    private void serve(Selector selector, SelectionKey key) 
+            throws IOException {
+        final SocketChannel channel = (SocketChannel) key.channel();
+        final Client client = (Client) key.attachment();
+        try {
+            if (key.isConnectable()) {
+                channel.finishConnect();
+                key.interestOps(SelectionKey.OP_READ);
+                return;
+            }
+            client.input.clear();
+            final int read = channel.read(client.input);
+            if (read < 0) {
+                this.finish(selector, key, client, !client.served);
+                return;
+            }
+            if (read > 0) client.served = true;
+            if (read > 0 && this.isPrompted(client.input))
+                channel.write(ByteBuffer.wrap(PASS));
+        } catch (IOException exception) {
+            this.finish(selector, key, client, true);
+        }
+    }
+
+    /**
+     * Checks whether the output just read ends with the prompt.
+     *
+     * @param input The output just read.
+     * @return {@code true} if the game waits for an input.
+     */
+    private boolean isPrompted(ByteBuffer input) {
+        final int end = input.position();
+        if (end < PROMPT.length) return false;
+        for (int index = 0; index < PROMPT.length; index++)
+            if (input.get(end - PROMPT.length + index) != PROMPT[index])
+                return false;
+        return true;
+    }
+
+    /**
+     * Ends the game of a client, and starts its next one if any.
+     *
+     * @param selector The selector driving the clients.
+     * @param key The key of the connection of the client.
+     * @param client The client.
+     * @param failed Whether the game ended on an error.
+     * @throws IOException If a new connection cannot be opened.
+     */
+    private void finish(Selector selector, SelectionKey key, Client client,
+            boolean failed) throws IOException {
+        key.cancel();
+        key.channel().close();
+        if (failed) this.errors++;
+        else this.played++;
+        if (--client.games > 0) this.connect(selector, client);
+        else this.active--;
+    }
+
+    /**
+     * Starts a game server on the local machine, then simulates many 
+     * clients playing on it and reports the throughput.
+     *
+     * @param args Optionally the number of concurrent clients, the 
+     *        number of games per client and the number of threads 
+     *        running the games.
+     * @throws IOException If the server cannot be started.
+     */
+    public static void main(String[] args) throws IOException {
+        final int clients = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        final int games = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        final int threads = args.length > 2 ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+        final ExecutorService executor = 
+            Executors.newFixedThreadPool(threads);
+        final InetSocketAddress address = 
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        final GameServer server = new GameServer(address, 2, executor);
+        final Thread thread = new Thread(server);
+        thread.start();
+        final long start = System.nanoTime();
+        final LoadGenerator generator = 
+            new LoadGenerator(server.getAddress(), clients, games);
+        final int played = generator.run();
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(MessageFormat.format(Messages.LOAD_REPORT, 
+            played, clients, elapsed, played * 1000 / Math.max(1, elapsed),
+            generator.getErrors(), server.getRefusedConnections()));
+        server.close();
+        executor.shutdown();
+    }
+}
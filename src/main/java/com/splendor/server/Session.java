@@ -0,0 +1,212 @@
+package com.splendor.server;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.splendor.Game;
+import com.splendor.GameListener;
+import com.splendor.Table;
+import com.splendor.Watchdog;
+import com.splendor.constants.Messages;
+import com.splendor.constants.Symbols;
+import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
+import com.splendor.display.Sink;
+import com.splendor.exceptions.CardReaderException;
+import com.splendor.player.Player;
+
+
+/**
+ * The Session class is the connection of one remote human player to the 
+ * game server, playing one game against robots at its own table. Every 
+ * line received is an input of the player, in the format of the 
+ * {@code HumanAction} inputs ("A", "1 3", "R 2"); the prompts and the 
+ * board are sent back as text, followed by {@code Symbols.PROMPT} when 
+ * the game waits for an input. The connection is closed once the game 
+ * is over.
+ *
+ * The socket is only read and written by the thread of the server, and 
+ * the game only runs on the executor of its table: the output of the 
+ * game is buffered, then handed to the server each time the game stops.
+ */
+class Session implements GameListener, Sink {
+
+    /**
+     * The server the session is connected to.
+     */
+    private final GameServer server;
+
+    /**
+     * The connection of the player.
+     */
+    private final SocketChannel channel;
+
+    /**
+     * The table of the game of the player.
+     */
+    private final Table table;
+
+    /**
+     * The bytes received and not decoded into a line yet.
+     */
+    private final ByteBuffer input = 
+        ByteBuffer.allocate(Values.SERVER_LINE_LENGTH);
+
+    /**
+     * The text written by the game since the last flush.
+     */
+    private final StringBuilder pending = new StringBuilder();
+
+    /**
+     * The bytes waiting to be sent, in order.
+     */
+    private final Queue<ByteBuffer> output = 
+        new ConcurrentLinkedQueue<ByteBuffer>();
+
+    /**
+     * Whether the game is over, the connection being closed once the 
+     * output is sent.
+     */
+    private volatile boolean finished = false;
+
+    /**
+     * Constructs the session of a newly connected player and starts 
+     * their game.
+     *
+     * @param server The server the player is connected to.
+     * @param channel The connection of the player.
+     * @param players The number of players of the game, including the 
+     *        human player.
+     * @throws CardReaderException If the cards cannot be read.
+     */
+    Session(GameServer server, SocketChannel channel, int players) 
+            throws CardReaderException {
+        this.server = server;
+        this.channel = channel;
+        final GameIO io = new GameIO(Reader.nullReader(), this, this);
+        final Game game = new Game(players, false, io);
+        game.setWatchdog(new Watchdog(Values.DECISION_BUDGET));
+        game.addListener(this);
+        this.table = new Table(game, server.getExecutor());
+        this.table.getCompletion().whenComplete((result, throwable) -> {
+            if (throwable != null) this.println(MessageFormat.format(
+                Messages.SERVER_GAME_ERROR, throwable));
+            this.finished = true;
+            this.flush();
+        });
+        this.table.start();
+    }
+
+    /**
+     * Retrieves the connection of the player.
+     *
+     * @return The connection of the player.
+     */
+    SocketChannel getChannel() {
+        return this.channel;
+    }
+
+    /**
+     * Reads the bytes received, and submits every complete line to the 
+     * game as an input of the player.
+     *
+     * @return {@code false} if the connection was closed by the player 
+     *         or a line is too long, {@code true} otherwise.
+     * @throws IOException If the connection cannot be read.
+     */
+    boolean read() throws IOException {
+        if (this.channel.read(this.input) < 0) return false;
+        int start = 0;
+        for (int index = 0; index < this.input.position(); index++) {
+            if (this.input.get(index) != '\n') continue;
+            final String line = new String(this.input.array(), start, 
+                index - start, StandardCharsets.UTF_8);
+            this.table.submitInput(line.strip());
+            start = index + 1;
+        }
+        this.input.limit(this.input.position()).position(start);
+        this.input.compact();
+        // A line longer than the buffer can never be completed.
+        return this.input.hasRemaining();
+    }
+
+    /**
+     * Sends as many of the waiting bytes as the connection accepts.
+     *
+     * @return {@code true} if every byte was sent, {@code false} if some 
+     *         are still waiting.
+     * @throws IOException If the connection cannot be written.
+     */
+    boolean write() throws IOException {
+        ByteBuffer buffer;
+        while ((buffer = this.output.peek()) != null) {
+            this.channel.write(buffer);
+            if (buffer.hasRemaining()) return false;
+            this.output.poll();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the session is over, i.e. the game is over and 
+     * every byte of its output was sent.
+     *
+     * @return {@code true} if the connection can be closed.
+     */
+    boolean isOver() {
+        return this.finished && this.output.isEmpty();
+    }
+
+    /**
+     * Sends the prompt, then the output of the game, to the player.
+     *
+     * @param game The game being played.
+     * @param player The human player.
+     */
+    @Override
+    public void inputAwaited(Game game, Player player) {
+        this.print(Symbols.PROMPT);
+        this.flush();
+    }
+
+    /**
+     * Separates what follows from what was written with a newline, as 
+     * the screen of a remote player cannot be cleared.
+     */
+    @Override
+    public void clean() {
+        this.newLine();
+    }
+
+    /**
+     * Buffers the specified objects, to be sent on the next flush.
+     *
+     * @param objects The objects to be printed.
+     */
+    @Override
+    public synchronized void print(Object... objects) {
+        for (Object object : objects)
+            this.pending.append(String.valueOf(object));
+    }
+
+    /**
+     * Hands the buffered output to the server to be sent.
+     */
+    private void flush() {
+        synchronized (this) {
+            if (this.pending.length() > 0) {
+                final byte[] bytes = this.pending.toString()
+                    .getBytes(StandardCharsets.UTF_8);
+                this.output.add(ByteBuffer.wrap(bytes));
+                this.pending.setLength(0);
+            }
+        }
+        this.server.requestWrite(this);
+    }
+}
@@ -0,0 +1,228 @@
+package com.splendor.spectator;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.splendor.Game;
+import com.splendor.GameListener;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+
+
+/**
+ * The Broadcaster class listens to a game and sends its spectators an 
+ * update after every turn. The thread playing the game only captures 
+ * the state vector of the game, once per turn for every spectator; the 
+ * updates are encoded and offered to the spectators by the tasks of an 
+ * executor, one at a time per spectator.
+ *
+ * A spectator always receives the difference between the last state it 
+ * took and the latest one, so that a spectator which cannot keep up 
+ * skips the intermediate states instead of slowing the game down. An 
+ * update refused is offered again, with the latest state, after 
+ * {@code Values.SPECTATOR_RETRY_DELAY} unless a newer state comes first, 
+ * so that the last state of the game is delivered too; a spectator is 
+ * dropped after refusing {@code Values.SPECTATOR_MAX_MISSES} updates in 
+ * a row.
+ */
+public class Broadcaster implements GameListener {
+
+    /**
+     * The executor offering the updates to the spectators, at once or 
+     * after the delay of a retry.
+     */
+    private final Executor executor;
+    private final Executor retries;
+
+    /**
+     * The subscriptions of the spectators.
+     */
+    private final List<Subscription> subscriptions = 
+        new CopyOnWriteArrayList<Subscription>();
+
+    /**
+     * The latest state of the game, or {@code null} before it starts.
+     */
+    private volatile Frame latest;
+
+    /**
+     * Constructs a broadcaster.
+     *
+     * @param executor The executor offering the updates.
+     */
+    public Broadcaster(Executor executor) {
+        this.executor = executor;
+        this.retries = CompletableFuture.delayedExecutor(
+            Values.SPECTATOR_RETRY_DELAY, TimeUnit.MILLISECONDS, executor);
+    }
+
+    /**
+     * Subscribes a spectator, who first receives a keyframe of the 
+     * latest state of the game.
+     *
+     * @param spectator The spectator to subscribe.
+     */
+    public void subscribe(Spectator spectator) {
+        final Subscription subscription = new Subscription(spectator);
+        this.subscriptions.add(subscription);
+        final Frame frame = this.latest;
+        if (frame != null) subscription.publish(frame);
+    }
+
+    /**
+     * Unsubscribes a spectator, who receives no update afterwards.
+     *
+     * @param spectator The spectator to unsubscribe.
+     */
+    public void unsubscribe(Spectator spectator) {
+        this.subscriptions.removeIf(
+            subscription -> subscription.spectator == spectator);
+    }
+
+    /**
+     * Retrieves the number of spectators subscribed.
+     *
+     * @return The number of spectators.
+     */
+    public int getSpectators() {
+        return this.subscriptions.size();
+    }
+
+    @Override
+    public void gameStarted(Game game) {
+        this.publish(game);
+    }
+
+    @Override
+    public void turnPlayed(Game game, Player player) {
+        this.publish(game);
+    }
+
+    @Override
+    public void gameOver(Game game) {
+        this.publish(game);
+    }
+
+    /**
+     * Captures the state of the game and hands it to every spectator.
+     *
+     * @param game The game being played.
+     */
+    private void publish(Game game) {
+        final Frame frame = 
+            new Frame(game.getTurn(), StateVector.capture(game));
+        this.latest = frame;
+        for (Subscription subscription : this.subscriptions)
+            subscription.publish(frame);
+    }
+
+    /**
+     * The Frame class is the state of the game at a turn.
+     */
+    private static class Frame {
+
+        private final int turn;
+        private final short[] state;
+
+        /**
+         * Constructs a frame.
+         *
+         * @param turn The turn of the game.
+         * @param state The state vector of the game.
+         */
+        private Frame(int turn, short[] state) {
+            this.turn = turn;
+            this.state = state;
+        }
+    }
+
+    /**
+     * The Subscription class offers the updates to one spectator.
+     */
+    private class Subscription {
+
+        /**
+         * The spectator of the subscription.
+         */
+        private final Spectator spectator;
+
+        /**
+         * The latest frame of the game, to be offered.
+         */
+        private final AtomicReference<Frame> latest = 
+            new AtomicReference<Frame>();
+
+        /**
+         * Whether a task offering the latest frame is scheduled.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        /**
+         * The last frame taken by the spectator. Only used by the 
+         * offering tasks.
+         */
+        private Frame sent;
+
+        /**
+         * The number of updates refused in a row.
+         */
+        private int misses = 0;
+
+        /**
+         * Constructs the subscription of a spectator.
+         *
+         * @param spectator The spectator.
+         */
+        private Subscription(Spectator spectator) {
+            this.spectator = spectator;
+        }
+
+        /**
+         * Hands a new frame to the subscription, replacing the one not 
+         * offered yet if any.
+         *
+         * @param frame The latest frame of the game.
+         */
+        private void publish(Frame frame) {
+            this.latest.set(frame);
+            if (this.scheduled.compareAndSet(false, true))
+                Broadcaster.this.executor.execute(this::offer);
+        }
+
+        /**
+         * Offers the difference between the last frame taken and the 
+         * latest one to the spectator, until the spectator takes it or 
+         * is dropped after too many refusals.
+         */
+        private void offer() {
+            final Frame frame = this.latest.get();
+            if (frame != this.sent) {
+                final ByteBuffer update = StateDelta.encode(
+                    this.sent == null ? null : this.sent.state, 
+                    frame.state, frame.turn);
+                if (this.spectator.offer(update)) {
+                    this.sent = frame;
+                    this.misses = 0;
+                } else if (++this.misses >= Values.SPECTATOR_MAX_MISSES) {
+                    Broadcaster.this.subscriptions.remove(this);
+                    this.spectator.dropped();
+                    return; // Never scheduled again.
+                }
+            }
+            this.scheduled.set(false);
+            // A frame published meanwhile is offered at once, and a frame 
+            // refused again after a while.
+            final Frame next = this.latest.get();
+            if (next != this.sent 
+                    && this.scheduled.compareAndSet(false, true))
+                (next == frame ? Broadcaster.this.retries 
+                    : Broadcaster.this.executor).execute(this::offer);
+        }
+    }
+}
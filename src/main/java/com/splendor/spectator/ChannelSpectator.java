@@ -0,0 +1,71 @@
+package com.splendor.spectator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+
+/**
+ * A spectator connected through a non-blocking socket. Every update is 
+ * sent prefixed with its length as an int. An update the socket cannot 
+ * take at once is finished before the next one is taken: until then, 
+ * the spectator refuses the updates, which are conflated.
+ */
+public class ChannelSpectator implements Spectator {
+
+    /**
+     * The connection of the spectator, in non-blocking mode.
+     */
+    private final SocketChannel channel;
+
+    /**
+     * The rest of the last update not sent yet, or {@code null}.
+     */
+    private ByteBuffer pending;
+
+    /**
+     * Constructs a spectator connected through the specified socket.
+     *
+     * @param channel The connection of the spectator.
+     * @throws IOException If the socket cannot be made non-blocking.
+     */
+    public ChannelSpectator(SocketChannel channel) throws IOException {
+        this.channel = channel;
+        this.channel.configureBlocking(false);
+    }
+
+    /**
+     * Sends an update if the rest of the previous one could be sent.
+     *
+     * @param update The update.
+     * @return {@code true} if the update was taken, {@code false} if the 
+     *         socket is still busy or closed.
+     */
+    @Override
+    public synchronized boolean offer(ByteBuffer update) {
+        try {
+            if (this.pending != null) {
+                this.channel.write(this.pending);
+                if (this.pending.hasRemaining()) return false;
+            }
+            final ByteBuffer framed = 
+                ByteBuffer.allocate(Integer.BYTES + update.remaining());
+            framed.putInt(update.remaining()).put(update).flip();
+            this.channel.write(framed);
+            this.pending = framed.hasRemaining() ? framed : null;
+            return true;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the connection of the dropped spectator.
+     */
+    @Override
+    public void dropped() {
+        try {
+            this.channel.close();
+        } catch (IOException exception) {}
+    }
+}
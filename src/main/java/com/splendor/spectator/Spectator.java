@@ -0,0 +1,29 @@
+package com.splendor.spectator;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Interface for the spectators of a game, receiving an update of the 
+ * state of the game after every turn (see {@link StateDelta}).
+ */
+public interface Spectator {
+
+    /**
+     * Offers an update to the spectator, which must not block. A 
+     * spectator not ready to take it refuses it: the next update then 
+     * covers both turns, and a spectator refusing too many updates in 
+     * a row is dropped.
+     *
+     * @param update The update, to be read from its position.
+     * @return {@code true} if the update was taken, {@code false} if the 
+     *         spectator is not ready.
+     */
+    public boolean offer(ByteBuffer update);
+
+    /**
+     * Called when the spectator is dropped for being too slow. Does 
+     * nothing by default.
+     */
+    public default void dropped() {}
+}
@@ -0,0 +1,84 @@
+package com.splendor.spectator;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * The StateDelta class encodes the update sent to a spectator: either a 
+ * keyframe holding every field of the state vector, or a delta holding 
+ * only the fields which changed since the last update the spectator 
+ * received, each as its index and new value.
+ *
+ * Layout of an update (big-endian):
+ * <pre>
+ * 0  byte   kind, {@code KEYFRAME} or {@code DELTA}
+ * 1  int    turn of the game
+ * 5  byte   number of fields n
+ * 6  keyframe: n shorts, the whole vector
+ *    delta: n times a byte index and a short value
+ * </pre>
+ */
+public final class StateDelta {
+
+    /**
+     * Kinds of update.
+     */
+    public static final byte KEYFRAME = 0;
+    public static final byte DELTA = 1;
+
+    /**
+     * Size, in bytes, of the header of an update.
+     */
+    public static final int HEADER_SIZE = 6;
+
+    /**
+     * Private constructor, as the class only has static members.
+     */
+    private StateDelta() {}
+
+    /**
+     * Encodes the update from a state to another.
+     *
+     * @param from The state the spectator has, or {@code null} if it 
+     *        has none yet, in which case a keyframe is encoded.
+     * @param to The new state.
+     * @param turn The turn of the game of the new state.
+     * @return The update, ready to be read.
+     */
+    public static ByteBuffer encode(short[] from, short[] to, int turn) {
+        if (from == null) {
+            final ByteBuffer buffer = 
+                ByteBuffer.allocate(HEADER_SIZE + to.length * 2);
+            buffer.put(KEYFRAME).putInt(turn).put((byte) to.length);
+            for (short value : to) buffer.putShort(value);
+            return buffer.flip();
+        }
+        int changes = 0;
+        for (int index = 0; index < to.length; index++)
+            if (from[index] != to[index]) changes++;
+        final ByteBuffer buffer = 
+            ByteBuffer.allocate(HEADER_SIZE + changes * 3);
+        buffer.put(DELTA).putInt(turn).put((byte) changes);
+        for (int index = 0; index < to.length; index++)
+            if (from[index] != to[index])
+                buffer.put((byte) index).putShort(to[index]);
+        return buffer.flip();
+    }
+
+    /**
+     * Applies an update to the state of a spectator.
+     *
+     * @param update The update, read from its position.
+     * @param state The state of the spectator, updated in place.
+     * @return The turn of the game of the new state.
+     */
+    public static int apply(ByteBuffer update, short[] state) {
+        final byte kind = update.get();
+        final int turn = update.getInt();
+        final int count = update.get() & 0xFF;
+        for (int index = 0; index < count; index++)
+            if (kind == KEYFRAME) state[index] = update.getShort();
+            else state[update.get() & 0xFF] = update.getShort();
+        return turn;
+    }
+}
@@ -0,0 +1,123 @@
+package com.splendor.spectator;
+
+import java.util.List;
+
+import com.splendor.Game;
+import com.splendor.board.Board;
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.DevCard;
+import com.splendor.cards.Noble;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+
+
+/**
+ * The StateVector class flattens what a spectator sees of a game into 
+ * a fixed array of shorts, so that two states are compared field by 
+ * field and only the changed fields are sent. Cards and nobles are 
+ * written as their catalog identifier, -1 for an empty slot.
+ *
+ * Layout of the vector:
+ * <pre>
+ *  0  visible cards, 4 per tier, from tier 1 to 3
+ * 12  tokens on the board, by resource ordinal
+ * 18  cards left in the decks, from tier 1 to 3
+ * 21  nobles on the board
+ * 26  index of the current player
+ * 27  one panel of 17 fields per player:
+ *     tokens (6), bonuses (6), points, purchased cards, reserved (3)
+ * </pre>
+ */
+public final class StateVector {
+
+    /**
+     * Offsets of the fields of the board.
+     */
+    public static final int SLOTS = 0;
+    public static final int TOKENS = 12;
+    public static final int DECKS = 18;
+    public static final int NOBLES = 21;
+    public static final int CURRENT_PLAYER = 26;
+    public static final int PLAYERS = 27;
+
+    /**
+     * Offsets of the fields of a player panel, from its start.
+     */
+    public static final int PLAYER_TOKENS = 0;
+    public static final int PLAYER_BONUSES = 6;
+    public static final int PLAYER_POINTS = 12;
+    public static final int PLAYER_CARDS = 13;
+    public static final int PLAYER_RESERVED = 14;
+
+    /**
+     * Size of a player panel and of the whole vector.
+     */
+    public static final int PLAYER_SIZE = 17;
+    public static final int SIZE = PLAYERS + Values.MAX_PLAYERS * PLAYER_SIZE;
+
+    /**
+     * Number of visible cards per tier, and of nobles.
+     */
+    private static final int COLUMNS = 4;
+    private static final int MAX_NOBLES = Values.MAX_PLAYERS + 1;
+
+    /**
+     * Private constructor, as the class only has static members.
+     */
+    private StateVector() {}
+
+    /**
+     * Captures the state of a game as seen by a spectator.
+     *
+     * @param game The game being played.
+     * @return The state vector of the game.
+     */
+    public static short[] capture(Game game) {
+        final short[] state = new short[SIZE];
+        final Board board = game.getBoard();
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++) {
+            state[DECKS + tier] = (short) board.getDeckSize(tier + 1);
+            for (int column = 0; column < COLUMNS; column++)
+                state[SLOTS + tier * COLUMNS + column] = (short)
+                    CardCatalog.getId(board.getCard(tier, column));
+        }
+        for (Resource resource : Resource.values())
+            state[TOKENS + resource.ordinal()] = 
+                (short) board.getNbResource(resource);
+        final Noble[] nobles = board.getNobles();
+        for (int index = 0; index < MAX_NOBLES; index++)
+            state[NOBLES + index] = (short) (index < nobles.length 
+                ? CardCatalog.getId(nobles[index]) : -1);
+        state[CURRENT_PLAYER] = (short) game.getCurrentPlayer().getId();
+        final Player[] players = game.getPlayers();
+        for (int index = 0; index < players.length; index++)
+            StateVector.capture(players[index], 
+                state, PLAYERS + index * PLAYER_SIZE);
+        return state;
+    }
+
+    /**
+     * Captures the panel of a player.
+     *
+     * @param player The player.
+     * @param state The state vector to fill.
+     * @param offset The offset of the panel of the player.
+     */
+    private static void capture(Player player, short[] state, int offset) {
+        for (Resource resource : Resource.values()) {
+            final int index = offset + resource.ordinal();
+            state[index + PLAYER_TOKENS] = 
+                (short) player.getNbResource(resource);
+            state[index + PLAYER_BONUSES] = 
+                (short) player.getResFromCards(resource);
+        }
+        final List<DevCard> purchased = player.getPurchasedCards();
+        state[offset + PLAYER_POINTS] = (short) player.getPoints();
+        state[offset + PLAYER_CARDS] = (short) purchased.size();
+        final DevCard[] reserved = player.getReservedCards();
+        for (int index = 0; index < reserved.length; index++)
+            state[offset + PLAYER_RESERVED + index] = 
+                (short) CardCatalog.getId(reserved[index]);
+    }
+}
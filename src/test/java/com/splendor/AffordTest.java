@@ -0,0 +1,43 @@
+package com.splendor;
+
+import com.splendor.board.Board;
+import com.splendor.cards.DevCard;
+import com.splendor.constants.Values;
+import com.splendor.env.SplendorEnv;
+import com.splendor.player.Player;
+
+
+public class AffordTest {
+
+    private final static int GAMES = 200;
+
+    private static int scan(Board board, Player player) {
+        int mask = 0;
+        for (int slot = 0; slot < Values.VISIBLE_CARDS; slot++) {
+            final DevCard card = board.getCard(
+                slot / Values.COLUMN_NUMBER, slot % Values.COLUMN_NUMBER);
+            if (card != null && player.canBuyCard(card)) mask |= 1 << slot;
+        }
+        final DevCard[] reserved = player.getReservedCards();
+        for (int index = 0; index < reserved.length; index++)
+            if (reserved[index] != null && player.canBuyCard(reserved[index]))
+                mask |= 1 << Values.VISIBLE_CARDS + index;
+        return mask;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final SplendorEnv env = new SplendorEnv(4);
+        final RandomGames games = new RandomGames(env, 3);
+        games.play(GAMES, played -> {
+            for (Player player : played.getPlayers())
+                games.check(player.getAffordableCards()
+                    == scan(played.getBoard(), player));
+        });
+        games.report("Incremental masks");
+
+        final Player player = env.getPlayers()[0];
+        RandomGames.compare("What can I buy",
+            "scan", () -> scan(env.getBoard(), player),
+            "mask", player::getAffordableCards);
+    }
+}
@@ -0,0 +1,165 @@
+package com.splendor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.splendor.agent.AgentProcess;
+import com.splendor.display.GameIO;
+import com.splendor.encoding.ObservationEncoder;
+import com.splendor.env.SplendorEnv;
+import com.splendor.player.ExternalAgentPlayer;
+import com.splendor.player.Player;
+
+
+public class AgentTest {
+
+    private final static int GAMES = 200;
+
+    /**
+     * An agent buying whenever it can, and otherwise playing a random
+     * move which is not a pass. Sleeps before answering if given a delay.
+     */
+    public static class Child {
+
+        public static void main(String[] args) throws Exception {
+            final long delay = args.length > 0 ? Long.parseLong(args[0]) : 0;
+            final DataInputStream in = new DataInputStream(
+                new BufferedInputStream(System.in));
+            final DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(System.out));
+            final Random random = new Random(1);
+            final byte[] observation = new byte[ObservationEncoder.BYTES];
+            while (true) {
+                try {
+                    in.readInt();
+                } catch (EOFException exception) {
+                    return;
+                }
+                in.readByte();
+                final int count = in.readUnsignedShort();
+                final int[] ids = new int[count];
+                final int[] moves = new int[count];
+                for (int index = 0; index < count; index++) {
+                    ids[index] = in.readInt();
+                    final byte[] legal = new byte[in.readByte()];
+                    in.readFully(legal);
+                    in.readFully(observation);
+                    moves[index] = choose(legal, random);
+                }
+                if (delay > 0) Thread.sleep(delay);
+                out.writeInt(Short.BYTES + count * 5);
+                out.writeShort(count);
+                for (int index = 0; index < count; index++) {
+                    out.writeInt(ids[index]);
+                    out.writeByte(moves[index]);
+                }
+                out.flush();
+            }
+        }
+
+        private static int choose(byte[] legal, Random random) {
+            for (byte move : legal)
+                if (SplendorEnv.BUY_VISIBLE <= move
+                        && move < SplendorEnv.RESERVE_VISIBLE) return move;
+            if (legal.length == 1) return legal[0];
+            return legal[random.nextInt(legal.length - 1)];
+        }
+    }
+
+    private static List<String> command(long delay) {
+        return Arrays.asList(
+            ProcessHandle.current().info().command().get(),
+            "-cp", System.getProperty("java.class.path"),
+            Child.class.getName(), String.valueOf(delay));
+    }
+
+    private static void play(int games, ExecutorService executor)
+            throws Exception {
+        final AgentProcess agent = new AgentProcess(command(0));
+        final CompletableFuture<?>[] completions =
+            new CompletableFuture<?>[games];
+        final ExternalAgentPlayer[][] players =
+            new ExternalAgentPlayer[games][];
+        final long start = System.nanoTime();
+        for (int index = 0; index < games; index++) {
+            final GameIO io = GameIO.headless();
+            players[index] = new ExternalAgentPlayer[] {
+                new ExternalAgentPlayer("A", 0, io, agent, 5000),
+                new ExternalAgentPlayer("B", 1, io, agent, 5000)
+            };
+            final Table table = new Table(
+                new Game((Player[]) players[index], io), executor);
+            completions[index] = table.getCompletion();
+            table.start();
+        }
+        int turns = 0, failures = 0, fallbacks = 0;
+        for (int index = 0; index < games; index++) {
+            try {
+                turns += ((Game) completions[index].get()).getTurn();
+            } catch (Exception exception) {
+                failures++;
+            }
+            for (ExternalAgentPlayer player : players[index])
+                fallbacks += player.getFallbacks();
+        }
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        agent.close();
+        System.out.println("Batched agent: " + games + " games, " + turns
+            + " turns, " + failures + " failed, " + agent.getDecisions()
+            + " decisions in " + agent.getBatches() + " batches, "
+            + fallbacks + " fallbacks, " + elapsed + " ms");
+    }
+
+    private static void playLate() throws Exception {
+        final AgentProcess agent = new AgentProcess(command(500));
+        final GameIO io = GameIO.headless();
+        final ExternalAgentPlayer late =
+            new ExternalAgentPlayer("A", 0, io, agent, 20);
+        final Game game = new Game(new Player[] {
+            late, new ExternalAgentPlayer("B", 1, io, agent, 20)
+        }, io);
+        game.start();
+        final long start = System.nanoTime();
+        for (int turn = 0; turn < 10; turn++) game.advance();
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        agent.close();
+        System.out.println("Late agent: " + game.getTurn() + " turns in "
+            + elapsed + " ms, " + late.getFallbacks() + " fallbacks");
+    }
+
+    private static void playStalled() throws Exception {
+        final AgentProcess agent = new AgentProcess(command(60_000), 300);
+        final GameIO io = GameIO.headless();
+        final ExternalAgentPlayer stalled =
+            new ExternalAgentPlayer("A", 0, io, agent, 20);
+        final Game game = new Game(new Player[] {
+            stalled, new ExternalAgentPlayer("B", 1, io, agent, 20)
+        }, io);
+        game.start();
+        final long start = System.nanoTime();
+        int turns = 0;
+        for (; turns < 100 && !agent.isClosed(); turns++) game.advance();
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        agent.close();
+        System.out.println("Stalled agent: closed after " + turns
+            + " turns in " + elapsed + " ms, " + stalled.getFallbacks()
+            + " fallbacks");
+    }
+
+    public static void main(String[] args) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(64);
+        play(GAMES, executor);
+        executor.shutdown();
+        playLate();
+        playStalled();
+    }
+}
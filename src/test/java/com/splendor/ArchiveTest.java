@@ -0,0 +1,92 @@
+package com.splendor;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import com.splendor.archive.ArchiveReader;
+import com.splendor.archive.ArchiveWriter;
+import com.splendor.exceptions.ArchiveException;
+
+
+public class ArchiveTest {
+
+    private final static int GAMES = 1000;
+
+    private final static int RESUMED = 3;
+
+    private final static long SUM = 499500;
+
+    public static void main(String[] args) throws Exception {
+        final Path directory = Files.createTempDirectory("archive");
+        // Small segments in order to force several rollovers.
+        append(directory, 0, GAMES);
+        final ArchiveReader reader = new ArchiveReader(directory);
+        System.out.println("Games: " + reader.size());
+        System.out.println("Segments: " + reader.getSegments().length);
+        long sum = 0;
+        for (ByteBuffer record : reader) sum += record.getInt(0);
+        System.out.println("Sum: " + sum + " (expected " + SUM + ")");
+        boolean failed = reader.size() != GAMES || sum != SUM;
+        final boolean valid = randomAccess(reader);
+        System.out.println("Random access: " + valid);
+        failed |= !valid;
+
+        // A resumed archive holds a small segment between full ones.
+        append(directory, GAMES, RESUMED);
+        append(directory, GAMES + RESUMED, GAMES);
+        final ArchiveReader resumed = new ArchiveReader(directory);
+        final boolean right = resumed.size() == 2 * GAMES + RESUMED
+            && randomAccess(resumed);
+        System.out.println("Resumed: " + resumed.size() + " games, "
+            + resumed.getSegments().length + " segments, random access: "
+            + right);
+        failed |= !right;
+
+        boolean refused = false;
+        try {
+            new ArchiveWriter(directory, 1).close();
+        } catch (IllegalArgumentException exception) {
+            System.out.println("Tiny segments: " + exception.getMessage());
+            refused = true;
+        }
+        failed |= !refused;
+        if (failed) System.exit(1);
+    }
+
+    /**
+     * Appends records, from several threads, numbered from the specified
+     * one.
+     */
+    private static void append(Path directory, int first, int count)
+            throws ArchiveException {
+        try (ArchiveWriter writer = new ArchiveWriter(directory, 4096)) {
+            IntStream.range(first, first + count).parallel().forEach(index -> {
+                final ByteBuffer record = ByteBuffer.allocate(12);
+                record.putInt(index).putLong(index * 31L).flip();
+                try {
+                    writer.append(record);
+                } catch (ArchiveException exception) {
+                    System.out.println(exception.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks that every game fetched by its number is the one which was
+     * iterated at that position.
+     */
+    private static boolean randomAccess(ArchiveReader reader) {
+        long game = 0;
+        for (ByteBuffer record : reader) {
+            final ByteBuffer fetched = reader.getRecord(game++);
+            final int index = fetched.getInt(0);
+            if (index != record.getInt(0)
+                    || fetched.getLong(4) != index * 31L)
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+package com.splendor;
+
+import com.splendor.board.Board;
+import com.splendor.cards.DevCard;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.env.SplendorEnv;
+import com.splendor.evaluation.AffordabilityBatch;
+import com.splendor.player.Player;
+
+
+public class BatchAffordTest {
+
+    private final static int GAMES = 100;
+
+    private static long sum = 0;
+
+    private static DevCard card(Board board, Player player, int slot) {
+        if (slot >= Values.VISIBLE_CARDS)
+            return player.getReservedCards()[slot - Values.VISIBLE_CARDS];
+        return board.getCard(
+            slot / Values.COLUMN_NUMBER, slot % Values.COLUMN_NUMBER);
+    }
+
+    private static boolean check(Board board, Player[] players,
+            AffordabilityBatch batch) {
+        for (int index = 0; index < players.length; index++) {
+            final Player player = players[index];
+            int mask = 0;
+            for (int slot = 0; slot < AffordabilityBatch.SLOTS; slot++) {
+                final DevCard card = card(board, player, slot);
+                int needed = 0;
+                for (Resource color : Resource.values()) {
+                    if (color == Resource.JOKER) continue;
+                    final int shortfall = card == null ? 0 : Math.max(0,
+                        card.getCost().getNbResource(color)
+                        - player.getNbResource(color)
+                        - player.getResFromCards(color));
+                    if (batch.getShortfall(index, slot, color) != shortfall)
+                        return false;
+                    needed += shortfall;
+                }
+                if (batch.getJokersNeeded(index, slot) != needed)
+                    return false;
+                if (card != null
+                        && needed <= player.getNbResource(Resource.JOKER))
+                    mask |= 1 << slot;
+            }
+            if (batch.getAffordableCards(index) != mask) return false;
+        }
+        return true;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Vectorized: " + AffordabilityBatch.isVectorized());
+        final SplendorEnv env = new SplendorEnv(4);
+        final AffordabilityBatch batch = new AffordabilityBatch();
+        final RandomGames games = new RandomGames(env, 9);
+        games.play(GAMES, played -> {
+            batch.evaluate(played.getBoard(), played.getPlayers());
+            games.check(check(played.getBoard(), played.getPlayers(), batch));
+            for (int player = 0; player < 4; player++)
+                sum += batch.getAffordableCards(player);
+        });
+        games.report("Batches");
+        System.out.println("Batch checksum: " + sum);
+
+        final Board board = env.getBoard();
+        final Player[] players = env.getPlayers();
+        RandomGames.compare("4 players x 15 cards", "canBuyCard", () -> {
+            int affordable = 0;
+            for (Player player : players)
+                for (int slot = 0; slot < AffordabilityBatch.SLOTS; slot++) {
+                    final DevCard card = card(board, player, slot);
+                    if (card != null && player.canBuyCard(card))
+                        affordable++;
+                }
+            return affordable;
+        }, "batch", () -> {
+            batch.evaluate(board, players);
+            return batch.getAffordableCards(0);
+        });
+        if (games.failed()) System.exit(1);
+    }
+}
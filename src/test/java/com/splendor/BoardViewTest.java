@@ -0,0 +1,67 @@
+package com.splendor;
+
+import com.splendor.board.Board;
+import com.splendor.board.BoardView;
+import com.splendor.cards.CardCatalog;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.env.SplendorEnv;
+
+
+public class BoardViewTest {
+
+    private final static int GAMES = 200;
+
+    private static boolean check(Board board) {
+        final BoardView view = board.getView();
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++) {
+            for (int column = 0; column < Values.COLUMN_NUMBER; column++)
+                if (view.visibleCardId(tier, column)
+                        != CardCatalog.getId(board.getCard(tier, column)))
+                    return false;
+            if (view.deckRemaining(tier + 1) != board.getDeckSize(tier + 1))
+                return false;
+        }
+        for (Resource resource : Resource.values())
+            if (view.tokens(resource) != board.getNbResource(resource))
+                return false;
+        int nobles = 0;
+        for (int index = 0; index < board.getNobles().length; index++) {
+            if (board.getNobles()[index] != null) nobles |= 1 << index;
+            if (view.nobleId(index)
+                    != CardCatalog.getId(board.getNobles()[index]))
+                return false;
+        }
+        return view.nobleMask() == nobles;
+    }
+
+    private static int query(BoardView view, Resource[] resources) {
+        int sum = view.nobleMask();
+        for (int tier = 0; tier < Values.TIER_NUMBER; tier++) {
+            for (int column = 0; column < Values.COLUMN_NUMBER; column++)
+                sum += view.visibleCardId(tier, column);
+            sum += view.deckRemaining(tier + 1);
+        }
+        for (Resource resource : resources) sum += view.tokens(resource);
+        return sum;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final SplendorEnv env = new SplendorEnv(4);
+        final RandomGames games = new RandomGames(env, 3);
+        games.play(GAMES, played -> games.check(check(played.getBoard())));
+        games.report("Board view");
+
+        final BoardView view = env.getBoard().getView();
+        final Board board = env.getBoard();
+        // The players handed the view cannot change the board with it.
+        final boolean readOnly = !(view instanceof Board);
+        System.out.println("Read-only view: " + readOnly);
+        final Resource[] resources = Resource.values();
+        RandomGames.compare("Board queries",
+            "view", () -> query(view, resources),
+            "copies", () -> board.getVisibleCards().length
+                + board.getAvailableResources().length);
+        if (!readOnly) System.exit(1);
+    }
+}
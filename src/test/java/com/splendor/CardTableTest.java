@@ -0,0 +1,41 @@
+package com.splendor;
+
+import com.splendor.board.Board;
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.CardTable;
+import com.splendor.cards.DevCard;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+
+
+public class CardTableTest {
+
+    public static void main(String[] args) throws Exception {
+        final CardTable table = CardCatalog.getTable();
+        int wrong = 0;
+        for (int id = 0; id < table.size(); id++) {
+            final DevCard card = CardCatalog.getCard(id);
+            boolean same = table.getCard(id) == card
+                && table.getTier(id) == card.getLevel()
+                && table.getPoints(id) == card.getPoints()
+                && table.getBonus(id) == card.getBonus()
+                && table.getCost(id) == card.getCost().pack();
+            for (Resource resource : Resource.values())
+                same &= table.getCost(id, resource)
+                    == card.getCost().getNbResource(resource);
+            if (!same) wrong++;
+        }
+        System.out.println("Cards: " + table.size() + ", " + wrong
+            + " differ from their table");
+
+        final Board board = new Board(4);
+        int cards = 0;
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++)
+            cards += board.getDeckSize(tier);
+        for (DevCard card : board.getVisibleCards())
+            if (card != null) cards++;
+        System.out.println("Cards dealt: " + cards + ", held as "
+            + cards * Short.BYTES + " bytes of identifiers");
+        if (wrong > 0) System.exit(1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.splendor;
+
+import java.util.Arrays;
+
+import com.splendor.board.Board;
+import com.splendor.board.Deck;
+import com.splendor.cards.CardTable;
+
+
+public class DeckTest {
+
+    private final static int ITERATIONS = 10_000_000;
+
+    public static void main(String[] args) throws Exception {
+        final Deck deck = new Deck(new short[] { 1, 2, 3 });
+        final Deck copy = deck.copy();
+        final int top = deck.draw();
+        deck.undoDraw();
+        final boolean undone = top == 3 && deck.draw() == 3
+            && deck.draw() == 2 && deck.draw() == 1
+            && deck.draw() == CardTable.NONE && deck.size() == 0;
+        System.out.println("Undo draw: " + undone);
+        final boolean independent = copy.size() == 3;
+        System.out.println("Copy independent: " + independent);
+        boolean refused = false;
+        try {
+            copy.undoDraw();
+            System.out.println("Undo on a full deck: not refused");
+        } catch (IllegalStateException exception) {
+            System.out.println("Undo on a full deck: refused");
+            refused = true;
+        }
+
+        final Game game = new Game(2, true);
+        final Board board = game.getBoard();
+        final byte[] before = game.snapshot();
+        for (int tier = 1; tier <= 3; tier++) board.drawCard(tier);
+        for (int tier = 1; tier <= 3; tier++) board.undoDraw(tier);
+        final boolean restored = Arrays.equals(before, game.snapshot());
+        System.out.println("Board after draws and undos: " + restored);
+
+        final Deck large = new Deck(new short[40]);
+        long sink = 0;
+        final long start = System.nanoTime();
+        for (int index = 0; index < ITERATIONS; index++) {
+            sink += large.draw();
+            large.undoDraw();
+        }
+        System.out.println("Draw and undo: "
+            + (System.nanoTime() - start) * 1000 / ITERATIONS
+            + " ps (" + sink + ")");
+        if (!undone || !independent || !refused || !restored) System.exit(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.splendor;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+
+import com.splendor.constants.Values;
+import com.splendor.env.DifferentialHarness;
+import com.splendor.env.ReferenceEngine;
+import com.splendor.env.RuleEngine;
+import com.splendor.env.SoakHarness.Violation;
+import com.splendor.env.SplendorEnv;
+
+
+public class DifferentialTest {
+
+    private final static int GAMES = 20_000;
+
+    private final static int THREADS =
+        Runtime.getRuntime().availableProcessors();
+
+    private final static int REPORTS = 3;
+
+    /**
+     * Checks whether a divergence is the console engine failing on a move
+     * it lists as legal: reserving a visible card of a tier whose deck is
+     * empty, as its board cannot replace the card.
+     */
+    private static boolean isReserveFailure(Violation violation) {
+        final int[] moves = violation.getMoves();
+        final int last = moves[moves.length - 1];
+        return SplendorEnv.RESERVE_VISIBLE <= last
+            && last < SplendorEnv.RESERVE_DECK
+            && violation.getMessage().contains(
+                NullPointerException.class.getName());
+    }
+
+    /**
+     * Compares games with consecutive seeds, the number of players going
+     * from 2 to 4 with the seed, and counts the games in which the console
+     * engine fails to reserve a card, and the other divergences, printing
+     * the first of them.
+     */
+    private static int[] compare(IntFunction<RuleEngine> reference,
+            IntFunction<RuleEngine> candidate, int games) throws Exception {
+        final DifferentialHarness[] harnesses =
+            new DifferentialHarness[Values.MAX_PLAYERS - 1];
+        for (int players = 2; players <= Values.MAX_PLAYERS; players++)
+            harnesses[players - 2] = new DifferentialHarness(
+                reference.apply(players), candidate.apply(players), players);
+        final int[] divergences = new int[2];
+        for (int seed = 0; seed < games; seed++) {
+            final Violation violation =
+                harnesses[seed % harnesses.length].compare(seed);
+            if (violation == null) continue;
+            if (isReserveFailure(violation)) divergences[0]++;
+            else if (++divergences[1] <= REPORTS)
+                System.out.println("  " + violation);
+        }
+        return divergences;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.print("Environment against itself: ");
+        final long same = DifferentialHarness.run(SplendorEnv::new,
+            SplendorEnv::new, 0, GAMES, THREADS, 3, System.out);
+
+        final int[] twice = compare(
+            ReferenceEngine::new, ReferenceEngine::new, GAMES / 20);
+
+        final DifferentialHarness mutant = new DifferentialHarness(
+            new SplendorEnv(3), new Mutant(3), 3);
+        final Violation violation = mutant.compare(11);
+        int taken = -1;
+        final int[] moves = violation.getMoves();
+        for (int index = 0; index < moves.length && taken < 0; index++)
+            if (SplendorEnv.TAKE_SAME <= moves[index]
+                    && moves[index] < SplendorEnv.BUY_VISIBLE) taken = index;
+        System.out.println("Mutant: " + violation.getMessage() + " after "
+            + moves.length + " moves, first pair taken at move "
+            + (taken + 1));
+
+        final RuleEngine engine = new ReferenceEngine(2);
+        engine.reset(5);
+        final ByteBuffer expected = ByteBuffer.allocate(4096);
+        final ByteBuffer actual = ByteBuffer.allocate(4096);
+        engine.writeState(expected);
+        final SplendorEnv env = new SplendorEnv(2);
+        env.reset(5);
+        env.writeState(actual);
+        System.out.println("Same deal: " + expected.flip().equals(
+            actual.flip()) + ", " + same + " and " + twice[1]
+            + " divergences, expected 0");
+
+        final int[] console = compare(
+            ReferenceEngine::new, SplendorEnv::new, GAMES / 10);
+        System.out.println("Console engine against the environment: "
+            + GAMES / 10 + " games, " + console[1]
+            + " divergences, expected 0, " + console[0]
+            + " failures of the console engine to reserve a visible card"
+            + " of an empty tier, and " + twice[0]
+            + " among the games it played twice");
+        if (same + twice[1] + console[1] > 0) System.exit(1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.splendor;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import com.splendor.encoding.ObservationEncoder;
+import com.splendor.env.SplendorEnv;
+
+
+public class EncoderTest {
+
+    public static void main(String[] args) throws Exception {
+        final SplendorEnv env = new SplendorEnv(4);
+        env.reset(3);
+        for (int turn = 0; turn < 40; turn++)
+            env.step(Long.numberOfTrailingZeros(env.getLegalActions()));
+
+        final ObservationEncoder encoder = new ObservationEncoder();
+        final FloatBuffer floats = FloatBuffer.allocate(
+            ObservationEncoder.SIZE + 2);
+        floats.position(2);
+        encoder.encode(env.getBoard(), env.getPlayers(),
+            env.getCurrentPlayer(), floats);
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(
+            ObservationEncoder.BYTES).order(ByteOrder.nativeOrder());
+        encoder.encode(env.getBoard(), env.getPlayers(),
+            env.getCurrentPlayer(), bytes);
+
+        boolean same = floats.position() == floats.capacity()
+            && bytes.position() == bytes.capacity();
+        for (int index = 0; index < ObservationEncoder.SIZE; index++)
+            same &= floats.get(2 + index) == bytes.getFloat(index * 4);
+        System.out.println("Version: " + (int) floats.get(2));
+        System.out.println("Floats and bytes match: " + same);
+
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean)
+                ManagementFactory.getThreadMXBean();
+        final long id = Thread.currentThread().getId();
+        final int encodings = 1_000_000;
+        for (int round = 0; round < 2; round++) {
+            final long allocated = threads.getThreadAllocatedBytes(id);
+            final long start = System.nanoTime();
+            for (int index = 0; index < encodings; index++)
+                encoder.encode(env.getBoard(), env.getPlayers(),
+                    env.getCurrentPlayer(), bytes.clear());
+            final long nanos = System.nanoTime() - start;
+            System.out.println(nanos / encodings + " ns per encoding, "
+                + (threads.getThreadAllocatedBytes(id) - allocated)
+                    / encodings + " bytes allocated per encoding");
+        }
+    }
+}
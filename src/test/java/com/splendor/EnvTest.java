@@ -0,0 +1,54 @@
+package com.splendor;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.splendor.encoding.ObservationEncoder;
+import com.splendor.env.SplendorEnv;
+import com.splendor.env.VectorEnv;
+
+
+public class EnvTest {
+
+    private static float[] play(long seed) throws Exception {
+        final SplendorEnv env = new SplendorEnv(3);
+        final SplittableRandom random = new SplittableRandom(seed);
+        final float[] observation = new float[ObservationEncoder.SIZE];
+        float total = 0;
+        env.reset(seed);
+        while (!env.isDone()) {
+            total += env.step(SplendorEnv.randomAction(
+                env.getLegalActions(), random));
+            if (!env.isDone()) env.observe(FloatBuffer.wrap(observation));
+        }
+        observation[0] += total + env.getTurn();
+        return observation;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Same seed, same game: "
+            + Arrays.equals(play(42), play(42)));
+
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        final int steps = args.length > 1 ? Integer.parseInt(args[1]) : 4000;
+        final VectorEnv envs = new VectorEnv(count, 2);
+        final SplittableRandom random = new SplittableRandom(7);
+        final int[] actions = new int[count];
+        envs.reset(1);
+        long games = 0;
+        final long start = System.nanoTime();
+        for (int step = 0; step < steps; step++) {
+            final long[] legal = envs.getLegalActions();
+            for (int index = 0; index < count; index++)
+                actions[index] =
+                    SplendorEnv.randomAction(legal[index], random);
+            envs.step(actions);
+            for (boolean done : envs.getDones()) if (done) games++;
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(count + " games in lock-step, " + games
+            + " finished: " + (long) (count * steps / seconds)
+            + " steps/s");
+    }
+}
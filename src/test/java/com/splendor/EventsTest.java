@@ -0,0 +1,89 @@
+package com.splendor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import com.splendor.events.GameEvent;
+import com.splendor.events.GamePublisher;
+import com.splendor.events.Overflow;
+
+
+public class EventsTest {
+
+    private static class Counter implements Flow.Subscriber<GameEvent> {
+
+        private final long delay;
+        private final CountDownLatch done;
+        private Flow.Subscription subscription;
+        private int received = 0;
+        private GameEvent last;
+
+        private Counter(long delay, CountDownLatch done) {
+            this.delay = delay;
+            this.done = done;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(GameEvent event) {
+            this.received++;
+            this.last = event;
+            // Simulates a slow consumer, e.g. writing to a disk.
+            try {
+                Thread.sleep(this.delay);
+            } catch (InterruptedException exception) {}
+            this.subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.done.countDown();
+        }
+    }
+
+    private static long play(Overflow overflow, Counter... counters) 
+            throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final GamePublisher publisher = new GamePublisher(executor);
+        publisher.subscribe(counters[0]);
+        for (int index = 1; index < counters.length; index++)
+            publisher.subscribe(counters[index], 8, overflow);
+        final Game game = new Game(3, true);
+        game.addListener(publisher);
+        final long start = System.nanoTime();
+        game.start();
+        while (!game.isOver()) game.advance();
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        counters[0].done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        System.out.println(overflow + ": game in " + elapsed + " ms, " 
+            + publisher.getDropped() + " dropped");
+        return elapsed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (Overflow overflow : Overflow.values()) {
+            final CountDownLatch done = new CountDownLatch(2);
+            final Counter fast = new Counter(0, done);
+            final Counter slow = new Counter(5, done);
+            play(overflow, fast, slow);
+            System.out.println("  fast: " + fast.received 
+                + " events, last " + fast.last.getKind());
+            System.out.println("  slow: " + slow.received 
+                + " events, last " + slow.last.getKind());
+        }
+    }
+}
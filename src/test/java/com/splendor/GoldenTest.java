@@ -0,0 +1,294 @@
+package com.splendor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.splendor.constants.Values;
+import com.splendor.env.ReferenceEngine;
+import com.splendor.env.RuleEngine;
+import com.splendor.env.SplendorEnv;
+import com.splendor.player.Player;
+
+
+/**
+ * Replays a corpus of recorded games and checks the checksum of the state
+ * after every move, so that a change of the rules played by the board, the
+ * players or the actions is noticed. Run with {@code record} to record the
+ * corpus again once such a change is intended.
+ */
+public class GoldenTest {
+
+    private final static int ENV_GAMES = 3_000;
+
+    private final static int REFERENCE_GAMES = 1_000;
+
+    /**
+     * The last games of a corpus, where no card is bought unless nothing
+     * else is legal, so that they end with the maximum number of rounds.
+     */
+    private final static int CAPPED_GAMES = 10;
+
+    private final static long BUYS =
+        (1L << SplendorEnv.RESERVE_VISIBLE) - (1L << SplendorEnv.BUY_VISIBLE);
+
+    private final static Path CORPUS =
+        Paths.get("..", "..", "test", "resources", "golden"); // BlueJ.
+        // Paths.get("build", "resources", "test", "golden"); // Gradle.
+
+    private final static int REPORTS = 3;
+
+    private final static ByteBuffer STATE = ByteBuffer.allocate(4096);
+
+    private final static CRC32 CRC = new CRC32();
+
+    /**
+     * The first action of each kind, the last kind ending with the pass.
+     */
+    private final static int[] KINDS = {
+        SplendorEnv.TAKE_DIFFERENT, SplendorEnv.TAKE_SAME,
+        SplendorEnv.BUY_VISIBLE, SplendorEnv.BUY_RESERVED,
+        SplendorEnv.RESERVE_VISIBLE, SplendorEnv.RESERVE_DECK,
+        SplendorEnv.PASS
+    };
+
+    private final static String[] PATHS = {
+        "take different", "take same", "buy visible", "buy reserved",
+        "reserve visible", "reserve deck", "pass", "noble", "won",
+        "rounds"
+    };
+
+    private final static int NOBLE = KINDS.length;
+
+    private final static int WON = NOBLE + 1;
+
+    private final static int ROUNDS = WON + 1;
+
+    private static int uncovered = 0;
+
+    /**
+     * Adds the state of an engine to the checksum of the states of its
+     * game, so that a state which differs changes the checksums of every
+     * later state and 16 bits of each are enough to notice it.
+     */
+    private static short checksum(RuleEngine engine, boolean deal) {
+        STATE.clear();
+        engine.writeState(STATE);
+        if (deal) CRC.reset();
+        CRC.update(STATE.array(), 0, STATE.position());
+        return (short) CRC.getValue();
+    }
+
+    private static RuleEngine[] engines(IntFunction<RuleEngine> factory) {
+        final RuleEngine[] engines = new RuleEngine[Values.MAX_PLAYERS - 1];
+        for (int players = 2; players <= Values.MAX_PLAYERS; players++)
+            engines[players - 2] = factory.apply(players);
+        return engines;
+    }
+
+    /**
+     * Records games with consecutive seeds, the number of players going
+     * from 2 to 4 with the seed. A game holds its seed, its moves drawn
+     * among the legal ones, and the checksum of the states after the deal
+     * and after every move played. A game whose engine fails on a move is
+     * not recorded, so that the corpus only holds games played to the end.
+     * The last games hardly buy, so that the corpus holds games ended by
+     * the maximum number of rounds too.
+     */
+    private static void record(IntFunction<RuleEngine> factory, int games,
+            Path file) throws Exception {
+        final RuleEngine[] engines = engines(factory);
+        final int[] moves = new int[Values.ENV_MAX_ROUNDS
+            * Values.MAX_PLAYERS + 1];
+        final short[] checksums = new short[moves.length + 1];
+        int failures = 0;
+        Files.createDirectories(file.getParent());
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new GZIPOutputStream(
+                    Files.newOutputStream(file))))) {
+            out.writeInt(games);
+            for (int seed = 0, recorded = 0; recorded < games; seed++) {
+                final RuleEngine engine = engines[seed % engines.length];
+                final SplittableRandom random = new SplittableRandom(seed);
+                engine.reset(seed);
+                checksums[0] = checksum(engine, true);
+                final boolean capped = recorded >= games - CAPPED_GAMES;
+                int played = 0;
+                try {
+                    while (!engine.isDone()) {
+                        final long legal = engine.getLegalActions();
+                        moves[played++] = SplendorEnv.randomAction(
+                            capped && (legal & ~BUYS) != 0
+                                ? legal & ~BUYS : legal, random);
+                        engine.step(moves[played - 1]);
+                        checksums[played] = checksum(engine, false);
+                    }
+                } catch (RuntimeException exception) {
+                    failures++;
+                    continue;
+                }
+                out.writeLong(seed);
+                out.writeByte(seed % engines.length + 2);
+                out.writeShort(played);
+                for (int index = 0; index < played; index++)
+                    out.writeByte(moves[index]);
+                for (int index = 0; index <= played; index++)
+                    out.writeShort(checksums[index]);
+                recorded++;
+            }
+        }
+        System.out.println(file.getFileName() + ": " + games
+            + " games recorded, " + failures + " failed and left out");
+    }
+
+    /**
+     * Replays the recorded games and tells which do not go through the
+     * same states, printing the first of them.
+     */
+    private static boolean[] replay(String name,
+            IntFunction<RuleEngine> factory, Path file) throws IOException {
+        final RuleEngine[] engines = engines(factory);
+        int mismatches = 0, moves = 0;
+        final long start = System.nanoTime();
+        final boolean[] mismatched;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(
+                    Files.newInputStream(file))))) {
+            final int games = in.readInt();
+            mismatched = new boolean[games];
+            for (int game = 0; game < games; game++) {
+                final long seed = in.readLong();
+                final RuleEngine engine = engines[in.readByte() - 2];
+                final int played = in.readShort();
+                final byte[] recorded = new byte[played];
+                in.readFully(recorded);
+                final short[] checksums = new short[played + 1];
+                for (int index = 0; index < checksums.length; index++)
+                    checksums[index] = in.readShort();
+                moves += played;
+                String mismatch = null;
+                try {
+                    engine.reset(seed);
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+                if (checksum(engine, true) != checksums[0])
+                    mismatch = "the deal";
+                for (int index = 0; index < played && mismatch == null;
+                        index++) {
+                    try {
+                        engine.step(recorded[index]);
+                        if (checksum(engine, false) != checksums[index + 1])
+                            mismatch = "move " + (index + 1);
+                    } catch (RuntimeException exception) {
+                        mismatch = "move " + (index + 1) + ", " + exception;
+                    }
+                }
+                if (mismatch == null && !engine.isDone())
+                    mismatch = "the end of the game";
+                mismatched[game] = mismatch != null;
+                if (mismatch != null && ++mismatches <= REPORTS)
+                    System.out.println("  seed " + seed + " differs at "
+                        + mismatch);
+            }
+        }
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(name + ": " + mismatched.length + " games, "
+            + moves + " moves in " + elapsed + " ms, " + mismatches
+            + " mismatches");
+        return mismatched;
+    }
+
+    private static int count(boolean[] games) {
+        int count = 0;
+        for (boolean game : games) if (game) count++;
+        return count;
+    }
+
+    /**
+     * Replays the recorded games of the environment and counts the games
+     * which go through each rule path: each kind of action, a noble visit,
+     * and both ends of a game. Tells which games take two tokens of the
+     * same color, the mutant having to mismatch in those only.
+     */
+    private static boolean[] coverage(Path file) throws Exception {
+        final SplendorEnv[] envs = new SplendorEnv[Values.MAX_PLAYERS - 1];
+        for (int players = 2; players <= Values.MAX_PLAYERS; players++)
+            envs[players - 2] = new SplendorEnv(players);
+        final int[] paths = new int[PATHS.length];
+        final boolean[] takesSame;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(
+                    Files.newInputStream(file))))) {
+            takesSame = new boolean[in.readInt()];
+            for (int game = 0; game < takesSame.length; game++) {
+                final long seed = in.readLong();
+                final SplendorEnv env = envs[in.readByte() - 2];
+                final byte[] recorded = new byte[in.readShort()];
+                in.readFully(recorded);
+                in.skipNBytes((recorded.length + 1) * Short.BYTES);
+                final boolean[] covered = new boolean[PATHS.length];
+                env.reset(seed);
+                for (byte move : recorded) {
+                    int kind = KINDS.length - 1;
+                    while (move < KINDS[kind]) kind--;
+                    covered[kind] = true;
+                    final Player player =
+                        env.getPlayers()[env.getCurrentPlayer()];
+                    final int cards = player.getPurchasedCards().size();
+                    env.step(move);
+                    // A visiting noble takes more cards than a move buys.
+                    if (player.getPurchasedCards().size() < cards)
+                        covered[NOBLE] = true;
+                }
+                boolean won = false;
+                for (Player player : env.getPlayers())
+                    won |= player.getPoints() >= Values.WIN_THRESHOLD;
+                covered[won ? WON : ROUNDS] = true;
+                takesSame[game] = covered[1];
+                for (int path = 0; path < PATHS.length; path++)
+                    if (covered[path]) paths[path]++;
+            }
+        }
+        String report = "Rule paths:";
+        for (int path = 0; path < PATHS.length; path++) {
+            report += " " + PATHS[path] + " " + paths[path];
+            if (paths[path] == 0) uncovered++;
+        }
+        System.out.println(report + ", " + uncovered + " uncovered");
+        return takesSame;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Path env = CORPUS.resolve("env.bin.gz");
+        final Path reference = CORPUS.resolve("reference.bin.gz");
+        if (args.length > 0 && args[0].equals("record")) {
+            record(SplendorEnv::new, ENV_GAMES, env);
+            record(ReferenceEngine::new, REFERENCE_GAMES, reference);
+        }
+
+        final int mismatches =
+            count(replay("Environment", SplendorEnv::new, env))
+            + count(replay("Console engine", ReferenceEngine::new, reference));
+        final boolean[] takesSame = coverage(env);
+        System.out.println("Mutant, expected to mismatch in the "
+            + count(takesSame) + " games taking two tokens of a color:");
+        final boolean detected = count(takesSame) > 0 && Arrays.equals(
+            takesSame, replay("Mutant", Mutant::new, env));
+        System.out.println("Golden corpus: " + mismatches
+            + " mismatches, expected 0, mutant detected: " + detected);
+        if (mismatches > 0 || uncovered > 0 || !detected) System.exit(1);
+    }
+}
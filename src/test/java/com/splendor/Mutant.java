@@ -0,0 +1,26 @@
+package com.splendor;
+
+import com.splendor.env.SplendorEnv;
+
+
+/**
+ * An environment which leaves a token too many on the board each time two
+ * tokens of the same color are taken, for the tests to show that they
+ * notice a change of the rules.
+ */
+class Mutant extends SplendorEnv {
+
+    Mutant(int playersCount) {
+        super(playersCount);
+    }
+
+    @Override
+    public float step(int action) {
+        final float reward = super.step(action);
+        if (SplendorEnv.TAKE_SAME <= action
+                && action < SplendorEnv.BUY_VISIBLE)
+            this.getBoard().updateNbResource(SplendorEnv.COLORS[
+                action - SplendorEnv.TAKE_SAME], 1);
+        return reward;
+    }
+}
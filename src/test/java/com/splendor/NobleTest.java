@@ -0,0 +1,82 @@
+package com.splendor;
+
+import java.util.SplittableRandom;
+
+import com.splendor.board.Board;
+import com.splendor.board.Resources;
+import com.splendor.cards.Noble;
+import com.splendor.constants.Resource;
+import com.splendor.env.SplendorEnv;
+import com.splendor.player.Player;
+
+
+public class NobleTest {
+
+    private final static int GAMES = 200;
+
+    private final static int ITERATIONS = 1_000_000;
+
+    private static int visits = 0;
+
+    private static int distance(Noble noble, Player player) {
+        final Resources cost = noble.getCost();
+        int missing = 0;
+        for (Resource resource : cost.getAvailableResources())
+            missing += Math.max(0, cost.getNbResource(resource)
+                - player.getResFromCards(resource));
+        return missing;
+    }
+
+    private static boolean check(Board board, Player player) {
+        final Noble[] nobles = board.getNobles();
+        int visiting = 0;
+        for (int index = 0; index < nobles.length; index++) {
+            final int distance = nobles[index] == null
+                ? Integer.MAX_VALUE : distance(nobles[index], player);
+            if (distance != player.getNobleDistance(index)) return false;
+            if (distance == 0) visiting |= 1 << index;
+        }
+        return visiting == player.getVisitingNobles();
+    }
+
+    public static void main(String[] args) throws Exception {
+        final SplittableRandom random = new SplittableRandom(5);
+        int wrong = 0;
+        for (int index = 0; index < ITERATIONS; index++) {
+            final Resources required = new Resources();
+            final Resources owned = new Resources();
+            int expected = 0;
+            for (Resource resource : Resource.values()) {
+                required.setNbResource(resource, random.nextInt(8));
+                owned.setNbResource(resource, random.nextInt(128));
+                expected += Math.max(0, required.getNbResource(resource)
+                    - owned.getNbResource(resource));
+            }
+            if (Resources.missing(required.pack(), owned.pack()) != expected)
+                wrong++;
+        }
+        System.out.println("Packed distances: " + wrong + " wrong");
+
+        final SplendorEnv env = new SplendorEnv(4);
+        final RandomGames games = new RandomGames(env, 5);
+        games.play(GAMES, played -> {
+            for (Player player : played.getPlayers())
+                games.check(check(played.getBoard(), player));
+            if (played.isDone())
+                for (Noble noble : played.getBoard().getNobles())
+                    if (noble == null) visits++;
+        });
+        games.report("Noble index");
+        System.out.println("Noble visits: " + visits);
+
+        final Player player = env.getPlayers()[0];
+        final Noble[] nobles = env.getBoard().getNobles();
+        RandomGames.compare("Which nobles visit", "scan", () -> {
+            int visiting = 0;
+            for (Noble noble : nobles)
+                if (noble != null && distance(noble, player) == 0)
+                    visiting++;
+            return visiting;
+        }, "mask", player::getVisitingNobles);
+    }
+}
@@ -0,0 +1,81 @@
+package com.splendor;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import com.splendor.archive.ArchiveReader;
+import com.splendor.archive.ArchiveWriter;
+import com.splendor.cards.CardValues;
+import com.splendor.display.GameIO;
+import com.splendor.player.Player;
+import com.splendor.player.RobotPlayer;
+import com.splendor.query.CardValueJob;
+import com.splendor.query.Aggregations;
+import com.splendor.query.Predicates;
+import com.splendor.query.QueryEngine;
+import com.splendor.query.Statistic;
+import com.splendor.replay.Replay;
+
+
+public class QueryTest {
+
+    private final static int GAMES = 200_000;
+
+    public static void main(String[] args) throws Exception {
+        final Path directory = Files.createTempDirectory("query");
+        final Random random = new Random(42);
+        try (ArchiveWriter writer = new ArchiveWriter(directory, 1 << 20)) {
+            for (int game = 0; game < GAMES; game++)
+                writer.append(QueryTest.record(random, game));
+        }
+        final ArchiveReader reader = new ArchiveReader(directory);
+        final QueryEngine engine = new QueryEngine();
+        final long start = System.nanoTime();
+        final Statistic winRate = engine.run(reader, Aggregations.rate(
+            Predicates.boughtTierBefore(3, 10), Predicates.won()));
+        final Statistic length = engine.run(reader, Aggregations.average(
+            Predicates.nobleOut(3), Replay::getRounds));
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Win rate (expected 1.0): " + winRate);
+        System.out.println("Length (expected 20.0): " + length);
+        System.out.println("Elapsed: " + elapsed + " ms");
+        // Card 90 is always bought by the winner, around round 5.
+        final CardValues values = new CardValueJob(96).run(reader, engine);
+        System.out.println("Card 90: rate " + values.getPurchaseRate(90) 
+            + ", round " + values.getAverageRound(90) 
+            + ", delta " + values.getWinRateDelta(90));
+        // Robots with and without the values play the same game.
+        final GameIO io = GameIO.headless();
+        final Player[] players = new Player[4];
+        for (int index = 0; index < players.length; index++)
+            players[index] = new RobotPlayer("R" + index, index, io,
+                index % 2 == 0 ? values : null);
+        final Game game = new Game(players, io, new Random(7));
+        game.start();
+        while (!game.isOver()) game.advance();
+        System.out.println("Valued and plain robots: game over after "
+            + game.getTurn() + " turns");
+    }
+
+    /**
+     * Creates the record of a 2 players game, the first player winning 
+     * after buying a tier 3 card, noble 3 being out every other game.
+     */
+    private static byte[] record(Random random, int game) {
+        final ByteBuffer record = ByteBuffer.allocate(
+            Replay.HEADER_SIZE + Replay.EVENT_SIZE);
+        final int rounds = game % 2 == 0 ? 20 : 30;
+        record.put(Replay.VERSION).put((byte) 2).putShort((short) rounds);
+        record.put((byte) 1).put((byte) 1);
+        record.putShort((short) (game % 2 == 0 ? 3 : 4));
+        for (int index = 1; index < 5; index++) record.putShort((short) -1);
+        record.put((byte) 15).put((byte) 3).put((byte) 0).put((byte) 0);
+        record.putShort((short) 1).putShort((short) 0);
+        record.putShort((short) (1 + random.nextInt(9))).put((byte) 0);
+        record.put(Replay.BUY).putShort((short) 90).put((byte) 3);
+        record.put((byte) 0);
+        return record.array();
+    }
+}
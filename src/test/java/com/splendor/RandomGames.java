@@ -0,0 +1,108 @@
+package com.splendor;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+
+import com.splendor.env.SplendorEnv;
+import com.splendor.exceptions.CardReaderException;
+
+
+/**
+ * Plays random games of the environment for the tests which check a query
+ * after every move, counting the checks which fail, and times the query
+ * against the scan it replaces.
+ */
+class RandomGames {
+
+    private final static int ITERATIONS = 1_000_000;
+
+    /**
+     * What a test checks after every move of the random games.
+     */
+    @FunctionalInterface
+    interface Move {
+        void played(SplendorEnv env);
+    }
+
+    private final SplendorEnv env;
+
+    private final SplittableRandom random;
+
+    private int checks = 0;
+
+    private int wrong = 0;
+
+    private static int sink = 0;
+
+    RandomGames(SplendorEnv env, long seed) {
+        this.env = env;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Plays games with consecutive seeds from 0, the moves being drawn
+     * among the legal ones, and hands the environment after every move.
+     */
+    void play(int games, Move move) throws CardReaderException {
+        for (int game = 0; game < games; game++) {
+            this.env.reset(game);
+            while (!this.env.isDone()) {
+                this.env.step(SplendorEnv.randomAction(
+                    this.env.getLegalActions(), this.random));
+                move.played(this.env);
+            }
+        }
+    }
+
+    /**
+     * Counts a check made after a move, and whether it failed.
+     */
+    void check(boolean right) {
+        this.checks++;
+        if (!right) this.wrong++;
+    }
+
+    /**
+     * Tells whether a check failed.
+     */
+    boolean failed() {
+        return this.wrong > 0;
+    }
+
+    void report(String name) {
+        System.out.println(name + ": " + this.checks + " checked, "
+            + this.wrong + " wrong");
+    }
+
+    /**
+     * Times a million queries on the current thread, once to warm up and
+     * once measured, and returns the time and the bytes allocated by
+     * each.
+     */
+    private static String time(IntSupplier query) {
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean)
+                ManagementFactory.getThreadMXBean();
+        for (int index = 0; index < ITERATIONS; index++)
+            sink += query.getAsInt();
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        for (int index = 0; index < ITERATIONS; index++)
+            sink += query.getAsInt();
+        final long elapsed = System.nanoTime() - start;
+        allocated = threads.getCurrentThreadAllocatedBytes() - allocated;
+        return elapsed / ITERATIONS + " ns, " + allocated / ITERATIONS
+            + " bytes";
+    }
+
+    /**
+     * Prints the time and the allocations of two ways to answer the same
+     * query.
+     */
+    static void compare(String name, String first, IntSupplier scan,
+            String second, IntSupplier query) {
+        System.out.println(name + ": " + first + " " + time(scan) + ", "
+            + second + " " + time(query) + " (" + sink + ")");
+    }
+}
@@ -0,0 +1,99 @@
+package com.splendor;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.splendor.cards.CardCatalog;
+import com.splendor.cards.CardTable;
+import com.splendor.cards.DevCard;
+import com.splendor.constants.Values;
+import com.splendor.player.Player;
+import com.splendor.player.RobotPlayer;
+
+
+public class ReservedTest {
+
+    private final static int ITERATIONS = 1_000_000;
+
+    private static boolean matches(Player player, DevCard[] expected) {
+        int mask = 0;
+        for (int index = 0; index < expected.length; index++)
+            if (expected[index] != null) mask |= 1 << index;
+        return Arrays.equals(player.getReservedCards(), expected)
+            && player.getReservedMask() == mask
+            && player.canReserveCard() == (Integer.bitCount(mask)
+                < Values.MAX_RESERVED_CARDS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        final CardTable table = CardCatalog.getTable();
+        final DevCard[] cards = new DevCard[80];
+        for (int id = 0, count = 0; count < cards.length; id++)
+            if (!table.isNoble(id)) cards[count++] = table.getCard(id);
+        final Player player = new RobotPlayer("R", 0);
+        for (int index = 0; index < Values.MAX_RESERVED_CARDS; index++)
+            player.addReservedCard(cards[index]);
+        final DevCard removed = player.removeReservedCard(1);
+        System.out.println("Remove middle slot: " + (removed == cards[1]
+            && matches(player, new DevCard[] { cards[0], null, cards[2] })));
+        final int slot = player.addReservedCard(cards[3]);
+        System.out.println("Refill slot " + slot + ": "
+            + matches(player, new DevCard[] { cards[0], cards[3], cards[2] })
+            + ", full: " + (player.addReservedCard(cards[4]) == -1));
+
+        for (int index = 0; index < Values.MAX_RESERVED_CARDS; index++)
+            player.removeReservedCard(index);
+        final SplittableRandom random = new SplittableRandom(9);
+        final DevCard[] expected = new DevCard[Values.MAX_RESERVED_CARDS];
+        final Player other = new RobotPlayer("S", 1);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int wrong = 0;
+        for (int index = 0; index < ITERATIONS; index++) {
+            final int target = random.nextInt(Values.MAX_RESERVED_CARDS);
+            if (random.nextBoolean()) {
+                final DevCard card = cards[random.nextInt(cards.length)];
+                final int added = player.addReservedCard(card);
+                int free = -1;
+                for (int at = expected.length - 1; at >= 0; at--)
+                    if (expected[at] == null) free = at;
+                if (added != free) wrong++;
+                if (free >= 0) expected[free] = card;
+            } else {
+                if (player.removeReservedCard(target) != expected[target])
+                    wrong++;
+                expected[target] = null;
+            }
+            if (!matches(player, expected)) wrong++;
+            if (index % 1000 != 0) continue;
+            buffer.clear();
+            player.writeSnapshot(buffer);
+            buffer.flip();
+            other.readSnapshot(buffer);
+            if (!matches(other, expected)) wrong++;
+        }
+        System.out.println("Reserved slots: " + ITERATIONS + " operations, "
+            + wrong + " wrong");
+
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean)
+                ManagementFactory.getThreadMXBean();
+        player.removeReservedCard(0);
+        int sink = 0;
+        for (int index = 0; index < ITERATIONS; index++) {
+            sink += player.addReservedCard(cards[index % cards.length]);
+            player.removeReservedCard(index % Values.MAX_RESERVED_CARDS);
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        for (int index = 0; index < ITERATIONS; index++) {
+            sink += player.addReservedCard(cards[index % cards.length]);
+            player.removeReservedCard(index % Values.MAX_RESERVED_CARDS);
+        }
+        final long elapsed = System.nanoTime() - start;
+        System.out.println("Reserve and remove: " + elapsed / ITERATIONS
+            + " ns, " + (threads.getCurrentThreadAllocatedBytes()
+                - allocated) / ITERATIONS + " bytes (" + sink + ")");
+    }
+}
@@ -0,0 +1,53 @@
+package com.splendor;
+
+import com.splendor.actions.IAction;
+import com.splendor.board.BoardView;
+import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
+import com.splendor.player.Player;
+import com.splendor.player.RobotPlayer;
+
+
+public class RetryTest {
+
+    private final static int GAMES = 200;
+
+    /**
+     * A robot whose every action is refused.
+     */
+    private static class Stubborn extends RobotPlayer {
+
+        private Stubborn(String name, int id, GameIO io) {
+            super(name, id, io);
+        }
+
+        @Override
+        public IAction chooseAction(BoardView board) {
+            return (game, player) -> false;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        final GameIO io = GameIO.headless();
+        int turns = 0, retries = 0, fallbacks = 0, others = 0;
+        final long start = System.nanoTime();
+        for (int index = 0; index < GAMES; index++) {
+            final Game game = new Game(new Player[] {
+                new Stubborn("S", 0, io), new RobotPlayer("R", 1, io)
+            }, io);
+            game.start();
+            while (!game.isOver()) game.advance();
+            turns += (game.getTurn() + 1) / 2;
+            retries += game.getRetries(0);
+            fallbacks += game.getFallbacks(0);
+            others += game.getRetries(1) + game.getFallbacks(1);
+        }
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Stubborn robot: " + GAMES + " games, " + turns
+            + " turns, " + retries + " retries, " + fallbacks
+            + " fallbacks, expected " + turns * (Values.MAX_ACTION_RETRIES
+                + 1) + " and " + turns + ", in " + elapsed + " ms");
+        System.out.println("Other robot: " + others
+            + " retries and fallbacks");
+    }
+}
@@ -0,0 +1,68 @@
+package com.splendor;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.splendor.constants.Symbols;
+import com.splendor.server.GameServer;
+import com.splendor.server.LoadGenerator;
+
+
+public class ServerTest {
+
+    private final static int CLIENTS = 500;
+
+    public static void main(String[] args) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final InetSocketAddress address =
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        final GameServer server = new GameServer(address, 2, executor);
+        new Thread(server).start();
+
+        // One player typing a wrong action, then passing until the end.
+        try (Socket socket = new Socket()) {
+            socket.connect(server.getAddress());
+            final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(
+                    socket.getInputStream(), StandardCharsets.UTF_8));
+            final Writer writer = new OutputStreamWriter(
+                socket.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write("Z\n");
+            writer.flush();
+            int prompts = 0;
+            int read;
+            final StringBuilder tail = new StringBuilder();
+            while ((read = reader.read()) >= 0) {
+                tail.append((char) read);
+                if (tail.length() > 2) tail.deleteCharAt(0);
+                if (!tail.toString().equals(Symbols.PROMPT)) continue;
+                prompts++;
+                writer.write("E\n");
+                writer.flush();
+            }
+            System.out.println("Prompts until the end: " + prompts);
+        }
+
+        final long start = System.nanoTime();
+        final LoadGenerator generator = 
+            new LoadGenerator(server.getAddress(), CLIENTS, 1);
+        final int played = generator.run();
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(played + " games by " + CLIENTS 
+            + " concurrent clients in " + elapsed + " ms, "
+            + generator.getErrors() + " errors");
+        System.out.println("Sessions opened: " + server.getOpenedSessions()
+            + ", closed: " + server.getClosedSessions() + ", refused: "
+            + server.getRefusedConnections());
+        server.close();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package com.splendor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.splendor.exceptions.CardReaderException;
+
+
+public class SnapshotTest {
+
+    private final static int ITERATIONS = 100_000;
+
+    /**
+     * The offsets of the number of players and of the current player in
+     * a snapshot, after the magic number and the version.
+     */
+    private final static int PLAYERS_OFFSET = 5;
+    private final static int CURRENT_OFFSET = 6;
+
+    private final static int BOARD_OFFSET = 11;
+
+    private static boolean refused(byte[] snapshot, int offset, byte value)
+            throws CardReaderException {
+        final byte[] broken = snapshot.clone();
+        broken[offset] = value;
+        try {
+            Game.restore(broken);
+            return false;
+        } catch (IllegalArgumentException exception) {
+            System.out.println("  " + exception.getMessage());
+            return true;
+        }
+    }
+
+    public static void main(String[] args) throws CardReaderException {
+        final Game game = new Game(4, true);
+        final byte[] snapshot = game.snapshot();
+        System.out.println("Snapshot size: " + snapshot.length + " bytes");
+        // A restored game must give back the very same snapshot.
+        final byte[] restored = Game.restore(snapshot).snapshot();
+        final boolean same = Arrays.equals(snapshot, restored);
+        System.out.println("Round trip: " + same);
+
+        // Broken snapshots are refused with the reason.
+        final ByteBuffer board = ByteBuffer.allocate(snapshot.length);
+        game.getBoard().writeSnapshot(board);
+        final int kind = BOARD_OFFSET + board.position();
+        int refused = 0;
+        for (byte players : new byte[] { 0, 1, 5, -1 })
+            if (refused(snapshot, PLAYERS_OFFSET, players)) refused++;
+        if (refused(snapshot, CURRENT_OFFSET, (byte) 4)) refused++;
+        if (refused(snapshot, kind, (byte) 3)) refused++;
+        if (refused(snapshot, kind, (byte) -1)) refused++;
+        System.out.println("Broken snapshots: " + refused
+            + " refused, expected 7");
+
+        final long start = System.nanoTime();
+        for (int index = 0; index < ITERATIONS; index++)
+            Game.restore(game.snapshot());
+        final long elapsed = (System.nanoTime() - start) / ITERATIONS;
+        System.out.println("Snapshot and restore: " + elapsed + " ns");
+        if (!same || refused != 7) System.exit(1);
+    }
+}
@@ -0,0 +1,86 @@
+package com.splendor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.splendor.board.Board;
+import com.splendor.cards.DevCard;
+import com.splendor.constants.Resource;
+import com.splendor.env.SoakHarness;
+import com.splendor.env.SplendorEnv;
+import com.splendor.player.Player;
+
+
+public class SoakTest {
+
+    private final static int GAMES = 20_000;
+
+    private static byte[] state(SplendorEnv env) {
+        final ByteBuffer buffer = ByteBuffer.allocate(4096);
+        env.getBoard().writeSnapshot(buffer);
+        for (Player player : env.getPlayers()) player.writeSnapshot(buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int violations = SoakHarness.run(0, GAMES,
+            Runtime.getRuntime().availableProcessors(), 1000, System.out);
+        System.out.println("Soak: " + violations + " violations");
+
+        // The same seed and moves always reach the same state.
+        final SoakHarness harness = new SoakHarness(3, 1000);
+        final SplittableRandom random = new SplittableRandom(5);
+        int same = 0, checked = 0;
+        for (int index = 0; index < 100; index++) {
+            final long seed = random.nextLong();
+            harness.play(seed);
+            final int turns = harness.getEnv().getTurn();
+            final byte[] played = SoakTest.state(harness.getEnv());
+            final int[] moves = new int[turns];
+            harness.play(seed);
+            final byte[] again = SoakTest.state(harness.getEnv());
+            final SplendorEnv env = new SplendorEnv(3);
+            env.reset(seed);
+            final SplittableRandom draws = new SplittableRandom(seed);
+            for (int turn = 0; turn < turns; turn++) {
+                moves[turn] = SplendorEnv.randomAction(
+                    env.getLegalActions(), draws);
+                env.step(moves[turn]);
+            }
+            final SoakHarness.Violation violation =
+                harness.replay(seed, moves);
+            checked++;
+            if (violation == null && Arrays.equals(played, again)
+                    && Arrays.equals(played, SoakTest.state(env))
+                    && Arrays.equals(played, SoakTest.state(
+                        harness.getEnv()))) same++;
+        }
+        System.out.println("Replays: " + same + " of " + checked
+            + " reached the same state");
+
+        final SoakHarness.Violation slow = new SoakHarness(2, 0).play(7);
+        System.out.println("Turn bound of 0 ms: " + slow);
+
+        // Broken states are reported.
+        harness.play(1);
+        final Board board = harness.getEnv().getBoard();
+        final Player player = harness.getEnv().getPlayers()[0];
+        board.updateNbResource(Resource.RUBY, 1);
+        System.out.println("Extra token: " + harness.check());
+        board.updateNbResource(Resource.RUBY, -1);
+        final int held = player.getNbResource(Resource.ONYX);
+        player.updateNbResource(Resource.ONYX, -held - 1);
+        board.updateNbResource(Resource.ONYX, held + 1);
+        System.out.println("Overdrawn token: " + harness.check());
+        player.updateNbResource(Resource.ONYX, held);
+        board.updateNbResource(Resource.ONYX, -held - 1);
+        System.out.println("Restored: " + harness.check());
+        for (DevCard card : board.getVisibleCards())
+            if (card != null) {
+                player.addPurchasedCard(card);
+                break;
+            }
+        System.out.println("Duplicate card: " + harness.check());
+    }
+}
@@ -0,0 +1,82 @@
+package com.splendor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.splendor.constants.Values;
+import com.splendor.spectator.Broadcaster;
+import com.splendor.spectator.Spectator;
+import com.splendor.spectator.StateDelta;
+import com.splendor.spectator.StateVector;
+
+
+public class SpectatorTest {
+
+    private static class Recorder implements Spectator {
+
+        private final short[] state = new short[StateVector.SIZE];
+        private final int period;
+        private int offers = 0, updates = 0, bytes = 0;
+        private boolean dropped = false;
+
+        private Recorder(int period) {
+            this.period = period;
+        }
+
+        @Override
+        public boolean offer(ByteBuffer update) {
+            // Takes one update out of period, none if period is 0.
+            if (this.period == 0 || this.offers++ % this.period != 0)
+                return false;
+            this.bytes += update.remaining();
+            this.updates++;
+            StateDelta.apply(update, this.state);
+            return true;
+        }
+
+        @Override
+        public void dropped() {
+            this.dropped = true;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final Broadcaster broadcaster = new Broadcaster(executor);
+        final Recorder fast = new Recorder(1);
+        final Recorder slow = new Recorder(2);
+        final Recorder stalled = new Recorder(0);
+        broadcaster.subscribe(fast);
+        broadcaster.subscribe(slow);
+        broadcaster.subscribe(stalled);
+
+        final Game game = new Game(3, true);
+        game.addListener(broadcaster);
+        game.start();
+        while (!game.isOver()) {
+            game.advance();
+            Thread.sleep(1);
+        }
+        // Time for the refused updates to be offered again.
+        Thread.sleep(20 * Values.SPECTATOR_RETRY_DELAY);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        final short[] state = StateVector.capture(game);
+        System.out.println("Turns: " + game.getTurn());
+        System.out.println("Fast spectator up to date: " 
+            + Arrays.equals(state, fast.state) + ", " + fast.updates 
+            + " updates, " + fast.bytes / fast.updates + " bytes each");
+        System.out.println("Slow spectator up to date: "
+            + Arrays.equals(state, slow.state) + ", " + slow.updates 
+            + " updates, dropped: " + slow.dropped);
+        System.out.println("Stalled spectator dropped: " + stalled.dropped
+            + ", spectators left: " + broadcaster.getSpectators());
+        final int board = String.join("\n", 
+            game.getBoard().toStringArray()).getBytes("UTF-8").length;
+        System.out.println("Board text: " + board + " bytes");
+    }
+}
@@ -0,0 +1,60 @@
+package com.splendor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.splendor.display.GameIO;
+import com.splendor.display.Sink;
+import com.splendor.display.TextSink;
+
+
+public class TableTest {
+
+    private final static int TABLES = 1000;
+
+    private final static int THREADS = 4;
+
+    public static void main(String[] args) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Many headless robot games sharing a few threads.
+        final CompletableFuture<?>[] games = new CompletableFuture<?>[TABLES];
+        final long start = System.nanoTime();
+        for (int index = 0; index < TABLES; index++) {
+            final Table table = new Table(new Game(4, true), executor);
+            games[index] = table.getCompletion();
+            table.start();
+        }
+        int turns = 0, failures = 0;
+        for (CompletableFuture<?> game : games) {
+            try {
+                turns += ((Game) game.get()).getTurn();
+            } catch (Exception exception) {
+                failures++;
+            }
+        }
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(TABLES + " tables on " + THREADS + " threads: "
+            + turns + " turns, " + failures + " failed, " + elapsed + " ms");
+
+        // A human whose inputs arrive later, while no thread waits.
+        final StringBuilder console = new StringBuilder();
+        final GameIO io = new GameIO(
+            GameIO.headless().in, new TextSink(console), Sink.NULL);
+        final Table table = new Table(new Game(2, false, io), executor);
+        table.start();
+        Thread.sleep(100);
+        System.out.println("Awaiting input: "
+            + table.getGame().isAwaitingInput());
+        // Pass every turn until the robot wins.
+        while (!table.getCompletion().isDone()) {
+            table.submitInput("E");
+            Thread.sleep(1);
+        }
+        System.out.println("Human game over: "
+            + table.getCompletion().get().isOver()
+            + ", prompted: " + !console.isEmpty());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,137 @@
+package com.splendor;
+
+import com.splendor.actions.IAction;
+import com.splendor.actions.human.BuyCard;
+import com.splendor.actions.human.ReserveCard;
+import com.splendor.agent.Moves;
+import com.splendor.board.Board;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.env.SplendorEnv;
+import com.splendor.player.Player;
+
+
+public class ValidationTest {
+
+    private final static int GAMES = 300;
+
+    private final static int ITERATIONS = 20_000;
+
+    private static int refused = 0;
+
+    private static int turns = 0;
+
+    private static int wrong = 0;
+
+    private static long expected(Board board, Player player) {
+        long legal = (long) player.getAffordableCards()
+            << SplendorEnv.BUY_VISIBLE;
+        if (!player.canReserveCard()) return legal;
+        for (int slot = 0; slot < Values.VISIBLE_CARDS; slot++)
+            if (board.getCardId(slot / Values.COLUMN_NUMBER,
+                    slot % Values.COLUMN_NUMBER) >= 0)
+                legal |= 1L << SplendorEnv.RESERVE_VISIBLE + slot;
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++)
+            if (board.getDeckSize(tier) > 0)
+                legal |= 1L << SplendorEnv.RESERVE_DECK + tier - 1;
+        return legal;
+    }
+
+    private static long cards(long legal) {
+        return legal & ((1L << SplendorEnv.PASS) - 1)
+            & ~((1L << SplendorEnv.BUY_VISIBLE) - 1);
+    }
+
+    private static long thrown(Board board, Player player) {
+        final String[] inputs = { "1 1", "2 3", "3 4", "R 1", "R 2", "3" };
+        long legal = 0;
+        for (int index = 0; index < inputs.length; index++) {
+            try {
+                if (index < 3) new ReserveCard()
+                    .checkInputValidity(board, player, inputs[index]);
+                else new BuyCard()
+                    .checkInputValidity(board, player, inputs[index]);
+                legal |= 1L << index;
+            } catch (Exception exception) {
+                // Not legal.
+            }
+        }
+        return legal;
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int index = 0; index < GAMES; index++) {
+            final Game game = new Game(4, true);
+            game.addListener(new GameListener() {
+                @Override
+                public void actionProcessed(
+                        Game game, Player player, IAction action,
+                        boolean isOk) {
+                    if (!isOk) refused++;
+                }
+
+                @Override
+                public void turnPlayed(Game game, Player player) {
+                    turns++;
+                    final Board board = game.getBoard();
+                    for (Player other : game.getPlayers())
+                        if (cards(Moves.legal(board, other))
+                                != expected(board, other)) wrong++;
+                }
+            });
+            game.start();
+            while (!game.isOver()) game.advance();
+        }
+        System.out.println("Robot games: " + GAMES + " games, " + turns
+            + " turns, " + refused + " actions refused");
+        System.out.println("Legal moves: " + wrong + " wrong");
+
+        final Game game = new Game(4, true);
+        game.start();
+        for (int turn = 0; turn < 40 && !game.isOver(); turn++)
+            game.advance();
+        final Board board = game.getBoard();
+        final Player player = game.getCurrentPlayer();
+        long sink = 0;
+        for (int index = 0; index < ITERATIONS; index++)
+            sink += Moves.legal(board, player) + thrown(board, player);
+        long start = System.nanoTime();
+        for (int index = 0; index < ITERATIONS; index++)
+            sink += Moves.legal(board, player);
+        final long validated = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int index = 0; index < ITERATIONS; index++)
+            sink += thrown(board, player);
+        final long caught = System.nanoTime() - start;
+        System.out.println("Legal moves: " + validated / ITERATIONS
+            + " ns for 45 moves, checked with exceptions: "
+            + caught / ITERATIONS + " ns for 6 moves (" + sink + ")");
+
+        // A robot only reserves a card which is there: here the only
+        // visible card left, every deck being empty.
+        final Game empty = new Game(2, true);
+        empty.start();
+        final Board emptied = empty.getBoard();
+        final Player robot = empty.getCurrentPlayer();
+        for (int tier = 1; tier <= Values.TIER_NUMBER; tier++)
+            while (emptied.drawCard(tier) != null) continue;
+        for (int slot = 1; slot < Values.VISIBLE_CARDS; slot++) {
+            final int tier = slot / Values.COLUMN_NUMBER;
+            final int column = slot % Values.COLUMN_NUMBER;
+            emptied.updateCard(emptied.getCard(tier, column), tier, column);
+        }
+        final com.splendor.actions.robot.ReserveCard reserve =
+            new com.splendor.actions.robot.ReserveCard();
+        final int jokers = robot.getNbResource(Resource.JOKER);
+        int reserved = 0;
+        while (reserve.validate(emptied, robot).isValid() && reserved < 3) {
+            reserve.processInput(emptied, robot);
+            reserved++;
+        }
+        final int held = Integer.bitCount(robot.getReservedMask());
+        final int given = robot.getNbResource(Resource.JOKER) - jokers;
+        System.out.println("Robot reserve: " + reserved + " reserved, "
+            + held + " held, " + given + " jokers, expected 1");
+        if (reserved != 1 || held != 1 || given != 1) System.exit(1);
+    }
+}
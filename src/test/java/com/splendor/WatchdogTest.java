@@ -0,0 +1,199 @@
+package com.splendor;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.splendor.actions.IAction;
+import com.splendor.actions.robot.DiscardTokens;
+import com.splendor.actions.robot.PickDifferentTokens;
+import com.splendor.actions.robot.PickSameTokens;
+import com.splendor.board.Board;
+import com.splendor.board.BoardView;
+import com.splendor.cards.DevCard;
+import com.splendor.constants.Resource;
+import com.splendor.constants.Values;
+import com.splendor.display.GameIO;
+import com.splendor.player.Player;
+import com.splendor.player.RobotPlayer;
+
+
+public class WatchdogTest {
+
+    private final static int GAMES = 100;
+
+    private final static int HUNG_DECISIONS = 3;
+
+    private final static int MEDDLED_JOKERS = 100;
+
+    /**
+     * A robot whose first decisions never end, ignoring interruptions and
+     * reading its mask of affordable cards while the game goes on. The
+     * count of hangs is shared with the copies which decide.
+     */
+    private static class Hung extends RobotPlayer {
+
+        private final AtomicInteger hangs;
+
+        private Hung(String name, int id, GameIO io, int hangs) {
+            super(name, id, io);
+            this.hangs = new AtomicInteger(hangs);
+        }
+
+        @Override
+        public IAction chooseAction(BoardView board) {
+            if (this.hangs.getAndDecrement() > 0) while (true) {
+                this.getAffordableCards();
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException exception) {
+                    // Ignored, as a decision stuck in a loop would.
+                }
+            }
+            return super.chooseAction(board);
+        }
+    }
+
+    /**
+     * A robot which gives itself jokers while it decides.
+     */
+    private static class Meddling extends RobotPlayer {
+
+        private Meddling(String name, int id, GameIO io) {
+            super(name, id, io);
+        }
+
+        @Override
+        public IAction chooseAction(BoardView board) {
+            this.updateNbResource(Resource.JOKER, MEDDLED_JOKERS);
+            return super.chooseAction(board);
+        }
+    }
+
+    private static boolean masksRight(Game game) {
+        for (Player player : game.getPlayers())
+            for (int tier = 0; tier < Values.TIER_NUMBER; tier++)
+                for (int column = 0; column < Values.COLUMN_NUMBER;
+                        column++) {
+                    final DevCard card = game.getBoard().getCard(tier,
+                        column);
+                    final boolean set = (player.getAffordableCards()
+                        & 1 << tier * Values.COLUMN_NUMBER + column) != 0;
+                    if (set != (card != null && player.canBuyCard(card)))
+                        return false;
+                }
+        return true;
+    }
+
+    private static long play(int games, Watchdog watchdog) throws Exception {
+        final long start = System.nanoTime();
+        for (int index = 0; index < games; index++) {
+            final Game game = new Game(4, true);
+            game.setWatchdog(watchdog);
+            game.start();
+            while (!game.isOver()) game.advance();
+        }
+        return (System.nanoTime() - start) / games;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final GameIO io = GameIO.headless();
+        // A decision under a watchdog changes a copy of the game only.
+        final Game meddled = new Game(new Player[] {
+            new Meddling("M", 0, io), new RobotPlayer("R", 1, io)
+        }, io);
+        meddled.setWatchdog(new Watchdog(1000));
+        meddled.start();
+        meddled.advance();
+        final int jokers = meddled.getPlayers()[0].getNbResource(
+            Resource.JOKER);
+        System.out.println("Meddling robot: " + jokers
+            + " jokers, expected fewer than " + MEDDLED_JOKERS);
+
+        final Game game = new Game(new Player[] {
+            new Hung("H", 0, io, HUNG_DECISIONS), new RobotPlayer("R", 1, io)
+        }, io);
+        game.setWatchdog(new Watchdog(20));
+        final long start = System.nanoTime();
+        game.start();
+        while (!game.isOver()) game.advance();
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        int restored = 0, refused = 0;
+        for (Incident incident : game.getIncidents()) {
+            try {
+                Game.restore(incident.getSnapshot());
+            } catch (IllegalArgumentException exception) {
+                refused++; // The hung robot cannot be created back.
+            }
+            final Game replayed = Game.restore(
+                ByteBuffer.wrap(incident.getSnapshot()), io,
+                index -> new Hung("H", index, io, 0));
+            if (replayed.getTurn() == incident.getTurn()
+                    && replayed.getCurrentPlayer().getId()
+                        == incident.getPlayer()) restored++;
+        }
+        System.out.println("Hung robot: game over in " + elapsed + " ms, "
+            + game.getIncidents().length + " incidents, " + restored
+            + " restored, " + refused + " refused without the robot, "
+            + game.getFallbacks(0) + " fallbacks, expected " + HUNG_DECISIONS
+            + ", masks right: " + masksRight(game));
+
+        // Moves which used to draw tokens until they were possible.
+        final Player player = new RobotPlayer("R", 0, io);
+        for (Resource resource : Resource.values())
+            player.updateNbResource(resource, 2);
+        final Board board = new Board(2);
+        for (Resource resource : Resource.values())
+            board.setNbResource(resource, 0);
+        new PickSameTokens().processInput(board, player);
+        new PickDifferentTokens().processInput(board, player);
+        new DiscardTokens().process(board, player);
+        int held = 0, negative = 0;
+        for (Resource resource : Resource.values()) {
+            held += player.getNbResource(resource);
+            if (player.getNbResource(resource) < 0) negative++;
+        }
+        System.out.println("Token moves: ended, " + held
+            + " tokens held, expected 10, " + negative + " negative");
+
+        play(GAMES / 4, null);
+        play(GAMES / 4, new Watchdog(1000));
+        final long unwatched = play(GAMES, null);
+        final long watched = play(GAMES, new Watchdog(1000));
+        System.out.println("Robot games: " + unwatched / 1000
+            + " us unwatched, " + watched / 1000 + " us watched");
+
+        // Decisions which never end hold the threads of their watchdog
+        // only, and the game fails once they hold them all.
+        final Game flooded = new Game(new Player[] {
+            new Hung("H", 0, io, Integer.MAX_VALUE),
+            new RobotPlayer("R", 1, io)
+        }, io);
+        final Watchdog flooding = new Watchdog(5);
+        flooded.setWatchdog(flooding);
+        flooded.start();
+        String failure = null;
+        try {
+            // The other robot alone may never end the game.
+            for (int turn = 0; turn < 200 && !flooded.isOver(); turn++)
+                flooded.advance();
+        } catch (IllegalStateException exception) {
+            failure = exception.getMessage();
+        }
+        final long other = play(1, new Watchdog(1000));
+        System.out.println("Flooding robot: " + flooded.getIncidents().length
+            + " incidents, " + flooding.getHung() + " hung decisions, at most "
+            + Values.DECISION_THREADS + ", failed: " + failure
+            + ", masks right: " + masksRight(flooded)
+            + ", another game in " + other / 1000 + " us");
+        String budget = null;
+        try {
+            new Watchdog(0);
+        } catch (IllegalArgumentException exception) {
+            budget = exception.getMessage();
+        }
+        System.out.println("No budget: " + budget);
+        if (jokers >= MEDDLED_JOKERS || failure == null || budget == null
+                || flooding.getHung() != Values.DECISION_THREADS)
+            System.exit(1);
+    }
+}